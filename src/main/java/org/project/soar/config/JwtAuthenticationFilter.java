@@ -1,12 +1,13 @@
 package org.project.soar.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.project.soar.config.auth.AuthUser;
+import org.project.soar.model.user.cache.UserSnapshotCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
@@ -29,6 +30,7 @@ import java.util.Optional;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
+    private final UserSnapshotCache userSnapshotCache;
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     @Override
@@ -38,7 +40,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             if (accessToken != null) {
-                User principal = parseUserSpecification(accessToken);
+                User principal = parseUserSpecification(accessToken, req);
                 setAuthentication(principal, accessToken, req);
                 logger.info("[JwtFilter] 액세스토큰 인증 성공, 사용자: {}", principal.getUsername());
             }
@@ -59,7 +61,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 res.setHeader("New-Access-Token", newAccessToken);
 
                 // 새 토큰으로 다시 인증
-                User newPrincipal = parseUserSpecification(newAccessToken);
+                User newPrincipal = parseUserSpecification(newAccessToken, req);
                 setAuthentication(newPrincipal, newAccessToken, req);
 
                 chain.doFilter(req, res);
@@ -87,7 +89,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 .orElse(null);
     }
 
-    private User parseUserSpecification(String token) {
+    private User parseUserSpecification(String token, HttpServletRequest req) {
 //        String subject = Optional.ofNullable(token)
 //                .filter(t -> t.length() > 10)
 //                .map(tokenProvider::validateTokenAndGetSubject)
@@ -102,10 +104,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 //        }
 //
 //        return new User(split[0], "", List.of(new SimpleGrantedAuthority(split[1])));
-        Claims claims = tokenProvider.parseAllClaims(token); // Claims 전체 읽기
+        JwtTokenEngine.VerifiedToken verified = tokenProvider.verifyToken(token); // 같은 토큰은 exp 까지 검증 결과 재사용
 
-        String subject = claims.getSubject(); // "3:bangchaewon713@gmail.com"
-        String role = claims.get("role", String.class); // "ADMIN" or "USER"
+        String subject = verified.subject(); // "3:bangchaewon713@gmail.com"
+        String role = verified.role(); // "ADMIN" or "USER"
 
         logger.info("Parsed subject from token: {}", subject);
 
@@ -115,6 +117,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     "Invalid token format. Expected format: 'userId:userEmail'. Found: " + subject);
         }
 
+        bindAuthUser(split[0], req);
+
         return new org.springframework.security.core.userdetails.User(
                 split[1], // username(email)
                 "",
@@ -122,6 +126,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         );
     }
     
+    /**
+     * 검증된 토큰의 사용자를 요청 속성에 보관 (컨트롤러에서 토큰 재검증/DB 조회 없이 사용)
+     * - 실패하면 보관하지 않고 진행, 컨트롤러에서 TokenProvider 로 다시 해석
+     */
+    private void bindAuthUser(String userId, HttpServletRequest req) {
+        try {
+            AuthUser authUser = userSnapshotCache.get(Long.parseLong(userId));
+            if (authUser != null) {
+                req.setAttribute(AuthUser.REQUEST_ATTRIBUTE, authUser);
+            }
+        } catch (Exception e) {
+            logger.warn("[JwtFilter] 인증 사용자 스냅샷 조회 실패, userId: {}", userId, e);
+        }
+    }
+
     private void setAuthentication(User principal, String token, HttpServletRequest req) {
         AbstractAuthenticationToken auth = UsernamePasswordAuthenticationToken.authenticated(principal, token,
                 principal.getAuthorities());
@@ -138,7 +157,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String oldAccessToken = parseBearerToken(request, HttpHeaders.AUTHORIZATION);
             tokenProvider.validateRefreshToken(refreshToken, oldAccessToken);
             String newAccessToken = tokenProvider.recreateAccessToken(oldAccessToken);
-            User user = parseUserSpecification(newAccessToken);
+            User user = parseUserSpecification(newAccessToken, request);
             AbstractAuthenticationToken authenticated = UsernamePasswordAuthenticationToken.authenticated(user,
                     newAccessToken, user.getAuthorities());
             authenticated.setDetails(new WebAuthenticationDetails(request));
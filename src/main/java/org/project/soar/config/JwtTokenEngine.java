@@ -0,0 +1,134 @@
+package org.project.soar.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JWT 서명/검증 엔진 (TokenProvider 전용)
+ * - 서명 키와 파서는 한 번만 생성 (0.11 JwtParser 는 불변이라 스레드 간 공유 가능)
+ * - 검증에 성공한 토큰은 만료 시각(exp)까지 캐시 → exp 전에 같은 토큰이 다시 오면 파싱 없이 캐시된 결과 반환
+ * - 캐시 키는 토큰 원문이 아닌 SHA-256 해시, 검증 실패는 캐시하지 않음
+ * - 캐시는 ConcurrentHashMap (조회/저장에 전역 잠금 없음), 상한을 넘으면 한 스레드만 정리
+ *   → 만료된 항목 제거 후에도 넘으면 만료가 가까운 순으로 상한의 90% 까지 제거
+ */
+public final class JwtTokenEngine {
+
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+    private static final int EVICT_TO = MAX_VERIFIED_TOKENS * 9 / 10;
+
+    /**
+     * 검증된 토큰에서 쓰는 값만 담은 불변 결과
+     */
+    public record VerifiedToken(String subject, String role, long expiresAtMillis) {
+    }
+
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>(256);
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    JwtTokenEngine(String secretKey) {
+        byte[] keyBytes = secretKey.getBytes();
+        this.signingKey = new SecretKeySpec(keyBytes, SignatureAlgorithm.HS512.getJcaName());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(keyBytes)
+                .build();
+    }
+
+    Key signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * 서명/만료 검증 + 전체 클레임 (캐시 없음)
+     */
+    Jws<Claims> parse(String token) {
+        return parser.parseClaimsJws(token);
+    }
+
+    /**
+     * 서명/만료 검증 (캐시 사용)
+     * - 캐시된 토큰도 exp 가 지나면 다시 파싱해 ExpiredJwtException 이 그대로 발생
+     */
+    VerifiedToken verify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (now < cached.expiresAtMillis()) {
+                return cached;
+            }
+            verifiedTokens.remove(key, cached);
+        }
+
+        Claims claims = parse(token).getBody();
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                expiration != null ? expiration.getTime() : 0L);
+
+        // exp 없는 토큰은 캐시하지 않음
+        if (expiration != null) {
+            verifiedTokens.put(key, verified);
+            if (verifiedTokens.size() > MAX_VERIFIED_TOKENS) {
+                evict(now);
+            }
+        }
+        return verified;
+    }
+
+    int cachedTokenCount() {
+        return verifiedTokens.size();
+    }
+
+    /**
+     * 상한 초과 시 정리 (이미 다른 스레드가 정리 중이면 건너뜀)
+     */
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) return;
+        try {
+            verifiedTokens.values().removeIf(token -> token.expiresAtMillis() <= now);
+            int excess = verifiedTokens.size() - EVICT_TO;
+            if (excess <= 0) return;
+
+            List<Map.Entry<String, VerifiedToken>> entries = new ArrayList<>(verifiedTokens.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().expiresAtMillis()));
+            for (int i = 0; i < excess && i < entries.size(); i++) {
+                Map.Entry<String, VerifiedToken> entry = entries.get(i);
+                verifiedTokens.remove(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.project.soar.config;
 
+import org.project.soar.config.auth.LoginUser;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,6 +15,11 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 public class SwaggerConfig {
     private static final String SECURITY_SCHEME_NAME = "authorization"; 
 
+    static {
+        // @LoginUser 파라미터는 요청 파라미터가 아니므로 문서에서 제외
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(LoginUser.class);
+    }
+
     @Bean
     public OpenAPI swaggerApi() {
         return new OpenAPI()
@@ -3,18 +3,16 @@ package org.project.soar.config;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.*;
-import org.project.soar.model.user.RefreshToken;
+import org.project.soar.config.auth.AuthUser;
 import org.project.soar.model.user.User;
-import org.project.soar.model.user.repository.RefreshTokenRepository;
-import org.project.soar.model.user.repository.UserRepository;
+import org.project.soar.model.user.cache.UserSnapshotCache;
+import org.project.soar.model.user.token.RefreshTokenStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.spec.SecretKeySpec;
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
 import java.sql.Date;
@@ -24,16 +22,16 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Base64;
 import java.util.Map;
-import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class TokenProvider {
-    private final String secretKey;
+    private final JwtTokenEngine tokenEngine;
     private final long expirationMinutes;
     private final long refreshExpirationHours;
     private final String issuer;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserSnapshotCache userSnapshotCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private static final Logger logger = LoggerFactory.getLogger(TokenProvider.class);
 
@@ -42,20 +40,20 @@ public class TokenProvider {
             @Value("${expiration-minutes}") long expirationMinutes,
             @Value("${refresh-expiration-hours}") long refreshExpirationHours,
             @Value("${issuer}") String issuer,
-            RefreshTokenRepository refreshTokenRepository,
-            UserRepository userRepository) {
-        this.secretKey = secretKey;
+            RefreshTokenStore refreshTokenStore,
+            UserSnapshotCache userSnapshotCache) {
+        this.tokenEngine = new JwtTokenEngine(secretKey);
         this.expirationMinutes = expirationMinutes;
         this.refreshExpirationHours = refreshExpirationHours;
         this.issuer = issuer;
-        this.refreshTokenRepository = refreshTokenRepository;
-        this.userRepository = userRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.userSnapshotCache = userSnapshotCache;
     }
 
     public String createToken(User user) {
         String userSpecification = user.getUserId() + ":" + user.getUserEmail();
         return Jwts.builder()
-                .signWith(new SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS512.getJcaName()))
+                .signWith(tokenEngine.signingKey())
                 .setSubject(userSpecification) // "userId:userEmail"
                 .claim("role", user.getUserRole().name())
                 .setIssuer(issuer)
@@ -65,10 +63,15 @@ public class TokenProvider {
     }
 
     public String createRefreshToken(User user) {
-        String subject = user.getUserId() + ":" + user.getUserEmail();
+        return createRefreshTokenFromSubject(user.getUserId() + ":" + user.getUserEmail());
+    }
+
+    /** 리프레시 토큰 발급 ("userId:userEmail"), 같은 초에 발급돼도 토큰이 겹치지 않도록 jti 포함 */
+    public String createRefreshTokenFromSubject(String subject) {
         return Jwts.builder()
-                .signWith(new SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS512.getJcaName()))
+                .signWith(tokenEngine.signingKey())
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
                 .setIssuer(issuer)
                 .setIssuedAt(Timestamp.valueOf(LocalDateTime.now()))
                 .setExpiration(Date.from(Instant.now().plus(refreshExpirationHours, ChronoUnit.HOURS)))
@@ -76,29 +79,24 @@ public class TokenProvider {
     }
 
     public String validateTokenAndGetSubject(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey.getBytes())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return tokenEngine.verify(token).subject();
+    }
+
+    /** 서명/만료 검증 결과 (같은 토큰은 exp 까지 캐시된 결과 사용) */
+    public JwtTokenEngine.VerifiedToken verifyToken(String token) {
+        return tokenEngine.verify(token);
     }
 
-    @Transactional
+    /** 만료된 액세스 토큰의 subject 로 새 액세스 토큰 발급 (리프레시 토큰 검증 후 호출) */
     public String recreateAccessToken(String oldAccessToken) throws JsonProcessingException {
         logger.debug("[TokenProvider] recreateAccessToken 호출 → oldAccessToken={}", oldAccessToken);
-        String subject = decodeJwtPayloadSubject(oldAccessToken);
-        Optional<RefreshToken> oldRefreshToken = refreshTokenRepository.findById(Long.parseLong(subject.split(":")[0]));
-        if (oldRefreshToken.isEmpty()) {
-            throw new ExpiredJwtException(null, null, "Refresh token expired.");
-        }
-        return createTokenFromSubject(subject);
+        return createTokenFromSubject(decodeJwtPayloadSubject(oldAccessToken));
     }
 
     private String createTokenFromSubject(String subject) {
         logger.debug("[TokenProvider] 새로 생성된 액세스토큰: {}", subject);
         return Jwts.builder()
-                .signWith(new SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS512.getJcaName()))
+                .signWith(tokenEngine.signingKey())
                 .setSubject(subject)
                 .setIssuer(issuer)
                 .setIssuedAt(Timestamp.valueOf(LocalDateTime.now()))
@@ -106,28 +104,24 @@ public class TokenProvider {
                 .compact();
     }
 
-    @Transactional(readOnly = true)
+    /** 리프레시 토큰 서명/만료 + 저장된 현재 토큰과 일치하는지 확인 (교체 없음, Redis 조회 1회) */
     public void validateRefreshToken(String refreshToken, String oldAccessToken) throws JsonProcessingException {
         logger.debug("[TokenProvider] validateRefreshToken 호출 → refreshToken={}, oldAccessToken={}", refreshToken,
                 oldAccessToken);
-        validateAndParseToken(refreshToken);
+        tokenEngine.verify(refreshToken);
         String userId = decodeJwtPayloadSubject(oldAccessToken).split(":")[0];
-        refreshTokenRepository.findById(Long.parseLong(userId))
-                .filter(RefreshToken -> RefreshToken.validateRefreshToken(refreshToken))
-                .orElseThrow(() -> new ExpiredJwtException(null, null, "Refresh token expired."));
-    }
-
-    private Jws<Claims> validateAndParseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey.getBytes())
-                .build()
-                .parseClaimsJws(token);
+        if (!refreshTokenStore.matches(Long.parseLong(userId), refreshToken)) {
+            throw new ExpiredJwtException(null, null, "Refresh token expired.");
+        }
     }
 
+    /** 서명 검증 없이 payload 의 sub 만 읽기 (만료된 액세스 토큰 재발급용) */
     public String decodeJwtPayloadSubject(String oldAccessToken) throws JsonProcessingException {
-        return objectMapper.readValue(
-                new String(Base64.getDecoder().decode(oldAccessToken.split("\\.")[1]), StandardCharsets.UTF_8),
-                Map.class).get("sub").toString();
+        int start = oldAccessToken.indexOf('.') + 1;
+        int end = oldAccessToken.indexOf('.', start);
+        // JWT 구간은 base64url (패딩 없음)
+        byte[] payload = Base64.getUrlDecoder().decode(oldAccessToken.substring(start, end));
+        return objectMapper.readTree(new String(payload, StandardCharsets.UTF_8)).get("sub").asText();
     }
 
     public String extractUserEmail(String token) throws JsonProcessingException {
@@ -146,11 +140,7 @@ public class TokenProvider {
     }
 
     public Claims parseAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey.getBytes())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return tokenEngine.parse(token).getBody();
     }
 
     /*
@@ -183,21 +173,23 @@ public class TokenProvider {
         }
     }
 
-    /** 토큰에서 User 엔티티 조회 (없으면 null) */
-    public User getUserFromToken(String token) {
+    /** 토큰에서 인증 사용자 스냅샷 조회 (없으면 null) */
+    public AuthUser getAuthUserFromToken(String token) {
         Long userId = extractUserIdFromToken(token);
         if (userId == null)
             return null;
         try {
-            return userRepository.findById(userId).orElse(null);
+            return userSnapshotCache.get(userId);
         } catch (Exception e) {
             return null;
         }
     }
 
-    /** 요청에서 User 엔티티 바로 조회 (없으면 null) */
-    public User getUserFromRequest(HttpServletRequest request) {
-        String token = extractAccessToken(request);
-        return getUserFromToken(token);
+    /** 요청의 인증 사용자: 필터가 만들어 둔 값 우선, 없으면 토큰에서 직접 (없으면 null) */
+    public AuthUser getAuthUserFromRequest(HttpServletRequest request) {
+        if (request.getAttribute(AuthUser.REQUEST_ATTRIBUTE) instanceof AuthUser authUser) {
+            return authUser;
+        }
+        return getAuthUserFromToken(extractAccessToken(request));
     }
 }
@@ -0,0 +1,32 @@
+package org.project.soar.config.auth;
+
+import org.project.soar.model.user.User;
+import org.project.soar.model.user.enums.Role;
+
+import java.time.LocalDate;
+
+/**
+ * 요청 단위 인증 사용자 (JwtAuthenticationFilter 가 토큰 검증 후 한 번 만들어 요청 속성에 보관)
+ * - 서비스에서 쓰는 필드만 담은 불변 스냅샷 (비밀번호/연관관계 제외)
+ */
+public record AuthUser(Long userId,
+                       String userEmail,
+                       String userName,
+                       LocalDate userBirthDate,
+                       Boolean userGender,
+                       String userPhoneNumber,
+                       Role userRole) {
+
+    public static final String REQUEST_ATTRIBUTE = AuthUser.class.getName();
+
+    public static AuthUser from(User user) {
+        return new AuthUser(
+                user.getUserId(),
+                user.getUserEmail(),
+                user.getUserName(),
+                user.getUserBirthDate(),
+                user.getUserGender(),
+                user.getUserPhoneNumber(),
+                user.getUserRole());
+    }
+}
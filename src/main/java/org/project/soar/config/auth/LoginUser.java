@@ -0,0 +1,14 @@
+package org.project.soar.config.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 인증 사용자 주입 (AuthUser 는 스냅샷, User 는 영속성 컨텍스트 참조, 비로그인/탈퇴 사용자는 null)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
@@ -0,0 +1,48 @@
+package org.project.soar.config.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.project.soar.config.TokenProvider;
+import org.project.soar.model.user.User;
+import org.project.soar.model.user.repository.UserRepository;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @LoginUser 파라미터 해석
+ * - 필터가 요청 속성에 넣어 둔 AuthUser 사용 (토큰 재검증/DB 조회 없음)
+ * - 필터를 거치지 않은 경로는 TokenProvider 로 직접 해석
+ * - User 타입은 영속성 컨텍스트의 참조(getReferenceById)로 넘김: id 만 쓰면 조회 없음, 다른 필드는 지연 로딩
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final TokenProvider tokenProvider;
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && (User.class.equals(parameter.getParameterType())
+                || AuthUser.class.equals(parameter.getParameterType()));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null) return null;
+
+        AuthUser authUser = tokenProvider.getAuthUserFromRequest(request);
+        if (authUser == null) return null;
+        if (AuthUser.class.equals(parameter.getParameterType())) return authUser;
+        return userRepository.getReferenceById(authUser.userId());
+    }
+}
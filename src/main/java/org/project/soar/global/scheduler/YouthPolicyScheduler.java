@@ -3,10 +3,21 @@ package org.project.soar.global.scheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.project.soar.model.tag.tagging.PolicyTaggingWorkerPool;
+import org.project.soar.model.user.cache.UserSnapshotCache;
+import org.project.soar.model.youthpolicy.calendar.YouthPolicyCalendarIndex;
+import org.project.soar.model.youthpolicy.cache.UserPolicyIdSetCache;
+import org.project.soar.model.youthpolicy.dto.YouthPolicySyncResultDto;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyPopularityBoard;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyTrendingScorer;
+import org.project.soar.model.youthpolicy.search.YouthPolicySearchIndex;
+import org.project.soar.model.youthpolicy.service.YouthPolicyDateStatusService;
 import org.project.soar.model.youthpolicy.service.YouthPolicyService;
+import org.project.soar.model.youthpolicytag.search.YouthPolicyTagIndex;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -16,6 +27,15 @@ import java.time.format.DateTimeFormatter;
 public class YouthPolicyScheduler {
 
     private final YouthPolicyService youthPolicyService;
+    private final YouthPolicyTagIndex youthPolicyTagIndex;
+    private final YouthPolicyCalendarIndex calendarIndex;
+    private final YouthPolicySearchIndex searchIndex;
+    private final YouthPolicyPopularityBoard popularityBoard;
+    private final YouthPolicyTrendingScorer trendingScorer;
+    private final UserPolicyIdSetCache userPolicyIdSetCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final YouthPolicyDateStatusService dateStatusService;
+    private final PolicyTaggingWorkerPool policyTaggingWorkerPool;
 
     /**
      * 매일 새벽 2시에 청년정책 데이터 동기화
@@ -27,15 +47,34 @@ public class YouthPolicyScheduler {
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
 
         try {
-            int syncedCount = youthPolicyService.syncAllYouthPolicies();
-            log.info("=== 새벽 2시 일일 청년정책 데이터 동기화 완료 - 총 {}개 정책 동기화 ===", syncedCount);
+            YouthPolicySyncResultDto result = youthPolicyService.syncAllYouthPolicies();
+            log.info("=== 새벽 2시 일일 청년정책 데이터 동기화 완료 - 조회 {} / 변경없음 {} / 갱신 {} / 신규 {} ===",
+                    result.getFetchedCount(), result.getUnchangedCount(),
+                    result.getUpdatedCount(), result.getInsertedCount());
         } catch (Exception e) {
             log.error("=== 새벽 2시 일일 청년정책 데이터 동기화 실패 ===", e);
         }
     }
 
+    /**
+     * 매일 0시 1분 정책 날짜 상태 롤오버
+     * - 텍스트 보조 판정(과거 연도/날짜)을 오늘 기준으로 다시 계산해 저장, D-n 라벨은 조회 시 저장된 날짜로 계산
+     * - 캘린더 집계, 검색 색인(날짜 라벨 포함)도 바뀐 판정값으로 바로 재구성
+     */
+    @Scheduled(cron = "0 1 0 * * *")
+    public void rolloverPolicyDateStatus() {
+        try {
+            dateStatusService.rollover(LocalDate.now());
+            calendarIndex.rebuild();
+            searchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("=== 정책 날짜 상태 롤오버 실패 ===", e);
+        }
+    }
+
     /**
      * 매주 일요일 새벽 3시에 전체 데이터 재동기화 (데이터 정합성 확보)
+     * - 스테이징 테이블 적재 후 일괄 병합하므로 재동기화 중에도 기존 데이터 조회 가능
      */
     @Scheduled(cron = "0 0 3 * * SUN")
     public void fullSyncYouthPolicyDataWeekly() {
@@ -43,32 +82,133 @@ public class YouthPolicyScheduler {
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
 
         try {
-            // 기존 데이터 삭제 후 전체 재동기화
-            youthPolicyService.deleteAllYouthPolicies();
-            int syncedCount = youthPolicyService.syncAllYouthPolicies();
-            log.info("=== 주간 청년정책 전체 데이터 재동기화 완료 - 총 {}개 정책 동기화 ===", syncedCount);
+            YouthPolicySyncResultDto result = youthPolicyService.fullResyncYouthPolicies();
+            log.info("=== 주간 청년정책 전체 데이터 재동기화 완료 - 조회 {} / 변경없음 {} / 갱신 {} / 신규 {} ===",
+                    result.getFetchedCount(), result.getUnchangedCount(),
+                    result.getUpdatedCount(), result.getInsertedCount());
         } catch (Exception e) {
             log.error("=== 주간 청년정책 전체 데이터 재동기화 실패 ===", e);
         }
     }
 
     /**
-     * 매 1시간마다 최신 정책 확인 (개발/테스트용 - 필요시 활성화)
+     * 매 1시간(30분)마다 증분 동기화
+     * - 마지막 성공 동기화의 최종수정일 워터마크 이후 변경분만 조회
+     * - 다른 동기화가 진행 중이면 건너뜀
      */
-    // @Scheduled(fixedRate = 3600000) // 1시간 = 3,600,000ms
+    @Scheduled(cron = "0 30 * * * *")
     public void syncLatestYouthPoliciesHourly() {
         log.info("=== 시간별 최신 청년정책 확인 시작 - {} ===",
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
 
         try {
-            // 최근 7일간 등록된 정책만 동기화
-            int syncedCount = youthPolicyService.syncRecentYouthPolicies(7);
-            log.info("=== 시간별 최신 청년정책 확인 완료 - {}개 정책 확인 ===", syncedCount);
+            // 동기화 이력이 없으면 최근 7일 기준
+            YouthPolicySyncResultDto result = youthPolicyService.syncRecentYouthPolicies(7);
+            log.info("=== 시간별 최신 청년정책 확인 완료 - 페이지 {} / 조회 {} / 갱신 {} / 신규 {} ===",
+                    result.getPagesFetched(), result.getFetchedCount(),
+                    result.getUpdatedCount(), result.getInsertedCount());
         } catch (Exception e) {
             log.error("=== 시간별 최신 청년정책 확인 실패 ===", e);
         }
     }
 
+    /**
+     * 10분마다 정책 태그 색인 재구성
+     * - 태그 저장 시 색인은 즉시 갱신되지만, 다른 인스턴스에서 저장된 태그는 이 주기로 반영
+     */
+    @Scheduled(cron = "0 5/10 * * * *")
+    public void rebuildPolicyTagIndex() {
+        try {
+            youthPolicyTagIndex.rebuild();
+        } catch (Exception e) {
+            log.error("=== 정책 태그 색인 재구성 실패 ===", e);
+        }
+    }
+
+    /**
+     * 10분마다 검색 색인 변경 확인
+     * - 동기화한 인스턴스는 변경 정책을 바로 반영하지만, 다른 인스턴스에서 동기화된 변경은 이 주기로 반영
+     * - 정책 수/최종 수정 시각/마지막 동기화 실행이 그대로면 재구성하지 않음
+     */
+    @Scheduled(cron = "0 9/10 * * * *")
+    public void rebuildSearchIndex() {
+        try {
+            searchIndex.rebuildIfChanged();
+        } catch (Exception e) {
+            log.error("=== 검색 색인 재구성 실패 ===", e);
+        }
+    }
+
+    /**
+     * 10분마다 캘린더 집계 재구성
+     * - 동기화한 인스턴스는 동기화 직후 재구성하지만, 다른 인스턴스에서 동기화된 변경은 이 주기로 반영
+     */
+    @Scheduled(cron = "0 3/10 * * * *")
+    public void rebuildCalendarIndex() {
+        try {
+            calendarIndex.rebuild();
+        } catch (Exception e) {
+            log.error("=== 캘린더 집계 재구성 실패 ===", e);
+        }
+    }
+
+    /**
+     * 10분마다 인기 정책 순위표 재집계
+     * - 북마크 증감은 즉시 반영되지만, 나이대 변경/회원 탈퇴/Redis 장애로 어긋난 카운트를 DB 기준으로 보정
+     */
+    @Scheduled(cron = "0 7/10 * * * *")
+    public void reconcilePopularityBoard() {
+        try {
+            popularityBoard.reconcile();
+        } catch (Exception e) {
+            log.error("=== 인기 정책 순위표 재집계 실패 ===", e);
+        }
+    }
+
+    /**
+     * 5초마다 실시간 인기 점수 반영
+     * - 조회/댓글/북마크/신청 이벤트는 메모리에서 정책별로 합산되어 있다가 여기서 한 번에 Redis에 반영
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void flushTrendingScores() {
+        try {
+            trendingScorer.flush();
+        } catch (Exception e) {
+            log.error("=== 실시간 인기 점수 반영 실패 ===", e);
+        }
+    }
+
+    /**
+     * 1분마다 정책 자동 태깅 큐 처리
+     * - 재시도 대기가 끝난 정책, 중단된 실행에서 남은 정책을 이어서 처리 (큐 추가는 수동 실행 시에만)
+     * - 처리는 태깅 전용 스레드에서 진행되고 이 메서드는 바로 반환
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void drainPolicyTaggingQueue() {
+        try {
+            policyTaggingWorkerPool.requestDrain();
+        } catch (Exception e) {
+            log.error("=== 정책 자동 태깅 큐 처리 요청 실패 ===", e);
+        }
+    }
+
+    /**
+     * 10분마다 사용자별 북마크/신청 ID 캐시, 인증 사용자 스냅샷 캐시 적중률 기록
+     */
+    @Scheduled(cron = "0 */10 * * * *")
+    public void logUserPolicyIdCacheStats() {
+        for (UserPolicyIdSetCache.Stats stats : userPolicyIdSetCache.stats()) {
+            log.info("=== 사용자 {} 캐시 - 적중 {} / 미적중 {} / 적중률 {} / 무효화 {} / 보관 {}명 ===",
+                    stats.kind(), stats.hits(), stats.misses(), String.format("%.1f%%", stats.hitRate() * 100),
+                    stats.invalidations(), stats.size());
+        }
+
+        UserSnapshotCache.Stats snapshotStats = userSnapshotCache.stats();
+        log.info("=== 인증 사용자 스냅샷 캐시 - 적중 {} / 미적중 {} / 적중률 {} / 무효화 {} / 보관 {}명 ===",
+                snapshotStats.hits(), snapshotStats.misses(), String.format("%.1f%%", snapshotStats.hitRate() * 100),
+                snapshotStats.invalidations(), snapshotStats.size());
+    }
+
     /**
      * 수동 트리거용 메서드 (Controller에서 호출)
      */
@@ -77,8 +217,10 @@ public class YouthPolicyScheduler {
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
 
         try {
-            int syncedCount = youthPolicyService.syncAllYouthPolicies();
-            log.info("=== 수동 청년정책 데이터 동기화 완료 - 총 {}개 정책 동기화 ===", syncedCount);
+            YouthPolicySyncResultDto result = youthPolicyService.syncAllYouthPolicies();
+            log.info("=== 수동 청년정책 데이터 동기화 완료 - 조회 {} / 변경없음 {} / 갱신 {} / 신규 {} ===",
+                    result.getFetchedCount(), result.getUnchangedCount(),
+                    result.getUpdatedCount(), result.getInsertedCount());
         } catch (Exception e) {
             log.error("=== 수동 청년정책 데이터 동기화 실패 ===", e);
             throw new RuntimeException("청년정책 데이터 동기화에 실패했습니다.", e);
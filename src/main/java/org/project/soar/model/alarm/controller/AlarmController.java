@@ -1,13 +1,12 @@
 package org.project.soar.model.alarm.controller;
 
 import com.google.firebase.messaging.FirebaseMessagingException;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.soar.config.TokenProvider;
+import org.project.soar.config.auth.AuthUser;
+import org.project.soar.config.auth.LoginUser;
 import org.project.soar.global.api.ApiResponse;
 import org.project.soar.model.alarm.service.FcmTokenService;
-import org.project.soar.model.user.User;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -25,7 +24,6 @@ import java.util.Map;
 public class AlarmController {
     private final FCMSender fcm;
     private final FcmTokenService fcmTokenService;
-    private final TokenProvider tokenProvider;
     @PostMapping("/single")
     public ResponseEntity<?> push(@RequestBody PushReq req) {
         try {
@@ -61,13 +59,12 @@ public class AlarmController {
     }
 
     @PostMapping("/attendance_check")
-    public ResponseEntity<?> attendance_check(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
-        if (user == null) {
+    public ResponseEntity<?> attendance_check(@LoginUser AuthUser authUser) {
+        if (authUser == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
         try {
-            String id = fcm.sendToToken(fcmTokenService.getTokenByUserId(user.getUserId()), "SOAR", "신청이 완료 됐나요? 앱으로 돌아와서 완료표시를 해보세요!", null);
+            String id = fcm.sendToToken(fcmTokenService.getTokenByUserId(authUser.userId()), "SOAR", "신청이 완료 됐나요? 앱으로 돌아와서 완료표시를 해보세요!", null);
             return ResponseEntity.ok(Map.of("messageId", id));
         } catch (FirebaseMessagingException e) {
             // 토큰 만료/등록 해제 등 코드 핸들링>
@@ -1,9 +1,8 @@
 package org.project.soar.model.alarm.controller;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.soar.config.TokenProvider;
+import org.project.soar.config.auth.LoginUser;
 import org.project.soar.global.api.ApiResponse;
 import org.project.soar.model.alarm.FcmToken;
 import org.project.soar.model.alarm.dto.FcmTokenRegisterRequest;
@@ -20,11 +19,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FcmTokenController {
     private final FcmTokenService fcmTokenService;
-    private final TokenProvider tokenProvider;
     @PostMapping("/apply/token")
-    public ResponseEntity<?> registerToken(HttpServletRequest request, @RequestBody FcmTokenRegisterRequest dto) {
+    public ResponseEntity<?> registerToken(@LoginUser User user, @RequestBody FcmTokenRegisterRequest dto) {
         log.info("FCM 토큰 등록 요청: {}", dto.getFcmToken());
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -5,7 +5,9 @@ import lombok.*;
 import org.project.soar.model.youthpolicy.YouthPolicy;
 
 @Entity
-@Table(name = "category")
+@Table(name = "category", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_category_code_policy", columnNames = {"category_code", "policy_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
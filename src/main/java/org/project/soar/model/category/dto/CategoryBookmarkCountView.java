@@ -0,0 +1,12 @@
+package org.project.soar.model.category.dto;
+
+/**
+ * 카테고리 인기 순위 재집계용 (카테고리, 정책)별 북마크 수 (북마크 0건 포함)
+ */
+public interface CategoryBookmarkCountView {
+    Integer getCategoryCode();
+
+    String getPolicyId();
+
+    Long getBookmarkCount();
+}
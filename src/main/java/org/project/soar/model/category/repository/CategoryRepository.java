@@ -1,6 +1,7 @@
 package org.project.soar.model.category.repository;
 
 import org.project.soar.model.category.Category;
+import org.project.soar.model.category.dto.CategoryBookmarkCountView;
 import org.project.soar.model.category.dto.PopularPolicyDto;
 import org.project.soar.model.user.User;
 import org.project.soar.model.youthpolicy.YouthPolicy;
@@ -70,4 +71,17 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
             @Param("tagIds") List<Long> tagIds,
             @Param("user") User user,
             Pageable pageable);
+
+    /**
+     * 카테고리 인기 순위 재집계: (카테고리, 정책)별 북마크 수 (LEFT JOIN으로 북마크 0건 포함)
+     */
+    @Query("""
+                SELECT c.categoryCode AS categoryCode, p.policyId AS policyId, COUNT(b) AS bookmarkCount
+                  FROM Category c
+                  JOIN c.youthPolicy p
+                  LEFT JOIN org.project.soar.model.youthpolicy.YouthPolicyBookmark b
+                         ON b.policy = p
+                 GROUP BY c.categoryCode, p.policyId
+            """)
+    List<CategoryBookmarkCountView> countBookmarksByCategoryAndPolicy();
 }
@@ -0,0 +1,51 @@
+package org.project.soar.model.category.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * category (category_code, policy_id) 중복 정리 + uk_category_code_policy 추가
+ * - ddl-auto=update 는 중복 행이 이미 있으면 유니크 키 추가에 실패해도 경고만 남기고 넘어감
+ *   → 키가 없으면 카테고리 upsert(ON DUPLICATE KEY)가 계속 중복을 쌓으므로 기동 시 직접 보정
+ * - 키가 이미 있으면 information_schema 조회 한 번으로 끝남
+ * - 중복은 가장 작은 category_id 한 건만 남기고 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryUniqueKeyMigration {
+
+    private static final String UNIQUE_KEY = "uk_category_code_policy";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            migrate();
+        } catch (Exception e) {
+            // 다른 인스턴스가 먼저 추가한 경우 등, 다음 기동 시 다시 확인
+            log.warn("Failed to add {} to category", UNIQUE_KEY, e);
+        }
+    }
+
+    public void migrate() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics" +
+                " WHERE table_schema = DATABASE() AND table_name = 'category' AND index_name = ?",
+                Integer.class, UNIQUE_KEY);
+        if (existing != null && existing > 0) return;
+
+        int removed = jdbcTemplate.update(
+                "DELETE c1 FROM category c1 JOIN category c2" +
+                " ON c1.category_code = c2.category_code AND c1.policy_id = c2.policy_id" +
+                " AND c1.category_id > c2.category_id");
+        jdbcTemplate.execute("ALTER TABLE category ADD CONSTRAINT " + UNIQUE_KEY +
+                " UNIQUE (category_code, policy_id)");
+        log.info("Added {} to category after removing {} duplicate rows", UNIQUE_KEY, removed);
+    }
+}
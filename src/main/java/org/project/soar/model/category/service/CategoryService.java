@@ -5,16 +5,28 @@ import org.project.soar.model.category.CategoryType;
 import org.project.soar.model.category.dto.PopularPolicyDto;
 import org.project.soar.model.category.repository.CategoryRepository;
 import org.project.soar.model.user.User;
+import org.project.soar.model.youthpolicy.cache.UserPolicyIdSetCache;
+import org.project.soar.model.youthpolicy.dto.YouthPolicyPopularView;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyPopularityBoard;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyPopularityBoard.RankedPolicy;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
+import org.project.soar.model.youthpolicytag.search.YouthPolicyTagIndex;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final YouthPolicyPopularityBoard popularityBoard;
+    private final YouthPolicyTagIndex youthPolicyTagIndex;
+    private final YouthPolicyRepository youthPolicyRepository;
+    private final UserPolicyIdSetCache userPolicyIdSetCache;
 
     /** 카테고리 이름 → 코드 변환 (일자리/주거/교육/복지문화) */
     private int toCategoryCode(String categoryName) {
@@ -23,9 +35,18 @@ public class CategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 카테고리명입니다: " + categoryName));
     }
 
+    /**
+     * 카테고리별 인기 정책
+     * - 카테고리 순위표(Redis)에서 상위 N개만 읽고, 이름/북마크 여부는 해당 N개만 조회
+     * - 순위표 준비 전/장애 시 기존 JOIN 집계
+     */
     public List<PopularPolicyDto> getPopularByCategoryCode(User user, int categoryCode, int size) {
-        return categoryRepository.findPopularPoliciesByCategory(
-                categoryCode, user, PageRequest.of(0, Math.max(1, size)));
+        int limit = Math.max(1, size);
+        Optional<List<RankedPolicy>> ranked = popularityBoard.findTopByCategory(categoryCode, limit, policyId -> true);
+        if (ranked.isEmpty()) {
+            return categoryRepository.findPopularPoliciesByCategory(categoryCode, user, PageRequest.of(0, limit));
+        }
+        return toPopularPolicies(user, categoryCode, ranked.get());
     }
 
     public List<PopularPolicyDto> getPopularByCategoryName(User user, String categoryName, int size) {
@@ -33,13 +54,30 @@ public class CategoryService {
         return getPopularByCategoryCode(user, code, size);
     }
 
+    /**
+     * 카테고리별 + 태그 필터(태그 OR) 인기 정책
+     * - 태그 색인에서 태그가 하나라도 붙은 정책 집합을 구한 뒤 카테고리 순위표를 앞에서부터 걸러 N개
+     */
     public List<PopularPolicyDto> getPopularByCategoryAndTags(User user, int categoryCode, List<Long> tagIds,
             int size) {
         if (tagIds == null || tagIds.isEmpty()) {
             return getPopularByCategoryCode(user, categoryCode, size);
         }
+
+        int limit = Math.max(1, size);
+        if (youthPolicyTagIndex.isReady()) {
+            Set<String> taggedPolicyIds = youthPolicyTagIndex.findAnyMatching(tagIds);
+            if (taggedPolicyIds.isEmpty()) {
+                return List.of();
+            }
+            Optional<List<RankedPolicy>> ranked =
+                    popularityBoard.findTopByCategory(categoryCode, limit, taggedPolicyIds::contains);
+            if (ranked.isPresent()) {
+                return toPopularPolicies(user, categoryCode, ranked.get());
+            }
+        }
         return categoryRepository.findPopularPoliciesByCategoryAndTagIds(
-                categoryCode, tagIds, user, PageRequest.of(0, Math.max(1, size)));
+                categoryCode, tagIds, user, PageRequest.of(0, limit));
     }
 
     public List<PopularPolicyDto> getPopularByCategoryNameAndTags(User user, String categoryName, List<Long> tagIds,
@@ -47,4 +85,31 @@ public class CategoryService {
         int code = toCategoryCode(categoryName);
         return getPopularByCategoryAndTags(user, code, tagIds, size);
     }
+
+    /**
+     * 순위표 항목 → 응답 DTO (정책명은 반환할 정책만 조회, 북마크 여부는 사용자 캐시, 삭제된 정책은 건너뜀)
+     */
+    private List<PopularPolicyDto> toPopularPolicies(User user, int categoryCode, List<RankedPolicy> ranked) {
+        if (ranked.isEmpty()) return List.of();
+
+        List<String> policyIds = ranked.stream().map(RankedPolicy::policyId).toList();
+        Map<String, YouthPolicyPopularView> byId = youthPolicyRepository.findPopularViewsByPolicyIdIn(policyIds)
+                .stream()
+                .collect(Collectors.toMap(YouthPolicyPopularView::getPolicyId, Function.identity()));
+        Set<String> bookmarkedIds = userPolicyIdSetCache.bookmarkedIds(user);
+
+        List<PopularPolicyDto> result = new ArrayList<>(ranked.size());
+        for (RankedPolicy rankedPolicy : ranked) {
+            YouthPolicyPopularView policy = byId.get(rankedPolicy.policyId());
+            if (policy == null) continue;
+            result.add(PopularPolicyDto.builder()
+                    .policyId(policy.getPolicyId())
+                    .policyName(policy.getPolicyName())
+                    .categoryCode(categoryCode)
+                    .bookmarkCount(rankedPolicy.bookmarkCount())
+                    .isBookmarked(bookmarkedIds.contains(policy.getPolicyId()))
+                    .build());
+        }
+        return result;
+    }
 }
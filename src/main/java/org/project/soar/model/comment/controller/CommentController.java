@@ -1,10 +1,10 @@
 package org.project.soar.model.comment.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.soar.config.TokenProvider;
+import org.project.soar.config.auth.AuthUser;
+import org.project.soar.config.auth.LoginUser;
 import org.project.soar.global.api.ApiResponse;
 import org.project.soar.model.comment.dto.CommentResponse;
 import org.project.soar.model.comment.service.CommentService;
@@ -20,7 +20,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentController {
     private final CommentService commentService;
-    private final TokenProvider tokenProvider;
 
     @GetMapping("/")
     @Operation(summary="전체 댓글 조회", description="모든 댓글을 조회합니다.")
@@ -38,19 +37,17 @@ public class CommentController {
 
     @GetMapping("/user")
     @Operation(summary="특정 사용자의 모든 댓글 조회", description="특정 사용자의 모든 댓글을 조회합니다.")
-    public ResponseEntity<ApiResponse<?>> getAllCommentByUserId(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
-        if (user == null) {
+    public ResponseEntity<ApiResponse<?>> getAllCommentByUserId(@LoginUser AuthUser authUser) {
+        if (authUser == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
-        List<CommentResponse> result = commentService.getAllCommentByUserId(user.getUserId());
+        List<CommentResponse> result = commentService.getAllCommentByUserId(authUser.userId());
         return ResponseEntity.ok(ApiResponse.createSuccess(result));
     }
 
     @PostMapping("/")
     @Operation(summary="새로운 댓글 생성", description="새로운 댓글을 생성합니다.")
-    public ResponseEntity<ApiResponse<?>> createComment(HttpServletRequest request,@RequestBody CommentRequest commentRequest) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> createComment(@LoginUser User user,@RequestBody CommentRequest commentRequest) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -76,8 +73,7 @@ public class CommentController {
     }
 
     @GetMapping("/applied/count")
-    public ResponseEntity<ApiResponse<?>> getAppliedPolicyCount(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> getAppliedPolicyCount(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -6,6 +6,8 @@ import org.project.soar.model.comment.controller.CommentRequest;
 import org.project.soar.model.comment.dto.CommentResponse;
 import org.project.soar.model.comment.repository.CommentRepository;
 import org.project.soar.model.youthpolicy.YouthPolicy;
+import org.project.soar.model.youthpolicy.enums.TrendingSignal;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyTrendingScorer;
 import org.project.soar.model.user.User;
 import org.project.soar.model.user.repository.UserRepository;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
@@ -20,6 +22,7 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final YouthPolicyRepository youthPolicyRepository;
+    private final YouthPolicyTrendingScorer trendingScorer;
 
     public List<CommentResponse> getAllComment() {
         List<Comment> comments = commentRepository.findAll();
@@ -74,6 +77,7 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
+        trendingScorer.record(policy.getPolicyId(), TrendingSignal.COMMENT);
 
         return getAllCommentByPolicyId(request.getPolicyId());
     }
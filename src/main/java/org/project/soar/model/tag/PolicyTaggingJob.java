@@ -0,0 +1,55 @@
+package org.project.soar.model.tag;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.project.soar.model.tag.enums.TaggingJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정책 자동 태깅 작업 큐 (정책당 1행)
+ * - 처리 결과를 정책 단위로 기록하므로 중단 후에도 남은 정책부터 이어서 처리
+ */
+@Entity
+@Table(name = "policy_tagging_job", indexes = {
+        // 처리 대상 선점 (status = PENDING AND next_attempt_at <= now)
+        @Index(name = "idx_policy_tagging_job_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_policy_tagging_job_claim_token", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyTaggingJob {
+
+    @Id
+    @Column(name = "policy_id", nullable = false, length = 50)
+    private String policyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private TaggingJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 처리 (재시도 백오프)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 선점한 실행의 식별자, 완료 기록 시 같은 실행인지 확인
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
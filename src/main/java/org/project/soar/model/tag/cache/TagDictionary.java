@@ -0,0 +1,84 @@
+package org.project.soar.model.tag.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.tag.Tag;
+import org.project.soar.model.tag.repository.TagRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 사전 (tagId → 태그명, 메모리 보관)
+ * - 태그는 setTagList 로만 바뀌는 고정 목록이라 기동 시 한 번 읽고, 태그 목록 변경 시 다시 읽음
+ * - 사전에 없는 ID 를 만나면 다른 인스턴스에서 바뀌었을 수 있으므로 다시 읽음 (최소 간격 제한)
+ * - 조회는 불변 맵을 참조하므로 잠금 없음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagDictionary {
+
+    private static final long MIN_RELOAD_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final TagRepository tagRepository;
+
+    private volatile Map<Long, String> names = Map.of();
+    private volatile long loadedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 처음 조회할 때 다시 읽음
+            log.warn("Failed to load tag dictionary on startup", e);
+        }
+    }
+
+    /**
+     * 태그 테이블 전체 다시 읽기
+     */
+    public void reload() {
+        List<Tag> tags = tagRepository.findAll();
+        Map<Long, String> loaded = new HashMap<>(tags.size() * 2);
+        for (Tag tag : tags) {
+            loaded.put(tag.getTagId(), tag.getTagName());
+        }
+        names = Map.copyOf(loaded);
+        loadedAt = System.currentTimeMillis();
+        log.info("Tag dictionary loaded - {} tags", loaded.size());
+    }
+
+    public boolean isEmpty() {
+        if (loadedAt == 0) reload();
+        return names.isEmpty();
+    }
+
+    /**
+     * 태그 ID → 태그명 (사전에 없는 ID 는 결과에서 빠짐)
+     */
+    public Map<Long, String> resolve(Collection<Long> tagIds) {
+        Map<Long, String> current = names;
+        if (!current.keySet().containsAll(tagIds)
+                && System.currentTimeMillis() - loadedAt >= MIN_RELOAD_INTERVAL_MILLIS) {
+            reload();
+            current = names;
+        }
+
+        Map<Long, String> resolved = new HashMap<>(tagIds.size() * 2);
+        for (Long tagId : tagIds) {
+            String name = current.get(tagId);
+            if (name != null) {
+                resolved.put(tagId, name);
+            }
+        }
+        return resolved;
+    }
+}
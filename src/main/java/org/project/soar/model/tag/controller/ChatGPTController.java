@@ -4,7 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.project.soar.global.api.ApiResponse;
-import org.project.soar.model.youthpolicytag.YouthPolicyTag;
+import org.project.soar.model.youthpolicytag.dto.YouthPolicyTagResponse;
 import org.project.soar.model.tag.dto.ChatCompletion;
 import org.project.soar.model.tag.service.ChatGPTService;
 import org.springframework.http.HttpStatus;
@@ -55,10 +55,10 @@ public class ChatGPTController {
      **/
     @PostMapping("/promptManagement")
     @Operation(summary = "youthPolicy_Tag 생성", description = "자동 태깅 실행")
-    public ResponseEntity<ApiResponse<List<YouthPolicyTag>>> runPrompt() throws InterruptedException {
-        List<YouthPolicyTag> result = chatGPTService.runPrompt();
+    public ResponseEntity<ApiResponse<List<YouthPolicyTagResponse>>> runPrompt() throws InterruptedException {
+        List<YouthPolicyTagResponse> result = chatGPTService.runPrompt();
         if (result.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body((ApiResponse<List<YouthPolicyTag>>) ApiResponse.createError("empty"));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body((ApiResponse<List<YouthPolicyTagResponse>>) ApiResponse.createError("empty"));
         }
         return ResponseEntity.ok(ApiResponse.createSuccess(result));
     }
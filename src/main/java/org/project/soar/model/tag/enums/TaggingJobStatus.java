@@ -0,0 +1,8 @@
+package org.project.soar.model.tag.enums;
+
+public enum TaggingJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED,
+}
@@ -0,0 +1,90 @@
+package org.project.soar.model.tag.repository;
+
+import org.project.soar.model.tag.PolicyTaggingJob;
+import org.project.soar.model.tag.enums.TaggingJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PolicyTaggingJobRepository extends JpaRepository<PolicyTaggingJob, String> {
+
+    /**
+     * 태그가 없는 최신 정책을 큐에 추가 (native, MySQL)
+     * - 이미 완료/실패한 작업은 대기 상태로 되돌림, 대기/처리 중인 작업은 그대로 둠
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO policy_tagging_job (policy_id, status, attempts, next_attempt_at, created_at, updated_at)
+            SELECT p.policy_id, 'PENDING', 0, NOW(), NOW(), NOW()
+            FROM youth_policy p
+            WHERE NOT EXISTS (SELECT 1 FROM youth_policy_tag t WHERE t.policy_id = p.policy_id)
+            ORDER BY p.created_at DESC
+            LIMIT :limit
+            ON DUPLICATE KEY UPDATE
+                attempts = IF(policy_tagging_job.status IN ('DONE', 'FAILED'), 0, policy_tagging_job.attempts),
+                next_attempt_at = IF(policy_tagging_job.status IN ('DONE', 'FAILED'), NOW(), policy_tagging_job.next_attempt_at),
+                status = IF(policy_tagging_job.status IN ('DONE', 'FAILED'), 'PENDING', policy_tagging_job.status),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    int enqueueUntagged(@Param("limit") int limit);
+
+    /**
+     * 처리할 차례가 된 작업을 UPDATE 한 번으로 선점 (native, MySQL)
+     * - 여러 인스턴스가 동시에 실행해도 같은 작업을 중복 선점하지 않음
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE policy_tagging_job
+            SET status = 'RUNNING', claim_token = :claimToken, claimed_at = :now, updated_at = :now
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    int claimDue(@Param("claimToken") String claimToken, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    List<PolicyTaggingJob> findAllByClaimToken(String claimToken);
+
+    /**
+     * 선점한 작업의 처리 결과 기록 (선점 만료 후 다른 실행이 다시 가져간 작업은 건드리지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE PolicyTaggingJob j
+            SET j.status = :status, j.attempts = :attempts, j.nextAttemptAt = :nextAttemptAt,
+                j.lastError = :lastError, j.claimToken = NULL, j.updatedAt = :now
+            WHERE j.policyId = :policyId AND j.claimToken = :claimToken
+            """)
+    int finish(@Param("policyId") String policyId,
+               @Param("claimToken") String claimToken,
+               @Param("status") TaggingJobStatus status,
+               @Param("attempts") int attempts,
+               @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+               @Param("lastError") String lastError,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 선점 후 완료 기록 없이 오래된 작업(프로세스 중단)을 대기 상태로 되돌림
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE PolicyTaggingJob j
+            SET j.status = org.project.soar.model.tag.enums.TaggingJobStatus.PENDING,
+                j.claimToken = NULL, j.updatedAt = :now
+            WHERE j.status = org.project.soar.model.tag.enums.TaggingJobStatus.RUNNING
+              AND j.claimedAt < :claimedBefore
+            """)
+    int releaseExpiredClaims(@Param("claimedBefore") LocalDateTime claimedBefore, @Param("now") LocalDateTime now);
+
+    long countByStatus(TaggingJobStatus status);
+}
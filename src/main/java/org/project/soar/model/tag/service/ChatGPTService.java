@@ -1,6 +1,6 @@
 package org.project.soar.model.tag.service;
 
-import org.project.soar.model.youthpolicytag.YouthPolicyTag;
+import org.project.soar.model.youthpolicytag.dto.YouthPolicyTagResponse;
 import org.project.soar.model.tag.dto.ChatCompletion;
 import org.springframework.stereotype.Service;
 
@@ -13,5 +13,5 @@ public interface ChatGPTService {
     Map<String, Object> isValidModel(String modelName);
     Map<String, Object> prompt(ChatCompletion chatCompletion);
 
-    List<YouthPolicyTag> runPrompt() throws InterruptedException;
+    List<YouthPolicyTagResponse> runPrompt() throws InterruptedException;
 }
@@ -7,41 +7,26 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.project.soar.config.RestTemplateConfig;
-import org.project.soar.model.youthpolicytag.YouthPolicyTag;
-import org.project.soar.model.tag.dto.ChatCompletion;
-import org.project.soar.model.tag.dto.PromptRequest;
+import org.project.soar.model.tag.tagging.PolicyTaggingWorkerPool;
 import org.project.soar.model.youthpolicytag.dto.YouthPolicyTagResponse;
-import org.project.soar.model.tag.repository.TagRepository;
-import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagRepository;
-import org.project.soar.model.youthpolicy.YouthPolicy;
-import org.project.soar.model.youthpolicy.dto.YouthPolicyOpenAI;
-import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
-import org.project.soar.model.youthpolicytag.service.YouthPolicyTagService;
+import org.project.soar.model.tag.dto.ChatCompletion;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-
-import static java.util.List.of;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatGPTServiceImpl implements ChatGPTService{
     private final RestTemplateConfig restTemplateConfig;
-    public final YouthPolicyRepository youthPolicyRepository;
-    public final TagRepository tagRepository;
-    public final YouthPolicyTagService youthPolicyTagService;
-    public final YouthPolicyTagRepository youthPolicyTagRepository;
-    private static final int MAX_RETRIES = 3;
+    private final PolicyTaggingWorkerPool policyTaggingWorkerPool;
+    // 한 번 실행에 큐에 넣는 최대 정책 수 (최신순)
+    private static final int TAGGING_ENQUEUE_LIMIT = 100;
 
 
     @Value("${openai.url.model}")
@@ -53,35 +38,6 @@ public class ChatGPTServiceImpl implements ChatGPTService{
     @Value("${openai.url.prompt}")
     public String promptUrl;
 
-    @Value("${openai.prompt-endpoint}")
-    private String promptEndpoint;
-
-    private static final Map<String, Long> ZIPCODE_TO_TAGID = Map.ofEntries(
-            Map.entry("11680", 63L),  // 서울 강남구 - 서울시작
-            Map.entry("11740", 64L), Map.entry("11305", 65L), Map.entry("11500", 66L),
-            Map.entry("11620", 67L), Map.entry("11215", 68L), Map.entry("11530", 69L),
-            Map.entry("11545", 70L), Map.entry("11350", 71L), Map.entry("11320", 72L),
-            Map.entry("11230", 73L), Map.entry("11590", 74L), Map.entry("11440", 75L),
-            Map.entry("11410", 76L), Map.entry("11650", 77L), Map.entry("11200", 78L),
-            Map.entry("11290", 79L), Map.entry("11710", 80L), Map.entry("11470", 81L),
-            Map.entry("11560", 82L), Map.entry("11170", 83L), Map.entry("11380", 84L),
-            Map.entry("11110", 85L), Map.entry("11140", 86L), Map.entry("11260", 87L),
-            Map.entry("41111", 88L),  // 수원 장안구 - 경기도시작
-            Map.entry("41113", 89L), Map.entry("41115", 90L), Map.entry("41117", 91L),
-            Map.entry("41131", 92L), Map.entry("41133", 93L), Map.entry("41135", 94L),
-            Map.entry("41150", 95L), Map.entry("41171", 96L), Map.entry("41173", 97L),
-            Map.entry("41190", 98L), Map.entry("41210", 99L), Map.entry("41220", 100L),
-            Map.entry("41250", 101L), Map.entry("41271", 102L), Map.entry("41273", 103L),
-            Map.entry("41281", 104L), Map.entry("41285", 105L), Map.entry("41287", 106L),
-            Map.entry("41290", 107L), Map.entry("41310", 108L), Map.entry("41360", 109L),
-            Map.entry("41370", 110L), Map.entry("41390", 111L), Map.entry("41410", 112L),
-            Map.entry("41430", 113L), Map.entry("41450", 114L), Map.entry("41461", 115L),
-            Map.entry("41463", 116L), Map.entry("41465", 117L), Map.entry("41480", 118L),
-            Map.entry("41500", 119L), Map.entry("41550", 120L), Map.entry("41570", 121L),
-            Map.entry("41590", 122L), Map.entry("41610", 123L), Map.entry("41630", 124L),
-            Map.entry("41650", 125L), Map.entry("41670", 126L), Map.entry("41800", 127L),
-            Map.entry("41820", 128L), Map.entry("41830", 129L)
-    );
 
     //사용가능한 모델 리스트 조회
     @Override
@@ -166,150 +122,16 @@ public class ChatGPTServiceImpl implements ChatGPTService{
         return resultMap;
     }
 
+    /**
+     * 자동 태깅 실행
+     * - 태그 없는 최신 정책을 작업 큐에 넣고, 워커 풀이 처리할 수 있는 작업을 모두 처리할 때까지 대기
+     * - 재시도 대기 중인 정책은 스케줄러가 이어서 처리
+     */
     @Override
-    public List<YouthPolicyTag> runPrompt() throws InterruptedException {
-        return runPrompt(0); // 최초 호출
-    }
-
-    public List<YouthPolicyTag> runPrompt(int retryCount) throws InterruptedException {
-        List<YouthPolicy> top10YouthPolicies = youthPolicyRepository.findTop100ByOrderByCreatedAtDesc();
-        List<YouthPolicyOpenAI> policyOpenAIs = top10YouthPolicies.stream()
-                .map(youthPolicy -> new YouthPolicyOpenAI(
-                        youthPolicy.getPolicyId(),
-                        youthPolicy.getPolicyName(),
-                        youthPolicy.getPolicyExplanation(),
-                        youthPolicy.getPolicySupportContent(),
-                        youthPolicy.getSupportTargetMinAge(),
-                        youthPolicy.getSupportTargetMaxAge()))
-                .collect(Collectors.toList());
-
-        HttpHeaders headers = restTemplateConfig.gptHeaders();
-        List<YouthPolicyTag> resultList = new ArrayList<>();
-        ObjectMapper mapper = new ObjectMapper();
-        Set<String> processedPolicyIds = new HashSet<>();
-
-        for (YouthPolicyOpenAI policy : policyOpenAIs) {
-            if (youthPolicyTagRepository.existsByYouthPolicy(youthPolicyRepository.getById(policy.getPolicyId()))) {
-                log.info("이미 태깅된 정책입니다. {}", policy.getPolicyId());
-                continue;
-            }
-
-            Map<String, String> inputItem = new HashMap<>();
-            inputItem.put("role", "user");
-            inputItem.put("content", generatePolicyInputText(policy));
-
-            List<Map<String, String>> inputList = of(inputItem);
-
-            PromptRequest requestDto = PromptRequest.builder()
-                    .prompt(new PromptRequest.Prompt("pmpt_685a20474a2c8190adce753fb6276c590acaebac451f042b", "7"))
-                    .input(inputList)
-                    .reasoning(Collections.emptyMap())
-                    .max_output_tokens(2048)
-                    .store(true)
-                    .build();
-
-            HttpEntity<PromptRequest> entity = new HttpEntity<>(requestDto, headers);
-
-            try {
-                ResponseEntity<String> response = restTemplateConfig
-                        .restTemplate()
-                        .exchange(promptEndpoint, HttpMethod.POST, entity, String.class);
-
-                log.info("[Raw 응답 JSON] {}", response.getBody());
-
-                Map<String, Object> parsed = mapper.readValue(response.getBody(), new TypeReference<>() {});
-                Object outputObj = parsed.get("output");
-
-                if (outputObj instanceof List<?>) {
-                    List<?> outputList = (List<?>) outputObj;
-                    Map<String, Object> output = (Map<String, Object>) outputList.get(0);
-                    Object tagIdObj = output.get("content");
-
-                    if (tagIdObj instanceof List<?> contentList && !contentList.isEmpty()) {
-                        Object first = contentList.get(0);
-                        if (first instanceof Map<?, ?> contentMap) {
-                            Object textObj = contentMap.get("text");
-                            if (textObj instanceof String tagIdText) {
-                                String cleaned = tagIdText.replaceAll("[^0-9,]", "");
-                                List<Long> tagIds = Arrays.stream(cleaned.split(","))
-                                        .map(String::trim)
-                                        .filter(s -> !s.isEmpty())
-                                        .map(Long::parseLong)
-                                        .collect(Collectors.toList());
-
-                                String zipcodeText = youthPolicyRepository.findByPolicyId(policy.getPolicyId()).getZipCode();
-                                String[] zipcodes = zipcodeText.split(",");
-                                for (String zipcode : zipcodes) {
-                                    if (zipcode != null && !zipcode.isEmpty()) {
-                                        Long regionTagId = convertZipcodeToTagId(zipcode);
-                                        tagIds.add(regionTagId);
-                                    }
-                                }
-
-                                log.info("[Prompt 결과] policyId: {}, tagIds: {}", policy.getPolicyId(), tagIds);
-                                for (Long tagId : tagIds) {
-                                    YouthPolicyTagResponse tagResponse = new YouthPolicyTagResponse(policy.getPolicyId(), policy.getPolicyName(), tagId, tagRepository.findByTagId(tagId).getTagName());
-                                    YouthPolicyTag result = youthPolicyTagService.setYouthPolicyTag(tagResponse);
-                                    log.info("Saved YouthPolicyTag: policyId={}, tagId={}", policy.getPolicyId(), tagId);
-                                    resultList.add(result);
-                                }
-                                processedPolicyIds.add(policy.getPolicyId());
-                            }
-                        }
-                    }
-                }
-            } catch (HttpClientErrorException.TooManyRequests e) {
-                // 429 오류 감지 → 대기 후 재귀 호출
-                String body = e.getResponseBodyAsString();
-                log.warn("[Rate Limit] 응답 본문: {}", body);
-
-                if (retryCount >= MAX_RETRIES) {
-                    log.error("재시도 횟수 초과. 중단합니다.");
-                    break;
-                }
-
-                Pattern p = Pattern.compile("try again in ([0-9.]+)s");
-                Matcher m = p.matcher(body);
-                if (m.find()) {
-                    double waitSeconds = Double.parseDouble(m.group(1));
-                    long waitMillis = (long) (waitSeconds * 1000);
-                    log.info("Rate limit 초과, {}ms 대기 후 재시도", waitMillis);
-                    Thread.sleep(waitMillis);
-                } else {
-                    log.info("기본 대기시간 10초 후 재시도");
-                    Thread.sleep(10_000);
-                }
-
-                return runPrompt(retryCount + 1);
-            } catch (Exception e) {
-                log.error("기타 예외 발생", e);
-            }
-        }
-        log.info("총 처리한 정책 수: {}개", processedPolicyIds.size());
+    public List<YouthPolicyTagResponse> runPrompt() throws InterruptedException {
+        policyTaggingWorkerPool.enqueueUntagged(TAGGING_ENQUEUE_LIMIT);
+        List<YouthPolicyTagResponse> resultList = policyTaggingWorkerPool.drain();
+        log.info("총 저장한 정책 태그 수: {}개", resultList.size());
         return resultList;
     }
-
-    public String generatePolicyInputText(YouthPolicyOpenAI policy) {
-        StringBuilder builder = new StringBuilder();
-
-        Arrays.stream(YouthPolicyOpenAI.class.getDeclaredFields()).forEach(field -> {
-            if (field.getName().equals("policyId")) return; // policyId 제외
-            field.setAccessible(true);
-            try {
-                Object value = field.get(policy);
-                if (value != null) {// 줄바꿈 제거 + 중복공백 제거 + 붙이기
-                    String compact = value.toString().replaceAll("\\s+", "");  // 모든 공백 제거
-                    builder.append(compact);
-                }
-            } catch (IllegalAccessException e) {
-                log.info("[에러] 필드 접근 실패: {}", field.getName(), e);
-            }
-        });
-        return builder.toString().trim(); // 마지막 공백 제거
-    }
-
-    public Long convertZipcodeToTagId(String zipcode) {
-        return ZIPCODE_TO_TAGID.getOrDefault(zipcode, 128L); // 기타 처리: 기본값 128
-    }
 }
-
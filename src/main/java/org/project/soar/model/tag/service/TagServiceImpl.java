@@ -6,8 +6,10 @@ import org.project.soar.model.field.Field;
 import org.project.soar.model.field.repository.FieldRepository;
 import org.project.soar.model.field.service.FieldService;
 import org.project.soar.model.tag.Tag;
+import org.project.soar.model.tag.cache.TagDictionary;
 import org.project.soar.model.tag.dto.TagResponse;
 import org.project.soar.model.tag.repository.TagRepository;
+import org.project.soar.model.youthpolicytag.search.YouthPolicyTagIndex;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -21,6 +23,8 @@ public class TagServiceImpl implements TagService{
     public final TagRepository tagRepository;
     public final FieldRepository fieldRepository;
     public final FieldService fieldService;
+    private final TagDictionary tagDictionary;
+    private final YouthPolicyTagIndex youthPolicyTagIndex;
 
     @Override
     public List<TagResponse> getAllTagList() {
@@ -42,7 +46,7 @@ public class TagServiceImpl implements TagService{
         }
         List<Field> fields = fieldRepository.findAll();
 
-        tagRepository.deleteAll();
+        deleteAllTags();
 
         List<String> tags_job = List.of("취_창업 컨설팅", "면접지원", "멘토_멘티", "인턴십&연수&공고", "창업 자금 지원", "기타");
         List<String> tags_house = List.of("신혼부부주거지원", "청년주거지원", "여성주거지원", "기타");
@@ -73,6 +77,7 @@ public class TagServiceImpl implements TagService{
             tagRepository.saveAll(result);
         }
         log.info("Tag 생성 완료");
+        tagDictionary.reload();
 
         List<TagResponse> returnValue = getAllTagList();
         return returnValue;
@@ -81,11 +86,21 @@ public class TagServiceImpl implements TagService{
     @Override
     public void deleteAllTagList() {
         try {
-            tagRepository.deleteAll();
+            deleteAllTags();
             log.info("Tag 삭제 완료");
+            tagDictionary.reload();
         }
         catch (Exception e) {
             log.info("Tag 삭제 실패");
         }
     }
+
+    /**
+     * 태그 전체 삭제 + 태그 색인에서 삭제된 태그 제거 (트랜잭션 안이면 커밋 후)
+     */
+    private void deleteAllTags() {
+        List<Long> tagIds = tagRepository.findAll().stream().map(Tag::getTagId).toList();
+        tagRepository.deleteAll();
+        youthPolicyTagIndex.removeTags(tagIds);
+    }
 }
@@ -0,0 +1,169 @@
+package org.project.soar.model.tag.tagging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI 요청 속도 제한기 (토큰 버킷, 모든 태깅 워커가 공유)
+ * - 초기 속도는 설정값(분당 요청 수), 응답의 x-ratelimit-* 헤더를 받으면 실제 한도로 보정
+ * - 남은 요청 수 또는 남은 토큰이 요청 1건 분량보다 적으면 reset 시각까지 전체 대기
+ * - 429 응답 시 Retry-After(없으면 본문의 "try again in") 만큼 전체 대기
+ */
+@Component
+@Slf4j
+public class OpenAiRateLimiter {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final long DEFAULT_BACKOFF_MILLIS = 10_000L;
+    // 요청 1건이 쓰는 토큰 추정치 (입력 + max_output_tokens)
+    private static final long TOKENS_PER_REQUEST = 4_096L;
+
+    // OpenAI reset 헤더 형식: "1s", "6m0s", "59.9ms", "1h2m3.5s"
+    private static final Pattern DURATION_PART = Pattern.compile("([0-9]+(?:\\.[0-9]+)?)(ms|h|m|s)");
+    private static final Pattern TRY_AGAIN = Pattern.compile("try again in ([0-9]+(?:\\.[0-9]+)?)(ms|s)");
+
+    private double capacity;
+    private double permits;
+    private double refillPerMilli;
+    private long lastRefillAt;
+    private long pausedUntil;
+
+    public OpenAiRateLimiter(@Value("${openai.tagging.requests-per-minute:60}") int requestsPerMinute) {
+        this.capacity = Math.max(1, requestsPerMinute);
+        this.refillPerMilli = capacity / MINUTE_MILLIS;
+        this.permits = 1;
+        this.lastRefillAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 요청 1건 허가 (대기 중이거나 버킷이 비어 있으면 블로킹)
+     */
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitMillis;
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                refill(now);
+                if (now < pausedUntil) {
+                    waitMillis = pausedUntil - now;
+                } else if (permits >= 1) {
+                    permits -= 1;
+                    return;
+                } else {
+                    waitMillis = (long) Math.ceil((1 - permits) / refillPerMilli);
+                }
+            }
+            Thread.sleep(Math.max(1, waitMillis));
+        }
+    }
+
+    /**
+     * 응답 헤더로 한도/잔여량 보정 (성공/실패 응답 모두)
+     */
+    public synchronized void update(HttpHeaders headers) {
+        if (headers == null) return;
+        long now = System.currentTimeMillis();
+        refill(now);
+
+        Long limit = parseLong(headers.getFirst("x-ratelimit-limit-requests"));
+        if (limit != null && limit > 0) {
+            capacity = limit;
+            refillPerMilli = capacity / MINUTE_MILLIS;
+        }
+
+        Long remaining = parseLong(headers.getFirst("x-ratelimit-remaining-requests"));
+        if (remaining != null) {
+            permits = Math.min(permits, remaining);
+            if (remaining <= 0) {
+                pauseUntil(now + parseDuration(headers.getFirst("x-ratelimit-reset-requests")));
+            }
+        }
+
+        Long remainingTokens = parseLong(headers.getFirst("x-ratelimit-remaining-tokens"));
+        if (remainingTokens != null && remainingTokens < TOKENS_PER_REQUEST) {
+            pauseUntil(now + parseDuration(headers.getFirst("x-ratelimit-reset-tokens")));
+        }
+    }
+
+    /**
+     * 429 응답 처리: 전체 대기 설정
+     *
+     * @return 대기 시간(ms)
+     */
+    public synchronized long backOff(HttpHeaders headers, String body) {
+        long waitMillis = retryAfterMillis(headers, body);
+        long now = System.currentTimeMillis();
+        refill(now);
+        permits = 0;
+        pauseUntil(now + waitMillis);
+        log.info("[Rate Limit] OpenAI 요청 {}ms 대기", waitMillis);
+        return waitMillis;
+    }
+
+    /**
+     * 남은 전체 대기 시간(ms), 대기 중이 아니면 0
+     */
+    public synchronized long pauseRemainingMillis() {
+        return Math.max(0, pausedUntil - System.currentTimeMillis());
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillAt) {
+            permits = Math.min(capacity, permits + (now - lastRefillAt) * refillPerMilli);
+            lastRefillAt = now;
+        }
+    }
+
+    private void pauseUntil(long until) {
+        pausedUntil = Math.max(pausedUntil, until);
+    }
+
+    private static long retryAfterMillis(HttpHeaders headers, String body) {
+        if (headers != null) {
+            Long retryAfterMs = parseLong(headers.getFirst("retry-after-ms"));
+            if (retryAfterMs != null && retryAfterMs > 0) return retryAfterMs;
+            Long retryAfter = parseLong(headers.getFirst("retry-after"));
+            if (retryAfter != null && retryAfter > 0) return retryAfter * 1000;
+        }
+        if (body != null) {
+            Matcher m = TRY_AGAIN.matcher(body);
+            if (m.find()) {
+                double value = Double.parseDouble(m.group(1));
+                return (long) Math.ceil("ms".equals(m.group(2)) ? value : value * 1000);
+            }
+        }
+        return DEFAULT_BACKOFF_MILLIS;
+    }
+
+    private static long parseDuration(String value) {
+        if (value == null || value.isBlank()) return DEFAULT_BACKOFF_MILLIS;
+        Matcher m = DURATION_PART.matcher(value);
+        double millis = 0;
+        boolean matched = false;
+        while (m.find()) {
+            matched = true;
+            double amount = Double.parseDouble(m.group(1));
+            millis += switch (m.group(2)) {
+                case "h" -> amount * 3_600_000;
+                case "m" -> amount * 60_000;
+                case "s" -> amount * 1_000;
+                default -> amount;
+            };
+        }
+        return matched ? (long) Math.ceil(millis) : DEFAULT_BACKOFF_MILLIS;
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
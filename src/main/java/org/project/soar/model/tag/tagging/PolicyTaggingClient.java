@@ -0,0 +1,145 @@
+package org.project.soar.model.tag.tagging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.config.RestTemplateConfig;
+import org.project.soar.model.tag.dto.PromptRequest;
+import org.project.soar.model.youthpolicy.dto.YouthPolicyOpenAI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정책 태깅 프롬프트 호출 (OpenAI Responses API, 프롬프트 관리 기능 사용)
+ * - 호출 전 속도 제한기에서 허가를 받고, 응답 헤더로 제한기를 보정
+ * - 엔드포인트는 openai.prompt-endpoint 설정값 (로컬 스텁 서버로 바꿔 확인 가능)
+ * - 429 는 제한기에 대기 시간을 알린 뒤 예외를 그대로 전파 (재시도는 호출 측에서 정책 단위로)
+ */
+@Component
+@Slf4j
+public class PolicyTaggingClient {
+
+    private static final String PROMPT_ID = "pmpt_685a20474a2c8190adce753fb6276c590acaebac451f042b";
+    private static final String PROMPT_VERSION = "7";
+    private static final int MAX_OUTPUT_TOKENS = 2048;
+
+    // 태깅 전용 타임아웃 (공용 RestTemplate 의 10분 대기 대신, 멈춘 요청은 재시도로 넘김)
+    private static final int CONNECT_TIMEOUT_MS = 10_000;
+    private static final int READ_TIMEOUT_MS = 120_000;
+
+    private final RestTemplate restTemplate;
+    private final HttpHeaders gptHeaders;
+    private final OpenAiRateLimiter rateLimiter;
+    private final String promptEndpoint;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public PolicyTaggingClient(RestTemplateConfig restTemplateConfig,
+                               OpenAiRateLimiter rateLimiter,
+                               @Value("${openai.prompt-endpoint}") String promptEndpoint) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(CONNECT_TIMEOUT_MS);
+        factory.setReadTimeout(READ_TIMEOUT_MS);
+        this.restTemplate = new RestTemplate(factory);
+        this.gptHeaders = restTemplateConfig.gptHeaders();
+        this.rateLimiter = rateLimiter;
+        this.promptEndpoint = promptEndpoint;
+    }
+
+    /**
+     * 정책 1건 태깅 요청 → 태그 ID 목록
+     *
+     * @throws HttpClientErrorException.TooManyRequests 한도 초과 (제한기에 대기 설정 후 전파)
+     * @throws IllegalStateException 응답에 태그가 없음
+     */
+    public List<Long> requestTagIds(YouthPolicyOpenAI policy) throws InterruptedException, IOException {
+        PromptRequest requestDto = PromptRequest.builder()
+                .prompt(new PromptRequest.Prompt(PROMPT_ID, PROMPT_VERSION))
+                .input(List.of(Map.of("role", "user", "content", generatePolicyInputText(policy))))
+                .reasoning(Collections.emptyMap())
+                .max_output_tokens(MAX_OUTPUT_TOKENS)
+                .store(true)
+                .build();
+
+        rateLimiter.acquire();
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.exchange(promptEndpoint, HttpMethod.POST,
+                    new HttpEntity<>(requestDto, gptHeaders), String.class);
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.warn("[Rate Limit] 응답 본문: {}", e.getResponseBodyAsString());
+            rateLimiter.backOff(e.getResponseHeaders(), e.getResponseBodyAsString());
+            throw e;
+        } catch (HttpStatusCodeException e) {
+            rateLimiter.update(e.getResponseHeaders());
+            throw e;
+        }
+        rateLimiter.update(response.getHeaders());
+
+        log.debug("[Raw 응답 JSON] policyId: {}, {}", policy.getPolicyId(), response.getBody());
+        List<Long> tagIds = parseTagIds(response.getBody());
+        if (tagIds.isEmpty()) {
+            throw new IllegalStateException("태그 응답이 비어 있습니다.");
+        }
+        return tagIds;
+    }
+
+    /**
+     * output[].content[].text 중 첫 텍스트에서 "1, 2, 3" 형태의 태그 ID 추출
+     */
+    private List<Long> parseTagIds(String body) throws IOException {
+        JsonNode output = body == null ? null : mapper.readTree(body).get("output");
+        if (output == null || !output.isArray()) return List.of();
+
+        for (JsonNode item : output) {
+            JsonNode content = item.get("content");
+            if (content == null || !content.isArray()) continue;
+            for (JsonNode part : content) {
+                JsonNode text = part.get("text");
+                if (text != null && text.isTextual()) {
+                    String cleaned = text.asText().replaceAll("[^0-9,]", "");
+                    List<Long> tagIds = new ArrayList<>();
+                    Arrays.stream(cleaned.split(","))
+                            .filter(s -> !s.isEmpty())
+                            .map(Long::parseLong)
+                            .forEach(tagIds::add);
+                    return tagIds;
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 프롬프트 입력: 정책 ID 를 뺀 필드를 공백 없이 이어 붙임
+     */
+    private static String generatePolicyInputText(YouthPolicyOpenAI policy) {
+        StringBuilder builder = new StringBuilder();
+        appendCompact(builder, policy.getPolicyName());
+        appendCompact(builder, policy.getPolicyExplanation());
+        appendCompact(builder, policy.getPolicySupportContent());
+        appendCompact(builder, policy.getSupportTargetMinAge());
+        appendCompact(builder, policy.getSupportTargetMaxAge());
+        return builder.toString();
+    }
+
+    private static void appendCompact(StringBuilder builder, Object value) {
+        if (value != null) {
+            builder.append(value.toString().replaceAll("\\s+", ""));
+        }
+    }
+}
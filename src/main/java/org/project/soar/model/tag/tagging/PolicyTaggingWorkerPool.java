@@ -0,0 +1,314 @@
+package org.project.soar.model.tag.tagging;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.tag.PolicyTaggingJob;
+import org.project.soar.model.tag.enums.TaggingJobStatus;
+import org.project.soar.model.tag.repository.PolicyTaggingJobRepository;
+import org.project.soar.model.youthpolicy.YouthPolicy;
+import org.project.soar.model.youthpolicy.dto.YouthPolicyOpenAI;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
+import org.project.soar.model.youthpolicytag.dto.YouthPolicyTagResponse;
+import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagRepository;
+import org.project.soar.model.youthpolicytag.service.YouthPolicyTagService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 정책 자동 태깅 작업 처리 (policy_tagging_job 큐)
+ * - 태그 없는 정책을 큐에 넣고, 고정 크기 워커 풀이 공유 속도 제한기를 지키며 동시에 처리
+ * - 정책 단위로 결과를 기록(체크포인트)하므로 중단 후 다시 실행하면 남은 정책부터 이어서 처리
+ * - 실패는 해당 정책만 지수 백오프로 재시도, 최대 시도 횟수를 넘기면 FAILED
+ * - 429 는 정책 탓이 아니므로 시도 횟수를 늘리지 않고 제한기 대기 시간 뒤로 미룸
+ * - 선점은 UPDATE ... LIMIT 한 번으로 처리해 여러 인스턴스가 같은 정책을 중복 처리하지 않음
+ */
+@Component
+@Slf4j
+public class PolicyTaggingWorkerPool {
+
+    // 선점 후 이 시간 안에 결과 기록이 없으면 중단된 것으로 보고 다시 대기 상태로
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(15);
+    private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(30);
+    private static final Duration RETRY_MAX_DELAY = Duration.ofMinutes(30);
+    // 한 번에 선점하는 작업 수 = 워커 수 × 이 값
+    private static final int CLAIM_BATCH_PER_WORKER = 2;
+    private static final int MAX_ERROR_LENGTH = 500;
+    // 매핑되지 않은 지역코드 → 기타 지역 태그
+    private static final Long DEFAULT_REGION_TAG_ID = 128L;
+
+    private static final Map<String, Long> ZIPCODE_TO_TAGID = Map.ofEntries(
+            Map.entry("11680", 63L),  // 서울 강남구 - 서울시작
+            Map.entry("11740", 64L), Map.entry("11305", 65L), Map.entry("11500", 66L),
+            Map.entry("11620", 67L), Map.entry("11215", 68L), Map.entry("11530", 69L),
+            Map.entry("11545", 70L), Map.entry("11350", 71L), Map.entry("11320", 72L),
+            Map.entry("11230", 73L), Map.entry("11590", 74L), Map.entry("11440", 75L),
+            Map.entry("11410", 76L), Map.entry("11650", 77L), Map.entry("11200", 78L),
+            Map.entry("11290", 79L), Map.entry("11710", 80L), Map.entry("11470", 81L),
+            Map.entry("11560", 82L), Map.entry("11170", 83L), Map.entry("11380", 84L),
+            Map.entry("11110", 85L), Map.entry("11140", 86L), Map.entry("11260", 87L),
+            Map.entry("41111", 88L),  // 수원 장안구 - 경기도시작
+            Map.entry("41113", 89L), Map.entry("41115", 90L), Map.entry("41117", 91L),
+            Map.entry("41131", 92L), Map.entry("41133", 93L), Map.entry("41135", 94L),
+            Map.entry("41150", 95L), Map.entry("41171", 96L), Map.entry("41173", 97L),
+            Map.entry("41190", 98L), Map.entry("41210", 99L), Map.entry("41220", 100L),
+            Map.entry("41250", 101L), Map.entry("41271", 102L), Map.entry("41273", 103L),
+            Map.entry("41281", 104L), Map.entry("41285", 105L), Map.entry("41287", 106L),
+            Map.entry("41290", 107L), Map.entry("41310", 108L), Map.entry("41360", 109L),
+            Map.entry("41370", 110L), Map.entry("41390", 111L), Map.entry("41410", 112L),
+            Map.entry("41430", 113L), Map.entry("41450", 114L), Map.entry("41461", 115L),
+            Map.entry("41463", 116L), Map.entry("41465", 117L), Map.entry("41480", 118L),
+            Map.entry("41500", 119L), Map.entry("41550", 120L), Map.entry("41570", 121L),
+            Map.entry("41590", 122L), Map.entry("41610", 123L), Map.entry("41630", 124L),
+            Map.entry("41650", 125L), Map.entry("41670", 126L), Map.entry("41800", 127L),
+            Map.entry("41820", 128L), Map.entry("41830", 129L)
+    );
+
+    /**
+     * 정책 1건 처리 결과
+     */
+    private record JobOutcome(TaggingJobStatus status, List<YouthPolicyTagResponse> tags) {
+    }
+
+    private final PolicyTaggingJobRepository jobRepository;
+    private final YouthPolicyRepository youthPolicyRepository;
+    private final YouthPolicyTagRepository youthPolicyTagRepository;
+    private final YouthPolicyTagService youthPolicyTagService;
+    private final PolicyTaggingClient taggingClient;
+    private final OpenAiRateLimiter rateLimiter;
+    private final int concurrency;
+    private final int maxAttempts;
+
+    private final ExecutorService workers;
+    // 스케줄러 요청은 이 스레드에서 실행 (스케줄러 스레드를 오래 잡지 않도록)
+    private final ExecutorService coordinator;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    public PolicyTaggingWorkerPool(PolicyTaggingJobRepository jobRepository,
+                                   YouthPolicyRepository youthPolicyRepository,
+                                   YouthPolicyTagRepository youthPolicyTagRepository,
+                                   YouthPolicyTagService youthPolicyTagService,
+                                   PolicyTaggingClient taggingClient,
+                                   OpenAiRateLimiter rateLimiter,
+                                   @Value("${openai.tagging.concurrency:4}") int concurrency,
+                                   @Value("${openai.tagging.max-attempts:5}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.youthPolicyRepository = youthPolicyRepository;
+        this.youthPolicyTagRepository = youthPolicyTagRepository;
+        this.youthPolicyTagService = youthPolicyTagService;
+        this.taggingClient = taggingClient;
+        this.rateLimiter = rateLimiter;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        AtomicInteger workerSeq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.concurrency, r -> {
+            Thread t = new Thread(r, "policy-tagging-" + workerSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.coordinator = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "policy-tagging-coordinator");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 태그 없는 최신 정책을 최대 limit 건 큐에 추가
+     */
+    public int enqueueUntagged(int limit) {
+        int enqueued = jobRepository.enqueueUntagged(limit);
+        log.info("태깅 대상 정책 큐 등록 - 영향 행 {}", enqueued);
+        return enqueued;
+    }
+
+    /**
+     * 지금 처리할 수 있는 작업을 모두 처리하고 저장된 태그 반환 (다른 실행이 있으면 끝날 때까지 대기)
+     */
+    public List<YouthPolicyTagResponse> drain() throws InterruptedException {
+        drainLock.lockInterruptibly();
+        try {
+            return drainLocked();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 백그라운드 처리 요청 (스케줄러용, 이미 실행/대기 중이면 무시)
+     */
+    public void requestDrain() {
+        if (!drainRequested.compareAndSet(false, true)) return;
+        coordinator.execute(() -> {
+            try {
+                if (drainLock.tryLock()) {
+                    try {
+                        drainLocked();
+                    } finally {
+                        drainLock.unlock();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("=== 정책 자동 태깅 처리 실패 ===", e);
+            } finally {
+                drainRequested.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private List<YouthPolicyTagResponse> drainLocked() throws InterruptedException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int released = jobRepository.releaseExpiredClaims(startedAt.minus(CLAIM_LEASE), startedAt);
+        if (released > 0) {
+            log.info("중단된 태깅 작업 {}건을 다시 대기 상태로 되돌림", released);
+        }
+
+        List<YouthPolicyTagResponse> saved = new ArrayList<>();
+        int done = 0;
+        int retrying = 0;
+        int failed = 0;
+        while (true) {
+            String claimToken = UUID.randomUUID().toString();
+            int claimed = jobRepository.claimDue(claimToken, LocalDateTime.now(), concurrency * CLAIM_BATCH_PER_WORKER);
+            if (claimed == 0) break;
+
+            List<Future<JobOutcome>> futures = new ArrayList<>();
+            for (PolicyTaggingJob job : jobRepository.findAllByClaimToken(claimToken)) {
+                futures.add(workers.submit(() -> process(job, claimToken)));
+            }
+            try {
+                for (Future<JobOutcome> future : futures) {
+                    JobOutcome outcome = future.get();
+                    saved.addAll(outcome.tags());
+                    switch (outcome.status()) {
+                        case DONE -> done++;
+                        case FAILED -> failed++;
+                        default -> retrying++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                // 남은 작업은 선점 만료 후 다시 처리됨
+                futures.forEach(f -> f.cancel(true));
+                throw e;
+            } catch (ExecutionException e) {
+                log.error("태깅 작업 실행 실패", e.getCause());
+            }
+        }
+
+        if (done + retrying + failed > 0) {
+            log.info("=== 정책 자동 태깅 - 완료 {} / 재시도 예정 {} / 실패 {} / 저장 태그 {} ===",
+                    done, retrying, failed, saved.size());
+        }
+        return saved;
+    }
+
+    private JobOutcome process(PolicyTaggingJob job, String claimToken) {
+        String policyId = job.getPolicyId();
+        try {
+            YouthPolicy policy = youthPolicyRepository.findByPolicyId(policyId);
+            if (policy == null || youthPolicyTagRepository.existsByYouthPolicy(policy)) {
+                // 삭제된 정책, 또는 이미 태깅된 정책 (중단 직전에 저장까지 끝난 경우 포함)
+                finish(job, claimToken, TaggingJobStatus.DONE, job.getAttempts(), LocalDateTime.now(), null);
+                return new JobOutcome(TaggingJobStatus.DONE, List.of());
+            }
+
+            Set<Long> tagIds = new LinkedHashSet<>(taggingClient.requestTagIds(toOpenAiInput(policy)));
+            tagIds.addAll(regionTagIds(policy.getZipCode()));
+            log.info("[Prompt 결과] policyId: {}, tagIds: {}", policyId, tagIds);
+
+            // 정책의 태그를 한 번에 저장 (중간에 실패해도 일부만 저장되지 않음)
+            List<YouthPolicyTagResponse> saved = youthPolicyTagService.assignTags(Map.of(policyId, tagIds));
+            finish(job, claimToken, TaggingJobStatus.DONE, job.getAttempts() + 1, LocalDateTime.now(), null);
+            return new JobOutcome(TaggingJobStatus.DONE, saved);
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            // 제한기가 이미 전체 대기를 걸어 둠, 시도 횟수는 그대로 두고 대기가 끝난 뒤 다시 처리
+            LocalDateTime retryAt = LocalDateTime.now().plusNanos(rateLimiter.pauseRemainingMillis() * 1_000_000L);
+            finish(job, claimToken, TaggingJobStatus.PENDING, job.getAttempts(), retryAt, "429 Too Many Requests");
+            return new JobOutcome(TaggingJobStatus.PENDING, List.of());
+        } catch (HttpClientErrorException e) {
+            // 그 외 4xx 는 다시 보내도 같은 결과
+            log.warn("태깅 요청 거절 policyId: {}, status: {}", policyId, e.getStatusCode());
+            finish(job, claimToken, TaggingJobStatus.FAILED, job.getAttempts() + 1, LocalDateTime.now(), e.getMessage());
+            return new JobOutcome(TaggingJobStatus.FAILED, List.of());
+        } catch (InterruptedException e) {
+            // 종료 중: 결과를 기록하지 않고 선점 만료 후 다시 처리
+            Thread.currentThread().interrupt();
+            return new JobOutcome(TaggingJobStatus.RUNNING, List.of());
+        } catch (Exception e) {
+            int attempts = job.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                log.error("태깅 재시도 횟수 초과 policyId: {}", policyId, e);
+                finish(job, claimToken, TaggingJobStatus.FAILED, attempts, LocalDateTime.now(), e.toString());
+                return new JobOutcome(TaggingJobStatus.FAILED, List.of());
+            }
+            Duration delay = retryDelay(attempts);
+            log.warn("태깅 실패 policyId: {}, {}회차, {}초 후 재시도 - {}", policyId, attempts, delay.toSeconds(), e.toString());
+            finish(job, claimToken, TaggingJobStatus.PENDING, attempts, LocalDateTime.now().plus(delay), e.toString());
+            return new JobOutcome(TaggingJobStatus.PENDING, List.of());
+        }
+    }
+
+    private void finish(PolicyTaggingJob job, String claimToken, TaggingJobStatus status,
+                        int attempts, LocalDateTime nextAttemptAt, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jobRepository.finish(job.getPolicyId(), claimToken, status, attempts, nextAttemptAt, lastError, LocalDateTime.now());
+    }
+
+    /**
+     * 지수 백오프 (30초 × 2^(n-1), 최대 30분) + 최대 20% 지터
+     */
+    private static Duration retryDelay(int attempts) {
+        long baseMillis = RETRY_BASE_DELAY.toMillis() << Math.min(attempts - 1, 16);
+        long delayMillis = Math.min(baseMillis, RETRY_MAX_DELAY.toMillis());
+        return Duration.ofMillis(delayMillis + ThreadLocalRandom.current().nextLong(delayMillis / 5 + 1));
+    }
+
+    private static YouthPolicyOpenAI toOpenAiInput(YouthPolicy policy) {
+        return new YouthPolicyOpenAI(
+                policy.getPolicyId(),
+                policy.getPolicyName(),
+                policy.getPolicyExplanation(),
+                policy.getPolicySupportContent(),
+                policy.getSupportTargetMinAge(),
+                policy.getSupportTargetMaxAge());
+    }
+
+    private static List<Long> regionTagIds(String zipcodeText) {
+        if (zipcodeText == null || zipcodeText.isBlank()) return List.of();
+        List<Long> tagIds = new ArrayList<>();
+        for (String zipcode : zipcodeText.split(",")) {
+            String trimmed = zipcode.trim();
+            if (!trimmed.isEmpty()) {
+                tagIds.add(ZIPCODE_TO_TAGID.getOrDefault(trimmed, DEFAULT_REGION_TAG_ID));
+            }
+        }
+        return tagIds;
+    }
+}
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.project.soar.global.abstracts.BaseTimeEntity;
 
+/**
+ * 이전 버전의 리프레시 토큰 저장 테이블
+ * - 현재 토큰은 Redis(RefreshTokenStore)에 저장, 남은 행은 기동 시 한 번 옮기고 삭제
+ */
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "refresh_token")
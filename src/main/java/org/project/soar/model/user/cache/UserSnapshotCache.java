@@ -0,0 +1,165 @@
+package org.project.soar.model.user.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.config.auth.AuthUser;
+import org.project.soar.model.user.repository.UserRepository;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인증 사용자 스냅샷 캐시 (인스턴스 로컬 LRU, 짧은 TTL)
+ * - 인증된 요청마다 나가던 user SELECT 를 TTL 동안 한 번으로 줄임
+ * - 무효화: UserService 의 프로필 수정/탈퇴 시 커밋 후 evict, Redis pub/sub으로 다른 인스턴스에 전파
+ * - 조회 중 무효화가 끼어들면 읽어온 값을 캐시에 넣지 않음 (무효화 세대 비교)
+ */
+@Component
+@Slf4j
+public class UserSnapshotCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "cache:user-snapshot:invalidate";
+    private static final int MAX_USERS = 10_000;
+    private static final long TTL_MILLIS = Duration.ofSeconds(60).toMillis();
+
+    /**
+     * 캐시 통계 (인스턴스 기동 이후 누적)
+     */
+    public record Stats(long hits, long misses, long invalidations, int size) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private record Entry(AuthUser user, long loadedAt) {
+    }
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+    // 무효화마다 증가, 조회 시작 이후 값이 바뀌었으면 읽은 결과를 캐시하지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 사용자 스냅샷 (없는 사용자면 null, null 은 캐시하지 않음)
+     */
+    public AuthUser get(Long userId) {
+        if (userId == null) return null;
+
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.loadedAt() < TTL_MILLIS) {
+                hits.increment();
+                return entry.user();
+            }
+        }
+        misses.increment();
+
+        long startedGeneration = generation.get();
+        AuthUser loaded = userRepository.findById(userId).map(AuthUser::from).orElse(null);
+        if (loaded != null) {
+            synchronized (entries) {
+                if (generation.get() == startedGeneration) {
+                    entries.put(userId, new Entry(loaded, now));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자 스냅샷 무효화 (트랜잭션 중이면 커밋 후)
+     */
+    public void evict(Long userId) {
+        if (userId == null) return;
+        afterCommit(() -> {
+            invalidate(userId);
+            publish(userId);
+        });
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), invalidations.sum(), size);
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 무효화 메시지 ("instanceId|userId")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 2 || instanceId.equals(parts[0])) return;
+        try {
+            invalidate(Long.valueOf(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user snapshot cache invalidation: {}", parts[1]);
+        }
+    }
+
+    private void invalidate(Long userId) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    private void publish(Long userId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + "|" + userId);
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL 만료 후 다시 읽음
+            log.warn("Failed to publish user snapshot cache invalidation for user {}", userId, e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package org.project.soar.model.user.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.soar.config.TokenProvider;
+import org.project.soar.config.auth.LoginUser;
 import org.project.soar.global.api.ApiResponse;
 import org.project.soar.model.permission.service.PermissionService;
 import org.project.soar.model.user.User;
 import org.project.soar.model.user.dto.*;
 import org.project.soar.model.user.service.UserService;
+import org.project.soar.model.user.token.RefreshTokenConflictException;
 import org.project.soar.model.usertag.service.UserTagService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,7 +31,6 @@ public class UserController {
     private final UserService userService;
     private final UserTagService userTagService;
     private final PermissionService permissionService;
-    private final TokenProvider tokenProvider;
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
     @PostMapping("/signup")
@@ -67,7 +66,14 @@ public class UserController {
             throws JsonProcessingException {
         logger.info("[RefreshController] Refresh-Token 요청: {}", refreshToken);
         logger.info("                 oldAccessBearer: {}", oldAccessBearer);
-        TokenResponse body = userService.refreshToken(refreshToken, oldAccessBearer);
+        TokenResponse body;
+        try {
+            body = userService.refreshToken(refreshToken, oldAccessBearer);
+        } catch (RefreshTokenConflictException e) {
+            // 동시 요청이 먼저 교체함 → 로그아웃하지 않고 재시도 안내
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body((ApiResponse<TokenResponse>) ApiResponse.createError("토큰 갱신이 진행 중입니다. 잠시 후 다시 시도해주세요."));
+        }
         logger.info("[RefreshController] 응답으로 반환할 새 토큰들: {}", body);
         return ResponseEntity.ok(ApiResponse.createSuccessWithMessage(body, "토큰 갱신 성공"));
     }
@@ -144,11 +150,10 @@ public class UserController {
 
     // 비밀번호 재설정 (이메일, 현재 비밀번호, 새 비밀번호, 비밀번호 확인)
     @PostMapping("/update-password")
-    public ResponseEntity<ApiResponse<?>> resetPassword(HttpServletRequest request, @RequestBody UpdatePasswordRequest pwRequest) {
+    public ResponseEntity<ApiResponse<?>> resetPassword(@LoginUser User user, @RequestBody UpdatePasswordRequest pwRequest) {
         String newPassword = pwRequest.getNewPassword();
         String confirmPassword = pwRequest.getConfirmPassword();
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body((ApiResponse<UserInfoResponse>) ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -188,8 +193,7 @@ public class UserController {
     }
 
     @GetMapping("/get-userinfo")
-    public ResponseEntity<ApiResponse<UserInfoResponse>> getUserInfo(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<UserInfoResponse>> getUserInfo(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body((ApiResponse<UserInfoResponse>) ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -255,8 +259,7 @@ public class UserController {
     }
 
     @GetMapping("/get-detailinfo")
-    public ResponseEntity<ApiResponse<UserDetailInfoResponse>> getDetailInfo(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<UserDetailInfoResponse>> getDetailInfo(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body((ApiResponse<UserDetailInfoResponse>) ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -270,10 +273,9 @@ public class UserController {
     }
 
     @PostMapping("/update-name")
-    public ResponseEntity<ApiResponse<String>> updateUserName(HttpServletRequest request, @RequestParam String userName) {
+    public ResponseEntity<ApiResponse<String>> updateUserName(@LoginUser User user, @RequestParam String userName) {
         String newUserName = userName;
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body((ApiResponse<String>) ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -291,10 +293,9 @@ public class UserController {
     }
 
     @PostMapping("/update-birth")
-    public ResponseEntity<ApiResponse<String>> updateUserBirth(HttpServletRequest request, @RequestParam String userBirth) {
+    public ResponseEntity<ApiResponse<String>> updateUserBirth(@LoginUser User user, @RequestParam String userBirth) {
         String newUserBirth = userBirth;
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body((ApiResponse<String>) ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -312,8 +313,7 @@ public class UserController {
     }
 
     @PostMapping("/update-gender")
-    public ResponseEntity<ApiResponse<String>> updateUserGender(HttpServletRequest request, @RequestParam(required = false) Boolean userGender) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<String>> updateUserGender(@LoginUser User user, @RequestParam(required = false) Boolean userGender) {
         if (user == null) {
             return ResponseEntity.badRequest().body((ApiResponse<String>) ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -330,8 +330,7 @@ public class UserController {
 
 
     @GetMapping("/get-term")
-    public ResponseEntity<ApiResponse<?>> getTerm(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> getTerm(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body((ApiResponse<?>) ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -342,8 +341,7 @@ public class UserController {
     }
 
     @PostMapping("/add-term")
-    public ResponseEntity<ApiResponse<?>> addTerm(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> addTerm(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.createError("사용자 인증에 실패했습니다."));
@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.project.soar.model.user.KakaoUser;
 import org.project.soar.model.user.User;
+import org.project.soar.model.user.cache.UserSnapshotCache;
 import org.project.soar.model.user.enums.Role;
 import org.project.soar.model.user.repository.KakaoUserRepository;
 import org.project.soar.model.user.repository.UserRepository;
@@ -38,6 +39,7 @@ public class KakaoService {
 
     private final KakaoUserRepository kakaoUserRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     /**
      * 카카오 API로부터 AccessToken을 받아오는 메서드
@@ -284,6 +286,7 @@ public class KakaoService {
             User user = kakaoUser.getUser();
             userRepository.delete(user);
             kakaoUserRepository.delete(kakaoUser);
+            userSnapshotCache.evict(user.getUserId());
             log.info("카카오 계정 연결 해제 및 사용자 정보 삭제 성공");
         } else {
             log.warn("카카오 계정이 존재하지 않습니다.");
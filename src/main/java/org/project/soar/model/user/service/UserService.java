@@ -1,6 +1,7 @@
 package org.project.soar.model.user.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,17 +11,20 @@ import org.project.soar.model.permission.repository.PermissionRepository;
 import org.project.soar.model.permission.service.PermissionService;
 import org.project.soar.model.tag.Tag;
 import org.project.soar.model.user.KakaoUser;
-import org.project.soar.model.user.RefreshToken;
 import org.project.soar.model.user.User;
+import org.project.soar.model.user.cache.UserSnapshotCache;
 import org.project.soar.model.user.dto.*;
 import org.project.soar.model.user.enums.Role;
 import org.project.soar.model.user.repository.KakaoUserRepository;
 import org.project.soar.model.user.repository.RefreshTokenRepository;
 import org.project.soar.model.user.repository.UserRepository;
+import org.project.soar.model.user.token.RefreshTokenConflictException;
+import org.project.soar.model.user.token.RefreshTokenStore;
 import org.project.soar.model.usertag.repository.UserTagRepository;
 import org.project.soar.model.usertag.service.UserTagService;
 import org.project.soar.model.youthpolicy.repository.UserYouthPolicyRepository;
 import org.project.soar.model.youthpolicy.YouthPolicy;
+import org.project.soar.model.youthpolicy.cache.UserPolicyIdSetCache;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyBookmarkRepository;
 import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -36,6 +40,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
@@ -49,6 +54,8 @@ public class UserService {
     private final YouthPolicyTagRepository youthPolicyTagRepository;
     private final CommentRepository commentRepository;
     private final YouthPolicyBookmarkRepository youthPolicyBookmarkRepository;
+    private final UserPolicyIdSetCache userPolicyIdSetCache;
+    private final UserSnapshotCache userSnapshotCache;
     private final Random random = new Random();
 
     @Transactional
@@ -132,20 +139,7 @@ public class UserService {
         String accessToken = tokenProvider.createToken(user);
         String refreshToken = tokenProvider.createRefreshToken(user);
 
-        Optional<RefreshToken> oldRefreshToken = refreshTokenRepository.findById(user.getUserId());
-        if (oldRefreshToken.isEmpty()) {
-            RefreshToken newRefreshToken = RefreshToken.builder()
-                    .tokenId(user.getUserId())
-                    .refreshToken(refreshToken)
-                    .user(user)
-                    .build();
-            refreshTokenRepository.save(newRefreshToken);
-        } else {
-            RefreshToken newRefreshToken = oldRefreshToken.get().toBuilder()
-                    .refreshToken(refreshToken)
-                    .build();
-            refreshTokenRepository.save(newRefreshToken);
-        }
+        refreshTokenStore.issue(user.getUserId(), refreshToken);
 
         return SignInResponse.builder()
                 .userId(user.getUserId())
@@ -157,26 +151,30 @@ public class UserService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * 액세스 + 리프레시 토큰 재발급 (리프레시 토큰은 한 번 쓰면 교체)
+     * - 비교/교체는 Redis 스크립트 한 번으로 처리
+     * - 방금 교체된 토큰(동시 요청)은 유예 시간 동안 RefreshTokenConflictException (재시도), 그 뒤에 다시 오면 전체 폐기
+     * - 탈퇴한 사용자는 토큰이 폐기되어 있으므로 사용자 조회 없이 거절됨
+     */
     public TokenResponse refreshToken(String refreshToken, String oldAccessToken) throws JsonProcessingException {
-        tokenProvider.validateRefreshToken(refreshToken, oldAccessToken);
+        tokenProvider.verifyToken(refreshToken);
 
         String subject = tokenProvider.decodeJwtPayloadSubject(oldAccessToken);
         long userId = Long.parseLong(subject.split(":")[0]);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자 정보가 없습니다. id=" + userId));
 
         String newAccess = tokenProvider.recreateAccessToken(oldAccessToken);
-        String newRefresh = tokenProvider.createRefreshToken(user);
+        String newRefresh = tokenProvider.createRefreshTokenFromSubject(subject);
 
-        RefreshToken entity = RefreshToken.builder()
-                .tokenId(userId)
-                .user(user)
-                .refreshToken(newRefresh)
-                .build();
-        refreshTokenRepository.save(entity);
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(userId, refreshToken, newRefresh);
+        if (rotation.retryable()) {
+            throw new RefreshTokenConflictException("Refresh token is being rotated by a concurrent request.");
+        }
+        if (!rotation.succeeded()) {
+            throw new ExpiredJwtException(null, null, "Refresh token expired.");
+        }
 
-        return new TokenResponse(newAccess, newRefresh, null);
+        return new TokenResponse(newAccess, rotation.refreshToken(), null);
     }
 
     @Transactional
@@ -188,12 +186,10 @@ public class UserService {
         if (user == null) {
             return "사용자를 찾을 수 없습니다.";
         }
-        if (refreshTokenRepository.findById(user.getUserId()).isEmpty()) {
-            return "RefreshToken이 존재하지 않습니다.";
-        }
-
         try {
-            refreshTokenRepository.deleteById(user.getUserId());
+            if (!refreshTokenStore.revoke(user.getUserId())) {
+                return "RefreshToken이 존재하지 않습니다.";
+            }
         } catch (Exception e) {
             return "로그아웃 실패";
         }
@@ -224,14 +220,14 @@ public class UserService {
         if (user == null) {
             throw new RuntimeException("해당 카카오 사용자에 대한 유저 정보가 없습니다.");
         }
+        userSnapshotCache.evict(user.getUserId());
 
         log.info("User associated with Kakao user: {}", user);
 
         String jwtAccessToken = tokenProvider.createToken(user);
         String jwtRefreshToken = tokenProvider.createRefreshToken(user);
 
-        refreshTokenRepository.save(
-                new RefreshToken(user.getUserId(), jwtRefreshToken, user));
+        refreshTokenStore.issue(user.getUserId(), jwtRefreshToken);
 
         return KakaoLoginResponse.builder()
                 .userId(user.getUserId())
@@ -292,8 +288,9 @@ public class UserService {
             return "비밀번호는 8~20자로 영문 소문자, 숫자를 조합해서 사용해주세요.";
         }
 
-        user.updatePassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        User managed = findManagedUser(user);
+        managed.updatePassword(passwordEncoder.encode(newPassword));
+        userRepository.save(managed);
 
         return "비밀번호가 성공적으로 변경되었습니다.";
     }
@@ -304,6 +301,7 @@ public class UserService {
 
         user.updateUserName(newUserName);
         userRepository.save(user);
+        userSnapshotCache.evict(userId);
         return "사용자 이름 업데이트 성공";
     }
 
@@ -332,6 +330,8 @@ public class UserService {
             return "비밀번호를 다시 확인해주세요.";
         }
 
+        refreshTokenStore.revoke(user.getUserId());
+        // Redis 이관 전 refresh_token 행이 남아 있으면 user FK 때문에 사용자 삭제가 실패하므로 함께 삭제
         refreshTokenRepository.deleteById(user.getUserId());
         kakaoUserRepository.findByUser(user).ifPresent(kakaoUserRepository::delete);
         permissionRepository.deleteAllByUser(user);
@@ -341,6 +341,8 @@ public class UserService {
         commentRepository.deleteAllByUser(user);
         userYouthPolicyRepository.deleteAllByUser(user);
         userTagRepository.deleteAllByUser(user);
+        userPolicyIdSetCache.evict(user);
+        userSnapshotCache.evict(user.getUserId());
 
         userRepository.delete(user);
 
@@ -377,7 +379,11 @@ public class UserService {
         commentRepository.deleteAllByUser(user);
         userYouthPolicyRepository.deleteAllByUser(user);
         userTagRepository.deleteAllByUser(user);
+        userPolicyIdSetCache.evict(user);
+        userSnapshotCache.evict(user.getUserId());
 
+        refreshTokenStore.revoke(user.getUserId());
+        // Redis 이관 전 refresh_token 행이 남아 있으면 user FK 때문에 사용자 삭제가 실패하므로 함께 삭제
         refreshTokenRepository.deleteById(user.getUserId());
         userRepository.delete(user);
 
@@ -422,27 +428,41 @@ public class UserService {
     @Transactional
     public String updateUserName(User user, String newUserName) {
 
-        user.updateUserName(newUserName);
-        userRepository.save(user);
+        User managed = findManagedUser(user);
+        managed.updateUserName(newUserName);
+        userRepository.save(managed);
+        userSnapshotCache.evict(managed.getUserId());
         return "사용자 이름 업데이트 성공";
     }
 
     @Transactional
     public String updateUserBirth(User user, String newUserBirth) {
 
-        user.updateUserBirth(newUserBirth);
-        userRepository.save(user);
+        User managed = findManagedUser(user);
+        managed.updateUserBirth(newUserBirth);
+        userRepository.save(managed);
+        userSnapshotCache.evict(managed.getUserId());
         return "사용자 생년월일 업데이트 성공";
     }
 
     @Transactional
     public String updateUserGender(User user, Boolean newUserGender) {
 
-        user.updateUserGender(newUserGender);
-        userRepository.save(user);
+        User managed = findManagedUser(user);
+        managed.updateUserGender(newUserGender);
+        userRepository.save(managed);
+        userSnapshotCache.evict(managed.getUserId());
         return "사용자 성별 업데이트 성공";
     }
 
+    /**
+     * 요청의 User 는 준영속 스냅샷(비밀번호 등 제외)이므로 수정 전에 DB에서 다시 읽음
+     */
+    private User findManagedUser(User user) {
+        return userRepository.findByUserId(user.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
+    }
+
     @Transactional
     public boolean getTerm(User user) {
         // "선택약관2"에 대해 status가 true(동의)인 데이터가 있는지 확인합니다.
@@ -0,0 +1,12 @@
+package org.project.soar.model.user.token;
+
+/**
+ * 동시 재발급 요청 중 다른 요청이 먼저 리프레시 토큰을 교체한 경우 (유예 시간 내)
+ * - 토큰은 폐기되지 않았으므로 클라이언트는 먼저 받은 새 토큰으로 재시도
+ */
+public class RefreshTokenConflictException extends RuntimeException {
+
+    public RefreshTokenConflictException(String message) {
+        super(message);
+    }
+}
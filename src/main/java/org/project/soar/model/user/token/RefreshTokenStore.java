@@ -0,0 +1,232 @@
+package org.project.soar.model.user.token;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.user.RefreshToken;
+import org.project.soar.model.user.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 사용자별 리프레시 토큰 저장소 (Redis)
+ * - 키: auth:refresh:{userId} (hash) → cur: 현재 토큰 해시, prev: 직전에 교체된 토큰 해시
+ * - TTL 은 refresh-expiration-hours 와 동일, 발급/교체 시마다 갱신
+ * - 교체(rotate)는 Lua 스크립트로 비교 + 교체를 한 번에 수행 (동시 재발급 요청 중 하나만 교체)
+ * - 교체 직후 GRACE_PERIOD 동안 직전 토큰이 다시 오면 폐기하지 않고 재시도 응답 (GRACE)
+ *   (동시 재발급 요청이 서로를 탈취로 판정해 로그아웃되지 않도록, 유예 키 auth:refresh:{userId}:grace)
+ * - 유예 시간이 지난 뒤 직전 토큰이 다시 오면 탈취로 보고 사용자 토큰 전체 폐기 (재로그인 필요)
+ * - 토큰 원문은 저장하지 않음 (cur/prev/유예 키 모두 SHA-256 해시만 보관)
+ * - 이전 버전의 refresh_token 테이블은 기동 시 한 번 Redis로 옮기고 비움 (요청 경로에서는 DB 조회 없음)
+ */
+@Component
+@Slf4j
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "auth:refresh:";
+    private static final String GRACE_SUFFIX = ":grace";
+    private static final String BACKFILL_LOCK_KEY = "auth:refresh:legacy-backfill";
+    private static final Duration GRACE_PERIOD = Duration.ofSeconds(30);
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    /**
+     * 교체 결과
+     */
+    public enum RotateResult {
+        ROTATED,   // 현재 토큰과 일치 → 새 토큰으로 교체
+        GRACE,     // 방금 교체된 토큰 (동시 요청) → 폐기하지 않고 재시도 요청 (새 토큰은 먼저 교체한 요청이 받음)
+        REUSED,    // 유예 시간이 지난 뒤 직전 토큰 재사용 → 전체 폐기
+        MISMATCH,  // 저장된 토큰과 다름
+        MISSING,   // 저장된 토큰 없음 (로그아웃/만료)
+    }
+
+    /**
+     * 교체 결과 + 클라이언트에 내려줄 리프레시 토큰 (ROTATED: 새 토큰, 그 외 null)
+     */
+    public record Rotation(RotateResult result, String refreshToken) {
+
+        public boolean succeeded() {
+            return result == RotateResult.ROTATED;
+        }
+
+        public boolean retryable() {
+            return result == RotateResult.GRACE;
+        }
+    }
+
+    // KEYS[1] = 사용자 키, KEYS[2] = 유예 키, ARGV[1] = 새 토큰 해시, ARGV[2] = TTL(초)
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('HSET', KEYS[1], 'cur', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 사용자 키, ARGV[1] = 토큰 해시, ARGV[2] = TTL(초) (이미 Redis에 토큰이 있으면 건드리지 않음)
+    private static final RedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'cur', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 사용자 키, KEYS[2] = 유예 키
+    // ARGV[1] = 제시된 토큰 해시, ARGV[2] = 새 토큰 해시, ARGV[3] = TTL(초), ARGV[4] = 유예(ms)
+    // 반환: {'1'} 교체, {'4'} 유예, {'2'} 재사용 감지(폐기), {'3'} 불일치, {'0'} 없음
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local cur = redis.call('HGET', KEYS[1], 'cur')
+            if not cur then
+                return {'0'}
+            end
+            if cur == ARGV[1] then
+                redis.call('HSET', KEYS[1], 'cur', ARGV[2], 'prev', ARGV[1])
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[4])
+                return {'1'}
+            end
+            if redis.call('HGET', KEYS[1], 'prev') == ARGV[1] then
+                if redis.call('GET', KEYS[2]) == ARGV[1] then
+                    return {'4'}
+                end
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return {'2'}
+            end
+            return {'3'}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenRepository legacyRepository;
+    private final Duration ttl;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             RefreshTokenRepository legacyRepository,
+                             @Value("${refresh-expiration-hours}") long refreshExpirationHours) {
+        this.redisTemplate = redisTemplate;
+        this.legacyRepository = legacyRepository;
+        this.ttl = Duration.ofHours(refreshExpirationHours);
+    }
+
+    /**
+     * 로그인 시 발급: 기존 토큰(및 재사용 감지용 직전 토큰)을 지우고 새 토큰 저장
+     */
+    public void issue(Long userId, String refreshToken) {
+        redisTemplate.execute(ISSUE_SCRIPT, keys(userId),
+                hash(refreshToken), String.valueOf(ttl.toSeconds()));
+    }
+
+    /**
+     * 제시된 토큰이 현재 토큰인지 확인 (교체 없음, 액세스 토큰만 재발급하는 경로용)
+     */
+    public boolean matches(Long userId, String refreshToken) {
+        Object current = redisTemplate.opsForHash().get(key(userId), "cur");
+        return current != null && current.equals(hash(refreshToken));
+    }
+
+    /**
+     * 제시된 토큰을 새 토큰으로 원자적 교체 (Redis 왕복 1회)
+     */
+    public Rotation rotate(Long userId, String presentedToken, String newToken) {
+        List<?> reply = redisTemplate.execute(ROTATE_SCRIPT, keys(userId),
+                hash(presentedToken), hash(newToken), String.valueOf(ttl.toSeconds()),
+                String.valueOf(GRACE_PERIOD.toMillis()));
+        String code = reply == null || reply.isEmpty() ? "0" : String.valueOf(reply.get(0));
+        return switch (code) {
+            case "1" -> new Rotation(RotateResult.ROTATED, newToken);
+            case "4" -> new Rotation(RotateResult.GRACE, null);
+            case "2" -> {
+                log.warn("Refresh token reuse detected for user {} - all refresh tokens revoked", userId);
+                yield new Rotation(RotateResult.REUSED, null);
+            }
+            case "3" -> new Rotation(RotateResult.MISMATCH, null);
+            default -> new Rotation(RotateResult.MISSING, null);
+        };
+    }
+
+    /**
+     * 사용자 토큰 폐기 (로그아웃/탈퇴)
+     *
+     * @return 폐기할 토큰이 있었는지 여부
+     */
+    public boolean revoke(Long userId) {
+        Long deleted = redisTemplate.delete(keys(userId));
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * refresh_token 테이블 → Redis 일회성 이관 (기동 시, 인스턴스 하나만 수행)
+     * - BACKFILL_BATCH_SIZE 단위로 옮기고 행 삭제, 최대 (기동 시점 행 수 / 배치 크기 + 1)회
+     * - Redis에 이미 토큰이 있는 사용자(재로그인)는 덮어쓰지 않음, 만료된 토큰은 옮기지 않고 삭제
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLegacyTokens() {
+        try {
+            long remaining = legacyRepository.count();
+            if (remaining == 0) return;
+
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(BACKFILL_LOCK_KEY, String.valueOf(System.currentTimeMillis()), Duration.ofMinutes(10));
+            if (!Boolean.TRUE.equals(acquired)) return;
+
+            int moved = 0;
+            long maxBatches = remaining / BACKFILL_BATCH_SIZE + 1;
+            for (long batch = 0; batch < maxBatches; batch++) {
+                List<RefreshToken> rows = legacyRepository
+                        .findAll(PageRequest.of(0, BACKFILL_BATCH_SIZE, Sort.by("tokenId")))
+                        .getContent();
+                if (rows.isEmpty()) break;
+
+                for (RefreshToken row : rows) {
+                    Duration left = remainingTtl(row);
+                    if (!left.isNegative() && !left.isZero()) {
+                        Long stored = redisTemplate.execute(BACKFILL_SCRIPT, List.of(key(row.getTokenId())),
+                                hash(row.getRefreshToken()), String.valueOf(left.toSeconds()));
+                        if (stored != null && stored == 1) moved++;
+                    }
+                }
+                legacyRepository.deleteAllByIdInBatch(rows.stream().map(RefreshToken::getTokenId).toList());
+            }
+            log.info("Legacy refresh tokens moved to Redis: {} (rows at start: {})", moved, remaining);
+        } catch (RuntimeException e) {
+            log.warn("Legacy refresh token backfill failed - will retry on next startup", e);
+        }
+    }
+
+    private Duration remainingTtl(RefreshToken row) {
+        LocalDateTime issuedAt = row.getUpdateDate() != null ? row.getUpdateDate() : row.getCreateDate();
+        if (issuedAt == null) return ttl;
+        return ttl.minus(Duration.between(issuedAt, LocalDateTime.now()));
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static List<String> keys(Long userId) {
+        return List.of(key(userId), key(userId) + GRACE_SUFFIX);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
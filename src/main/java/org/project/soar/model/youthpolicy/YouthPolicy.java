@@ -2,12 +2,17 @@ package org.project.soar.model.youthpolicy;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.project.soar.util.DateClassifier;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "youth_policy")
+@Table(name = "youth_policy", indexes = {
+        // 캘린더 월/일 조회를 날짜 범위 조회로 처리
+        @Index(name = "idx_youth_policy_application_end_date", columnList = "application_end_date"),
+        @Index(name = "idx_youth_policy_business_end_date", columnList = "business_end_date")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -141,6 +146,82 @@ public class YouthPolicy {
     @Column(name = "date_label", length = 50)
     private String dateLabel;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // business_period_end(yyyyMMdd 문자열)를 파싱해 둔 값
+    @Column(name = "business_end_date")
+    private LocalDate businessEndDate;
+
+    // 텍스트 보조 판정 (동기화 시 + 매일 롤오버에서 재계산)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "text_signal", length = 20)
+    private DateClassifier.TextSignal textSignal;
+
+    /**
+     * 오늘 기준 날짜 상태/라벨 (저장된 경계 날짜 + 텍스트 판정, 정규식 없음)
+     * - 라벨(D-n)을 조회 시점에 계산하므로 저장된 date_label 이 하루 지나 어긋나는 문제가 없음
+     * - 판정값이 아직 없는 정책은 텍스트까지 전부 분류
+     */
+    public DateClassifier.DateResult dateStatus(LocalDate today) {
+        LocalDate applyStart = applicationStartDate != null ? applicationStartDate.toLocalDate() : null;
+        LocalDate applyEnd = applicationEndDate != null ? applicationEndDate.toLocalDate() : null;
+        if (textSignal == null) {
+            return DateClassifier.classify(applyStart, applyEnd, businessPeriodEnd,
+                    applyMethodContent, screeningMethodContent, businessPeriodEtc,
+                    policySupportContent, policyName, today);
+        }
+        return DateClassifier.classify(applyStart, applyEnd, businessEndDate, textSignal, today);
+    }
+
+    /**
+     * 동기화된 API 데이터로 기존 정책 갱신 (영속 상태 엔티티 → 변경 감지로 UPDATE)
+     */
+    public void updateFrom(YouthPolicy source) {
+        this.policyName = source.policyName;
+        this.policyKeyword = source.policyKeyword;
+        this.policyExplanation = source.policyExplanation;
+        this.policySupportContent = source.policySupportContent;
+        this.largeClassification = source.largeClassification;
+        this.mediumClassification = source.mediumClassification;
+        this.supervisingInstCode = source.supervisingInstCode;
+        this.supervisingInstName = source.supervisingInstName;
+        this.operatingInstCode = source.operatingInstCode;
+        this.operatingInstName = source.operatingInstName;
+        this.businessPeriodStart = source.businessPeriodStart;
+        this.businessPeriodEnd = source.businessPeriodEnd;
+        this.businessPeriodEtc = source.businessPeriodEtc;
+        this.applyMethodContent = source.applyMethodContent;
+        this.screeningMethodContent = source.screeningMethodContent;
+        this.applyUrl = source.applyUrl;
+        this.submitDocumentContent = source.submitDocumentContent;
+        this.etcMatterContent = source.etcMatterContent;
+        this.referenceUrl1 = source.referenceUrl1;
+        this.referenceUrl2 = source.referenceUrl2;
+        this.supportScaleCount = source.supportScaleCount;
+        this.supportTargetMinAge = source.supportTargetMinAge;
+        this.supportTargetMaxAge = source.supportTargetMaxAge;
+        this.supportTargetAgeLimitYn = source.supportTargetAgeLimitYn;
+        this.earnMinAmt = source.earnMinAmt;
+        this.earnMaxAmt = source.earnMaxAmt;
+        this.earnEtcContent = source.earnEtcContent;
+        this.additionalApplyQualification = source.additionalApplyQualification;
+        this.inquiryCount = source.inquiryCount;
+        this.zipCode = source.zipCode;
+        this.policyMajorCode = source.policyMajorCode;
+        this.jobCode = source.jobCode;
+        this.schoolCode = source.schoolCode;
+        this.firstRegDt = source.firstRegDt;
+        this.lastModifyDt = source.lastModifyDt;
+        this.applicationStartDate = source.applicationStartDate;
+        this.applicationEndDate = source.applicationEndDate;
+        this.dateType = source.dateType;
+        this.dateLabel = source.dateLabel;
+        this.contentHash = source.contentHash;
+        this.businessEndDate = source.businessEndDate;
+        this.textSignal = source.textSignal;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
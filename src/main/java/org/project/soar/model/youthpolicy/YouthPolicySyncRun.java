@@ -0,0 +1,87 @@
+package org.project.soar.model.youthpolicy;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.project.soar.model.youthpolicy.dto.YouthPolicySyncResultDto;
+import org.project.soar.model.youthpolicy.enums.SyncMode;
+import org.project.soar.model.youthpolicy.enums.SyncStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청년정책 동기화 실행 이력 (증분 동기화 워터마크 포함)
+ */
+@Entity
+@Table(name = "youth_policy_sync_run")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class YouthPolicySyncRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sync_run_id")
+    private Long syncRunId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sync_mode", length = 20, nullable = false)
+    private SyncMode syncMode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private SyncStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "pages_fetched")
+    private Integer pagesFetched;
+
+    @Column(name = "fetched_count")
+    private Integer fetchedCount;
+
+    @Column(name = "unchanged_count")
+    private Integer unchangedCount;
+
+    @Column(name = "updated_count")
+    private Integer updatedCount;
+
+    @Column(name = "inserted_count")
+    private Integer insertedCount;
+
+    // 이번 실행에서 조회한 정책들의 최대 최종수정일 (다음 증분 동기화 기준)
+    @Column(name = "max_last_modify_dt")
+    private LocalDateTime maxLastModifyDt;
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    public static YouthPolicySyncRun start(SyncMode syncMode) {
+        return YouthPolicySyncRun.builder()
+                .syncMode(syncMode)
+                .status(SyncStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void complete(YouthPolicySyncResultDto result) {
+        this.status = SyncStatus.SUCCESS;
+        this.finishedAt = LocalDateTime.now();
+        this.pagesFetched = result.getPagesFetched();
+        this.fetchedCount = result.getFetchedCount();
+        this.unchangedCount = result.getUnchangedCount();
+        this.updatedCount = result.getUpdatedCount();
+        this.insertedCount = result.getInsertedCount();
+        this.maxLastModifyDt = result.getMaxLastModifyDt();
+    }
+
+    public void fail(String message) {
+        this.status = SyncStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+        this.message = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,254 @@
+package org.project.soar.model.youthpolicy.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.user.User;
+import org.project.soar.model.youthpolicy.repository.UserYouthPolicyRepository;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyBookmarkRepository;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 사용자별 북마크/신청 정책 ID 집합 캐시 (인스턴스 로컬 LRU)
+ * - 목록 응답의 bookmarked/applied 표시를 DB 조회 없이 집합 포함 여부로 판정
+ * - 쓰기: 북마크/신청 서비스가 저장 후 write-through (트랜잭션 중이면 커밋 후 반영)
+ * - 다중 인스턴스: 변경 시 Redis pub/sub으로 다른 인스턴스에 무효화 전파, 메시지 유실 대비 TTL
+ * - 조회 중 무효화가 끼어들면 읽어온 집합을 캐시에 넣지 않음 (무효화 세대 비교)
+ */
+@Component
+@Slf4j
+public class UserPolicyIdSetCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "cache:user-policy-ids:invalidate";
+    private static final int MAX_USERS = 10_000;
+    private static final long TTL_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    public enum Kind {
+        BOOKMARKED,
+        APPLIED,
+    }
+
+    /**
+     * 캐시 통계 (인스턴스 기동 이후 누적)
+     */
+    public record Stats(Kind kind, long hits, long misses, long invalidations, int size) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<Kind, IdSets> cachesByKind = new EnumMap<>(Kind.class);
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public UserPolicyIdSetCache(StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                YouthPolicyBookmarkRepository bookmarkRepository,
+                                UserYouthPolicyRepository userYouthPolicyRepository) {
+        this.redisTemplate = redisTemplate;
+        cachesByKind.put(Kind.BOOKMARKED, new IdSets(bookmarkRepository::findPolicyIdsByUserId));
+        cachesByKind.put(Kind.APPLIED, new IdSets(userYouthPolicyRepository::findPolicyIdsByUserId));
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 사용자가 북마크한 정책 ID (불변 집합, user == null 이면 빈 집합)
+     */
+    public Set<String> bookmarkedIds(User user) {
+        return get(Kind.BOOKMARKED, user);
+    }
+
+    /**
+     * 사용자가 신청한 정책 ID (불변 집합, user == null 이면 빈 집합)
+     */
+    public Set<String> appliedIds(User user) {
+        return get(Kind.APPLIED, user);
+    }
+
+    private Set<String> get(Kind kind, User user) {
+        if (user == null || user.getUserId() == null) return Set.of();
+        return cachesByKind.get(kind).get(user.getUserId());
+    }
+
+    public List<Stats> stats() {
+        List<Stats> stats = new ArrayList<>(cachesByKind.size());
+        cachesByKind.forEach((kind, cache) -> stats.add(cache.stats(kind)));
+        return stats;
+    }
+
+    // ========================================
+    // write-through / 무효화
+    // ========================================
+
+    public void added(Kind kind, User user, Collection<String> policyIds) {
+        update(kind, user, policyIds, true);
+    }
+
+    public void removed(Kind kind, User user, Collection<String> policyIds) {
+        update(kind, user, policyIds, false);
+    }
+
+    /**
+     * 사용자 캐시 전체 무효화 (전체 해제, 회원 탈퇴 등)
+     */
+    public void evict(User user) {
+        if (user == null || user.getUserId() == null) return;
+        Long userId = user.getUserId();
+        afterCommit(() -> {
+            cachesByKind.values().forEach(cache -> cache.invalidate(userId));
+            publish(null, userId);
+        });
+    }
+
+    private void update(Kind kind, User user, Collection<String> policyIds, boolean add) {
+        if (user == null || user.getUserId() == null || policyIds == null || policyIds.isEmpty()) return;
+        Long userId = user.getUserId();
+        List<String> ids = List.copyOf(policyIds);
+        afterCommit(() -> {
+            cachesByKind.get(kind).apply(userId, ids, add);
+            publish(kind, userId);
+        });
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 무효화 메시지 ("instanceId|kind|userId", kind 비어 있으면 전체)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 3 || instanceId.equals(parts[0])) return;
+        try {
+            Long userId = Long.valueOf(parts[2]);
+            if (parts[1].isEmpty()) {
+                cachesByKind.values().forEach(cache -> cache.invalidate(userId));
+            } else {
+                cachesByKind.get(Kind.valueOf(parts[1])).invalidate(userId);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed user policy id cache invalidation: {}", Arrays.toString(parts));
+        }
+    }
+
+    private void publish(Kind kind, Long userId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    instanceId + "|" + (kind == null ? "" : kind.name()) + "|" + userId);
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL 만료 후 다시 읽음
+            log.warn("Failed to publish user policy id cache invalidation for user {}", userId, e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // ========================================
+    // 캐시 본체
+    // ========================================
+
+    private record Entry(Set<String> policyIds, long loadedAt) {
+    }
+
+    private static final class IdSets {
+        private final Function<Long, List<String>> loader;
+        private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > MAX_USERS;
+            }
+        };
+        // 무효화마다 증가, 조회 시작 이후 값이 바뀌었으면 읽은 결과를 캐시하지 않음
+        private final AtomicLong generation = new AtomicLong();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+
+        IdSets(Function<Long, List<String>> loader) {
+            this.loader = loader;
+        }
+
+        Set<String> get(Long userId) {
+            long now = System.currentTimeMillis();
+            synchronized (entries) {
+                Entry entry = entries.get(userId);
+                if (entry != null && now - entry.loadedAt() < TTL_MILLIS) {
+                    hits.increment();
+                    return entry.policyIds();
+                }
+            }
+            misses.increment();
+
+            long startedGeneration = generation.get();
+            Set<String> loaded = Set.copyOf(loader.apply(userId));
+            synchronized (entries) {
+                if (generation.get() == startedGeneration) {
+                    entries.put(userId, new Entry(loaded, now));
+                }
+            }
+            return loaded;
+        }
+
+        /**
+         * 캐시에 있는 사용자만 집합을 갱신 (없으면 다음 조회 때 DB에서 읽음)
+         */
+        void apply(Long userId, Collection<String> policyIds, boolean add) {
+            generation.incrementAndGet();
+            synchronized (entries) {
+                Entry entry = entries.get(userId);
+                if (entry == null) return;
+
+                Set<String> updated = new HashSet<>(entry.policyIds());
+                if (add) {
+                    updated.addAll(policyIds);
+                } else {
+                    updated.removeAll(policyIds);
+                }
+                entries.put(userId, new Entry(Set.copyOf(updated), entry.loadedAt()));
+            }
+        }
+
+        void invalidate(Long userId) {
+            generation.incrementAndGet();
+            invalidations.increment();
+            synchronized (entries) {
+                entries.remove(userId);
+            }
+        }
+
+        Stats stats(Kind kind) {
+            int size;
+            synchronized (entries) {
+                size = entries.size();
+            }
+            return new Stats(kind, hits.sum(), misses.sum(), invalidations.sum(), size);
+        }
+    }
+}
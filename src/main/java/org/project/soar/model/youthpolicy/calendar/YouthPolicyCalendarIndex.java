@@ -0,0 +1,152 @@
+package org.project.soar.model.youthpolicy.calendar;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.youthpolicy.dto.CalendarDayResponseDto;
+import org.project.soar.model.youthpolicy.dto.YouthPolicyCardView;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
+import org.project.soar.util.DateClassifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * 캘린더 일자별 집계 (신청 마감 / 사업 마감)
+ * - 날짜 → 해당일 마감 정책 요약 목록을 메모리에 보관, 월 조회는 해당 월 구간만 잘라서 응답
+ * - 갱신: 기동 시 / 각 동기화 종료 후 / 날짜 롤오버 후 / 10분 주기 전체 재구성 (마감일이 있는 정책의 카드 컬럼만 조회)
+ * - 날짜 라벨(D-n)은 저장된 경계 날짜로 조회 시점에 계산
+ * - 조회는 불변 스냅샷을 참조하므로 재구성 중에도 잠금 없이 조회 가능
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class YouthPolicyCalendarIndex {
+
+    private final YouthPolicyRepository youthPolicyRepository;
+
+    private volatile NavigableMap<LocalDate, Day> days;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 집계가 없으면 서비스는 기존 DB 집계 쿼리로 동작
+            log.warn("Failed to build youth policy calendar index on startup", e);
+        }
+    }
+
+    public boolean isReady() {
+        return days != null;
+    }
+
+    /**
+     * 마감일이 있는 전체 정책으로 일자별 집계 재구성
+     */
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<YouthPolicyCardView> cards = youthPolicyRepository.findCalendarCards();
+
+        Map<LocalDate, List<Entry>> applyEnds = new HashMap<>();
+        Map<LocalDate, List<Entry>> businessEnds = new HashMap<>();
+        for (YouthPolicyCardView card : cards) {
+            Entry entry = Entry.of(card);
+            if (entry.applyEnd() != null) {
+                applyEnds.computeIfAbsent(entry.applyEnd(), d -> new ArrayList<>()).add(entry);
+            }
+            if (entry.businessEnd() != null) {
+                businessEnds.computeIfAbsent(entry.businessEnd(), d -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        TreeMap<LocalDate, Day> rebuilt = new TreeMap<>();
+        Set<LocalDate> dates = new HashSet<>(applyEnds.keySet());
+        dates.addAll(businessEnds.keySet());
+        for (LocalDate date : dates) {
+            rebuilt.put(date, new Day(
+                    List.copyOf(applyEnds.getOrDefault(date, List.of())),
+                    List.copyOf(businessEnds.getOrDefault(date, List.of()))));
+        }
+        days = Collections.unmodifiableNavigableMap(rebuilt);
+
+        log.info("Youth policy calendar index rebuilt - {} policies over {} days in {} ms",
+                cards.size(), rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 월별 일자별 개수 (값이 있는 날짜만, 날짜 오름차순)
+     */
+    public List<CalendarDayResponseDto> monthCounts(YearMonth month) {
+        NavigableMap<LocalDate, Day> current = days;
+        List<CalendarDayResponseDto> result = new ArrayList<>();
+        for (Map.Entry<LocalDate, Day> day : current.subMap(month.atDay(1), true, month.atEndOfMonth(), true).entrySet()) {
+            result.add(CalendarDayResponseDto.builder()
+                    .date(day.getKey())
+                    .applyEndCount(day.getValue().applyEnds().size())
+                    .businessEndCount(day.getValue().businessEnds().size())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 특정 일의 개수 + 정책 요약 (신청 마감 → 사업 마감 순)
+     */
+    public CalendarDayResponseDto day(LocalDate date, LocalDate today) {
+        Day day = days.getOrDefault(date, Day.EMPTY);
+
+        List<CalendarDayResponseDto.PolicySummary> summaries = new ArrayList<>();
+        day.applyEnds().forEach(entry -> summaries.add(entry.toSummary(entry.applyEnd(), today)));
+        day.businessEnds().forEach(entry -> summaries.add(entry.toSummary(entry.businessEnd(), today)));
+
+        return CalendarDayResponseDto.builder()
+                .date(date)
+                .applyEndCount(day.applyEnds().size())
+                .businessEndCount(day.businessEnds().size())
+                .policies(summaries)
+                .build();
+    }
+
+    private record Day(List<Entry> applyEnds, List<Entry> businessEnds) {
+        static final Day EMPTY = new Day(List.of(), List.of());
+    }
+
+    /**
+     * 정책 요약 + 라벨 계산용 경계 날짜
+     */
+    private record Entry(String policyId,
+                         String policyName,
+                         LocalDate applyStart,
+                         LocalDate applyEnd,
+                         LocalDate businessEnd,
+                         DateClassifier.TextSignal textSignal,
+                         String storedDateLabel) {
+
+        static Entry of(YouthPolicyCardView card) {
+            return new Entry(
+                    card.getPolicyId(),
+                    card.getPolicyName(),
+                    card.getApplicationStartDate() != null ? card.getApplicationStartDate().toLocalDate() : null,
+                    card.getApplicationEndDate() != null ? card.getApplicationEndDate().toLocalDate() : null,
+                    card.getBusinessEndDate(),
+                    card.getTextSignal(),
+                    card.getDateLabel());
+        }
+
+        CalendarDayResponseDto.PolicySummary toSummary(LocalDate deadline, LocalDate today) {
+            String label = textSignal == null
+                    ? storedDateLabel
+                    : DateClassifier.classify(applyStart, applyEnd, businessEnd, textSignal, today).label();
+            return CalendarDayResponseDto.PolicySummary.builder()
+                    .policyId(policyId)
+                    .policyName(policyName)
+                    .deadline(deadline)
+                    .dateLabel(label)
+                    .build();
+        }
+    }
+}
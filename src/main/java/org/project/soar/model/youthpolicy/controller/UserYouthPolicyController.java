@@ -1,8 +1,7 @@
 package org.project.soar.model.youthpolicy.controller;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.project.soar.config.TokenProvider;
+import org.project.soar.config.auth.LoginUser;
 import org.project.soar.global.api.ApiResponse;
 import org.project.soar.model.user.User;
 import org.project.soar.model.user.repository.UserRepository;
@@ -35,7 +34,6 @@ public class UserYouthPolicyController {
     private final UserYouthPolicyService userYouthPolicyService;
     private final YouthPolicyBookmarkService bookmarkService;
     private final YouthPolicyService youthPolicyService;
-    private final TokenProvider tokenProvider;
     private final UserRepository userRepository;
 
     @Operation(summary = "정책 신청", description = "로그인한 사용자가 특정 정책(policyId)에 신청합니다. "
@@ -43,9 +41,8 @@ public class UserYouthPolicyController {
     @PostMapping("/{policyId}/apply")
     public ResponseEntity<ApiResponse<?>> applyToPolicy(
             @Parameter(description = "정책 ID") @PathVariable String policyId,
-            HttpServletRequest request) {
+            @LoginUser User user) {
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -70,10 +67,9 @@ public class UserYouthPolicyController {
     @Operation(summary = "정책 북마크 토글", description = "해당 정책의 북마크 상태를 토글합니다. 없으면 추가, 있으면 해제.")
     @PostMapping("/{policyId}/bookmarks/toggle")
     public ResponseEntity<ApiResponse<?>> toggleBookmark(
-            HttpServletRequest request,
+            @LoginUser User user,
             @Parameter(description = "정책 ID") @PathVariable String policyId) {
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -101,10 +97,9 @@ public class UserYouthPolicyController {
     @Operation(summary = "특정 정책 북마크 해제", description = "해당 정책의 북마크를 해제합니다. 이미 해제된 경우에도 성공 처리.")
     @DeleteMapping("/{policyId}/bookmarks")
     public ResponseEntity<ApiResponse<?>> unbookmarkPolicy(
-            HttpServletRequest request,
+            @LoginUser User user,
             @Parameter(description = "정책 ID") @PathVariable String policyId) {
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -117,8 +112,7 @@ public class UserYouthPolicyController {
 
     @Operation(summary = "모든 정책 북마크 해제", description = "사용자의 모든 정책 북마크를 삭제합니다. 이미 비어 있어도 성공 처리.")
     @DeleteMapping("/bookmarks")
-    public ResponseEntity<ApiResponse<?>> unbookmarkAllPolicies(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> unbookmarkAllPolicies(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -131,8 +125,7 @@ public class UserYouthPolicyController {
 
     @Operation(summary = "사용자 북마크 리스트 조회", description = "사용자가 북마크한 모든 정책을 조회합니다.")
     @GetMapping("/bookmarks")
-    public ResponseEntity<ApiResponse<?>> getBookmarks(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> getBookmarks(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -147,10 +140,9 @@ public class UserYouthPolicyController {
     @Operation(summary = "특정 정책 북마크 여부 조회", description = "특정 정책이 북마크되어 있는지 여부를 반환합니다.")
     @GetMapping("/{policyId}/bookmarks/status")
     public ResponseEntity<ApiResponse<?>> isBookmarked(
-            HttpServletRequest request,
+            @LoginUser User user,
             @Parameter(description = "정책 ID") @PathVariable String policyId) {
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -167,8 +159,7 @@ public class UserYouthPolicyController {
 
     @Operation(summary = "북마크 중 종료일이 가장 가까운 정책 조회", description = "사용자의 북마크 중 종료일이 가장 가까운 정책을 조회합니다.")
     @GetMapping("/bookmarks/latest")
-    public ResponseEntity<ApiResponse<YouthPolicyLatestResponseDto>> getLatestBookmarkByEndDate(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<YouthPolicyLatestResponseDto>> getLatestBookmarkByEndDate(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body((ApiResponse<YouthPolicyLatestResponseDto>) ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -195,9 +186,8 @@ public class UserYouthPolicyController {
 
     @Operation(summary = "나이대별 인기 정책 조회", description = "사용자의 나이대 기준 인기 정책을 조회합니다.")
     @GetMapping("/popular/age-group")
-    public ResponseEntity<ApiResponse<?>> getPopularPoliciesAge(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<?>> getPopularPoliciesAge(@LoginUser User user) {
         try {
-            User user = tokenProvider.getUserFromRequest(request);
             if (user == null) {
                 return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
             }
@@ -211,8 +201,7 @@ public class UserYouthPolicyController {
 
     @Operation(summary = "신청한 정책 개수 조회", description = "사용자가 신청한 정책 개수를 조회합니다.")
     @GetMapping("/applied/count")
-    public ResponseEntity<ApiResponse<?>> getAppliedPolicyCount(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> getAppliedPolicyCount(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -232,10 +221,9 @@ public class UserYouthPolicyController {
             - 존재하지 않는 정책은 NOT_FOUND로 처리하며, 예외를 던지지 않고 항목별 결과에 반영됩니다.
             """)
     public ResponseEntity<ApiResponse<?>> applyToPoliciesBulk(
-            HttpServletRequest request,
+            @LoginUser User user,
             @RequestBody YouthPolicyBulkApplyRequestDto bulkRequest) {
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -267,9 +255,8 @@ public class UserYouthPolicyController {
                                                                             @RequestParam(value = "size", defaultValue = "10") int size,
                                                                             @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
                                                                             @RequestParam(value = "sortDir", defaultValue = "desc") String sortDir,
-                                                                            HttpServletRequest request
+                                                                            @LoginUser User user
     ) {
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -294,9 +281,8 @@ public class UserYouthPolicyController {
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
             @RequestParam(value = "sortDir", defaultValue = "desc") String sortDir,
-            HttpServletRequest request
+            @LoginUser User user
     ) {
-        User user = tokenProvider.getUserFromRequest(request);
 
         // 태그 파싱 ("1,2,3" 또는 줄바꿈 혼합)
         final List<Long> tagIds;
@@ -329,8 +315,7 @@ public class UserYouthPolicyController {
             description = "사용자가 북마크한 모든 정책을 신청완료 여부와 태그 리스트와 함께 조회합니다."
     )
     @GetMapping("/bookmarks/with-meta")
-    public ResponseEntity<ApiResponse<?>> getBookmarksWithMeta(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> getBookmarksWithMeta(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -348,10 +333,9 @@ public class UserYouthPolicyController {
     )
     @PostMapping("/bookmarks/bulk-unbookmark")
     public ResponseEntity<ApiResponse<?>> unbookmarkPoliciesBulk(
-            HttpServletRequest request,
+            @LoginUser User user,
             @RequestBody PolicyIdListRequestDto dto
     ) {
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -370,16 +354,43 @@ public class UserYouthPolicyController {
         return ResponseEntity.ok(ApiResponse.createSuccessWithMessage(result, msg));
     }
 
+    @Operation(
+            summary = "정책 북마크 일괄 토글",
+            description = "전달된 policyId 리스트의 북마크를 한 번에 토글합니다. 북마크되어 있으면 해제, 아니면 추가하며 존재하지 않는 정책은 건너뜁니다."
+    )
+    @PostMapping("/bookmarks/toggle/bulk")
+    public ResponseEntity<ApiResponse<?>> toggleBookmarksBulk(
+            @LoginUser User user,
+            @RequestBody PolicyIdListRequestDto dto
+    ) {
+        if (user == null) {
+            return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
+        }
+        if (dto == null || dto.getPolicyIds() == null || dto.getPolicyIds().isEmpty()) {
+            return ResponseEntity.badRequest().body(ApiResponse.createError("policyIds가 비어 있습니다."));
+        }
+
+        BulkBookmarkToggleResponseDto result = bookmarkService.toggleBookmarks(user, dto.getPolicyIds());
+
+        String msg = String.format(
+                "요청 %d건 중 추가 %d건, 해제 %d건, 미존재 %d건",
+                result.getRequestedCount(),
+                result.getAddedCount(),
+                result.getRemovedCount(),
+                result.getNotFoundCount()
+        );
+        return ResponseEntity.ok(ApiResponse.createSuccessWithMessage(result, msg));
+    }
+
     @Operation(
             summary = "정책 신청 토글",
             description = "신청되어 있으면 취소하고, 아니면 신청합니다. 신청 마감/종료 시 신청 시도는 에러로 반환합니다."
     )
     @PostMapping("/{policyId}/apply/toggle")
     public ResponseEntity<ApiResponse<?>> toggleApply(
-            HttpServletRequest request,
+            @LoginUser User user,
             @Parameter(description = "정책 ID") @PathVariable String policyId) {
 
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -407,8 +418,7 @@ public class UserYouthPolicyController {
             description = "로그인한 사용자가 신청 완료한 모든 정책을 신청일 내림차순으로 반환합니다."
     )
     @GetMapping("/applied")
-    public ResponseEntity<ApiResponse<?>> getAppliedPoliciesLatest(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> getAppliedPoliciesLatest(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -433,9 +443,8 @@ public class UserYouthPolicyController {
 
     @Operation(summary = "나이대별 인기 정책 조회(explore 형식 + 사용자 나이)", description = "사용자의 나이대 기준 인기 정책을 조회합니다.")
     @GetMapping("/popular/age-user")
-    public ResponseEntity<ApiResponse<?>> getPopularPoliciesUserAge(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<?>> getPopularPoliciesUserAge(@LoginUser User user) {
         try {
-            User user = tokenProvider.getUserFromRequest(request);
             if (user == null) {
                 return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
             }
@@ -465,10 +474,9 @@ public class UserYouthPolicyController {
                   전체 합계를 포함한 요약 카운트를 반환합니다.
             """)
     public ResponseEntity<ApiResponse<?>> toggleApplyPoliciesBulk(
-            HttpServletRequest request,
+            @LoginUser User user,
             @RequestBody YouthPolicyBulkApplyRequestDto bulkRequest
     ) {
-        User user = tokenProvider.getUserFromRequest(request);
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -1,11 +1,10 @@
 package org.project.soar.model.youthpolicy.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.project.soar.config.TokenProvider;
+import org.project.soar.config.auth.LoginUser;
 import org.project.soar.global.api.ApiResponse;
 import org.project.soar.global.scheduler.YouthPolicyScheduler;
 import org.project.soar.model.user.User;
@@ -18,6 +17,7 @@ import org.project.soar.model.youthpolicy.repository.YouthPolicyStepRepository;
 import org.project.soar.model.youthpolicy.service.YouthPolicyService;
 import org.springframework.data.domain.*;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -34,7 +34,6 @@ public class YouthPolicyController {
     private final YouthPolicyService youthPolicyService;
     private final YouthPolicyScheduler youthPolicyScheduler;
     private final YouthPolicyStepRepository youthPolicyStepRepository;
-    public final TokenProvider tokenProvider;
 
     @PostMapping("/sync")
     @Operation(summary = "청년정책 데이터 동기화", description = "외부 API에서 청년정책 데이터를 수집/갱신합니다. 완료 후 현재 저장된 전체 개수를 반환합니다.")
@@ -93,24 +92,32 @@ public class YouthPolicyController {
             keyword로 정책을 검색합니다.
             - nameOnly=false(기본): 정책명/키워드/설명/지원내용/신청방법 등 **전체 컬럼**을 대상으로 검색
             - nameOnly=true: **정책명만** 대상으로 검색
-            페이징/정렬 파라미터(page, size, sortBy, sortDir) 지원.
+            - ranked=true: 전체 결과를 정확도(정확히 일치 > 시작 > 포함 > 토큰 포함 수) 순으로 정렬 후 페이징 (sortBy/sortDir 무시)
+            - ranked=false: 페이징/정렬 파라미터(page, size, sortBy, sortDir) 기준 정렬 (sortBy 기본 createdAt)
+            - ranked 생략 시: sortBy/sortDir를 보내면 그 정렬, 보내지 않으면 정확도 순
             """)
     public ResponseEntity<ApiResponse<?>> search(
             @RequestParam("keyword") String keyword,
             @RequestParam(value = "nameOnly", defaultValue = "false") boolean nameOnly,
+            @RequestParam(value = "ranked", required = false) Boolean ranked,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
-            @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
-            @RequestParam(value = "sortDir", defaultValue = "desc") String sortDir) {
+            @RequestParam(value = "sortBy", required = false) String sortBy,
+            @RequestParam(value = "sortDir", required = false) String sortDir) {
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc")
-                    ? Sort.by(sortBy).descending()
-                    : Sort.by(sortBy).ascending();
+            // 정렬을 명시했으면 정확도 순위 대신 요청한 정렬을 따름
+            boolean explicitSort = StringUtils.hasText(sortBy) || StringUtils.hasText(sortDir);
+            boolean useRanking = ranked != null ? ranked : !explicitSort;
+
+            String sortProperty = StringUtils.hasText(sortBy) ? sortBy : "createdAt";
+            Sort sort = "asc".equalsIgnoreCase(sortDir)
+                    ? Sort.by(sortProperty).ascending()
+                    : Sort.by(sortProperty).descending();
             Pageable pageable = PageRequest.of(page, size, sort);
 
             var result = nameOnly
-                    ? youthPolicyService.searchByPolicyNamePagedDto(keyword, pageable)
-                    : youthPolicyService.searchEverywherePagedDto(keyword, pageable);
+                    ? youthPolicyService.searchByPolicyNamePagedDto(keyword, pageable, useRanking)
+                    : youthPolicyService.searchEverywherePagedDto(keyword, pageable, useRanking);
 
             return ResponseEntity.ok(ApiResponse.createSuccess(result));
         } catch (Exception e) {
@@ -288,7 +295,7 @@ public class YouthPolicyController {
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
             @RequestParam(value = "sortDir", defaultValue = "desc") String sortDir,
-            HttpServletRequest request
+            @LoginUser User user
     ) {
         try {
             // 콤마/줄바꿈 구분자로 스플릿 후 정리
@@ -303,7 +310,6 @@ public class YouthPolicyController {
                     ? Sort.by(sortBy).descending()
                     : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
-            User user = tokenProvider.getUserFromRequest(request);
             if (user == null) {
                 var result = youthPolicyService.multiKeywordSearchPrioritizedMain(keywordList, pageable);
                 return ResponseEntity.ok(ApiResponse.createSuccess(result));
@@ -327,13 +333,12 @@ public class YouthPolicyController {
     )
     public ResponseEntity<ApiResponse<?>> getPoliciesByIdsInOrder(
             @RequestBody org.project.soar.model.youthpolicy.dto.PolicyIdListRequestDto dto,
-            HttpServletRequest request
+            @LoginUser User user // null이면 비로그인 처리
     ) {
         try {
             if (dto == null || dto.getPolicyIds() == null || dto.getPolicyIds().isEmpty()) {
                 return ResponseEntity.badRequest().body(ApiResponse.createError("policyIds가 비어 있습니다."));
             }
-            User user = tokenProvider.getUserFromRequest(request); // null이면 비로그인 처리
             var list = youthPolicyService.findMainItemsByIdsInOrder(dto.getPolicyIds(), user);
             String msg = String.format("요청 %d건 중 %d건 반환(입력 순서 유지)",
                     dto.getPolicyIds().size(), list.size());
@@ -348,8 +353,7 @@ public class YouthPolicyController {
 
     @GetMapping("/latestOne")
     @Operation(summary = "북마크 중 종료일이 가장 가까운 정책 1건")
-    public ResponseEntity<ApiResponse<?>> getLatestPolicyByEndDate(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> getLatestPolicyByEndDate(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -0,0 +1,20 @@
+package org.project.soar.model.youthpolicy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class BulkBookmarkToggleResponseDto {
+    private int requestedCount;            // 요청한 정책 수(공백/중복 제거 후)
+    private int addedCount;                // 새로 북마크된 수
+    private int removedCount;              // 북마크 해제된 수
+    private int notFoundCount;             // 존재하지 않는 정책 수
+    private List<String> addedPolicyIds;   // 새로 북마크된 정책 ID 목록
+    private List<String> removedPolicyIds; // 해제된 정책 ID 목록
+    private List<String> notFoundPolicyIds; // 존재하지 않는 정책 ID 목록
+}
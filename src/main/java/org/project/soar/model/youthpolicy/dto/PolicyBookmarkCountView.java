@@ -0,0 +1,12 @@
+package org.project.soar.model.youthpolicy.dto;
+
+/**
+ * 인기 순위 재집계용 정책별 북마크 수 (나이대별 집계가 아니면 ageGroup = null)
+ */
+public interface PolicyBookmarkCountView {
+    Integer getAgeGroup();
+
+    String getPolicyId();
+
+    Long getBookmarkCount();
+}
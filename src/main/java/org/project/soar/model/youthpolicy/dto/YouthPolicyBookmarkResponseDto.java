@@ -19,17 +19,8 @@ public class YouthPolicyBookmarkResponseDto {
     private String dateLabel;
 
     public static YouthPolicyBookmarkResponseDto from(YouthPolicy policy) {
-        DateClassifier.DateResult result = DateClassifier.classify(
-            policy.getApplicationStartDate() != null ? policy.getApplicationStartDate().toLocalDate() : null,
-            policy.getApplicationEndDate() != null ? policy.getApplicationEndDate().toLocalDate() : null,
-            policy.getBusinessPeriodEnd(),
-            policy.getPolicySupportContent(),           
-            policy.getApplyMethodContent(),
-            policy.getScreeningMethodContent(),
-            policy.getBusinessPeriodEtc(),
-            policy.getPolicyName(),                   
-            LocalDate.now()                           
-        );
+        // 저장된 경계 날짜 기준으로 오늘 라벨 계산
+        DateClassifier.DateResult result = policy.dateStatus(LocalDate.now());
         
         return YouthPolicyBookmarkResponseDto.builder()
                 .policyId(policy.getPolicyId())
@@ -4,7 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.project.soar.model.youthpolicy.YouthPolicy;
-import org.project.soar.util.DateClassifier;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,18 +24,8 @@ public class YouthPolicyBookmarkWithMetaResponseDto {
                                                               boolean applied,
                                                               List<TagSimpleDto> tags) {
 
-        // 기존과 동일한 방식으로 dateLabel 계산
-        var r = DateClassifier.classify(
-                p.getApplicationStartDate() == null ? null : p.getApplicationStartDate().toLocalDate(),
-                p.getApplicationEndDate()   == null ? null : p.getApplicationEndDate().toLocalDate(),
-                p.getBusinessPeriodEnd(),
-                p.getPolicySupportContent(),
-                p.getApplyMethodContent(),
-                p.getScreeningMethodContent(),
-                p.getBusinessPeriodEtc(),
-                p.getPolicyName(),
-                LocalDate.now()
-        );
+        // 저장된 경계 날짜 기준으로 오늘 dateLabel 계산
+        var r = p.dateStatus(LocalDate.now());
 
         return YouthPolicyBookmarkWithMetaResponseDto.builder()
                 .policyId(p.getPolicyId())
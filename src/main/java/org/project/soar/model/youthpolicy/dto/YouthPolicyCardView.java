@@ -0,0 +1,47 @@
+package org.project.soar.model.youthpolicy.dto;
+
+import org.project.soar.util.DateClassifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 목록/카드 응답용 정책 요약 (TEXT 컬럼 제외, 카드 필드 + 날짜 라벨 계산용 경계 날짜만 조회)
+ */
+public interface YouthPolicyCardView {
+    String getPolicyId();
+
+    String getPolicyName();
+
+    String getPolicyKeyword();
+
+    String getLargeClassification();
+
+    String getMediumClassification();
+
+    String getSupervisingInstName();
+
+    // 동기화/롤오버 시점에 저장된 라벨 (판정값이 아직 없을 때만 사용)
+    String getDateLabel();
+
+    LocalDateTime getApplicationStartDate();
+
+    LocalDateTime getApplicationEndDate();
+
+    LocalDate getBusinessEndDate();
+
+    DateClassifier.TextSignal getTextSignal();
+
+    /**
+     * 오늘 기준 날짜 라벨 (저장된 경계 날짜로 계산하므로 D-n 이 어긋나지 않음)
+     */
+    default String currentDateLabel(LocalDate today) {
+        if (getTextSignal() == null) return getDateLabel();
+        return DateClassifier.classify(
+                getApplicationStartDate() != null ? getApplicationStartDate().toLocalDate() : null,
+                getApplicationEndDate() != null ? getApplicationEndDate().toLocalDate() : null,
+                getBusinessEndDate(),
+                getTextSignal(),
+                today).label();
+    }
+}
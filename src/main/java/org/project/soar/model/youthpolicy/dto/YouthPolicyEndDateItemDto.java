@@ -4,7 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.project.soar.model.youthpolicy.YouthPolicy;
-import org.project.soar.util.DateClassifier;
 
 import java.time.LocalDate;
 
@@ -18,17 +17,7 @@ public class YouthPolicyEndDateItemDto {
     private String businessPeriodEnd;
 
     public static YouthPolicyEndDateItemDto from(YouthPolicy p) {
-        var r = DateClassifier.classify(
-                p.getApplicationStartDate() == null ? null : p.getApplicationStartDate().toLocalDate(),
-                p.getApplicationEndDate()   == null ? null : p.getApplicationEndDate().toLocalDate(),
-                p.getBusinessPeriodEnd(),
-                p.getPolicySupportContent(),
-                p.getApplyMethodContent(),
-                p.getScreeningMethodContent(),
-                p.getBusinessPeriodEtc(),
-                p.getPolicyName(),
-                LocalDate.now()
-        );
+        var r = p.dateStatus(LocalDate.now());
 
         return YouthPolicyEndDateItemDto.builder()
                 .policyId(p.getPolicyId())
@@ -1,6 +1,8 @@
 package org.project.soar.model.youthpolicy.dto;
 import lombok.*;
 
+import java.time.LocalDate;
+
 @Getter @Setter @Builder
 @AllArgsConstructor @NoArgsConstructor
 public class YouthPolicyMainItemDto {
@@ -12,4 +14,17 @@ public class YouthPolicyMainItemDto {
     private String supervisingInstName;
     private String dateLabel;
     private boolean bookmarked;
-}
\ No newline at end of file
+
+    public static YouthPolicyMainItemDto from(YouthPolicyCardView card, boolean bookmarked) {
+        return YouthPolicyMainItemDto.builder()
+                .policyId(card.getPolicyId())
+                .policyName(card.getPolicyName())
+                .policyKeyword(card.getPolicyKeyword())
+                .largeClassification(card.getLargeClassification())
+                .mediumClassification(card.getMediumClassification())
+                .supervisingInstName(card.getSupervisingInstName())
+                .dateLabel(card.currentDateLabel(LocalDate.now()))
+                .bookmarked(bookmarked)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import org.project.soar.model.youthpolicy.YouthPolicy;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 @Getter
@@ -29,7 +30,7 @@ public class YouthPolicySearchItemDto {
         return YouthPolicySearchItemDto.builder()
                 .policyId(p.getPolicyId())
                 .policyName(p.getPolicyName())
-                .dateLabel(p.getDateLabel())
+                .dateLabel(p.dateStatus(LocalDate.now()).label())
                 .businessPeriodEnd(p.getBusinessPeriodEnd()) // String 그대로
                 .applicationEndDate(appEnd)
                 .build();
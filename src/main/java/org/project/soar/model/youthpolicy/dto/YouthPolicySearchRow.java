@@ -0,0 +1,41 @@
+package org.project.soar.model.youthpolicy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 구성용 정책 컬럼 (검색 대상 컬럼 + 정렬용 createdAt/inquiryCount만 조회, 엔티티 로딩 없음)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class YouthPolicySearchRow {
+    private String policyId;
+    private String policyName;
+    private String policyKeyword;
+    private String policyExplanation;
+    private String policySupportContent;
+    private String applyMethodContent;
+    private String screeningMethodContent;
+    private String submitDocumentContent;
+    private String etcMatterContent;
+    private String businessPeriodEtc;
+    private String largeClassification;
+    private String mediumClassification;
+    private String supervisingInstName;
+    private String operatingInstName;
+    private String applyUrl;
+    private String referenceUrl1;
+    private String referenceUrl2;
+    private String zipCode;
+    private String policyMajorCode;
+    private String jobCode;
+    private String schoolCode;
+    private String dateType;
+    private String dateLabel;
+    private Integer inquiryCount;
+    private LocalDateTime createdAt;
+}
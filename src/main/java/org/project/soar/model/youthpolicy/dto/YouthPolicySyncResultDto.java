@@ -0,0 +1,23 @@
+package org.project.soar.model.youthpolicy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청년정책 동기화 결과 집계
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class YouthPolicySyncResultDto {
+    private int totalPages;     // API 전체 페이지 수 (1페이지 totCount 기준)
+    private int pagesFetched;   // 조회한 API 페이지 수
+    private int fetchedCount;   // API에서 조회한 전체 정책 수
+    private int unchangedCount; // 내용 지문이 같아 변환/저장을 건너뛴 정책 수
+    private int updatedCount;   // 내용이 바뀌어 갱신된 정책 수
+    private int insertedCount;  // 신규 저장된 정책 수
+    private LocalDateTime maxLastModifyDt; // 조회한 정책들의 최대 최종수정일
+}
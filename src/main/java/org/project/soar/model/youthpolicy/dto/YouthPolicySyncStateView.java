@@ -0,0 +1,44 @@
+package org.project.soar.model.youthpolicy.dto;
+
+import org.project.soar.util.DateClassifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 변경 감지용 저장 상태 (내용 지문 + 경량 갱신 대상 컬럼 + 날짜 분류용 경계 날짜/텍스트 판정)
+ */
+public interface YouthPolicySyncStateView {
+    String getPolicyId();
+
+    String getContentHash();
+
+    String getDateType();
+
+    String getDateLabel();
+
+    Integer getInquiryCount();
+
+    LocalDateTime getApplicationStartDate();
+
+    LocalDateTime getApplicationEndDate();
+
+    LocalDate getBusinessEndDate();
+
+    DateClassifier.TextSignal getTextSignal();
+
+    /**
+     * 저장된 경계 날짜 + 텍스트 판정으로 오늘 기준 날짜 분류 (정규식 없음)
+     * - 내용 지문이 같을 때만 사용 (저장값이 API 데이터와 같은 입력에서 계산된 값)
+     * - 판정값이 아직 없으면 null
+     */
+    default DateClassifier.DateResult storedDateStatus(LocalDate today) {
+        if (getTextSignal() == null) return null;
+        return DateClassifier.classify(
+                getApplicationStartDate() != null ? getApplicationStartDate().toLocalDate() : null,
+                getApplicationEndDate() != null ? getApplicationEndDate().toLocalDate() : null,
+                getBusinessEndDate(),
+                getTextSignal(),
+                today);
+    }
+}
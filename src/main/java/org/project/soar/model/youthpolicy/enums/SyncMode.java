@@ -0,0 +1,7 @@
+package org.project.soar.model.youthpolicy.enums;
+
+public enum SyncMode {
+    DAILY,       // 일일 전체 조회 + 변경분 반영
+    FULL,        // 주간 스테이징 전체 재동기화
+    INCREMENTAL, // 워터마크 이후 변경분만 조회
+}
@@ -0,0 +1,7 @@
+package org.project.soar.model.youthpolicy.enums;
+
+public enum SyncStatus {
+    RUNNING,
+    SUCCESS,
+    FAILED,
+}
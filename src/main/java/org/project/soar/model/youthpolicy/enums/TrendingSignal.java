@@ -0,0 +1,19 @@
+package org.project.soar.model.youthpolicy.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간 인기 점수에 반영되는 사용자 행동과 가중치
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingSignal {
+    VIEW(1.0),      // 정책 상세 조회
+    COMMENT(2.0),   // 댓글 작성
+    BOOKMARK(3.0),  // 북마크 추가
+    APPLY(5.0),     // 신청 완료
+    ;
+
+    private final double weight;
+}
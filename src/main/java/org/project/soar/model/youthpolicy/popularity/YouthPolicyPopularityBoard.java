@@ -0,0 +1,275 @@
+package org.project.soar.model.youthpolicy.popularity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.category.CategoryType;
+import org.project.soar.model.category.dto.CategoryBookmarkCountView;
+import org.project.soar.model.category.repository.CategoryRepository;
+import org.project.soar.model.user.User;
+import org.project.soar.model.youthpolicy.dto.PolicyBookmarkCountView;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyBookmarkRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 북마크 기준 인기 정책 순위표 (Redis sorted set)
+ * - popular:bookmarks            : 정책 ID → 전체 북마크 수
+ * - popular:bookmarks:age:{20}   : 정책 ID → 해당 나이대(10년 단위) 사용자의 북마크 수
+ * - popular:bookmarks:category:{0}: 카테고리 소속 정책 ID → 전체 북마크 수 (북마크 0건 정책도 포함)
+ * - 북마크 추가/해제 시 ZINCRBY로 즉시 반영, 주기적으로 DB GROUP BY 결과로 전체 교체(재집계)
+ *   (재집계는 사용자 나이대 변경, 회원 탈퇴, Redis 장애 중 누락된 증감을 바로잡음)
+ * - 재집계가 한 번도 끝나지 않았거나 Redis 오류 시 조회는 Optional.empty() → 호출 측이 DB 집계로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class YouthPolicyPopularityBoard {
+
+    private static final String TOTAL_KEY = "popular:bookmarks";
+    private static final String AGE_KEY_PREFIX = "popular:bookmarks:age:";
+    private static final String AGE_GROUPS_KEY = "popular:bookmarks:age-groups";
+    private static final String CATEGORY_KEY_PREFIX = "popular:bookmarks:category:";
+    private static final String RECONCILED_AT_KEY = "popular:bookmarks:reconciled-at";
+
+    private final StringRedisTemplate redisTemplate;
+    private final YouthPolicyBookmarkRepository bookmarkRepository;
+    private final CategoryRepository categoryRepository;
+
+    // 재집계 완료 표시를 한 번 확인하면 이후 조회마다 다시 확인하지 않음
+    private volatile boolean ready;
+    // 북마크 증감을 카테고리 순위표에도 반영하기 위한 정책별 카테고리 코드 (재집계 시 갱신)
+    private volatile Map<String, List<Integer>> categoryCodesByPolicyId = Map.of();
+
+    /**
+     * 순위표 항목 (정책 ID + 북마크 수)
+     */
+    public record RankedPolicy(String policyId, long bookmarkCount) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            // 순위표가 없으면 서비스는 기존 GROUP BY 조회로 동작
+            log.warn("Failed to build popularity leaderboards on startup", e);
+        }
+    }
+
+    /**
+     * 만 나이 기준 10년 단위 나이대 (23 → 20, 31 → 30), 생년월일 없으면 null
+     * - 재집계 쿼리의 FLOOR(TIMESTAMPDIFF(YEAR, birth, CURDATE()) / 10) * 10 과 동일
+     */
+    public static Integer ageGroupOf(LocalDate birthDate) {
+        if (birthDate == null) return null;
+        int age = Period.between(birthDate, LocalDate.now()).getYears();
+        return Math.floorDiv(age, 10) * 10;
+    }
+
+    // ========================================
+    // 증감 반영
+    // ========================================
+
+    public void onBookmarked(User user, String policyId) {
+        adjust(user, List.of(policyId), 1);
+    }
+
+    public void onBookmarked(User user, Collection<String> policyIds) {
+        adjust(user, policyIds, 1);
+    }
+
+    public void onUnbookmarked(User user, Collection<String> policyIds) {
+        adjust(user, policyIds, -1);
+    }
+
+    private void adjust(User user, Collection<String> policyIds, int delta) {
+        if (policyIds == null || policyIds.isEmpty()) return;
+
+        Integer ageGroup = (user == null) ? null : ageGroupOf(user.getUserBirthDate());
+        try {
+            Map<String, List<Integer>> categoryCodes = categoryCodesByPolicyId;
+            for (String policyId : policyIds) {
+                increment(TOTAL_KEY, policyId, delta);
+                if (ageGroup != null) {
+                    increment(AGE_KEY_PREFIX + ageGroup, policyId, delta);
+                }
+                // 카테고리 순위표는 북마크 0건 정책도 유지해야 하므로 0이 되어도 제거하지 않음
+                for (Integer categoryCode : categoryCodes.getOrDefault(policyId, List.of())) {
+                    redisTemplate.opsForZSet().incrementScore(CATEGORY_KEY_PREFIX + categoryCode, policyId, delta);
+                }
+            }
+        } catch (Exception e) {
+            // 북마크 저장은 이미 끝났으므로 실패시키지 않음 (다음 재집계에서 보정)
+            log.warn("Failed to update popularity leaderboards for {} policies", policyIds.size(), e);
+        }
+    }
+
+    private void increment(String key, String policyId, int delta) {
+        Double score = redisTemplate.opsForZSet().incrementScore(key, policyId, delta);
+        if (score != null && score <= 0) {
+            redisTemplate.opsForZSet().remove(key, policyId);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 전체 북마크 수 상위 정책 ID (순위 순)
+     */
+    public Optional<List<String>> findTop(int limit) {
+        return findTop(TOTAL_KEY, limit);
+    }
+
+    /**
+     * 나이대별 북마크 수 상위 정책 ID (순위 순)
+     */
+    public Optional<List<String>> findTopByAgeGroup(int ageGroup, int limit) {
+        return findTop(AGE_KEY_PREFIX + ageGroup, limit);
+    }
+
+    /**
+     * 카테고리 내 북마크 수 상위 정책 (순위 순)
+     * - filter를 통과한 정책만 limit개까지 (순위표를 앞에서부터 구간 단위로 읽으며 거름)
+     */
+    public Optional<List<RankedPolicy>> findTopByCategory(int categoryCode, int limit, Predicate<String> filter) {
+        if (limit <= 0) return Optional.of(List.of());
+        try {
+            if (!isReady()) return Optional.empty();
+
+            String key = CATEGORY_KEY_PREFIX + categoryCode;
+            int chunkSize = Math.max(limit * 4, 100);
+            List<RankedPolicy> ranked = new ArrayList<>(limit);
+            for (long start = 0; ranked.size() < limit; start += chunkSize) {
+                Set<TypedTuple<String>> chunk = redisTemplate.opsForZSet()
+                        .reverseRangeWithScores(key, start, start + chunkSize - 1);
+                if (chunk == null || chunk.isEmpty()) break;
+
+                for (TypedTuple<String> tuple : chunk) {
+                    if (tuple.getValue() == null || !filter.test(tuple.getValue())) continue;
+                    long count = tuple.getScore() == null ? 0 : Math.max(0, Math.round(tuple.getScore()));
+                    ranked.add(new RankedPolicy(tuple.getValue(), count));
+                    if (ranked.size() == limit) break;
+                }
+                if (chunk.size() < chunkSize) break;
+            }
+            return Optional.of(ranked);
+        } catch (Exception e) {
+            log.warn("Failed to read category popularity leaderboard {}", categoryCode, e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isReady() {
+        if (!ready) {
+            ready = Boolean.TRUE.equals(redisTemplate.hasKey(RECONCILED_AT_KEY));
+        }
+        return ready;
+    }
+
+    private Optional<List<String>> findTop(String key, int limit) {
+        if (limit <= 0) return Optional.of(List.of());
+        try {
+            if (!isReady()) return Optional.empty();
+            Set<String> policyIds = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+            return Optional.of(policyIds == null ? List.of() : List.copyOf(policyIds));
+        } catch (Exception e) {
+            log.warn("Failed to read popularity leaderboard {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    // ========================================
+    // 재집계
+    // ========================================
+
+    /**
+     * DB 북마크 집계로 순위표 전체 교체
+     * - 키별로 임시 키에 적재 후 RENAME 하므로 교체 중에도 조회는 이전/새 순위표 중 하나를 봄
+     * - 집계 시점과 교체 시점 사이의 증감은 다음 재집계에서 반영
+     */
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        List<PolicyBookmarkCountView> totals = bookmarkRepository.countBookmarksByPolicy();
+        List<PolicyBookmarkCountView> byAgeGroup = bookmarkRepository.countBookmarksByAgeGroupAndPolicy();
+        List<CategoryBookmarkCountView> byCategory = categoryRepository.countBookmarksByCategoryAndPolicy();
+
+        replace(TOTAL_KEY, toTuples(totals));
+
+        Map<Integer, List<PolicyBookmarkCountView>> rowsByAgeGroup = new HashMap<>();
+        for (PolicyBookmarkCountView row : byAgeGroup) {
+            if (row.getAgeGroup() == null) continue;
+            rowsByAgeGroup.computeIfAbsent(row.getAgeGroup(), g -> new ArrayList<>()).add(row);
+        }
+        for (Map.Entry<Integer, List<PolicyBookmarkCountView>> entry : rowsByAgeGroup.entrySet()) {
+            replace(AGE_KEY_PREFIX + entry.getKey(), toTuples(entry.getValue()));
+        }
+
+        // 더 이상 북마크가 없는 나이대 순위표 제거
+        Set<String> currentGroups = new HashSet<>();
+        rowsByAgeGroup.keySet().forEach(g -> currentGroups.add(String.valueOf(g)));
+        Set<String> previousGroups = redisTemplate.opsForSet().members(AGE_GROUPS_KEY);
+        if (previousGroups != null) {
+            for (String group : previousGroups) {
+                if (!currentGroups.contains(group)) {
+                    redisTemplate.delete(AGE_KEY_PREFIX + group);
+                    redisTemplate.opsForSet().remove(AGE_GROUPS_KEY, group);
+                }
+            }
+        }
+        if (!currentGroups.isEmpty()) {
+            redisTemplate.opsForSet().add(AGE_GROUPS_KEY, currentGroups.toArray(new String[0]));
+        }
+
+        // 카테고리 순위표 (북마크 0건 포함) + 증감 반영용 정책별 카테고리 코드
+        Map<Integer, Set<TypedTuple<String>>> tuplesByCategory = new HashMap<>();
+        Map<String, List<Integer>> categoryCodes = new HashMap<>();
+        for (CategoryBookmarkCountView row : byCategory) {
+            if (row.getCategoryCode() == null || row.getPolicyId() == null) continue;
+            long count = row.getBookmarkCount() == null ? 0 : row.getBookmarkCount();
+            tuplesByCategory.computeIfAbsent(row.getCategoryCode(), c -> new HashSet<>())
+                    .add(new DefaultTypedTuple<>(row.getPolicyId(), (double) count));
+            categoryCodes.computeIfAbsent(row.getPolicyId(), id -> new ArrayList<>(2)).add(row.getCategoryCode());
+        }
+        for (CategoryType categoryType : CategoryType.values()) {
+            replace(CATEGORY_KEY_PREFIX + categoryType.getCode(),
+                    tuplesByCategory.getOrDefault(categoryType.getCode(), Set.of()));
+        }
+        categoryCodesByPolicyId = categoryCodes;
+
+        redisTemplate.opsForValue().set(RECONCILED_AT_KEY, String.valueOf(System.currentTimeMillis()));
+        ready = true;
+        log.info("Popularity leaderboards reconciled - {} policies, {} age groups in {} ms",
+                totals.size(), rowsByAgeGroup.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private Set<TypedTuple<String>> toTuples(List<PolicyBookmarkCountView> rows) {
+        Set<TypedTuple<String>> tuples = new HashSet<>(rows.size() * 2);
+        for (PolicyBookmarkCountView row : rows) {
+            if (row.getPolicyId() == null || row.getBookmarkCount() == null || row.getBookmarkCount() <= 0) continue;
+            tuples.add(new DefaultTypedTuple<>(row.getPolicyId(), row.getBookmarkCount().doubleValue()));
+        }
+        return tuples;
+    }
+
+    private void replace(String key, Set<TypedTuple<String>> tuples) {
+        if (tuples.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String stagingKey = key + ":staging";
+        redisTemplate.delete(stagingKey);
+        redisTemplate.opsForZSet().add(stagingKey, tuples);
+        redisTemplate.rename(stagingKey, key);
+    }
+}
@@ -0,0 +1,185 @@
+package org.project.soar.model.youthpolicy.popularity;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.youthpolicy.enums.TrendingSignal;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 인기(트렌딩) 점수 — 지수 감쇠 (반감기 HALF_LIFE)
+ * - 점수 = Σ 가중치 × 2^(-(지금 - 발생시각) / 반감기)
+ * - forward decay: 기준 시각(anchor) 이후 경과분만큼 키워서 더하면 이미 쌓인 점수는 다시 계산할 필요가 없어
+ *   이벤트당 ZINCRBY 한 번, 조회는 ZREVRANGE 한 번 (이력 스캔 없음)
+ * - 기준 시각은 ANCHOR_DAYS마다 넘어가며, 넘어갈 때 ZUNIONSTORE WEIGHTS로 기존 점수를 한 번에 축소 (지수 오버플로 방지)
+ * - 이벤트는 메모리에서 (기준 시각, 정책)별로 합산하고 스케줄러가 주기적으로 파이프라인 한 번에 반영 (버스트 시에도 Redis 호출 수 일정)
+ *   → 합산은 merge, 반영은 remove 로 키 단위 원자적 교체 (flush 중 들어온 이벤트는 다음 주기로 넘어가고 유실되지 않음)
+ *   → 이벤트마다 자신의 기준 시각으로 환산해 두므로 기준 시각 교체와 경합해도 잘못된 배율이 섞이지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class YouthPolicyTrendingScorer {
+
+    private static final String KEY_PREFIX = "popular:trending:";
+    private static final String ROTATION_LOCK_PREFIX = "popular:trending:rotated:";
+
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+    private static final long HALF_LIFE_MILLIS = Duration.ofHours(24).toMillis();
+    private static final int ANCHOR_DAYS = 7;
+    // 현재 시점으로 환산한 점수가 이보다 작으면 기준 시각 교체 시 제거 (조회 1회 ≈ 1.0)
+    private static final double MIN_SCORE = 0.05;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ConcurrentHashMap<PendingKey, Double> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    // Redis 점수의 현재 기준 시각 (epoch day, flushLock 안에서만 읽고 변경)
+    private long anchorDay = anchorDayOf(System.currentTimeMillis());
+
+    public void record(String policyId, TrendingSignal signal) {
+        if (policyId == null) return;
+        long now = System.currentTimeMillis();
+        long eventAnchor = anchorDayOf(now);
+        pending.merge(new PendingKey(eventAnchor, policyId), signal.getWeight() * growth(now, eventAnchor), Double::sum);
+    }
+
+    public void recordAll(Collection<String> policyIds, TrendingSignal signal) {
+        if (policyIds == null) return;
+        for (String policyId : policyIds) {
+            record(policyId, signal);
+        }
+    }
+
+    /**
+     * 점수 상위 정책 ID (순위 순), 아직 점수가 없거나 Redis 오류 시 Optional.empty()
+     */
+    public Optional<List<String>> findTop(int limit) {
+        if (limit <= 0) return Optional.of(List.of());
+        try {
+            Set<String> policyIds = redisTemplate.opsForZSet()
+                    .reverseRange(key(anchorDayOf(System.currentTimeMillis())), 0, limit - 1);
+            if (policyIds == null || policyIds.isEmpty()) return Optional.empty();
+            return Optional.of(List.copyOf(policyIds));
+        } catch (Exception e) {
+            log.warn("Failed to read trending policies", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 누적된 이벤트를 Redis에 반영 (스케줄러에서 주기 호출)
+     * - 실패 시 합산값을 되돌려 다음 주기에 재시도
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            long now = System.currentTimeMillis();
+            long previousAnchor = anchorDay;
+            long currentAnchor = anchorDayOf(now);
+
+            // 이번 배치는 모두 현재 기준으로 환산해 현재 키에 반영
+            Map<PendingKey, Double> batch = drain();
+            if (!batch.isEmpty()) write(key(currentAnchor), batch, currentAnchor);
+            if (currentAnchor == previousAnchor) return;
+
+            // 기준 시각 교체: 기존 키는 한 인스턴스만 축소 병합
+            rotate(previousAnchor, currentAnchor, rescale(previousAnchor, currentAnchor), now);
+            anchorDay = currentAnchor;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Failed to flush trending scores on shutdown", e);
+        }
+    }
+
+    /**
+     * 합산값을 키 단위로 꺼냄 (remove 이후의 merge 는 새 항목을 만들어 다음 주기에 반영)
+     */
+    private Map<PendingKey, Double> drain() {
+        Map<PendingKey, Double> batch = new HashMap<>();
+        for (PendingKey key : pending.keySet()) {
+            Double value = pending.remove(key);
+            if (value != null && value != 0) {
+                batch.put(key, value);
+            }
+        }
+        return batch;
+    }
+
+    private void write(String key, Map<PendingKey, Double> batch, long toAnchor) {
+        // 같은 정책이 여러 기준 시각에 걸쳐 있으면 현재 기준으로 환산해 합침
+        Map<String, Double> scores = new HashMap<>();
+        batch.forEach((pendingKey, value) ->
+                scores.merge(pendingKey.policyId(), value * rescale(pendingKey.anchorDay(), toAnchor), Double::sum));
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                scores.forEach((policyId, score) -> stringConnection.zIncrBy(key, score, policyId));
+                return null;
+            });
+            redisTemplate.expire(key, Duration.ofDays(ANCHOR_DAYS * 2L));
+        } catch (RuntimeException e) {
+            batch.forEach((pendingKey, value) -> pending.merge(pendingKey, value, Double::sum));
+            throw e;
+        }
+    }
+
+    private void rotate(long fromAnchor, long toAnchor, double shrink, long now) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(ROTATION_LOCK_PREFIX + toAnchor, String.valueOf(now), Duration.ofDays(ANCHOR_DAYS * 2L));
+        if (!Boolean.TRUE.equals(acquired)) return;
+
+        // 새 키에 이미 반영된 점수(다른 인스턴스 포함)는 유지하고 기존 점수만 축소해 합산
+        String toKey = key(toAnchor);
+        redisTemplate.opsForZSet().unionAndStore(toKey, List.of(key(fromAnchor)), toKey,
+                Aggregate.SUM, Weights.of(1.0, shrink));
+        redisTemplate.opsForZSet().removeRangeByScore(toKey, Double.NEGATIVE_INFINITY,
+                MIN_SCORE * growth(now, toAnchor));
+        redisTemplate.expire(toKey, Duration.ofDays(ANCHOR_DAYS * 2L));
+        redisTemplate.delete(key(fromAnchor));
+        log.info("Trending scores rotated to anchor day {}", toAnchor);
+    }
+
+    /**
+     * fromAnchor 기준 점수를 toAnchor 기준으로 바꾸는 배율
+     */
+    private static double rescale(long fromAnchor, long toAnchor) {
+        if (fromAnchor == toAnchor) return 1.0;
+        return Math.pow(2, -(double) (toAnchor - fromAnchor) * DAY_MILLIS / HALF_LIFE_MILLIS);
+    }
+
+    private static String key(long anchorDay) {
+        return KEY_PREFIX + anchorDay;
+    }
+
+    private static long anchorDayOf(long epochMillis) {
+        return Math.floorDiv(Math.floorDiv(epochMillis, DAY_MILLIS), ANCHOR_DAYS) * ANCHOR_DAYS;
+    }
+
+    /**
+     * 기준 시각 이후 경과분에 대한 forward decay 배율 (기준 시각 = 1, 반감기마다 2배)
+     */
+    private static double growth(long epochMillis, long anchorDay) {
+        return Math.pow(2, (double) (epochMillis - anchorDay * DAY_MILLIS) / HALF_LIFE_MILLIS);
+    }
+
+    /**
+     * 메모리 합산 키 (이벤트 발생 시점의 기준 시각 + 정책)
+     */
+    private record PendingKey(long anchorDay, String policyId) {
+    }
+}
@@ -0,0 +1,54 @@
+package org.project.soar.model.youthpolicy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 신청/북마크 일괄 INSERT 전용 저장소
+ * - IDENTITY 키라 saveAll()은 행마다 INSERT가 나가므로 JDBC 배치 사용
+ * - 삭제는 각 JPA 리포지토리의 set 기반 DELETE (deleteAllByUserAndPolicyIdIn) 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserPolicyBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 정책 신청 일괄 INSERT (user_youth_policy)
+     */
+    public void insertApplications(Long userId, Collection<String> policyIds, LocalDateTime appliedAt) {
+        if (policyIds.isEmpty()) return;
+
+        Timestamp appliedAtValue = Timestamp.valueOf(appliedAt);
+        List<Object[]> rows = new ArrayList<>(policyIds.size());
+        for (String policyId : policyIds) {
+            rows.add(new Object[]{userId, policyId, appliedAtValue});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_youth_policy (user_id, policy_id, applied_at) VALUES (?, ?, ?)",
+                rows);
+    }
+
+    /**
+     * 북마크 일괄 INSERT (user_policy_bookmark)
+     */
+    public void insertBookmarks(Long userId, Collection<String> policyIds) {
+        if (policyIds.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>(policyIds.size());
+        for (String policyId : policyIds) {
+            rows.add(new Object[]{userId, policyId});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_policy_bookmark (user_id, policy_id) VALUES (?, ?)",
+                rows);
+    }
+}
@@ -3,10 +3,12 @@ import org.project.soar.model.user.User;
 import org.project.soar.model.youthpolicy.UserYouthPolicy;
 import org.project.soar.model.youthpolicy.YouthPolicy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -51,8 +53,30 @@ public interface UserYouthPolicyRepository extends JpaRepository<UserYouthPolicy
     Set<String> findAppliedPolicyIds(@Param("user") User user,
                                      @Param("policies") List<YouthPolicy> policies);
 
+    /**
+     * 사용자가 신청한 정책 ID 전체 (신청 여부 캐시 적재용)
+     */
+    @Query("""
+        select uyp.policy.policyId
+          from UserYouthPolicy uyp
+         where uyp.user.userId = :userId
+    """)
+    List<String> findPolicyIdsByUserId(@Param("userId") Long userId);
+
     void deleteByUserAndPolicy(User user, YouthPolicy policy);
 
+    /**
+     * 사용자의 신청 여러 건을 DELETE 한 번으로 삭제 (배치 토글 취소용)
+     */
+    @Modifying
+    @Query("""
+        delete from UserYouthPolicy uyp
+         where uyp.user = :user
+           and uyp.policy.policyId in :policyIds
+    """)
+    int deleteAllByUserAndPolicyIdIn(@Param("user") User user,
+                                     @Param("policyIds") Collection<String> policyIds);
+
     List<UserYouthPolicy> findByUserOrderByAppliedAtDesc(User user);
 }
 
@@ -1,16 +1,19 @@
 package org.project.soar.model.youthpolicy.repository;
 
 
+import org.project.soar.model.youthpolicy.dto.PolicyBookmarkCountView;
 import org.project.soar.model.youthpolicy.dto.YouthPolicyPopularView;
 import org.springframework.data.repository.query.Param;
 import org.project.soar.model.user.User;
 import org.project.soar.model.youthpolicy.YouthPolicy;
 import org.project.soar.model.youthpolicy.YouthPolicyBookmark;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,6 +70,25 @@ public interface YouthPolicyBookmarkRepository extends JpaRepository<YouthPolicy
 
     List<YouthPolicyBookmark> findAllByUserAndPolicyPolicyIdIn(User user, List<String> policyIds);
 
+    /**
+     * 사용자의 북마크 여러 건을 DELETE 한 번으로 삭제 (일괄 토글용)
+     */
+    @Modifying
+    @Query("""
+                DELETE FROM YouthPolicyBookmark b
+                WHERE b.user = :user AND b.policy.policyId IN :policyIds
+            """)
+    int deleteAllByUserAndPolicyIdIn(@Param("user") User user, @Param("policyIds") Collection<String> policyIds);
+
+    /**
+     * 사용자의 북마크 정책 ID 전체 (북마크 여부 캐시 적재용)
+     */
+    @Query("""
+                SELECT b.policy.policyId
+                FROM YouthPolicyBookmark b
+                WHERE b.user.userId = :userId
+            """)
+    List<String> findPolicyIdsByUserId(@Param("userId") Long userId);
 
     /**
      * 마감임박 지원사업 1건
@@ -93,4 +115,27 @@ public interface YouthPolicyBookmarkRepository extends JpaRepository<YouthPolicy
             """)
     List<YouthPolicyPopularView> findPopularByBookmarksName(Pageable pageable);
 
-    }
+    /**
+     * 인기 순위 재집계: 정책별 전체 북마크 수
+     */
+    @Query("""
+                SELECT b.policy.policyId AS policyId, COUNT(b) AS bookmarkCount
+                FROM YouthPolicyBookmark b
+                GROUP BY b.policy.policyId
+            """)
+    List<PolicyBookmarkCountView> countBookmarksByPolicy();
+
+    /**
+     * 인기 순위 재집계: (나이대, 정책)별 북마크 수 — native (MySQL)
+     */
+    @Query(value = """
+            SELECT FLOOR(TIMESTAMPDIFF(YEAR, u.user_birth_date, CURDATE()) / 10) * 10 AS ageGroup,
+                   b.policy_id AS policyId,
+                   COUNT(*) AS bookmarkCount
+            FROM user_policy_bookmark b
+            JOIN user u ON b.user_id = u.user_id
+            WHERE u.user_birth_date IS NOT NULL
+            GROUP BY ageGroup, b.policy_id
+            """, nativeQuery = true)
+    List<PolicyBookmarkCountView> countBookmarksByAgeGroupAndPolicy();
+}
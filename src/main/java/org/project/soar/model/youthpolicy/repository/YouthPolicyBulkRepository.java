@@ -0,0 +1,359 @@
+package org.project.soar.model.youthpolicy.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.project.soar.model.category.CategoryType;
+import org.project.soar.model.youthpolicy.YouthPolicy;
+import org.project.soar.model.youthpolicy.YouthPolicyStep;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 청년정책 동기화 전용 일괄 저장소
+ * - 정책: 영속성 컨텍스트 + hibernate.jdbc.batch_size 배치 INSERT/UPDATE
+ * - 카테고리: 다중 VALUES INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 처리
+ * - 전체 재동기화: youth_policy_staging / youth_policy_step_staging 적재 후 set 기반 SQL로 병합
+ */
+@Repository
+@RequiredArgsConstructor
+public class YouthPolicyBulkRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String STAGING_TABLE = "youth_policy_staging";
+    private static final String STEP_STAGING_TABLE = "youth_policy_step_staging";
+    private static final String STEP_COLUMNS =
+            "policy_id, submitted_documents, apply_step, document_step, notice_step, caution";
+
+    // youth_policy 컬럼 (toRow 순서와 동일)
+    private static final List<String> POLICY_COLUMNS = List.of(
+            "policy_id", "policy_name", "policy_keyword", "policy_explanation", "policy_support_content",
+            "large_classification", "medium_classification",
+            "supervising_inst_code", "supervising_inst_name", "operating_inst_code", "operating_inst_name",
+            "business_period_start", "business_period_end", "business_period_etc",
+            "apply_method_content", "screening_method_content", "apply_url",
+            "submit_document_content", "etc_matter_content", "reference_url1", "reference_url2",
+            "support_scale_count", "support_target_min_age", "support_target_max_age", "support_target_age_limit_yn",
+            "earn_min_amt", "earn_max_amt", "earn_etc_content", "additional_apply_qualification",
+            "inquiry_count", "zip_code", "policy_major_code", "job_code", "school_code",
+            "first_reg_dt", "last_modify_dt", "created_at", "updated_at",
+            "application_start_date", "application_end_date", "date_type", "date_label", "content_hash",
+            "business_end_date", "text_signal"
+    );
+
+    // 운영 테이블에 이미 있는 정책일 때 유지할 컬럼
+    private static final Set<String> KEEP_ON_UPDATE = Set.of("policy_id", "created_at");
+
+    // 업스트림에서 사라졌고 어떤 테이블에서도 참조하지 않는 정책 (p = youth_policy)
+    private static final String STALE_UNREFERENCED_CONDITION =
+            "NOT EXISTS (SELECT 1 FROM " + STAGING_TABLE + " s WHERE s.policy_id = p.policy_id)" +
+            " AND NOT EXISTS (SELECT 1 FROM user_policy_bookmark b WHERE b.policy_id = p.policy_id)" +
+            " AND NOT EXISTS (SELECT 1 FROM user_youth_policy u WHERE u.policy_id = p.policy_id)" +
+            " AND NOT EXISTS (SELECT 1 FROM youth_policy_tag t WHERE t.policy_id = p.policy_id)" +
+            " AND NOT EXISTS (SELECT 1 FROM comment cm WHERE cm.policy_id = p.policy_id)" +
+            " AND NOT EXISTS (SELECT 1 FROM youth_policy_banner bn WHERE bn.policy_id = p.policy_id)" +
+            " AND NOT EXISTS (SELECT 1 FROM youth_policy_detail d WHERE d.policy_id = p.policy_id)";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 신규 정책 일괄 INSERT
+     * - 존재 여부는 호출 측에서 findAllById로 판별 (save()의 merge SELECT 방지)
+     * - 변경 감지된 기존 정책의 UPDATE도 같은 flush에서 배치 처리됨
+     */
+    public void insertAll(List<YouthPolicy> policies) {
+        for (int i = 0; i < policies.size(); i++) {
+            entityManager.persist(policies.get(i));
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+            }
+        }
+        entityManager.flush();
+    }
+
+    /**
+     * 정책 단계 정보 배치 INSERT (IDENTITY 키라 Hibernate 배치가 불가하여 JDBC 사용)
+     */
+    public void insertSteps(List<YouthPolicyStep> steps) {
+        insertSteps("youth_policy_step", steps);
+    }
+
+    private void insertSteps(String table, List<YouthPolicyStep> steps) {
+        List<Object[]> rows = new ArrayList<>(steps.size());
+        for (YouthPolicyStep step : steps) {
+            rows.add(new Object[]{
+                    step.getPolicyId(), step.getSubmittedDocuments(), step.getApplyStep(),
+                    step.getDocumentStep(), step.getNoticeStep(), step.getCaution()});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table + " (" + STEP_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    /**
+     * 내용이 바뀌지 않은 정책의 경량 컬럼(날짜 분류, 조회수) 일괄 UPDATE
+     * - args: {dateType, dateLabel, inquiryCount, policyId}
+     */
+    public void updateVolatileColumns(List<Object[]> args) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE youth_policy SET date_type = ?, date_label = ?, inquiry_count = ? WHERE policy_id = ?",
+                args);
+    }
+
+    /**
+     * 정책별 카테고리 일괄 upsert (uk_category_code_policy 기준 중복 무시)
+     */
+    public int upsertCategories(Map<String, Set<Integer>> categoryCodesByPolicyId) {
+        List<Object[]> rows = new ArrayList<>();
+        categoryCodesByPolicyId.forEach((policyId, codes) -> {
+            for (Integer code : codes) {
+                rows.add(new Object[]{code, policyId});
+            }
+        });
+
+        int affected = 0;
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE * 5) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + BATCH_SIZE * 5, rows.size()));
+
+            StringBuilder sql = new StringBuilder("INSERT INTO category (category_code, policy_id) VALUES ");
+            List<Object> params = new ArrayList<>(chunk.size() * 2);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+                params.add(chunk.get(i)[0]);
+                params.add(chunk.get(i)[1]);
+            }
+            sql.append(" ON DUPLICATE KEY UPDATE category_code = VALUES(category_code)");
+
+            affected += jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+        return affected;
+    }
+
+    // ========================================
+    // 날짜 상태 롤오버
+    // ========================================
+
+    /**
+     * 날짜 상태 판정에 필요한 컬럼만 정책 ID 순으로 조회 (keyset 페이지)
+     */
+    public List<DateStatusSource> findDateStatusSources(String afterPolicyId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT policy_id, policy_name, apply_method_content, screening_method_content, business_period_etc," +
+                " policy_support_content, business_period_end, application_start_date, application_end_date," +
+                " business_end_date, text_signal, date_type, date_label" +
+                " FROM youth_policy WHERE policy_id > ? ORDER BY policy_id LIMIT ?",
+                (rs, rowNum) -> new DateStatusSource(
+                        rs.getString("policy_id"),
+                        rs.getString("policy_name"),
+                        rs.getString("apply_method_content"),
+                        rs.getString("screening_method_content"),
+                        rs.getString("business_period_etc"),
+                        rs.getString("policy_support_content"),
+                        rs.getString("business_period_end"),
+                        toLocalDate(rs.getTimestamp("application_start_date")),
+                        toLocalDate(rs.getTimestamp("application_end_date")),
+                        toLocalDate(rs.getDate("business_end_date")),
+                        rs.getString("text_signal"),
+                        rs.getString("date_type"),
+                        rs.getString("date_label")),
+                afterPolicyId, limit);
+    }
+
+    /**
+     * 아직 날짜 상태 판정값이 저장되지 않은 정책 수
+     */
+    public long countMissingDateStatus() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM youth_policy WHERE text_signal IS NULL", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 날짜 상태 일괄 UPDATE
+     * - args: {businessEndDate, textSignal, dateType, dateLabel, policyId}
+     */
+    public void updateDateStatus(List<Object[]> args) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE youth_policy SET business_end_date = ?, text_signal = ?, date_type = ?, date_label = ?" +
+                " WHERE policy_id = ?",
+                args);
+    }
+
+    public record DateStatusSource(
+            String policyId,
+            String policyName,
+            String applyMethodContent,
+            String screeningMethodContent,
+            String businessPeriodEtc,
+            String policySupportContent,
+            String businessPeriodEnd,
+            LocalDate applicationStartDate,
+            LocalDate applicationEndDate,
+            LocalDate businessEndDate,
+            String textSignal,
+            String dateType,
+            String dateLabel) {
+    }
+
+    private static LocalDate toLocalDate(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toLocalDate() : null;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    // ========================================
+    // 전체 재동기화 (스테이징)
+    // ========================================
+
+    /**
+     * 스테이징 테이블 재생성 (운영 테이블과 동일 구조, FK 제외)
+     * - DDL은 암묵적 커밋이 발생하므로 트랜잭션 밖에서 호출
+     */
+    public void recreateStagingTable() {
+        dropStagingTable();
+        jdbcTemplate.execute("CREATE TABLE " + STAGING_TABLE + " LIKE youth_policy");
+        jdbcTemplate.execute("CREATE TABLE " + STEP_STAGING_TABLE + " LIKE youth_policy_step");
+    }
+
+    public void dropStagingTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + STEP_STAGING_TABLE);
+    }
+
+    public long countStaging() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + STAGING_TABLE, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 스테이징에만 있는(= 병합 시 신규 INSERT 될) 정책 수
+     */
+    public long countStagingNotInLive() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + STAGING_TABLE + " s" +
+                " WHERE NOT EXISTS (SELECT 1 FROM youth_policy p WHERE p.policy_id = s.policy_id)",
+                Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 스테이징 테이블 배치 INSERT (같은 정책이 다시 오면 마지막 데이터로 덮어씀)
+     */
+    public void insertAllIntoStaging(List<YouthPolicy> policies) {
+        if (policies.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(policies.size());
+        for (YouthPolicy policy : policies) {
+            rows.add(toRow(policy, now));
+        }
+
+        String sql = "INSERT INTO " + STAGING_TABLE + " (" + String.join(", ", POLICY_COLUMNS) + ")" +
+                " VALUES (" + String.join(", ", Collections.nCopies(POLICY_COLUMNS.size(), "?")) + ")" +
+                " ON DUPLICATE KEY UPDATE " + updateAssignments();
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    /**
+     * 단계 정보 스테이징 적재 (같은 정책이 다시 오면 마지막 데이터로 교체)
+     */
+    public void insertStepsIntoStaging(List<YouthPolicyStep> steps) {
+        if (steps.isEmpty()) return;
+
+        List<String> policyIds = steps.stream().map(YouthPolicyStep::getPolicyId).distinct().toList();
+        jdbcTemplate.update(
+                "DELETE FROM " + STEP_STAGING_TABLE +
+                " WHERE policy_id IN (" + String.join(", ", Collections.nCopies(policyIds.size(), "?")) + ")",
+                policyIds.toArray());
+        insertSteps(STEP_STAGING_TABLE, steps);
+    }
+
+    /**
+     * 스테이징 → 운영 테이블 병합 (단일 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE)
+     * - InnoDB MVCC로 병합 중에도 운영 테이블 조회는 막히지 않음
+     */
+    public int mergeStagingIntoLive() {
+        String columns = String.join(", ", POLICY_COLUMNS);
+        String selectColumns = POLICY_COLUMNS.stream().map(c -> "s." + c).collect(Collectors.joining(", "));
+        return jdbcTemplate.update(
+                "INSERT INTO youth_policy (" + columns + ")" +
+                " SELECT " + selectColumns + " FROM " + STAGING_TABLE + " s" +
+                " ON DUPLICATE KEY UPDATE " + updateAssignments());
+    }
+
+    /**
+     * 스테이징 단계 정보로 운영 단계 정보 교체 (스테이징에 단계가 있는 정책만)
+     * - 정책 병합과 같은 트랜잭션에서 호출
+     */
+    public int replaceStepsFromStaging() {
+        jdbcTemplate.update("DELETE st FROM youth_policy_step st" +
+                " WHERE EXISTS (SELECT 1 FROM " + STEP_STAGING_TABLE + " ss WHERE ss.policy_id = st.policy_id)");
+        return jdbcTemplate.update(
+                "INSERT INTO youth_policy_step (" + STEP_COLUMNS + ")" +
+                " SELECT " + STEP_COLUMNS + " FROM " + STEP_STAGING_TABLE + " ORDER BY id");
+    }
+
+    /**
+     * 스테이징 대분류 문자열 기준 카테고리 일괄 upsert (카테고리 종류별 1회)
+     */
+    public int upsertCategoriesFromStaging(List<CategoryType> categoryTypes) {
+        int affected = 0;
+        for (CategoryType categoryType : categoryTypes) {
+            affected += jdbcTemplate.update(
+                    "INSERT INTO category (category_code, policy_id)" +
+                    " SELECT ?, s.policy_id FROM " + STAGING_TABLE + " s" +
+                    " WHERE CONCAT(',', REPLACE(s.large_classification, ' ', ''), ',') LIKE ?" +
+                    " ON DUPLICATE KEY UPDATE category_code = VALUES(category_code)",
+                    categoryType.getCode(), "%," + categoryType.getName() + ",%");
+        }
+        return affected;
+    }
+
+    /**
+     * 업스트림에서 사라진 정책 중 참조가 없는 것만 삭제 (카테고리/단계 포함)
+     */
+    public int deleteStaleUnreferencedPolicies() {
+        jdbcTemplate.update("DELETE c FROM category c JOIN youth_policy p ON p.policy_id = c.policy_id" +
+                " WHERE " + STALE_UNREFERENCED_CONDITION);
+        jdbcTemplate.update("DELETE st FROM youth_policy_step st JOIN youth_policy p ON p.policy_id = st.policy_id" +
+                " WHERE " + STALE_UNREFERENCED_CONDITION);
+        return jdbcTemplate.update("DELETE p FROM youth_policy p WHERE " + STALE_UNREFERENCED_CONDITION);
+    }
+
+    private String updateAssignments() {
+        return POLICY_COLUMNS.stream()
+                .filter(c -> !KEEP_ON_UPDATE.contains(c))
+                .map(c -> c + " = VALUES(" + c + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    private Object[] toRow(YouthPolicy p, LocalDateTime now) {
+        return new Object[]{
+                p.getPolicyId(), p.getPolicyName(), p.getPolicyKeyword(), p.getPolicyExplanation(), p.getPolicySupportContent(),
+                p.getLargeClassification(), p.getMediumClassification(),
+                p.getSupervisingInstCode(), p.getSupervisingInstName(), p.getOperatingInstCode(), p.getOperatingInstName(),
+                p.getBusinessPeriodStart(), p.getBusinessPeriodEnd(), p.getBusinessPeriodEtc(),
+                p.getApplyMethodContent(), p.getScreeningMethodContent(), p.getApplyUrl(),
+                p.getSubmitDocumentContent(), p.getEtcMatterContent(), p.getReferenceUrl1(), p.getReferenceUrl2(),
+                p.getSupportScaleCount(), p.getSupportTargetMinAge(), p.getSupportTargetMaxAge(), p.getSupportTargetAgeLimitYn(),
+                p.getEarnMinAmt(), p.getEarnMaxAmt(), p.getEarnEtcContent(), p.getAdditionalApplyQualification(),
+                p.getInquiryCount(), p.getZipCode(), p.getPolicyMajorCode(), p.getJobCode(), p.getSchoolCode(),
+                p.getFirstRegDt(), p.getLastModifyDt(), now, now,
+                p.getApplicationStartDate(), p.getApplicationEndDate(), p.getDateType(), p.getDateLabel(), p.getContentHash(),
+                p.getBusinessEndDate(), p.getTextSignal() != null ? p.getTextSignal().name() : null
+        };
+    }
+}
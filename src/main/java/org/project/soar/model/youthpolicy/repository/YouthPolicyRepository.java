@@ -1,6 +1,10 @@
 package org.project.soar.model.youthpolicy.repository;
 import org.project.soar.model.youthpolicy.YouthPolicy;
+import org.project.soar.model.youthpolicy.dto.YouthPolicyCardView;
 import org.project.soar.model.youthpolicy.dto.YouthPolicyEndDateItemDto;
+import org.project.soar.model.youthpolicy.dto.YouthPolicyPopularView;
+import org.project.soar.model.youthpolicy.dto.YouthPolicySearchRow;
+import org.project.soar.model.youthpolicy.dto.YouthPolicySyncStateView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,12 +13,22 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
 
 @Repository
 public interface YouthPolicyRepository extends JpaRepository<YouthPolicy, String>, JpaSpecificationExecutor<YouthPolicy> {
 
+    /**
+     * 목록/카드 응답용 select 절 (YouthPolicyCardView 필드명과 별칭 일치)
+     */
+    String CARD_COLUMNS = "yp.policyId AS policyId, yp.policyName AS policyName, yp.policyKeyword AS policyKeyword, " +
+            "yp.largeClassification AS largeClassification, yp.mediumClassification AS mediumClassification, " +
+            "yp.supervisingInstName AS supervisingInstName, yp.dateLabel AS dateLabel, " +
+            "yp.applicationStartDate AS applicationStartDate, yp.applicationEndDate AS applicationEndDate, " +
+            "yp.businessEndDate AS businessEndDate, yp.textSignal AS textSignal";
+
     /**
      * 정책명으로 검색 (키워드 검색용)
      */
@@ -271,20 +285,19 @@ public interface YouthPolicyRepository extends JpaRepository<YouthPolicy, String
                                              @Param("end") LocalDateTime end);
 
     /**
-     * [캘린더] 월 범위 내 사업 마감일(yyyyMMdd) 일자별 개수
-     * - 문자열 범위 비교 + 일자별 그룹화 (그룹 키는 문자열 yyyyMMdd)
+     * [캘린더] 월 범위 내 사업 마감일 일자별 개수
+     * - business_end_date(DATE) 인덱스 범위 조회 ( [start, end) )
      */
     @Query("""
-        SELECT yp.businessPeriodEnd AS ymd, COUNT(yp)
+        SELECT yp.businessEndDate AS d, COUNT(yp)
         FROM YouthPolicy yp
-        WHERE yp.businessPeriodEnd IS NOT NULL
-          AND TRIM(yp.businessPeriodEnd) <> ''
-          AND yp.businessPeriodEnd BETWEEN :startYmd AND :endYmd
-        GROUP BY yp.businessPeriodEnd
-        ORDER BY yp.businessPeriodEnd ASC
+        WHERE yp.businessEndDate >= :start
+          AND yp.businessEndDate < :end
+        GROUP BY yp.businessEndDate
+        ORDER BY yp.businessEndDate ASC
     """)
-    List<Object[]> countBusinessEndByDayInRange(@Param("startYmd") String startYmd,
-                                                @Param("endYmd") String endYmd);
+    List<Object[]> countBusinessEndByDayInRange(@Param("start") LocalDate start,
+                                                @Param("end") LocalDate end);
 
     /**
      * [캘린더] 특정 일의 신청 마감 개수
@@ -300,37 +313,128 @@ public interface YouthPolicyRepository extends JpaRepository<YouthPolicy, String
                             @Param("end") LocalDateTime end);
 
     /**
-     * [캘린더] 특정 일의 사업 마감 개수(yyyyMMdd)
+     * [캘린더] 특정 일의 사업 마감 개수
      */
-    @Query("""
-        SELECT COUNT(yp)
-        FROM YouthPolicy yp
-        WHERE yp.businessPeriodEnd = :ymd
-    """)
-    long countBusinessEndOnDay(@Param("ymd") String ymd);
-
-    // 신청 마감: 해당 일자 구간 조회 ( [start, end) )
-    @Query("select p from YouthPolicy p " +
-                  "where p.applicationEndDate is not null " +
-                  "and p.applicationEndDate >= :start " +
-                  "and p.applicationEndDate < :end")
-    List<YouthPolicy> findByApplicationEndDateOn(@Param("start") LocalDateTime start,
+    long countByBusinessEndDate(LocalDate businessEndDate);
+
+    // 신청 마감: 해당 일자 구간 조회 ( [start, end) ), 카드 컬럼만
+    @Query("SELECT " + CARD_COLUMNS + " FROM YouthPolicy yp " +
+                  "WHERE yp.applicationEndDate >= :start " +
+                  "AND yp.applicationEndDate < :end")
+    List<YouthPolicyCardView> findCardsByApplicationEndDateOn(@Param("start") LocalDateTime start,
                   @Param("end") LocalDateTime end);
 
-    // 사업 마감: yyyyMMdd 정확히 일치
-    List<YouthPolicy> findByBusinessPeriodEnd(String ymd);
+    // 사업 마감: 해당 일자 정확히 일치, 카드 컬럼만
+    @Query("SELECT " + CARD_COLUMNS + " FROM YouthPolicy yp WHERE yp.businessEndDate = :date")
+    List<YouthPolicyCardView> findCardsByBusinessEndDate(@Param("date") LocalDate date);
+
+    /**
+     * [캘린더] 집계 재구성용: 신청 마감일 또는 사업 마감일이 있는 정책 (카드 컬럼만)
+     */
+    @Query("SELECT " + CARD_COLUMNS + " FROM YouthPolicy yp " +
+                  "WHERE yp.applicationEndDate IS NOT NULL OR yp.businessEndDate IS NOT NULL")
+    List<YouthPolicyCardView> findCalendarCards();
     List<YouthPolicy> findTop40ByOrderByCreatedAtDesc();
 
     /**
-     * 페이징된 복합 검색
+     * 페이징된 복합 검색 (카드 컬럼만 조회)
      */
-    @Query("SELECT yp.policyId, yp.policyName, yp.policyKeyword, yp.largeClassification, yp.mediumClassification, yp.supervisingInstName, yp.dateLabel FROM YouthPolicy yp WHERE " +
+    @Query(value = "SELECT " + CARD_COLUMNS + " FROM YouthPolicy yp WHERE " +
+            "(:keyword IS NULL OR yp.policyName LIKE %:keyword% OR yp.policyKeyword LIKE %:keyword% OR yp.policyExplanation LIKE %:keyword%) AND " +
+            "(:category IS NULL OR yp.largeClassification LIKE %:category% OR yp.mediumClassification LIKE %:category%)",
+            countQuery = "SELECT COUNT(yp) FROM YouthPolicy yp WHERE " +
             "(:keyword IS NULL OR yp.policyName LIKE %:keyword% OR yp.policyKeyword LIKE %:keyword% OR yp.policyExplanation LIKE %:keyword%) AND " +
             "(:category IS NULL OR yp.largeClassification LIKE %:category% OR yp.mediumClassification LIKE %:category%)")
-    Page<YouthPolicy> findByKeywordAndCategoryPagedMain(@Param("keyword") String keyword,
-                                                    @Param("category") String category,
-                                                    Pageable pageable);
+    Page<YouthPolicyCardView> findByKeywordAndCategoryPagedMain(@Param("keyword") String keyword,
+                                                                @Param("category") String category,
+                                                                Pageable pageable);
+
+    /**
+     * 정책 ID 목록의 카드 조회 (순서 보장 안 됨)
+     */
+    @Query("SELECT " + CARD_COLUMNS + " FROM YouthPolicy yp WHERE yp.policyId IN :policyIds")
+    List<YouthPolicyCardView> findCardsByPolicyIdIn(@Param("policyIds") Collection<String> policyIds);
+
+    /**
+     * 인기 순위표 ID 목록의 이름/분류 조회 (순서 보장 안 됨)
+     */
+    @Query("SELECT yp.policyId AS policyId, yp.policyName AS policyName, yp.largeClassification AS largeClassification " +
+            "FROM YouthPolicy yp WHERE yp.policyId IN :policyIds")
+    List<YouthPolicyPopularView> findPopularViewsByPolicyIdIn(@Param("policyIds") Collection<String> policyIds);
+
+    /**
+     * 주어진 ID 중 실제 존재하는 정책 ID (엔티티 로딩 없이 존재 여부만 확인)
+     */
+    @Query("SELECT yp.policyId FROM YouthPolicy yp WHERE yp.policyId IN :policyIds")
+    Set<String> findExistingPolicyIds(@Param("policyIds") Collection<String> policyIds);
+
+    /**
+     * 정책 ID 목록 중 카테고리(대/중분류) 조건을 만족하는 카드 페이지
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS + " FROM YouthPolicy yp WHERE yp.policyId IN :policyIds AND " +
+            "(:category IS NULL OR yp.largeClassification LIKE %:category% OR yp.mediumClassification LIKE %:category%)",
+            countQuery = "SELECT COUNT(yp) FROM YouthPolicy yp WHERE yp.policyId IN :policyIds AND " +
+            "(:category IS NULL OR yp.largeClassification LIKE %:category% OR yp.mediumClassification LIKE %:category%)")
+    Page<YouthPolicyCardView> findCardsByPolicyIdInAndCategory(@Param("policyIds") Collection<String> policyIds,
+                                                               @Param("category") String category,
+                                                               Pageable pageable);
+
+    /**
+     * ID 목록 순서대로 카드 조회 (없는 ID는 건너뜀)
+     */
+    default List<YouthPolicyCardView> findCardsInOrder(List<String> policyIds) {
+        if (policyIds == null || policyIds.isEmpty()) return List.of();
+
+        Map<String, YouthPolicyCardView> byId = new HashMap<>();
+        for (YouthPolicyCardView card : findCardsByPolicyIdIn(policyIds)) {
+            byId.put(card.getPolicyId(), card);
+        }
+        List<YouthPolicyCardView> cards = new ArrayList<>(policyIds.size());
+        for (String policyId : policyIds) {
+            YouthPolicyCardView card = byId.get(policyId);
+            if (card != null) cards.add(card);
+        }
+        return cards;
+    }
 
     List<YouthPolicy> findTop100ByOrderByCreatedAtDesc();
+
+    /**
+     * 검색 색인 구성용 select 절 (YouthPolicySearchRow 생성자 순서와 일치)
+     */
+    String SEARCH_ROW = "new org.project.soar.model.youthpolicy.dto.YouthPolicySearchRow(" +
+            "yp.policyId, yp.policyName, yp.policyKeyword, yp.policyExplanation, yp.policySupportContent, " +
+            "yp.applyMethodContent, yp.screeningMethodContent, yp.submitDocumentContent, yp.etcMatterContent, " +
+            "yp.businessPeriodEtc, yp.largeClassification, yp.mediumClassification, " +
+            "yp.supervisingInstName, yp.operatingInstName, yp.applyUrl, yp.referenceUrl1, yp.referenceUrl2, " +
+            "yp.zipCode, yp.policyMajorCode, yp.jobCode, yp.schoolCode, yp.dateType, yp.dateLabel, " +
+            "yp.inquiryCount, yp.createdAt)";
+
+    /**
+     * [검색 색인] 전체 재구성용 검색 컬럼 조회
+     */
+    @Query("SELECT " + SEARCH_ROW + " FROM YouthPolicy yp")
+    List<YouthPolicySearchRow> findAllSearchRows();
+
+    /**
+     * [검색 색인] 변경 정책 반영용 검색 컬럼 조회 (없는 ID는 결과에서 빠짐)
+     */
+    @Query("SELECT " + SEARCH_ROW + " FROM YouthPolicy yp WHERE yp.policyId IN :policyIds")
+    List<YouthPolicySearchRow> findSearchRowsByPolicyIdIn(@Param("policyIds") Collection<String> policyIds);
+
+    /**
+     * [검색 색인] 마지막 수정 시각 (재구성 필요 여부 판단용)
+     */
+    @Query("SELECT MAX(yp.updatedAt) FROM YouthPolicy yp")
+    LocalDateTime findMaxUpdatedAt();
+
+    /**
+     * 동기화 변경 감지용 저장 상태 전체 조회 (TEXT 컬럼 제외)
+     */
+    @Query("SELECT yp.policyId AS policyId, yp.contentHash AS contentHash, yp.dateType AS dateType, " +
+            "yp.dateLabel AS dateLabel, yp.inquiryCount AS inquiryCount, " +
+            "yp.applicationStartDate AS applicationStartDate, yp.applicationEndDate AS applicationEndDate, " +
+            "yp.businessEndDate AS businessEndDate, yp.textSignal AS textSignal FROM YouthPolicy yp")
+    List<YouthPolicySyncStateView> findAllSyncStates();
 }
 
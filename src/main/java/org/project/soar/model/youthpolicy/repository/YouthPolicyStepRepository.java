@@ -1,12 +1,23 @@
 package org.project.soar.model.youthpolicy.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.project.soar.model.youthpolicy.YouthPolicyStep;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface YouthPolicyStepRepository extends JpaRepository<YouthPolicyStep, Long> {
     List<YouthPolicyStep> findAllByPolicyId(String policyId);
+
+    /**
+     * 여러 정책의 단계 정보 일괄 삭제 (동기화 시 페이지 단위 교체용)
+     */
+    @Modifying
+    @Query("DELETE FROM YouthPolicyStep s WHERE s.policyId IN :policyIds")
+    int deleteAllByPolicyIdIn(@Param("policyIds") Collection<String> policyIds);
 }
@@ -0,0 +1,26 @@
+package org.project.soar.model.youthpolicy.repository;
+
+import org.project.soar.model.youthpolicy.YouthPolicySyncRun;
+import org.project.soar.model.youthpolicy.enums.SyncStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface YouthPolicySyncRunRepository extends JpaRepository<YouthPolicySyncRun, Long> {
+
+    /**
+     * 성공한 동기화에서 본 최대 최종수정일 (증분 동기화 워터마크)
+     */
+    @Query("SELECT MAX(r.maxLastModifyDt) FROM YouthPolicySyncRun r WHERE r.status = :status")
+    LocalDateTime findMaxLastModifyDtByStatus(@Param("status") SyncStatus status);
+
+    /**
+     * 가장 최근에 끝난(성공/실패) 동기화 실행 ID (검색 색인 재구성 필요 여부 판단용)
+     */
+    @Query("SELECT MAX(r.syncRunId) FROM YouthPolicySyncRun r WHERE r.finishedAt IS NOT NULL")
+    Long findLastFinishedSyncRunId();
+}
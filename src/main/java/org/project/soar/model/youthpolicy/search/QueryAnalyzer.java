@@ -0,0 +1,128 @@
+package org.project.soar.model.youthpolicy.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 분석기 (정규화 + 토큰화)
+ * - 정규화: 한글/영문/숫자 연속 구간만 남기고 단일 공백으로 연결 (정규식 없이 한 번의 문자 순회)
+ * - 토큰화: 공백 분리 → "서울시 OO구" 특례 → 소문자화 → 중복 제거 → 최대 MAX_TOKENS개
+ * - 인기 검색어 재분석 방지를 위해 최근 분석 결과를 CACHE_SIZE개까지 LRU 캐시
+ */
+@Component
+public class QueryAnalyzer {
+
+    private static final int MAX_TOKENS = 10;
+    private static final int CACHE_SIZE = 1_000;
+    // 캐시 키로 쓰기엔 지나치게 긴 입력은 캐시하지 않음
+    private static final int MAX_CACHEABLE_LENGTH = 200;
+
+    private static final Pattern SEOUL_GU_PATTERN =
+            Pattern.compile("서울\\s*시\\s*([가-힣]+)\\s*구");
+
+    private final Map<String, AnalyzedQuery> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AnalyzedQuery> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * 분석 결과
+     * - query: 정규화 + 소문자 검색어 (정확도 비교용)
+     * - tokens: 소문자 토큰 목록 (비어 있으면 검색 불가)
+     */
+    public record AnalyzedQuery(String query, List<String> tokens) {
+    }
+
+    public AnalyzedQuery analyze(String q) {
+        if (q == null) return new AnalyzedQuery("", List.of());
+        if (q.length() > MAX_CACHEABLE_LENGTH) return doAnalyze(q);
+
+        synchronized (cache) {
+            AnalyzedQuery cached = cache.get(q);
+            if (cached != null) return cached;
+        }
+        AnalyzedQuery analyzed = doAnalyze(q);
+        synchronized (cache) {
+            cache.put(q, analyzed);
+        }
+        return analyzed;
+    }
+
+    public List<String> tokenize(String q) {
+        return analyze(q).tokens();
+    }
+
+    /**
+     * 한글/영문/숫자를 제외한 모든 문자(공백/온점/특수문자 포함)를 구분자로 보고
+     * 구간 사이를 단일 공백으로 연결, 양끝 공백 없음
+     * - 기존 replaceAll("[^\\p{IsHangul}\\p{Alnum}\\s]+", " ") + trim + replaceAll("\\s+", " ") 과 동일
+     */
+    public static String normalize(String q) {
+        if (q == null) return "";
+
+        StringBuilder sb = new StringBuilder(q.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < q.length(); i++) {
+            char c = q.charAt(i);
+            if (isWordChar(c)) {
+                if (pendingSpace && sb.length() > 0) sb.append(' ');
+                pendingSpace = false;
+                sb.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    private AnalyzedQuery doAnalyze(String q) {
+        String normalized = normalize(q);
+        if (normalized.isEmpty()) return new AnalyzedQuery("", List.of());
+
+        // 기본 토큰 (정규화 결과는 단일 공백 구분이므로 빈 토큰 없음)
+        List<String> base = new ArrayList<>(Arrays.asList(normalized.split(" ")));
+
+        // --- [특례] "서울시 XXX구" -> "서울", "XXX" ---
+        // 입력 내 여러 번 등장해도 모두 처리 ("서울"이 없으면 정규식 생략)
+        if (normalized.contains("서울")) {
+            Set<String> additions = new LinkedHashSet<>();
+            Set<String> removals = new HashSet<>();
+            Matcher m = SEOUL_GU_PATTERN.matcher(normalized);
+            while (m.find()) {
+                String guRoot = m.group(1);  // 예: 강남, 서초, 동대문, 중 등
+                additions.add("서울");
+                additions.add(guRoot);
+                removals.add("서울시");
+                removals.add(guRoot + "구");
+            }
+            if (!removals.isEmpty()) {
+                base.removeIf(removals::contains); // 원래 토큰에서 서울시/OO구 제거
+                base.addAll(additions);            // "서울", "OO" 추가
+            }
+        }
+
+        // 소문자화 + 중복 제거 + 최대 10개 제한
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : base) {
+            tokens.add(token.toLowerCase());
+            if (tokens.size() == MAX_TOKENS) break;
+        }
+        return new AnalyzedQuery(normalized.toLowerCase(), List.copyOf(tokens));
+    }
+
+    /**
+     * \p{IsHangul} | \p{Alnum}(ASCII) 판정 (자주 쓰는 범위는 분기만으로 처리)
+     */
+    private static boolean isWordChar(char c) {
+        if (c < 0x80) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+        }
+        if (c >= 0xAC00 && c <= 0xD7A3) return true; // 완성형 한글 음절
+        return !Character.isSurrogate(c) && Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
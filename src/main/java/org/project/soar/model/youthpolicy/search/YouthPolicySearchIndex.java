@@ -0,0 +1,622 @@
+package org.project.soar.model.youthpolicy.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.youthpolicy.dto.YouthPolicySearchRow;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
+import org.project.soar.model.youthpolicy.repository.YouthPolicySyncRunRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 청년정책 검색용 메모리 역색인 (문자 1-gram / 2-gram posting)
+ * - 대상: 서울/경기 정책만 저장되므로 전체를 메모리에 올려도 수천 건 수준
+ * - 의미: 기존 LOWER(col) LIKE '%token%' 과 동일 (토큰 AND, 토큰별 컬럼 OR)
+ *        2-gram posting 교집합으로 후보를 좁힌 뒤 소문자 원문 contains로 최종 확인
+ * - 갱신: 기동 시 / 전체 재동기화 후 전체 재구성, 일일·증분 동기화·API 저장 후 변경 정책의 posting만 수정
+ *        10분 주기 확인은 DB 변경 표시(정책 수, 최종 수정 시각, 마지막 동기화 실행)가 바뀐 경우에만 재구성
+ * - 조회는 불변 스냅샷을 참조하므로 재구성 중에도 잠금 없이 검색 가능
+ * - 스냅샷 버전: 재구성은 DB 조회 전 버전을 기억해 두고, 그 사이 변경 반영(refresh)이 끝났으면 교체하지 않고 다시 읽음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class YouthPolicySearchIndex {
+
+    // 메모리에서 정렬할 수 있는 속성 (Pageable 정렬 검색용)
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "inquiryCount", "policyId");
+
+    // 컬럼 경계 문자 (제어문자라 gram에서 제외되고, 정규화된 토큰에도 없으므로 컬럼을 걸친 매칭이 생기지 않음)
+    private static final char FIELD_SEPARATOR = '\n';
+
+    // 재구성 중 변경 반영이 겹쳐 다시 읽는 최대 횟수 (넘으면 다음 주기 확인에서 재구성)
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private final YouthPolicyRepository youthPolicyRepository;
+    private final YouthPolicySyncRunRepository syncRunRepository;
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 색인이 없으면 서비스는 기존 DB LIKE 검색으로 동작
+            log.warn("Failed to build youth policy search index on startup", e);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * DB 변경 표시가 마지막 재구성 때와 다를 때만 재구성 (주기 확인용)
+     */
+    public void rebuildIfChanged() {
+        Snapshot current = snapshot;
+        if (current != null && current.changeMark().equals(readChangeMark())) return;
+        rebuild();
+    }
+
+    /**
+     * 전체 정책으로 색인 재구성
+     * - 검색 컬럼만 조회하고 색인 구성은 잠금 밖에서 수행
+     * - 조회하는 동안 변경 반영이 끝났으면(버전 변경) 그 결과를 덮어쓰지 않도록 다시 읽음
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+            long version = currentVersion();
+            ChangeMark changeMark = readChangeMark();
+            List<YouthPolicySearchRow> rows = youthPolicyRepository.findAllSearchRows();
+            Snapshot rebuilt = Snapshot.of(rows, version + 1, changeMark);
+
+            synchronized (writeLock) {
+                if (currentVersion() == version) {
+                    snapshot = rebuilt;
+                    log.info("Youth policy search index rebuilt - {} policies in {} ms",
+                            rows.size(), System.currentTimeMillis() - startedAt);
+                    return;
+                }
+            }
+            log.info("Youth policy search index changed while rebuilding - retrying ({}/{})",
+                    attempt, MAX_REBUILD_ATTEMPTS);
+        }
+        log.warn("Youth policy search index rebuild skipped - index kept changing, next check will retry");
+    }
+
+    /**
+     * 변경된 정책만 다시 읽어 색인에 반영 (DB에 없으면 색인에서 제거)
+     * - 변경 정책의 gram posting만 수정하고 나머지 posting/문서는 이전 스냅샷과 공유
+     * - DB 조회부터 교체까지 쓰기 잠금 안에서 수행 (변경 반영끼리 순서가 뒤바뀌지 않도록)
+     */
+    public void refresh(Collection<String> policyIds) {
+        if (policyIds == null || policyIds.isEmpty()) return;
+        if (!isReady()) {
+            rebuild();
+            return;
+        }
+
+        Set<String> changedIds = new LinkedHashSet<>(policyIds);
+        synchronized (writeLock) {
+            List<YouthPolicySearchRow> rows = youthPolicyRepository.findSearchRowsByPolicyIdIn(changedIds);
+            snapshot = snapshot.patch(changedIds, rows);
+        }
+        log.info("Youth policy search index refreshed - {} policies changed", changedIds.size());
+    }
+
+    private long currentVersion() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.version();
+    }
+
+    private ChangeMark readChangeMark() {
+        return new ChangeMark(youthPolicyRepository.count(), youthPolicyRepository.findMaxUpdatedAt(),
+                syncRunRepository.findLastFinishedSyncRunId());
+    }
+
+    /**
+     * 전체 컬럼 검색: 모든 토큰이 검색 대상 컬럼 중 하나에 포함된 정책 ID
+     */
+    public List<String> matchEverywhere(List<String> tokens) {
+        Snapshot current = snapshot;
+        return current.toPolicyIds(current.everywhere().matchAll(tokens));
+    }
+
+    /**
+     * 정책명 검색: 모든 토큰이 정책명에 포함된 정책 ID
+     */
+    public List<String> matchName(List<String> tokens) {
+        Snapshot current = snapshot;
+        return current.toPolicyIds(current.name().matchAll(tokens));
+    }
+
+    /**
+     * Pageable 정렬을 메모리에서 처리할 수 있는지 (정렬 속성이 모두 색인에 있는지)
+     */
+    public boolean supportsSort(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+    }
+
+    /**
+     * 정렬 검색: 매칭된 전체 후보를 Pageable 정렬 순서로 세운 뒤 페이지를 자름
+     * - 정렬 속성은 supportsSort로 먼저 확인 (createdAt은 DB와 같이 null이 오름차순 맨 앞)
+     * - 동률은 policyId asc
+     */
+    public SearchHits rankBySort(List<String> tokens, boolean nameOnly, Sort sort, long offset, int limit) {
+        Snapshot current = snapshot;
+        int[] matched = (nameOnly ? current.name() : current.everywhere()).matchAll(tokens);
+
+        Comparator<Integer> order = (a, b) -> 0;
+        for (Sort.Order sortOrder : sort) {
+            Comparator<Integer> byProperty = switch (sortOrder.getProperty()) {
+                case "createdAt" -> Comparator.comparingLong(docId -> current.createdAtKeys()[docId]);
+                case "inquiryCount" -> Comparator.comparingInt(docId -> current.inquiryCounts()[docId]);
+                case "policyId" -> current.byPolicyId();
+                default -> throw new IllegalArgumentException("Unsupported sort property: " + sortOrder.getProperty());
+            };
+            order = order.thenComparing(sortOrder.isDescending() ? byProperty.reversed() : byProperty);
+        }
+        order = order.thenComparing(current.byPolicyId());
+
+        return new SearchHits(current.toPolicyIds(topK(matched, matched.length, order, offset, limit)), matched.length);
+    }
+
+    /**
+     * 다중 키워드 우선순위 검색: 정책별 매칭 키워드 수를 posting 결과로 한 번에 집계
+     * - keywordTokens: 키워드별 토큰 목록 (키워드 내부는 토큰 AND)
+     * - 정렬: 매칭 키워드 수 desc → createdAt desc → policyId
+     * - 요청 페이지(offset ~ offset + limit)까지만 top-K로 선별
+     */
+    public SearchHits rankByMatchedKeywords(List<List<String>> keywordTokens, long offset, int limit) {
+        Snapshot current = snapshot;
+        int size = current.policyIds().length;
+        int[] scores = new int[size];
+        int[] matched = new int[size];
+        int total = 0;
+        for (List<String> tokens : keywordTokens) {
+            for (int docId : current.everywhere().matchAll(tokens)) {
+                if (scores[docId]++ == 0) {
+                    matched[total++] = docId;
+                }
+            }
+        }
+
+        Comparator<Integer> order = Comparator.<Integer>comparingInt(docId -> scores[docId]).reversed()
+                .thenComparing(current.newestFirst());
+        return new SearchHits(current.toPolicyIds(topK(matched, total, order, offset, limit)), total);
+    }
+
+    /**
+     * 정확도 순위 검색: 매칭된 전체 후보를 정책명 정확도로 순위를 매긴 뒤 페이지를 자름
+     * - 정확도는 후보당 한 번만 계산 (nameRelevance)
+     * - 정렬: 정확도 desc → (전체 컬럼 검색이면 조회수 desc) → createdAt desc → policyId
+     * - query: 정규화된 소문자 검색어, tokens: 그 토큰 목록
+     */
+    public SearchHits rankByNameRelevance(String query, List<String> tokens, boolean nameOnly,
+                                          long offset, int limit) {
+        Snapshot current = snapshot;
+        int[] matched = (nameOnly ? current.name() : current.everywhere()).matchAll(tokens);
+
+        int[] relevance = new int[current.policyIds().length];
+        String[] names = current.name().texts();
+        for (int docId : matched) {
+            relevance[docId] = nameRelevance(names[docId], query, tokens);
+        }
+
+        Comparator<Integer> order = Comparator.<Integer>comparingInt(docId -> relevance[docId]).reversed();
+        if (!nameOnly) {
+            int[] inquiryCounts = current.inquiryCounts();
+            order = order.thenComparing(Comparator.<Integer>comparingInt(docId -> inquiryCounts[docId]).reversed());
+        }
+        order = order.thenComparing(current.newestFirst());
+
+        return new SearchHits(current.toPolicyIds(topK(matched, matched.length, order, offset, limit)), matched.length);
+    }
+
+    /**
+     * 정책명 정확도: exact(100) > startsWith(80) > contains(60) > 토큰 포함 수 보너스(40 + 최대 10)
+     * - name, query는 소문자 기준
+     */
+    public static int nameRelevance(String name, String query, List<String> tokens) {
+        if (name.equals(query)) return 100;
+        if (name.startsWith(query)) return 80;
+        if (name.contains(query)) return 60;
+        int bonus = 0;
+        for (String token : tokens) {
+            if (name.contains(token)) bonus += 2;
+        }
+        return 40 + Math.min(10, bonus);
+    }
+
+    /**
+     * 검색 결과 한 페이지 (정렬된 정책 ID + 전체 매칭 건수)
+     */
+    public record SearchHits(List<String> policyIds, int total) {
+    }
+
+    /**
+     * 정렬 순서상 [offset, offset + limit) 구간의 문서 순번
+     * - 크기 offset + limit 의 힙만 유지하므로 전체 정렬 없이 O(n log k)
+     */
+    private static int[] topK(int[] docIds, int size, Comparator<Integer> order, long offset, int limit) {
+        if (offset >= size || limit <= 0) return GramIndex.EMPTY;
+
+        int k = (int) Math.min(size, offset + limit);
+        // 힙의 top = 현재 k개 중 가장 뒤 순위
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k, order.reversed());
+        for (int i = 0; i < size; i++) {
+            int docId = docIds[i];
+            if (heap.size() < k) {
+                heap.add(docId);
+            } else if (order.compare(docId, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(docId);
+            }
+        }
+
+        Integer[] ranked = heap.toArray(new Integer[0]);
+        Arrays.sort(ranked, order);
+        int from = (int) offset;
+        int[] page = new int[ranked.length - from];
+        for (int i = from; i < ranked.length; i++) {
+            page[i - from] = ranked[i];
+        }
+        return page;
+    }
+
+    // ========================================
+    // 색인 구조
+    // ========================================
+
+    /**
+     * DB 변경 표시 (셋 중 하나라도 바뀌면 재구성)
+     * - 동기화의 경량 UPDATE(날짜 분류/조회수)는 updated_at을 바꾸지 않으므로 동기화 실행 ID로 감지
+     * - 날짜 상태 롤오버는 인스턴스마다 실행되므로 스케줄러에서 롤오버 직후 재구성
+     */
+    private record ChangeMark(long policyCount, LocalDateTime lastUpdatedAt, Long lastSyncRunId) {
+    }
+
+    /**
+     * 정책 1건의 검색 대상 문자열(소문자)과 gram 목록
+     */
+    private record Document(long createdAtKey, int inquiryCount,
+                            String everywhereText, int[] everywhereGrams,
+                            String nameText, int[] nameGrams) {
+
+        static Document of(YouthPolicySearchRow p) {
+            StringBuilder text = new StringBuilder();
+            Stream.of(
+                    p.getPolicyName(), p.getPolicyKeyword(), p.getPolicyExplanation(), p.getPolicySupportContent(),
+                    p.getApplyMethodContent(), p.getScreeningMethodContent(), p.getSubmitDocumentContent(),
+                    p.getEtcMatterContent(), p.getBusinessPeriodEtc(),
+                    p.getLargeClassification(), p.getMediumClassification(),
+                    p.getSupervisingInstName(), p.getOperatingInstName(),
+                    p.getApplyUrl(), p.getReferenceUrl1(), p.getReferenceUrl2(),
+                    p.getZipCode(), p.getPolicyMajorCode(), p.getJobCode(), p.getSchoolCode(),
+                    p.getDateType(), p.getDateLabel()
+            ).filter(Objects::nonNull).forEach(field -> text.append(field).append(FIELD_SEPARATOR));
+
+            String everywhereText = text.toString().toLowerCase();
+            String nameText = p.getPolicyName() == null ? "" : p.getPolicyName().toLowerCase();
+            // createdAt 없으면 최신순 정렬에서 맨 뒤
+            long createdAtKey = p.getCreatedAt() == null
+                    ? Long.MIN_VALUE
+                    : p.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+            int inquiryCount = p.getInquiryCount() == null ? 0 : p.getInquiryCount();
+            return new Document(createdAtKey, inquiryCount, everywhereText, distinctGrams(everywhereText),
+                    nameText, distinctGrams(nameText));
+        }
+    }
+
+    /**
+     * 불변 스냅샷 (문서 순번 = 배열 인덱스)
+     * - 재구성 직후에는 policyId 오름차순, 변경 반영으로 추가된 정책은 뒤에 붙고 삭제된 순번은 비워 둠
+     *   (순번 정리는 다음 재구성 때, 정렬 동률은 순번이 아닌 policyId로 비교)
+     */
+    private record Snapshot(long version, ChangeMark changeMark,
+                            Map<String, Integer> docIds, String[] policyIds,
+                            long[] createdAtKeys, int[] inquiryCounts,
+                            GramIndex everywhere, GramIndex name) {
+
+        static Snapshot of(List<YouthPolicySearchRow> rows, long version, ChangeMark changeMark) {
+            List<YouthPolicySearchRow> sorted = new ArrayList<>(rows);
+            sorted.sort(Comparator.comparing(YouthPolicySearchRow::getPolicyId));
+
+            int size = sorted.size();
+            Map<String, Integer> docIds = new HashMap<>(size * 2);
+            String[] policyIds = new String[size];
+            long[] createdAtKeys = new long[size];
+            int[] inquiryCounts = new int[size];
+            String[] everywhereTexts = new String[size];
+            int[][] everywhereGrams = new int[size][];
+            String[] nameTexts = new String[size];
+            int[][] nameGrams = new int[size][];
+            for (int i = 0; i < size; i++) {
+                String policyId = sorted.get(i).getPolicyId();
+                Document d = Document.of(sorted.get(i));
+                docIds.put(policyId, i);
+                policyIds[i] = policyId;
+                createdAtKeys[i] = d.createdAtKey();
+                inquiryCounts[i] = d.inquiryCount();
+                everywhereTexts[i] = d.everywhereText();
+                everywhereGrams[i] = d.everywhereGrams();
+                nameTexts[i] = d.nameText();
+                nameGrams[i] = d.nameGrams();
+            }
+            return new Snapshot(version, changeMark, docIds, policyIds, createdAtKeys, inquiryCounts,
+                    GramIndex.of(everywhereTexts, everywhereGrams), GramIndex.of(nameTexts, nameGrams));
+        }
+
+        /**
+         * 변경 정책만 반영한 다음 버전 스냅샷 (rows에 없는 ID는 삭제)
+         * - 배열/맵은 얕은 복사, gram posting은 바뀐 gram만 새 배열로 교체
+         */
+        Snapshot patch(Set<String> changedIds, List<YouthPolicySearchRow> rows) {
+            Map<String, YouthPolicySearchRow> rowsById = new HashMap<>();
+            for (YouthPolicySearchRow row : rows) {
+                rowsById.put(row.getPolicyId(), row);
+            }
+            int added = 0;
+            for (String policyId : changedIds) {
+                if (rowsById.containsKey(policyId) && !docIds.containsKey(policyId)) added++;
+            }
+
+            int capacity = policyIds.length + added;
+            Map<String, Integer> nextDocIds = new HashMap<>(docIds);
+            String[] nextPolicyIds = Arrays.copyOf(policyIds, capacity);
+            long[] nextCreatedAtKeys = Arrays.copyOf(createdAtKeys, capacity);
+            int[] nextInquiryCounts = Arrays.copyOf(inquiryCounts, capacity);
+            GramIndex.Patch nextEverywhere = everywhere.patch(capacity);
+            GramIndex.Patch nextName = name.patch(capacity);
+
+            int nextDocId = policyIds.length;
+            for (String policyId : changedIds) {
+                Integer docId = nextDocIds.get(policyId);
+                YouthPolicySearchRow row = rowsById.get(policyId);
+                if (row == null) {
+                    if (docId == null) continue;
+                    nextDocIds.remove(policyId);
+                    nextPolicyIds[docId] = null;
+                    nextEverywhere.put(docId, "", GramIndex.EMPTY);
+                    nextName.put(docId, "", GramIndex.EMPTY);
+                    continue;
+                }
+                if (docId == null) {
+                    docId = nextDocId++;
+                    nextDocIds.put(policyId, docId);
+                }
+                Document d = Document.of(row);
+                nextPolicyIds[docId] = policyId;
+                nextCreatedAtKeys[docId] = d.createdAtKey();
+                nextInquiryCounts[docId] = d.inquiryCount();
+                nextEverywhere.put(docId, d.everywhereText(), d.everywhereGrams());
+                nextName.put(docId, d.nameText(), d.nameGrams());
+            }
+            return new Snapshot(version + 1, changeMark, nextDocIds, nextPolicyIds,
+                    nextCreatedAtKeys, nextInquiryCounts, nextEverywhere.build(), nextName.build());
+        }
+
+        /**
+         * policyId asc
+         */
+        Comparator<Integer> byPolicyId() {
+            return (a, b) -> policyIds[a].compareTo(policyIds[b]);
+        }
+
+        /**
+         * createdAt desc (null 마지막) → policyId asc
+         */
+        Comparator<Integer> newestFirst() {
+            return (a, b) -> {
+                int byCreatedAt = Long.compare(createdAtKeys[b], createdAtKeys[a]);
+                return byCreatedAt != 0 ? byCreatedAt : policyIds[a].compareTo(policyIds[b]);
+            };
+        }
+
+        List<String> toPolicyIds(int[] docIds) {
+            List<String> result = new ArrayList<>(docIds.length);
+            for (int docId : docIds) {
+                result.add(policyIds[docId]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * gram → 문서 순번 목록(오름차순) posting
+     */
+    private record GramIndex(String[] texts, int[][] gramsByDoc, Map<Integer, int[]> postings) {
+
+        private static final int[] EMPTY = new int[0];
+
+        static GramIndex of(String[] texts, int[][] gramsByDoc) {
+            // 1차: gram별 문서 수 집계 → 2차: 정확한 크기의 배열에 채움 (문서 순서대로라 자동 정렬)
+            Map<Integer, int[]> counts = new HashMap<>();
+            for (int[] grams : gramsByDoc) {
+                for (int gram : grams) {
+                    counts.computeIfAbsent(gram, g -> new int[1])[0]++;
+                }
+            }
+            Map<Integer, int[]> postings = new HashMap<>(counts.size() * 2);
+            counts.forEach((gram, count) -> postings.put(gram, new int[count[0]]));
+            counts.replaceAll((gram, count) -> new int[1]);
+
+            for (int docId = 0; docId < gramsByDoc.length; docId++) {
+                for (int gram : gramsByDoc[docId]) {
+                    int[] cursor = counts.get(gram);
+                    postings.get(gram)[cursor[0]++] = docId;
+                }
+            }
+            return new GramIndex(texts, gramsByDoc, postings);
+        }
+
+        Patch patch(int capacity) {
+            return new Patch(Arrays.copyOf(texts, capacity), Arrays.copyOf(gramsByDoc, capacity),
+                    new HashMap<>(postings));
+        }
+
+        /**
+         * 문서 단위 수정 (posting 배열은 이전 스냅샷과 공유하므로 제자리 수정 없이 새 배열로 교체)
+         */
+        private record Patch(String[] texts, int[][] gramsByDoc, Map<Integer, int[]> postings) {
+
+            /**
+             * 문서 내용 교체: 이전/새 gram 목록(둘 다 정렬됨)을 비교해 빠진 gram에서 제거, 생긴 gram에 추가
+             */
+            void put(int docId, String text, int[] grams) {
+                int[] previous = gramsByDoc[docId] == null ? EMPTY : gramsByDoc[docId];
+                int i = 0, j = 0;
+                while (i < previous.length || j < grams.length) {
+                    if (j == grams.length || (i < previous.length && previous[i] < grams[j])) {
+                        removePosting(previous[i++], docId);
+                    } else if (i == previous.length || grams[j] < previous[i]) {
+                        addPosting(grams[j++], docId);
+                    } else {
+                        i++;
+                        j++;
+                    }
+                }
+                texts[docId] = text;
+                gramsByDoc[docId] = grams;
+            }
+
+            GramIndex build() {
+                return new GramIndex(texts, gramsByDoc, postings);
+            }
+
+            private void addPosting(int gram, int docId) {
+                int[] posting = postings.getOrDefault(gram, EMPTY);
+                int at = Arrays.binarySearch(posting, docId);
+                if (at >= 0) return;
+                int insertAt = -at - 1;
+                int[] next = new int[posting.length + 1];
+                System.arraycopy(posting, 0, next, 0, insertAt);
+                next[insertAt] = docId;
+                System.arraycopy(posting, insertAt, next, insertAt + 1, posting.length - insertAt);
+                postings.put(gram, next);
+            }
+
+            private void removePosting(int gram, int docId) {
+                int[] posting = postings.get(gram);
+                if (posting == null) return;
+                int at = Arrays.binarySearch(posting, docId);
+                if (at < 0) return;
+                if (posting.length == 1) {
+                    postings.remove(gram);
+                    return;
+                }
+                int[] next = new int[posting.length - 1];
+                System.arraycopy(posting, 0, next, 0, at);
+                System.arraycopy(posting, at + 1, next, at, posting.length - at - 1);
+                postings.put(gram, next);
+            }
+        }
+
+        /**
+         * 모든 토큰을 포함하는 문서 순번 (토큰 AND)
+         */
+        int[] matchAll(List<String> tokens) {
+            if (tokens == null || tokens.isEmpty()) return EMPTY;
+
+            int[] result = null;
+            for (String token : tokens) {
+                result = matchToken(token, result);
+                if (result.length == 0) return EMPTY;
+            }
+            return result;
+        }
+
+        /**
+         * 토큰의 gram posting 교집합(후보) → 원문 contains 확인
+         * - within != null 이면 이전 토큰 결과 안에서만 확인
+         */
+        private int[] matchToken(String token, int[] within) {
+            int[] grams = distinctGrams(token);
+            if (grams.length == 0) return EMPTY;
+
+            List<int[]> lists = new ArrayList<>(grams.length + 1);
+            for (int gram : grams) {
+                int[] posting = postings.get(gram);
+                if (posting == null) return EMPTY;
+                lists.add(posting);
+            }
+            if (within != null) lists.add(within);
+            lists.sort(Comparator.comparingInt(list -> list.length));
+
+            int[] candidates = lists.get(0);
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i));
+            }
+
+            // 1글자 토큰은 posting 자체가 정답, 2글자 이상은 gram 순서/연속성 확인 필요
+            if (token.length() <= 2) return candidates;
+
+            int[] matched = new int[candidates.length];
+            int size = 0;
+            for (int docId : candidates) {
+                if (texts[docId].contains(token)) {
+                    matched[size++] = docId;
+                }
+            }
+            return Arrays.copyOf(matched, size);
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, size = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else {
+                    out[size++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, size);
+        }
+    }
+
+    /**
+     * 문자열의 중복 없는 gram 코드 목록
+     * - 1-gram: 문자 코드(0 ~ 0xFFFF), 2-gram: (c1 << 16) | c2
+     *   (c1은 제어문자가 아니라 상위 16비트가 0이 아니므로 1-gram 코드와 겹치지 않음, c1 >= 0x8000인 한글 등은 음수)
+     * - 제어문자(컬럼 경계 포함)가 들어간 gram은 제외 (정규화된 검색 토큰에는 제어문자가 없음)
+     */
+    private static int[] distinctGrams(String text) {
+        int length = text.length();
+        if (length == 0) return GramIndex.EMPTY;
+
+        // 문서에는 1-gram도 함께 넣어 1글자 토큰 검색을 지원 (박싱 없이 정렬 후 중복 제거)
+        int[] grams = new int[length * 2];
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < ' ') continue;
+            grams[size++] = c;
+            if (i + 1 < length && text.charAt(i + 1) >= ' ') {
+                grams[size++] = (c << 16) | text.charAt(i + 1);
+            }
+        }
+        Arrays.sort(grams, 0, size);
+
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+}
@@ -5,10 +5,13 @@ import org.project.soar.model.user.User;
 import org.project.soar.model.user.repository.UserRepository;
 import org.project.soar.model.youthpolicy.UserYouthPolicy;
 import org.project.soar.model.youthpolicy.YouthPolicy;
+import org.project.soar.model.youthpolicy.cache.UserPolicyIdSetCache;
 import org.project.soar.model.youthpolicy.dto.*;
+import org.project.soar.model.youthpolicy.enums.TrendingSignal;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyTrendingScorer;
+import org.project.soar.model.youthpolicy.repository.UserPolicyBulkRepository;
 import org.project.soar.model.youthpolicy.repository.UserYouthPolicyRepository;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
-import org.project.soar.util.DateClassifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +19,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +28,13 @@ public class UserYouthPolicyService {
 
     private final YouthPolicyRepository youthPolicyRepository;
     private final UserYouthPolicyRepository userYouthPolicyRepository;
+    private final UserPolicyBulkRepository userPolicyBulkRepository;
     private final UserRepository userRepository;
+    private final YouthPolicyTrendingScorer trendingScorer;
+    private final UserPolicyIdSetCache userPolicyIdSetCache;
+
+    // 이 개수 이상이면 상태 판정을 병렬로 수행 (판정값이 아직 저장되지 않은 정책은 텍스트 스캔)
+    private static final int PARALLEL_STATUS_THRESHOLD = 64;
 
     /**
      * 단건 신청
@@ -58,6 +69,8 @@ public class UserYouthPolicyService {
                 .appliedAt(LocalDateTime.now())
                 .build();
         userYouthPolicyRepository.save(userPolicy);
+        trendingScorer.record(policyId, TrendingSignal.APPLY);
+        userPolicyIdSetCache.added(UserPolicyIdSetCache.Kind.APPLIED, user, List.of(policyId));
 
         return new YouthPolicyApplyResponseDto(
                 policy.getApplyUrl(),
@@ -72,7 +85,9 @@ public class UserYouthPolicyService {
      * 여러 정책 동시 신청
      * - URL은 반환하지 않으며, 항목별 결과와 카운트만 반환한다.
      * - 존재하지 않는 정책, 오픈예정, 마감, 종료, 이미 신청을 각각 구분하여 결과에 담는다.
+     * - 신청 대상은 배치 INSERT 한 번으로 저장한다.
      */
+    @Transactional
     public YouthPolicyBulkApplyResponseDto applyToPolicies(User user, List<String> policyIds) {
         if (policyIds == null || policyIds.isEmpty()) {
             return YouthPolicyBulkApplyResponseDto.builder()
@@ -100,10 +115,11 @@ public class UserYouthPolicyService {
 
         // 이미 신청한 항목을 한 번에 조회
         Set<String> alreadyAppliedIds = userYouthPolicyRepository.findAppliedPolicyIds(user, found);
+        Map<String, ApplyStatus> statuses = resolveApplyStatuses(found);
 
         int applied = 0, already = 0, applyEnded = 0, businessEnded = 0, openUpcoming = 0, notFound = 0;
         List<YouthPolicyBulkApplyItemResultDto> results = new ArrayList<>();
-        List<UserYouthPolicy> toSave = new ArrayList<>();
+        List<String> toApply = new ArrayList<>();
 
         for (String pid : distinctIds) {
             YouthPolicy policy = policyMap.get(pid);
@@ -113,7 +129,7 @@ public class UserYouthPolicyService {
                 continue;
             }
 
-            ApplyStatus status = resolveApplyStatus(policy);
+            ApplyStatus status = statuses.get(pid);
             if (status == ApplyStatus.OPEN_UPCOMING) {
                 results.add(item(pid, status, "아직 오픈되지 않았습니다. 오픈 예정 상태입니다.", user.getUserId()));
                 openUpcoming++;
@@ -136,17 +152,15 @@ public class UserYouthPolicyService {
                 continue;
             }
 
-            toSave.add(UserYouthPolicy.builder()
-                    .user(user)
-                    .policy(policy)
-                    .appliedAt(LocalDateTime.now())
-                    .build());
+            toApply.add(pid);
             results.add(item(pid, ApplyStatus.APPLIED, "정책 신청이 완료되었습니다.", user.getUserId()));
             applied++;
         }
 
-        if (!toSave.isEmpty()) {
-            userYouthPolicyRepository.saveAll(toSave);
+        if (!toApply.isEmpty()) {
+            userPolicyBulkRepository.insertApplications(user.getUserId(), toApply, LocalDateTime.now());
+            trendingScorer.recordAll(toApply, TrendingSignal.APPLY);
+            userPolicyIdSetCache.added(UserPolicyIdSetCache.Kind.APPLIED, user, toApply);
         }
 
         return YouthPolicyBulkApplyResponseDto.builder()
@@ -171,33 +185,26 @@ public class UserYouthPolicyService {
                 .build();
     }
 
+    /**
+     * 여러 정책 상태 일괄 판정 (policyId → ApplyStatus)
+     * - 정책마다 독립적인 계산이라 요청이 크면 parallelStream으로 나눠 처리
+     */
+    private Map<String, ApplyStatus> resolveApplyStatuses(Collection<YouthPolicy> policies) {
+        Stream<YouthPolicy> stream = policies.size() >= PARALLEL_STATUS_THRESHOLD
+                ? policies.parallelStream()
+                : policies.stream();
+        return stream.collect(Collectors.toMap(YouthPolicy::getPolicyId, this::resolveApplyStatus));
+    }
+
     /**
      * DateClassifier 기반의 상태 판정
-     * - applicationStartDate, applicationEndDate는 LocalDateTime이므로 LocalDate로 변환하여
-     * 사용한다.
+     * - 저장된 경계 날짜(신청 시작/종료, 사업 종료)와 일일 롤오버에서 계산한 텍스트 판정으로 O(1) 판정
      * - 시작일이 오늘보다 미래면 UPCOMING
-     * - 종료/마감 텍스트 보조 판단은 DateClassifier 내부에 있다.
+     * - 종료/마감 텍스트 보조 판단은 DateClassifier.textSignal 에 있다.
      */
     private ApplyStatus resolveApplyStatus(YouthPolicy p) {
         try {
-            LocalDate applyStart = (p.getApplicationStartDate() != null)
-                    ? p.getApplicationStartDate().toLocalDate()
-                    : null;
-            LocalDate applyEnd = (p.getApplicationEndDate() != null)
-                    ? p.getApplicationEndDate().toLocalDate()
-                    : null;
-
-            DateClassifier.DateResult r = DateClassifier.classify(
-                    applyStart,
-                    applyEnd,
-                    p.getBusinessPeriodEnd(),
-                    p.getApplyMethodContent(),
-                    p.getScreeningMethodContent(),
-                    p.getBusinessPeriodEtc(),
-                    p.getPolicySupportContent(),
-                    p.getPolicyName(),
-                    LocalDate.now());
-            return ApplyStatus.fromDateResult(r);
+            return ApplyStatus.fromDateResult(p.dateStatus(LocalDate.now()));
         } catch (Exception ignored) {
             EndStatus end = getEndStatus(p);
             return switch (end) {
@@ -284,6 +291,7 @@ public class UserYouthPolicyService {
         if (alreadyApplied) {
             // 신청 취소
             userYouthPolicyRepository.deleteByUserAndPolicy(user, policy);
+            userPolicyIdSetCache.removed(UserPolicyIdSetCache.Kind.APPLIED, user, List.of(policyId));
             return YouthPolicyApplyToggleResponseDto.builder()
                     .policyId(policyId)
                     .applied(false)
@@ -349,12 +357,16 @@ public class UserYouthPolicyService {
         Map<String, YouthPolicy> policyMap = new HashMap<>();
         for (YouthPolicy p : found) policyMap.put(p.getPolicyId(), p);
 
-        // 이미 신청한 항목 모음
+        // 이미 신청한 항목 모음 (취소 대상), 나머지는 신청 가능 여부를 미리 판정
         Set<String> alreadyAppliedIds = userYouthPolicyRepository.findAppliedPolicyIds(user, found);
+        Map<String, ApplyStatus> statuses = resolveApplyStatuses(found.stream()
+                .filter(p -> !alreadyAppliedIds.contains(p.getPolicyId()))
+                .toList());
 
         int applied = 0, canceled = 0, applyEnded = 0, businessEnded = 0, openUpcoming = 0, notFound = 0;
         List<YouthPolicyBulkApplyItemResultDto> results = new ArrayList<>();
-        List<UserYouthPolicy> toSave = new ArrayList<>();
+        List<String> toApply = new ArrayList<>();
+        List<String> canceledIds = new ArrayList<>();
 
         for (String pid : distinctIds) {
             YouthPolicy policy = policyMap.get(pid);
@@ -367,15 +379,15 @@ public class UserYouthPolicyService {
 
             // 이미 신청되어 있으면 '취소'
             if (alreadyAppliedIds.contains(pid)) {
-                // 토글은 종료/마감 여부와 무관하게 '취소'는 허용
-                userYouthPolicyRepository.deleteByUserAndPolicy(user, policy);
+                // 토글은 종료/마감 여부와 무관하게 '취소'는 허용 (삭제는 루프 후 한 번에)
+                canceledIds.add(pid);
                 results.add(item(pid, ApplyStatus.ALREADY_APPLIED, "정책 신청이 취소되었습니다.", user.getUserId()));
                 canceled++;
                 continue;
             }
 
             // 신청되어 있지 않으면 '신규 신청' 시도 -> 기존 상태 판정 로직 재사용
-            ApplyStatus status = resolveApplyStatus(policy);
+            ApplyStatus status = statuses.get(pid);
             if (status == ApplyStatus.OPEN_UPCOMING) {
                 results.add(item(pid, status, "아직 오픈되지 않았습니다. 오픈 예정 상태입니다.", user.getUserId()));
                 openUpcoming++;
@@ -392,18 +404,20 @@ public class UserYouthPolicyService {
                 continue;
             }
 
-            // 신청 가능 → 저장
-            toSave.add(UserYouthPolicy.builder()
-                    .user(user)
-                    .policy(policy)
-                    .appliedAt(LocalDateTime.now())
-                    .build());
+            // 신청 가능 → 루프 후 일괄 저장
+            toApply.add(pid);
             results.add(item(pid, ApplyStatus.APPLIED, "정책 신청이 완료되었습니다.", user.getUserId()));
             applied++;
         }
 
-        if (!toSave.isEmpty()) {
-            userYouthPolicyRepository.saveAll(toSave);
+        if (!toApply.isEmpty()) {
+            userPolicyBulkRepository.insertApplications(user.getUserId(), toApply, LocalDateTime.now());
+            trendingScorer.recordAll(toApply, TrendingSignal.APPLY);
+            userPolicyIdSetCache.added(UserPolicyIdSetCache.Kind.APPLIED, user, toApply);
+        }
+        if (!canceledIds.isEmpty()) {
+            userYouthPolicyRepository.deleteAllByUserAndPolicyIdIn(user, canceledIds);
+            userPolicyIdSetCache.removed(UserPolicyIdSetCache.Kind.APPLIED, user, canceledIds);
         }
 
         return YouthPolicyBulkApplyResponseDto.builder()
@@ -5,14 +5,21 @@ import org.project.soar.model.user.User;
 import org.project.soar.model.user.repository.UserRepository;
 import org.project.soar.model.youthpolicy.YouthPolicy;
 import org.project.soar.model.youthpolicy.YouthPolicyBookmark;
+import org.project.soar.model.youthpolicy.cache.UserPolicyIdSetCache;
 import org.project.soar.model.youthpolicy.dto.*;
-import org.project.soar.model.youthpolicy.repository.UserYouthPolicyRepository;
+import org.project.soar.model.youthpolicy.enums.TrendingSignal;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyPopularityBoard;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyTrendingScorer;
+import org.project.soar.model.youthpolicy.repository.UserPolicyBulkRepository;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyBookmarkRepository;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
 import org.project.soar.model.youthpolicytag.repository.TagByPolicyProjection;
 import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -27,10 +34,17 @@ public class YouthPolicyBookmarkService {
 
     private final YouthPolicyBookmarkRepository bookmarkRepository;
     private final YouthPolicyRepository youthPolicyRepository;
+    private final UserPolicyBulkRepository userPolicyBulkRepository;
 
     // ▼ 추가 주입
-    private final UserYouthPolicyRepository userYouthPolicyRepository;
     private final YouthPolicyTagRepository youthPolicyTagRepository;
+    private final YouthPolicyPopularityBoard popularityBoard;
+    private final YouthPolicyTrendingScorer trendingScorer;
+    private final UserPolicyIdSetCache userPolicyIdSetCache;
+
+    private static final int POPULAR_LIMIT = 5;
+    // 순위표에는 있지만 정책이 삭제된 경우를 건너뛰고도 POPULAR_LIMIT개를 채우기 위한 여유분
+    private static final int POPULAR_FETCH_SIZE = POPULAR_LIMIT * 2;
 
     /**
      * 북마크 토글 (있으면 해제, 없으면 추가)
@@ -46,6 +60,8 @@ public class YouthPolicyBookmarkService {
         return bookmarkRepository.findByUserAndPolicy(user, policy)
                 .map(existing -> {
                     bookmarkRepository.delete(existing); // 해제
+                    afterCommit(() -> popularityBoard.onUnbookmarked(user, List.of(policyId)));
+                    userPolicyIdSetCache.removed(UserPolicyIdSetCache.Kind.BOOKMARKED, user, List.of(policyId));
                     return Boolean.FALSE; // 북마크 취소됨
                 })
                 .orElseGet(() -> {
@@ -54,6 +70,11 @@ public class YouthPolicyBookmarkService {
                             .policy(policy)
                             .build();
                     bookmarkRepository.save(newBookmark); // 추가
+                    afterCommit(() -> {
+                        popularityBoard.onBookmarked(user, policyId);
+                        trendingScorer.record(policyId, TrendingSignal.BOOKMARK);
+                    });
+                    userPolicyIdSetCache.added(UserPolicyIdSetCache.Kind.BOOKMARKED, user, List.of(policyId));
                     return Boolean.TRUE; // 북마크 추가됨
                 });
     }
@@ -68,7 +89,11 @@ public class YouthPolicyBookmarkService {
             return; // 정책 없음 → 아무 것도 하지 않음
         }
         bookmarkRepository.findByUserAndPolicy(user, policy)
-                .ifPresent(bookmarkRepository::delete);
+                .ifPresent(existing -> {
+                    bookmarkRepository.delete(existing);
+                    afterCommit(() -> popularityBoard.onUnbookmarked(user, List.of(policyId)));
+                    userPolicyIdSetCache.removed(UserPolicyIdSetCache.Kind.BOOKMARKED, user, List.of(policyId));
+                });
     }
 
     /**
@@ -77,7 +102,12 @@ public class YouthPolicyBookmarkService {
     public void unbookmarkAll(User user) {
         List<YouthPolicyBookmark> all = bookmarkRepository.findAllByUser(user);
         if (!all.isEmpty()) {
+            List<String> removedIds = all.stream()
+                    .map(b -> b.getPolicy().getPolicyId())
+                    .toList();
             bookmarkRepository.deleteAll(all);
+            afterCommit(() -> popularityBoard.onUnbookmarked(user, removedIds));
+            userPolicyIdSetCache.removed(UserPolicyIdSetCache.Kind.BOOKMARKED, user, removedIds);
         }
     }
 
@@ -105,11 +135,17 @@ public class YouthPolicyBookmarkService {
     }
 
     /**
-     * 실시간 인기 지원사업 (북마크 기준 Top 5)
+     * 실시간 인기 지원사업 (Top 5)
+     * - 최근 조회/댓글/북마크/신청 기반 트렌딩 점수 우선, 부족하면 누적 북마크 순위로 채움
+     * - 둘 다 준비 전/장애 시 DB 집계
      */
     public List<YouthPolicy> getPopularPolicies() {
         try {
-            return bookmarkRepository.findPopularByBookmarks(PageRequest.of(0, 5));
+            Optional<List<String>> ranked = findRealtimePopularIds();
+            if (ranked.isPresent()) {
+                return findPoliciesInOrder(ranked.get());
+            }
+            return bookmarkRepository.findPopularByBookmarks(PageRequest.of(0, POPULAR_LIMIT));
         } catch (Exception e) {
             throw new RuntimeException("실시간 인기 지원사업 조회 중 오류가 발생했습니다.", e);
         }
@@ -125,7 +161,11 @@ public class YouthPolicyBookmarkService {
                 age--;
             }
             int ageGroup = (age / 10) * 10;
-            return bookmarkRepository.findPopularBookmarksByAgeGroup(ageGroup, PageRequest.of(0, 5));
+            Optional<List<String>> ranked = popularityBoard.findTopByAgeGroup(ageGroup, POPULAR_FETCH_SIZE);
+            if (ranked.isPresent()) {
+                return findPoliciesInOrder(ranked.get());
+            }
+            return bookmarkRepository.findPopularBookmarksByAgeGroup(ageGroup, PageRequest.of(0, POPULAR_LIMIT));
         } catch (Exception e) {
             throw new RuntimeException("실시간 인기 지원사업 조회 중 오류가 발생했습니다.", e);
         }
@@ -185,8 +225,8 @@ public class YouthPolicyBookmarkService {
                 .toList();
         List<String> policyIds = policies.stream().map(YouthPolicy::getPolicyId).toList();
 
-        // 3) 사용자 신청 완료된 정책 ID 일괄 조회
-        Set<String> appliedIds = userYouthPolicyRepository.findAppliedPolicyIds(user, policies);
+        // 3) 사용자 신청 완료된 정책 ID (사용자별 캐시)
+        Set<String> appliedIds = userPolicyIdSetCache.appliedIds(user);
 
         // 4) 정책별 태그 일괄 조회 → policyId -> List<TagSimpleDto>
         List<TagByPolicyProjection> tagRows = youthPolicyTagRepository.findTagsByPolicyIds(policyIds);
@@ -253,6 +293,8 @@ public class YouthPolicyBookmarkService {
         // 일괄 삭제
         if (!toDelete.isEmpty()) {
             bookmarkRepository.deleteAllInBatch(toDelete);
+            afterCommit(() -> popularityBoard.onUnbookmarked(user, removedIds));
+            userPolicyIdSetCache.removed(UserPolicyIdSetCache.Kind.BOOKMARKED, user, removedIds);
         }
 
         int removed = removedIds.size();
@@ -268,11 +310,95 @@ public class YouthPolicyBookmarkService {
     }
 
     /**
-     * 실시간 인기 지원사업 (북마크 기준 Top 5)
+     * 북마크 일괄 토글 (있으면 해제, 없으면 추가)
+     * - 현재 북마크/정책 존재 여부를 한 번씩 조회해 해제 대상과 추가 대상을 먼저 나눈 뒤
+     *   DELETE 한 번 + 배치 INSERT 한 번으로 반영
+     * - 입력 공백/중복은 내부에서 제거, 존재하지 않는 정책은 건너뜀
+     */
+    @Transactional
+    public BulkBookmarkToggleResponseDto toggleBookmarks(User user, List<String> policyIds) {
+        List<String> distinctIds = policyIds == null ? List.of() : policyIds.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(s -> !s.isBlank())
+                .distinct()
+                .toList();
+
+        if (distinctIds.isEmpty()) {
+            return BulkBookmarkToggleResponseDto.builder()
+                    .requestedCount(0)
+                    .addedCount(0)
+                    .removedCount(0)
+                    .notFoundCount(0)
+                    .addedPolicyIds(List.of())
+                    .removedPolicyIds(List.of())
+                    .notFoundPolicyIds(List.of())
+                    .build();
+        }
+
+        Set<String> bookmarkedIds = new HashSet<>(bookmarkRepository.findBookmarkedPolicyIds(user, distinctIds));
+        Set<String> existingIds = youthPolicyRepository.findExistingPolicyIds(distinctIds);
+
+        List<String> toRemove = new ArrayList<>();
+        List<String> toAdd = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+        for (String policyId : distinctIds) {
+            if (bookmarkedIds.contains(policyId)) {
+                toRemove.add(policyId);
+            } else if (existingIds.contains(policyId)) {
+                toAdd.add(policyId);
+            } else {
+                notFound.add(policyId);
+            }
+        }
+
+        if (!toRemove.isEmpty()) {
+            bookmarkRepository.deleteAllByUserAndPolicyIdIn(user, toRemove);
+            afterCommit(() -> popularityBoard.onUnbookmarked(user, toRemove));
+            userPolicyIdSetCache.removed(UserPolicyIdSetCache.Kind.BOOKMARKED, user, toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            userPolicyBulkRepository.insertBookmarks(user.getUserId(), toAdd);
+            // 순위표/트렌딩(Redis)은 롤백 시 되돌릴 수 없으므로 커밋 후 반영
+            afterCommit(() -> {
+                popularityBoard.onBookmarked(user, toAdd);
+                trendingScorer.recordAll(toAdd, TrendingSignal.BOOKMARK);
+            });
+            userPolicyIdSetCache.added(UserPolicyIdSetCache.Kind.BOOKMARKED, user, toAdd);
+        }
+
+        return BulkBookmarkToggleResponseDto.builder()
+                .requestedCount(distinctIds.size())
+                .addedCount(toAdd.size())
+                .removedCount(toRemove.size())
+                .notFoundCount(notFound.size())
+                .addedPolicyIds(toAdd)
+                .removedPolicyIds(toRemove)
+                .notFoundPolicyIds(notFound)
+                .build();
+    }
+
+    /**
+     * 실시간 인기 지원사업 (Top 5, 이름 + id)
+     * - getPopularPolicies와 같은 순위
      */
     public List<YouthPolicyPopularView> getPopularPoliciesName() {
         try {
-            return bookmarkRepository.findPopularByBookmarksName(PageRequest.of(0, 5));
+            Optional<List<String>> ranked = findRealtimePopularIds();
+            if (ranked.isPresent()) {
+                List<String> policyIds = ranked.get();
+                if (policyIds.isEmpty()) return List.of();
+
+                Map<String, YouthPolicyPopularView> byId = youthPolicyRepository.findPopularViewsByPolicyIdIn(policyIds)
+                        .stream()
+                        .collect(Collectors.toMap(YouthPolicyPopularView::getPolicyId, v -> v));
+                return policyIds.stream()
+                        .map(byId::get)
+                        .filter(Objects::nonNull)
+                        .limit(POPULAR_LIMIT)
+                        .toList();
+            }
+            return bookmarkRepository.findPopularByBookmarksName(PageRequest.of(0, POPULAR_LIMIT));
         } catch (Exception e) {
             throw new RuntimeException("실시간 인기 지원사업 조회 중 오류가 발생했습니다.", e);
         }
@@ -298,19 +424,19 @@ public class YouthPolicyBookmarkService {
         int ageGroup = (age / 10) * 10;                 // 23 -> 20, 31 -> 30
         String ageGroupLabel = ageGroup + "대";          // "20대" 형식
 
-        // 나이대별 인기 Top 5 (native + Pageable LIMIT)
-        var pageable = PageRequest.of(0, 5);
-        List<YouthPolicy> policies =
-                bookmarkRepository.findPopularBookmarksByAgeGroup(ageGroup, pageable);
+        // 나이대별 인기 Top 5 (Redis 순위표 우선, 준비 전/장애 시 native + Pageable LIMIT)
+        Optional<List<String>> ranked = popularityBoard.findTopByAgeGroup(ageGroup, POPULAR_FETCH_SIZE);
+        List<YouthPolicy> policies = ranked.isPresent()
+                ? findPoliciesInOrder(ranked.get())
+                : bookmarkRepository.findPopularBookmarksByAgeGroup(ageGroup, PageRequest.of(0, POPULAR_LIMIT));
 
         if (policies.isEmpty()) {
             return List.of();
         }
 
-        // 현재 유저가 북마크한 항목 체크
-        List<String> ids = policies.stream().map(YouthPolicy::getPolicyId).toList();
-        List<String> bookmarkedIds = bookmarkRepository.findBookmarkedPolicyIds(user, ids);
-        var bookmarkedSet = new HashSet<>(bookmarkedIds);
+        // 현재 유저가 북마크한 항목 체크 (사용자별 캐시)
+        Set<String> bookmarkedSet = userPolicyIdSetCache.bookmarkedIds(user);
+        LocalDate today = LocalDate.now();
 
         // DTO 매핑
         return policies.stream()
@@ -318,10 +444,56 @@ public class YouthPolicyBookmarkService {
                         .policyId(p.getPolicyId())
                         .policyName(p.getPolicyName())
                         .supervisingInstName(p.getSupervisingInstName())
-                        .dateLabel(p.getDateLabel())              // 이미 엔티티에 라벨이 있으면 그대로 사용
+                        .dateLabel(p.dateStatus(today).label())   // 저장된 경계 날짜로 오늘 라벨 계산
                         .bookmarked(bookmarkedSet.contains(p.getPolicyId()))
                         .ageGroup(ageGroupLabel)
                         .build())
                 .toList();
     }
+
+    /**
+     * 트렌딩 상위 ID 뒤에 누적 북마크 상위 ID를 이어 붙인 순위 (중복 제거)
+     * - 둘 다 없으면 Optional.empty() → DB 집계로 대체
+     */
+    private Optional<List<String>> findRealtimePopularIds() {
+        LinkedHashSet<String> policyIds = new LinkedHashSet<>();
+        trendingScorer.findTop(POPULAR_FETCH_SIZE).ifPresent(policyIds::addAll);
+        if (policyIds.size() < POPULAR_FETCH_SIZE) {
+            Optional<List<String>> allTime = popularityBoard.findTop(POPULAR_FETCH_SIZE);
+            if (allTime.isEmpty() && policyIds.isEmpty()) return Optional.empty();
+            allTime.ifPresent(policyIds::addAll);
+        }
+        return Optional.of(List.copyOf(policyIds));
+    }
+
+    /**
+     * 순위표 ID 순서대로 정책 조회 (삭제된 정책은 건너뛰고 최대 POPULAR_LIMIT개)
+     */
+    private List<YouthPolicy> findPoliciesInOrder(List<String> policyIds) {
+        if (policyIds.isEmpty()) return List.of();
+
+        Map<String, YouthPolicy> byId = youthPolicyRepository.findAllById(policyIds).stream()
+                .collect(Collectors.toMap(YouthPolicy::getPolicyId, p -> p));
+        return policyIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .limit(POPULAR_LIMIT)
+                .toList();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 실행, 밖이면 즉시 실행
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
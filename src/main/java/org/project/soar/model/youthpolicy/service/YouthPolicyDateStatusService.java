@@ -0,0 +1,110 @@
+package org.project.soar.model.youthpolicy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.youthpolicy.calendar.YouthPolicyCalendarIndex;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyBulkRepository;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyBulkRepository.DateStatusSource;
+import org.project.soar.util.DateClassifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 정책 날짜 상태 일일 롤오버
+ * - 텍스트 보조 판정은 과거 연도/날짜 비교 때문에 날짜가 바뀌면 결과가 달라질 수 있어 매일 다시 계산
+ * - 경계 날짜(신청 시작/종료, 사업 종료)와 판정값을 저장해 두면 요청 시점 상태/라벨은 정규식 없이 계산 가능
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class YouthPolicyDateStatusService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final YouthPolicyBulkRepository youthPolicyBulkRepository;
+    private final YouthPolicyCalendarIndex calendarIndex;
+
+    /**
+     * 판정값이 없는 정책이 있으면 기동 시 한 번 채움 (없는 동안은 엔티티가 텍스트까지 직접 분류)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            if (youthPolicyBulkRepository.countMissingDateStatus() > 0) {
+                rollover(LocalDate.now());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to backfill policy date status on startup", e);
+        }
+    }
+
+    /**
+     * 전체 정책 날짜 상태 재계산
+     * - 정책 ID 순으로 BATCH_SIZE씩 읽어 배치 안에서는 병렬로 판정, 값이 바뀐 행만 배치 UPDATE
+     * - 갱신된 행이 있으면 캘린더 집계도 재구성 (사업 종료일 백필 반영)
+     *
+     * @return 갱신된 정책 수
+     */
+    public int rollover(LocalDate today) {
+        int scanned = 0;
+        int updated = 0;
+        String afterPolicyId = "";
+
+        while (true) {
+            List<DateStatusSource> batch = youthPolicyBulkRepository.findDateStatusSources(afterPolicyId, BATCH_SIZE);
+            if (batch.isEmpty()) break;
+
+            List<Object[]> changes = batch.parallelStream()
+                    .map(source -> toUpdate(source, today))
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!changes.isEmpty()) {
+                youthPolicyBulkRepository.updateDateStatus(changes);
+            }
+
+            scanned += batch.size();
+            updated += changes.size();
+            afterPolicyId = batch.get(batch.size() - 1).policyId();
+            if (batch.size() < BATCH_SIZE) break;
+        }
+
+        log.info("Policy date status rolled over for {}: scanned {}, updated {}", today, scanned, updated);
+        if (updated > 0) {
+            try {
+                calendarIndex.rebuild();
+            } catch (Exception e) {
+                log.warn("Failed to rebuild youth policy calendar index after rollover", e);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 판정 결과가 저장값과 다르면 UPDATE 인자, 같으면 null
+     */
+    private Object[] toUpdate(DateStatusSource source, LocalDate today) {
+        LocalDate businessEnd = DateClassifier.parseDate(source.businessPeriodEnd());
+        DateClassifier.TextSignal textSignal = DateClassifier.textSignal(
+                source.applyMethodContent(),
+                source.screeningMethodContent(),
+                source.businessPeriodEtc(),
+                source.policySupportContent(),
+                source.policyName(),
+                today);
+        DateClassifier.DateResult result = DateClassifier.classify(
+                source.applicationStartDate(), source.applicationEndDate(), businessEnd, textSignal, today);
+
+        if (Objects.equals(businessEnd, source.businessEndDate())
+                && textSignal.name().equals(source.textSignal())
+                && Objects.equals(result.type(), source.dateType())
+                && Objects.equals(result.label(), source.dateLabel())) {
+            return null;
+        }
+        return new Object[]{businessEnd, textSignal.name(), result.type(), result.label(), source.policyId()};
+    }
+}
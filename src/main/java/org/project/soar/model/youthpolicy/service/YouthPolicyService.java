@@ -5,17 +5,30 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.project.soar.config.YouthPolicyApiConfig;
 import org.project.soar.model.category.CategoryType;
-import org.project.soar.model.category.repository.CategoryRepository;
 import org.project.soar.model.user.User;
 import org.project.soar.model.youthpolicy.YouthPolicy;
 import org.project.soar.model.youthpolicy.YouthPolicyStep;
+import org.project.soar.model.youthpolicy.YouthPolicySyncRun;
+import org.project.soar.model.youthpolicy.cache.UserPolicyIdSetCache;
 import org.project.soar.model.youthpolicy.dto.*;
+import org.project.soar.model.youthpolicy.enums.SyncMode;
+import org.project.soar.model.youthpolicy.enums.SyncStatus;
+import org.project.soar.model.youthpolicy.enums.TrendingSignal;
+import org.project.soar.model.youthpolicy.popularity.YouthPolicyTrendingScorer;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyBookmarkRepository;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyBulkRepository;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyStepRepository;
+import org.project.soar.model.youthpolicy.repository.YouthPolicySyncRunRepository;
+import org.project.soar.model.youthpolicy.search.QueryAnalyzer;
+import org.project.soar.model.youthpolicy.search.YouthPolicySearchIndex;
+import org.project.soar.model.youthpolicy.sync.YouthPolicySyncLock;
+import org.project.soar.model.youthpolicy.calendar.YouthPolicyCalendarIndex;
 import org.project.soar.model.youthpolicytag.repository.PolicyTagMatchProjection;
 import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagRepository;
+import org.project.soar.model.youthpolicytag.search.YouthPolicyTagIndex;
 import org.project.soar.util.DateClassifier;
+import org.project.soar.util.PolicyFingerprint;
 import org.project.soar.util.StepExtractor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,6 +36,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
@@ -31,12 +47,18 @@ import org.springframework.data.jpa.domain.Specification;
 import jakarta.persistence.criteria.Predicate;
 
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -47,101 +69,366 @@ import java.util.stream.Collectors;
 public class YouthPolicyService {
 
     private final YouthPolicyRepository youthPolicyRepository;
+    private final YouthPolicyBulkRepository youthPolicyBulkRepository;
     private final YouthPolicyApiConfig youthPolicyApiConfig;
     private final RestTemplate restTemplate;
     private final YouthPolicyStepRepository stepRepository;
-    private final CategoryRepository categoryRepository;
     private final YouthPolicyBookmarkRepository bookmarkRepository;
     private final YouthPolicyTagRepository youthPolicyTagRepository;
+    private final YouthPolicyTagIndex youthPolicyTagIndex;
+    private final YouthPolicyTrendingScorer trendingScorer;
+    private final UserPolicyIdSetCache userPolicyIdSetCache;
+    private final TransactionTemplate transactionTemplate;
+    private final YouthPolicySyncRunRepository syncRunRepository;
+    private final YouthPolicySearchIndex searchIndex;
+    private final YouthPolicyCalendarIndex calendarIndex;
+    private final QueryAnalyzer queryAnalyzer;
+    private final YouthPolicySyncLock syncLock;
+
+
+    // 동기화 파이프라인 설정
+    private static final int SYNC_PAGE_SIZE = 100;
+    private static final int SYNC_PREFETCH_WINDOW = 4;
+    private static final int SYNC_CONVERT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    // 전체 재동기화 시 스테이징 적재 건수가 운영 건수 대비 이 비율 미만이면 병합 중단
+    private static final double FULL_SYNC_MIN_STAGED_RATIO = 0.5;
+    // 증분 동기화 시 워터마크 이전 데이터만 있는 페이지가 이 횟수만큼 연속되면 중단
+    private static final int INCREMENTAL_STALE_PAGE_LIMIT = 2;
+    // 일일/주간 동기화가 다른 인스턴스의 동기화 종료를 기다리는 최대 시간
+    private static final Duration SYNC_LOCK_WAIT = Duration.ofHours(1);
 
+    /**
+     * 청년정책 전체 동기화 (조회 / 변환 / 저장 파이프라인)
+     * - 1페이지 조회 후 totCount로 전체 페이지 수 계산
+     * - 조회 단계: 최대 SYNC_PREFETCH_WINDOW 페이지를 동시에 선조회
+     * - 변환 단계: 필터링 + 엔티티 변환(DateClassifier 포함)을 별도 스레드풀에서 병렬 수행
+     *             내용 지문(contentHash)이 저장값과 같으면 변환/단계/카테고리 저장 생략
+     * - 저장 단계: 페이지 순서대로 페이지 단위 트랜잭션 커밋
+     *             (중간 페이지 조회 실패 시 이전 페이지는 유지하고 실행은 실패로 기록)
+     */
+    public YouthPolicySyncResultDto syncAllYouthPolicies() {
+        return recordSyncRun(SyncMode.DAILY, true, this::runDailySync);
+    }
+
+    private YouthPolicySyncResultDto runDailySync() {
+        try {
+            log.info("Starting youth policy data synchronization");
+
+            Set<String> touchedPolicyIds = new HashSet<>();
+            YouthPolicySyncResultDto result;
+            try {
+                result = runSyncPipeline(loadSyncStates(), indexedPageWriter(touchedPolicyIds), null);
+            } finally {
+                // 중간에 실패해도 이미 커밋된 페이지는 색인에 반영
+                refreshSearchIndex(touchedPolicyIds);
+                if (!touchedPolicyIds.isEmpty()) rebuildCalendarIndex();
+            }
 
-    private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
+            log.info("Youth policy data synchronization completed. fetched: {}, unchanged: {}, updated: {}, inserted: {}",
+                    result.getFetchedCount(), result.getUnchangedCount(),
+                    result.getUpdatedCount(), result.getInsertedCount());
+            return result;
 
-    private static final Pattern SEOUL_GU_PATTERN =
-            Pattern.compile("서울\\s*시\\s*([가-힣]+)\\s*구");
+        } catch (Exception exception) {
+            Throwable cause = unwrapCompletion(exception);
+            log.error("Error in youth policy data synchronization", cause);
+            throw new RuntimeException("청년정책 데이터 동기화 중 오류가 발생했습니다.", cause);
+        }
+    }
 
-    @Transactional
-    public int syncAllYouthPolicies() {
+    /**
+     * 청년정책 전체 재동기화 (스테이징 테이블 적재 후 일괄 병합)
+     * - 전체 데이터를 youth_policy_staging / youth_policy_step_staging에 적재 (운영 테이블은 그대로 조회 가능)
+     * - 한 페이지라도 조회에 실패하거나 totCount 기준 마지막 페이지까지 도달하지 못하면 병합하지 않음
+     *   (마지막 페이지가 비어 있는 경우는 도달한 것으로 계산)
+     * - 적재 건수 검증 후 한 트랜잭션에서 set 기반 SQL로 youth_policy / youth_policy_step에 병합
+     * - 업스트림에서 사라진 정책은 북마크/신청/태그/댓글 등 참조가 없을 때만 삭제
+     */
+    public YouthPolicySyncResultDto fullResyncYouthPolicies() {
+        return recordSyncRun(SyncMode.FULL, true, this::runFullResync);
+    }
+
+    private YouthPolicySyncResultDto runFullResync() {
         try {
-            int pageNum = 1;
-            int pageSize = 100;
-            boolean hasMoreData = true;
-            int totalSavedCount = 0;
+            log.info("Starting youth policy full resync via staging table");
+            youthPolicyBulkRepository.recreateStagingTable();
 
-            log.info("Starting youth policy data synchronization");
+            // 저장 상태를 비워 전달 → 모든 정책을 변환하여 스테이징에 적재
+            YouthPolicySyncResultDto staged = runSyncPipeline(Map.of(), this::writeStagingPage, null);
 
-            while (hasMoreData) {
-                String apiUrl = buildYouthPolicyApiUrl(pageNum, pageSize);
-                log.debug("Fetching youth policies from page {}: {}", pageNum, apiUrl);
+            // 일부 페이지만 적재된 상태로 병합하면 나머지 페이지의 정책이 삭제 대상이 됨
+            if (staged.getPagesFetched() < staged.getTotalPages()) {
+                throw new IllegalStateException(String.format(
+                        "스테이징 적재 페이지 검증 실패 (staged=%d, total=%d)",
+                        staged.getPagesFetched(), staged.getTotalPages()));
+            }
 
-                try {
-                    YouthPolicyApiResponse apiResponse = restTemplate.getForObject(apiUrl,
-                            YouthPolicyApiResponse.class);
+            // 적재 건수 검증: 비었거나 운영 대비 급감하면 운영 테이블은 건드리지 않음
+            long stagedCount = youthPolicyBulkRepository.countStaging();
+            long liveCount = youthPolicyRepository.count();
+            if (stagedCount == 0 || stagedCount < liveCount * FULL_SYNC_MIN_STAGED_RATIO) {
+                throw new IllegalStateException(String.format(
+                        "스테이징 적재 건수 검증 실패 (staged=%d, converted=%d, live=%d)",
+                        stagedCount, staged.getInsertedCount(), liveCount));
+            }
 
-                    if (validateApiResponse(apiResponse)) {
-                        List<YouthPolicyApiData> youthPolicyApiDataList = apiResponse.getResult().getYouthPolicyList();
+            YouthPolicySyncResultDto result = transactionTemplate.execute(status -> {
+                long newCount = youthPolicyBulkRepository.countStagingNotInLive();
+                youthPolicyBulkRepository.mergeStagingIntoLive();
+                youthPolicyBulkRepository.replaceStepsFromStaging();
+                youthPolicyBulkRepository.upsertCategoriesFromStaging(
+                        Arrays.stream(CategoryType.values()).toList());
+                int removedCount = youthPolicyBulkRepository.deleteStaleUnreferencedPolicies();
+                log.info("Removed {} stale youth policies without references", removedCount);
+
+                return YouthPolicySyncResultDto.builder()
+                        .totalPages(staged.getTotalPages())
+                        .pagesFetched(staged.getPagesFetched())
+                        .fetchedCount(staged.getFetchedCount())
+                        .unchangedCount(0)
+                        .updatedCount((int) (stagedCount - newCount))
+                        .insertedCount((int) newCount)
+                        .maxLastModifyDt(staged.getMaxLastModifyDt())
+                        .build();
+            });
 
-                        if (youthPolicyApiDataList != null && !youthPolicyApiDataList.isEmpty()) {
+            youthPolicyBulkRepository.dropStagingTable();
+            rebuildSearchIndex();
+            rebuildCalendarIndex();
 
-                            int savedCount = saveYouthPolicyFromApi(youthPolicyApiDataList);
-                            totalSavedCount += savedCount;
+            log.info("Youth policy full resync completed. fetched: {}, staged: {}, updated: {}, inserted: {}",
+                    result.getFetchedCount(), stagedCount, result.getUpdatedCount(), result.getInsertedCount());
+            return result;
 
-                            log.info("Processed {} policies from page {}, saved: {}",
-                                    youthPolicyApiDataList.size(), pageNum, savedCount);
+        } catch (Exception exception) {
+            Throwable cause = unwrapCompletion(exception);
+            log.error("Error in youth policy full resync", cause);
+            throw new RuntimeException("청년정책 전체 재동기화 중 오류가 발생했습니다.", cause);
+        }
+    }
 
-                            YouthPolicyApiPaging apiPaging = apiResponse.getResult().getPagging();
-                            hasMoreData = checkHasMoreData(pageNum, pageSize, apiPaging.getTotCount());
-                            pageNum++;
-                        } else {
-                            log.info("No more data found on page {}", pageNum);
-                            hasMoreData = false;
-                        }
-                    } else {
-                        log.error("Invalid API response on page {}: {}", pageNum,
-                                apiResponse != null ? apiResponse.getResultMessage() : "No response");
-                        hasMoreData = false;
+    /**
+     * 조회 / 변환 / 저장 파이프라인 실행
+     * - pageWriter: 페이지 단위 저장 전략 (운영 테이블 직접 반영 or 스테이징 적재)
+     * - 응답이 유효하지 않은 페이지가 있으면 예외 (이미 저장한 페이지는 유지)
+     * - stopBefore: 증분 동기화 워터마크. 최종수정일이 모두 이보다 과거인 페이지가
+     *               INCREMENTAL_STALE_PAGE_LIMIT회 연속되면 조회 중단 (null이면 전체 조회)
+     *               API는 정렬 파라미터를 받지 않으므로, 지금까지 받은 데이터가 최종수정일 내림차순일 때만 중단
+     *               (순서가 어긋나면 남은 페이지 전체 조회)
+     */
+    private YouthPolicySyncResultDto runSyncPipeline(Map<String, YouthPolicySyncStateView> storedStates,
+                                                     Function<SyncPage, WriteCounts> pageWriter,
+                                                     LocalDateTime stopBefore) {
+        ExecutorService fetchPool = Executors.newFixedThreadPool(SYNC_PREFETCH_WINDOW);
+        ExecutorService convertPool = Executors.newFixedThreadPool(SYNC_CONVERT_THREADS);
+        Deque<CompletableFuture<SyncPage>> window = new ArrayDeque<>();
+
+        try {
+            // 1페이지는 전체 페이지 수 계산을 위해 동기 조회
+            YouthPolicyApiResponse firstResponse = fetchYouthPolicyPage(1);
+            if (!validateApiResponse(firstResponse)) {
+                throw invalidPage(1, firstResponse);
+            }
+
+            YouthPolicyApiPaging firstPaging = firstResponse.getResult().getPagging();
+            int totalCount = firstPaging != null ? firstPaging.getTotCount() : 0;
+            int totalPages = Math.max(1, (totalCount + SYNC_PAGE_SIZE - 1) / SYNC_PAGE_SIZE);
+            log.info("Youth policy API total count: {}, total pages: {}", totalCount, totalPages);
+
+            window.add(CompletableFuture.supplyAsync(() -> toSyncPage(1, firstResponse, storedStates), convertPool));
+            int nextPageNum = 2;
+            while (nextPageNum <= totalPages && window.size() < SYNC_PREFETCH_WINDOW) {
+                window.add(submitSyncPage(nextPageNum++, storedStates, fetchPool, convertPool));
+            }
+
+            int pagesFetched = 0;
+            int fetchedCount = 0;
+            int unchangedCount = 0;
+            int updatedCount = 0;
+            int insertedCount = 0;
+            LocalDateTime maxLastModifyDt = null;
+            LocalDateTime previousPageMin = null;
+            boolean sortedDesc = true;
+            int stalePageStreak = 0;
+            while (!window.isEmpty()) {
+                SyncPage page = window.poll().join();
+
+                // 저장하는 동안 다음 페이지 선조회
+                if (nextPageNum <= totalPages) {
+                    window.add(submitSyncPage(nextPageNum++, storedStates, fetchPool, convertPool));
+                }
+
+                if (!page.valid()) {
+                    throw new IllegalStateException("청년정책 API 응답이 유효하지 않습니다. (page=" + page.pageNum() + ")");
+                }
+                if (page.fetchedCount() == 0) {
+                    // totCount 기준 남은 페이지가 있는데 비어 있으면 부분 실행 → 실패로 기록
+                    if (page.pageNum() < totalPages) {
+                        throw new IllegalStateException(String.format(
+                                "청년정책 API 페이지가 비어 있습니다. (page=%d, total=%d)", page.pageNum(), totalPages));
+                    }
+                    // 마지막 페이지가 비어 있는 건 정상 (조회 중 totCount 감소 등) → 도달한 페이지로 계산
+                    // 실제 적재 건수는 전체 재동기화의 스테이징 건수 비율 검증에서 확인
+                    log.info("No more data found on page {}", page.pageNum());
+                    pagesFetched++;
+                    break;
+                }
+
+                WriteCounts writeCounts = pageWriter.apply(page);
+                pagesFetched++;
+                fetchedCount += page.fetchedCount();
+                unchangedCount += page.unchangedCount();
+                updatedCount += writeCounts.updated();
+                insertedCount += writeCounts.inserted();
+
+                log.info("Processed {} policies from page {} - unchanged: {}, updated: {}, inserted: {}",
+                        page.fetchedCount(), page.pageNum(), page.unchangedCount(),
+                        writeCounts.updated(), writeCounts.inserted());
+
+                LocalDateTime pageMax = page.maxLastModifyDt();
+                if (pageMax != null && (maxLastModifyDt == null || pageMax.isAfter(maxLastModifyDt))) {
+                    maxLastModifyDt = pageMax;
+                }
+
+                // 최종수정일 내림차순 검증 (페이지 내부 + 이전 페이지 최소값 이상)
+                if (sortedDesc && (!page.sortedDesc()
+                        || (previousPageMin != null && pageMax != null && pageMax.isAfter(previousPageMin)))) {
+                    sortedDesc = false;
+                    if (stopBefore != null) {
+                        log.info("Youth policy API is not ordered by last modify date (page {}) - scanning all pages",
+                                page.pageNum());
+                    }
+                }
+                if (page.minLastModifyDt() != null) {
+                    previousPageMin = page.minLastModifyDt();
+                }
+
+                // 증분 동기화: 워터마크 이전 데이터만 있는 페이지가 연속되면 중단
+                if (stopBefore != null && sortedDesc) {
+                    stalePageStreak = (pageMax == null || pageMax.isBefore(stopBefore)) ? stalePageStreak + 1 : 0;
+                    if (stalePageStreak >= INCREMENTAL_STALE_PAGE_LIMIT) {
+                        log.info("Stopping incremental sync at page {} - no policies modified after {}",
+                                page.pageNum(), stopBefore);
+                        break;
                     }
-                } catch (RestClientException restException) {
-                    log.error("REST API call failed on page {}", pageNum, restException);
-                    throw new RuntimeException("API 호출 중 네트워크 오류가 발생했습니다.", restException);
                 }
             }
 
-            log.info("Youth policy data synchronization completed. Total saved: {}", totalSavedCount);
-            return totalSavedCount;
+            return YouthPolicySyncResultDto.builder()
+                    .totalPages(totalPages)
+                    .pagesFetched(pagesFetched)
+                    .fetchedCount(fetchedCount)
+                    .unchangedCount(unchangedCount)
+                    .updatedCount(updatedCount)
+                    .insertedCount(insertedCount)
+                    .maxLastModifyDt(maxLastModifyDt)
+                    .build();
+
+        } finally {
+            window.forEach(future -> future.cancel(true));
+            fetchPool.shutdownNow();
+            convertPool.shutdownNow();
+        }
+    }
 
-        } catch (Exception exception) {
-            log.error("Error in youth policy data synchronization", exception);
-            throw new RuntimeException("청년정책 데이터 동기화 중 오류가 발생했습니다.", exception);
+    /**
+     * 동기화 실행 이력 기록 + 중복 실행 방지 (Redis 분산 락, 인스턴스 간 공용)
+     * - waitForLock=false 이면 다른 동기화가 진행 중일 때 건너뜀 (증분 동기화용)
+     * - 중간 페이지 실패 등으로 예외가 나면 FAILED로 기록 (워터마크로 쓰이는 최대 최종수정일은 저장하지 않음)
+     */
+    private YouthPolicySyncResultDto recordSyncRun(SyncMode syncMode, boolean waitForLock,
+                                                   Supplier<YouthPolicySyncResultDto> sync) {
+        YouthPolicySyncLock.Lease lease;
+        try {
+            lease = syncLock.tryAcquire(waitForLock ? SYNC_LOCK_WAIT : Duration.ZERO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("청년정책 동기화 락 대기 중 인터럽트되었습니다.", e);
+        }
+        if (lease == null) {
+            if (!waitForLock) {
+                log.info("Skipping {} youth policy sync - another sync is running", syncMode);
+                return YouthPolicySyncResultDto.builder().build();
+            }
+            throw new IllegalStateException("다른 청년정책 동기화가 끝나지 않아 " + syncMode + " 동기화를 시작하지 못했습니다.");
+        }
+
+        try (lease) {
+            YouthPolicySyncRun run = syncRunRepository.save(YouthPolicySyncRun.start(syncMode));
+            try {
+                YouthPolicySyncResultDto result = sync.get();
+                run.complete(result);
+                syncRunRepository.save(run);
+                return result;
+            } catch (RuntimeException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                run.fail(cause.getMessage());
+                syncRunRepository.save(run);
+                throw e;
+            }
         }
     }
 
     /**
-     * 최근 N일간 등록된 청년정책만 동기화 (Scheduler에서 사용)
+     * 변경 감지용 저장 상태 (변환 스레드에서는 읽기 전용으로만 사용)
      */
-    @Transactional
-    public int syncRecentYouthPolicies(int days) {
+    private Map<String, YouthPolicySyncStateView> loadSyncStates() {
+        return youthPolicyRepository.findAllSyncStates().stream()
+                .collect(Collectors.toMap(YouthPolicySyncStateView::getPolicyId, Function.identity()));
+    }
+
+    private IllegalStateException invalidPage(int pageNum, YouthPolicyApiResponse apiResponse) {
+        log.error("Invalid API response on page {}: {}", pageNum,
+                apiResponse != null ? apiResponse.getResultMessage() : "No response");
+        return new IllegalStateException("청년정책 API 응답이 유효하지 않습니다. (page=" + pageNum + ")");
+    }
+
+    private Throwable unwrapCompletion(Exception exception) {
+        return (exception instanceof CompletionException && exception.getCause() != null)
+                ? exception.getCause()
+                : exception;
+    }
+
+    /**
+     * 증분 동기화 (Scheduler에서 사용)
+     * - 워터마크: 성공한 동기화에서 본 최대 최종수정일 (이력이 없으면 최근 N일)
+     * - 워터마크 이전 데이터만 있는 페이지가 연속되면 더 이상 조회하지 않음
+     */
+    public YouthPolicySyncResultDto syncRecentYouthPolicies(int days) {
+        return recordSyncRun(SyncMode.INCREMENTAL, false, () -> runIncrementalSync(days));
+    }
+
+    private YouthPolicySyncResultDto runIncrementalSync(int days) {
         try {
-            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
-            log.info("Syncing recent youth policies registered after: {}", cutoffDate);
+            LocalDateTime watermark = syncRunRepository.findMaxLastModifyDtByStatus(SyncStatus.SUCCESS);
+            if (watermark == null) {
+                watermark = LocalDateTime.now().minusDays(days);
+            }
+            log.info("Starting incremental youth policy sync - modified after: {}", watermark);
 
-            // 전체 동기화를 수행하되, 최근 데이터만 우선 처리
-            // 실제로는 API에서 날짜 필터링을 지원하지 않으므로 전체 동기화 후 필터링
-            int totalSynced = syncAllYouthPolicies();
+            Set<String> touchedPolicyIds = new HashSet<>();
+            YouthPolicySyncResultDto result;
+            try {
+                result = runSyncPipeline(loadSyncStates(), indexedPageWriter(touchedPolicyIds), watermark);
+            } finally {
+                refreshSearchIndex(touchedPolicyIds);
+                if (!touchedPolicyIds.isEmpty()) rebuildCalendarIndex();
+            }
 
-            // 최근 등록된 정책 수 카운트 - Repository 메서드 수정
-            long recentCount = youthPolicyRepository.countByCreatedAtAfter(cutoffDate);
-            log.info("Found {} policies registered in the last {} days", recentCount, days);
+            log.info("Incremental youth policy sync completed. pages: {}, fetched: {}, unchanged: {}, updated: {}, inserted: {}",
+                    result.getPagesFetched(), result.getFetchedCount(), result.getUnchangedCount(),
+                    result.getUpdatedCount(), result.getInsertedCount());
+            return result;
 
-            return (int) recentCount;
-        } catch (Exception e) {
-            log.error("Error syncing recent youth policies", e);
-            throw new RuntimeException("최근 청년정책 데이터 동기화 중 오류가 발생했습니다.", e);
+        } catch (Exception exception) {
+            Throwable cause = unwrapCompletion(exception);
+            log.error("Error syncing recent youth policies", cause);
+            throw new RuntimeException("최근 청년정책 데이터 동기화 중 오류가 발생했습니다.", cause);
         }
     }
 
     /**
-     * 모든 청년정책 데이터 삭제 (Scheduler의 전체 재동기화에서 사용)
+     * 모든 청년정책 데이터 삭제
      */
     @Transactional
     public void deleteAllYouthPolicies() {
@@ -149,6 +436,8 @@ public class YouthPolicyService {
             long count = youthPolicyRepository.count();
             log.info("Deleting all {} youth policies for full resync", count);
             youthPolicyRepository.deleteAll();
+            // 태그 연결도 함께 지워졌으므로 커밋 후 태그 색인 재구성
+            afterCommit(youthPolicyTagIndex::rebuild);
             log.info("Successfully deleted all youth policy data");
         } catch (Exception e) {
             log.error("Error deleting all youth policies", e);
@@ -168,61 +457,26 @@ public class YouthPolicyService {
         }
     }
 
-    private String normalize(String q) {
-        if (q == null) return "";
-        // 한글/영문/숫자/공백을 제외한 모든 문자(온점/특수문자 포함)를 공백으로
-        String cleaned = q.replaceAll("[^\\p{IsHangul}\\p{Alnum}\\s]+", " ");
-        // 다중 공백 -> 단일 공백, 양끝 공백 제거
-        return cleaned.trim().replaceAll("\\s+", " ");
-    }
-
     private List<String> tokenize(String q) {
-        String n = normalize(q);
-        if (n.isEmpty()) return List.of();
-
-        // 기본 토큰
-        List<String> base = Arrays.stream(n.split(" "))
-                .filter(t -> t.length() >= 1)
-                .collect(Collectors.toCollection(ArrayList::new));
-
-        // --- [특례] "서울시 XXX구" -> "서울", "XXX" ---
-        // 입력 내 여러 번 등장해도 모두 처리
-        Set<String> additions = new LinkedHashSet<>();
-        Set<String> removals  = new HashSet<>();
-        Matcher m = SEOUL_GU_PATTERN.matcher(n);
-        while (m.find()) {
-            String guRoot = m.group(1);  // 예: 강남, 서초, 동대문, 중 등
-            additions.add("서울");
-            additions.add(guRoot);
-            removals.add("서울시");
-            removals.add(guRoot + "구");
-        }
-
-        if (!removals.isEmpty()) {
-            base.removeIf(removals::contains); // 원래 토큰에서 서울시/OO구 제거
-            base.addAll(additions);            // "서울", "OO" 추가
-        }
-
-        // 소문자화 + 중복 제거 + 최대 10개 제한(기존 정책 유지)
-        return base.stream()
-                .map(String::toLowerCase)
-                .distinct()
-                .limit(10)
-                .toList();
+        return queryAnalyzer.tokenize(q);
     }
 
-    // 정책명 전용 검색 DTO 페이지
-    public Page<YouthPolicySearchItemDto> searchByPolicyNamePagedDto(String keyword, Pageable pageable) {
-        Page<YouthPolicy> page = searchByPolicyNamePaged(keyword, pageable);
+    // 정책명 전용 검색 DTO 페이지 (ranked=true면 정확도 전역 순위, false면 Pageable 정렬)
+    public Page<YouthPolicySearchItemDto> searchByPolicyNamePagedDto(String keyword, Pageable pageable, boolean ranked) {
+        Page<YouthPolicy> page = ranked
+                ? searchRanked(keyword, pageable, true)
+                : searchByPolicyNamePaged(keyword, pageable);
         return new PageImpl<>(
                 page.getContent().stream().map(YouthPolicySearchItemDto::from).toList(),
                 pageable,
                 page.getTotalElements());
     }
 
-    // 전체 컬럼 검색 DTO 페이지
-    public Page<YouthPolicySearchItemDto> searchEverywherePagedDto(String keyword, Pageable pageable) {
-        Page<YouthPolicy> page = searchEverywherePaged(keyword, pageable);
+    // 전체 컬럼 검색 DTO 페이지 (ranked=true면 정확도 전역 순위, false면 Pageable 정렬)
+    public Page<YouthPolicySearchItemDto> searchEverywherePagedDto(String keyword, Pageable pageable, boolean ranked) {
+        Page<YouthPolicy> page = ranked
+                ? searchRanked(keyword, pageable, false)
+                : searchEverywherePaged(keyword, pageable);
         return new PageImpl<>(
                 page.getContent().stream().map(YouthPolicySearchItemDto::from).toList(),
                 pageable,
@@ -231,137 +485,95 @@ public class YouthPolicyService {
 
     /**
      * 정책명 전용 검색 (다중 키워드 AND, policyName LIKE %token%)
-     * - 정확도 정렬: exact > startsWith > contains > createdAt desc
+     * - 매칭: 메모리 검색 색인 (색인 준비 전에는 DB LIKE)
+     * - 정렬: Pageable 정렬 그대로 (정확도 정렬은 searchRanked)
      */
     public Page<YouthPolicy> searchByPolicyNamePaged(String keyword, Pageable pageable) {
         List<String> tokens = tokenize(keyword);
         if (tokens.isEmpty()) return Page.empty(pageable);
 
-        var spec = (org.springframework.data.jpa.domain.Specification<YouthPolicy>) (root, cq, cb) -> {
+        return searchIndex.isReady()
+                ? findIndexedPage(tokens, true, pageable)
+                : youthPolicyRepository.findAll(createNameSpec(tokens), pageable);
+    }
+
+    /**
+     * 정책명 LIKE 스펙 (검색 색인 준비 전 fallback)
+     */
+    private Specification<YouthPolicy> createNameSpec(List<String> tokens) {
+        return (root, cq, cb) -> {
             var lowerName = cb.lower(root.get("policyName"));
-            List<jakarta.persistence.criteria.Predicate> ands = new ArrayList<>();
+            List<Predicate> ands = new ArrayList<>();
             for (String t : tokens) {
                 ands.add(cb.like(lowerName, "%" + t.toLowerCase() + "%"));
             }
-            return cb.and(ands.toArray(new jakarta.persistence.criteria.Predicate[0]));
+            return cb.and(ands.toArray(new Predicate[0]));
         };
+    }
 
-        Page<YouthPolicy> page = youthPolicyRepository.findAll(spec, pageable);
-
-        String qn = normalize(keyword).toLowerCase();
-        List<YouthPolicy> sorted = page.getContent().stream()
-                .sorted((a, b) -> {
-                    String an = a.getPolicyName() == null ? "" : a.getPolicyName().toLowerCase();
-                    String bn = b.getPolicyName() == null ? "" : b.getPolicyName().toLowerCase();
-
-                    int aw = relevanceForName(an, qn);
-                    int bw = relevanceForName(bn, qn);
-                    if (aw != bw) return Integer.compare(bw, aw);
+    /**
+     * 검색 색인 매칭 결과의 Pageable 정렬 페이지
+     * - 정렬 속성이 색인에 있으면(createdAt/inquiryCount/policyId) ID를 메모리에서 정렬/페이징하고 현재 페이지만 조회
+     * - 그 외 정렬 속성은 매칭 ID IN 조건으로 DB에서 정렬/페이징
+     */
+    private Page<YouthPolicy> findIndexedPage(List<String> tokens, boolean nameOnly, Pageable pageable) {
+        if (searchIndex.supportsSort(pageable.getSort())) {
+            YouthPolicySearchIndex.SearchHits hits = searchIndex.rankBySort(
+                    tokens, nameOnly, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(findAllByIdInOrder(hits.policyIds()), pageable, hits.total());
+        }
 
-                    var ad = a.getCreatedAt();
-                    var bd = b.getCreatedAt();
-                    if (ad != null && bd != null) return bd.compareTo(ad);
-                    if (ad != null) return -1;
-                    if (bd != null) return 1;
-                    return 0;
-                })
-                .toList();
+        List<String> matchedIds = nameOnly ? searchIndex.matchName(tokens) : searchIndex.matchEverywhere(tokens);
+        if (matchedIds.isEmpty()) return Page.empty(pageable);
+        return youthPolicyRepository.findAll(policyIdIn(matchedIds), pageable);
+    }
 
-        return new PageImpl<>(sorted, pageable, page.getTotalElements());
+    /**
+     * 검색 색인에서 찾은 정책만 조회 (PK IN, 정렬/페이징은 Pageable 그대로)
+     */
+    private Specification<YouthPolicy> policyIdIn(Collection<String> policyIds) {
+        return (root, cq, cb) -> root.get("policyId").in(policyIds);
     }
 
-    private int relevanceForName(String name, String q) {
-        if (name.equals(q)) return 100;    // exact
-        if (name.startsWith(q)) return 80; // startsWith
-        if (name.contains(q)) return 60;   // contains
-        int bonus = 0;
-        for (String t : tokenize(q)) {
-            if (name.contains(t)) bonus += 2;
+    /**
+     * 정확도 순위 검색 (페이징 전에 전체 후보를 순위화)
+     * - 정확도(exact > startsWith > contains > 토큰 포함 수)는 후보당 한 번만 계산
+     * - 정책명 검색: 정확도 → createdAt desc / 전체 컬럼 검색: 정확도 → 조회수 desc → createdAt desc
+     * - 요청 페이지 크기만큼만 엔티티 조회 (깊은 페이지도 top-K 선별)
+     * - 색인 준비 전에는 기존 Pageable 정렬 검색으로 대체
+     */
+    public Page<YouthPolicy> searchRanked(String keyword, Pageable pageable, boolean nameOnly) {
+        if (!searchIndex.isReady()) {
+            return nameOnly ? searchByPolicyNamePaged(keyword, pageable) : searchEverywherePaged(keyword, pageable);
         }
-        return 40 + Math.min(10, bonus);
+
+        QueryAnalyzer.AnalyzedQuery analyzed = queryAnalyzer.analyze(keyword);
+        if (analyzed.tokens().isEmpty()) return Page.empty(pageable);
+
+        YouthPolicySearchIndex.SearchHits hits = searchIndex.rankByNameRelevance(
+                analyzed.query(), analyzed.tokens(), nameOnly, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findAllByIdInOrder(hits.policyIds()), pageable, hits.total());
     }
 
     /**
      * 전체 컬럼 검색 (다중 키워드 AND, 각 토큰은 여러 컬럼 OR)
+     * - 매칭: 메모리 검색 색인 (색인 준비 전에는 22개 컬럼 DB LIKE)
      * - 주의: policyId는 String이므로 숫자형 전환/비교 없음 (검색 단계에선 연도 필터 배제)
      */
     public Page<YouthPolicy> searchEverywherePaged(String keyword, Pageable pageable) {
         List<String> tokens = tokenize(keyword);
         if (tokens.isEmpty()) return Page.empty(pageable);
 
-        var spec = (org.springframework.data.jpa.domain.Specification<YouthPolicy>) (root, cq, cb) -> {
-            List<jakarta.persistence.criteria.Predicate> ands = new ArrayList<>();
-
-            var cols = List.of(
-                    root.get("policyName"),
-                    root.get("policyKeyword"),
-                    root.get("policyExplanation"),
-                    root.get("policySupportContent"),
-                    root.get("applyMethodContent"),
-                    root.get("screeningMethodContent"),
-                    root.get("submitDocumentContent"),
-                    root.get("etcMatterContent"),
-                    root.get("businessPeriodEtc"),
-                    root.get("largeClassification"),
-                    root.get("mediumClassification"),
-                    root.get("supervisingInstName"),
-                    root.get("operatingInstName"),
-                    root.get("applyUrl"),
-                    root.get("referenceUrl1"),
-                    root.get("referenceUrl2"),
-                    root.get("zipCode"),
-                    root.get("policyMajorCode"),
-                    root.get("jobCode"),
-                    root.get("schoolCode"),
-                    root.get("dateType"),
-                    root.get("dateLabel")
-            );
-
-            for (String t : tokens) {
-                String like = "%" + t.toLowerCase() + "%";
-                List<jakarta.persistence.criteria.Predicate> ors = new ArrayList<>();
-                for (var col : cols) {
-                    ors.add(cb.like(cb.lower(col.as(String.class)), like));
-                }
-                ands.add(cb.or(ors.toArray(new jakarta.persistence.criteria.Predicate[0])));
-            }
-
-            // (중요) policyId는 String → 숫자 비교/연도 파싱 시도하지 않음. 저장 단계에서 연도 필터링 완료 가정.
-            return cb.and(ands.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        };
-
-        Page<YouthPolicy> page = youthPolicyRepository.findAll(spec, pageable);
-
-        String qn = normalize(keyword).toLowerCase();
-        List<YouthPolicy> sorted = page.getContent().stream()
-                .sorted((a, b) -> {
-                    String an = a.getPolicyName() == null ? "" : a.getPolicyName().toLowerCase();
-                    String bn = b.getPolicyName() == null ? "" : b.getPolicyName().toLowerCase();
-                    int aw = relevanceForName(an, qn);
-                    int bw = relevanceForName(bn, qn);
-                    if (aw != bw) return Integer.compare(bw, aw);
-
-                    Integer ai = a.getInquiryCount() == null ? 0 : a.getInquiryCount();
-                    Integer bi = b.getInquiryCount() == null ? 0 : b.getInquiryCount();
-                    if (!ai.equals(bi)) return Integer.compare(bi, ai);
-
-                    var ad = a.getCreatedAt();
-                    var bd = b.getCreatedAt();
-                    if (ad != null && bd != null) return bd.compareTo(ad);
-                    if (ad != null) return -1;
-                    if (bd != null) return 1;
-                    return 0;
-                })
-                .toList();
-
-        return new PageImpl<>(sorted, pageable, page.getTotalElements());
+        return searchIndex.isReady()
+                ? findIndexedPage(tokens, false, pageable)
+                : youthPolicyRepository.findAll(createEverywhereSpecForSingleKeyword(keyword), pageable);
     }
 
     /**
      * 기존 공개 메서드: 새 로직으로 위임 (호환 유지)
      */
     public List<YouthPolicy> searchPolicies(String keyword) {
-        Page<YouthPolicy> p = searchEverywherePaged(keyword, PageRequest.of(0, 50));
+        Page<YouthPolicy> p = searchRanked(keyword, PageRequest.of(0, 50), false);
         return p.getContent();
     }
 
@@ -369,7 +581,7 @@ public class YouthPolicyService {
         if (!org.springframework.util.StringUtils.hasText(keyword)) {
             return getAllYouthPolicies();
         }
-        Page<YouthPolicy> p = searchByPolicyNamePaged(keyword, PageRequest.of(0, 50));
+        Page<YouthPolicy> p = searchRanked(keyword, PageRequest.of(0, 50), true);
         return p.getContent();
     }
 
@@ -408,7 +620,11 @@ public class YouthPolicyService {
      */
     public YouthPolicy getYouthPolicyById(String policyId) {
         try {
-            return youthPolicyRepository.findById(policyId).orElse(null);
+            YouthPolicy policy = youthPolicyRepository.findById(policyId).orElse(null);
+            if (policy != null) {
+                trendingScorer.record(policyId, TrendingSignal.VIEW);
+            }
+            return policy;
         } catch (Exception e) {
             log.error("Error getting youth policy by id: {}", policyId, e);
             throw new RuntimeException("청년정책 상세 조회 중 오류가 발생했습니다.", e);
@@ -500,10 +716,248 @@ public class YouthPolicyService {
     }
 
     /**
-     * 다음 페이지 존재 여부 확인
+     * 단일 페이지 API 조회
      */
-    private boolean checkHasMoreData(int currentPageNum, int pageSize, int totalCount) {
-        return (currentPageNum * pageSize) < totalCount;
+    private YouthPolicyApiResponse fetchYouthPolicyPage(int pageNum) {
+        String apiUrl = buildYouthPolicyApiUrl(pageNum, SYNC_PAGE_SIZE);
+        log.debug("Fetching youth policies from page {}: {}", pageNum, apiUrl);
+
+        try {
+            return restTemplate.getForObject(apiUrl, YouthPolicyApiResponse.class);
+        } catch (RestClientException restException) {
+            log.error("REST API call failed on page {}", pageNum, restException);
+            throw new RuntimeException("API 호출 중 네트워크 오류가 발생했습니다.", restException);
+        }
+    }
+
+    /**
+     * 페이지 조회(fetchPool) → 변환(convertPool) 비동기 단계 연결
+     */
+    private CompletableFuture<SyncPage> submitSyncPage(int pageNum,
+                                                       Map<String, YouthPolicySyncStateView> storedStates,
+                                                       ExecutorService fetchPool,
+                                                       ExecutorService convertPool) {
+        return CompletableFuture
+                .supplyAsync(() -> fetchYouthPolicyPage(pageNum), fetchPool)
+                .thenApplyAsync(apiResponse -> toSyncPage(pageNum, apiResponse, storedStates), convertPool);
+    }
+
+    /**
+     * 변환 단계: 응답 검증 + 서울/경기 필터링 + 변경 감지 + 엔티티 변환
+     * - 내용 지문이 같으면 엔티티 변환을 생략하고 날짜 분류/조회수만 비교
+     */
+    private SyncPage toSyncPage(int pageNum, YouthPolicyApiResponse apiResponse,
+                                Map<String, YouthPolicySyncStateView> storedStates) {
+        if (!validateApiResponse(apiResponse)) {
+            log.error("Invalid API response on page {}: {}", pageNum,
+                    apiResponse != null ? apiResponse.getResultMessage() : "No response");
+            return new SyncPage(pageNum, false, 0, 0, null, null, true, List.of(), List.of(), List.of());
+        }
+
+        List<YouthPolicyApiData> youthPolicyApiDataList = apiResponse.getResult().getYouthPolicyList();
+        if (youthPolicyApiDataList == null || youthPolicyApiDataList.isEmpty()) {
+            return new SyncPage(pageNum, true, 0, 0, null, null, true, List.of(), List.of(), List.of());
+        }
+
+        List<YouthPolicyStep> stepList = new ArrayList<>();
+        List<YouthPolicy> entityList = new ArrayList<>();
+        List<Object[]> volatileUpdates = new ArrayList<>();
+        int unchangedCount = 0;
+
+        for (YouthPolicyApiData data : filterTargetPolicies(youthPolicyApiDataList)) {
+            String contentHash = PolicyFingerprint.of(data);
+            YouthPolicySyncStateView stored = storedStates.get(truncateString(data.getPlcyNo(), 50));
+
+            if (stored != null && contentHash.equals(stored.getContentHash())) {
+                unchangedCount++;
+
+                // 내용은 같아도 날짜 분류(D-n)와 조회수는 바뀔 수 있으므로 경량 갱신
+                // 날짜 분류는 저장된 경계 날짜 + 텍스트 판정으로 계산 (판정값이 없는 기존 행만 API 데이터로 전체 분류)
+                DateClassifier.DateResult dateResult = stored.storedDateStatus(LocalDate.now());
+                if (dateResult == null) dateResult = classifyDate(data);
+                Integer inquiryCount = parseInteger(data.getInqCnt());
+                if (!Objects.equals(dateResult.type(), stored.getDateType())
+                        || !Objects.equals(dateResult.label(), stored.getDateLabel())
+                        || !Objects.equals(inquiryCount, stored.getInquiryCount())) {
+                    volatileUpdates.add(new Object[]{
+                            dateResult.type(), dateResult.label(), inquiryCount, stored.getPolicyId()});
+                }
+                continue;
+            }
+
+            // 단계 추출도 변환 스레드에서 페이지 단위로 병렬 수행
+            stepList.add(buildPolicyStep(data));
+            YouthPolicy entity = convertToYouthPolicyEntity(data, contentHash);
+            if (entity != null) {
+                entityList.add(entity);
+            }
+        }
+
+        // 증분 동기화 판단용: 필터링 전 전체 데이터 기준 최종수정일 범위 + 내림차순 여부
+        LocalDateTime maxLastModifyDt = null;
+        LocalDateTime minLastModifyDt = null;
+        boolean sortedDesc = true;
+        for (YouthPolicyApiData data : youthPolicyApiDataList) {
+            LocalDateTime lastModifyDt = parseDateTime(data.getLastMdfcnDt());
+            if (lastModifyDt == null) continue;
+            if (minLastModifyDt != null && lastModifyDt.isAfter(minLastModifyDt)) sortedDesc = false;
+            if (maxLastModifyDt == null || lastModifyDt.isAfter(maxLastModifyDt)) maxLastModifyDt = lastModifyDt;
+            if (minLastModifyDt == null || lastModifyDt.isBefore(minLastModifyDt)) minLastModifyDt = lastModifyDt;
+        }
+
+        return new SyncPage(pageNum, true, youthPolicyApiDataList.size(), unchangedCount,
+                maxLastModifyDt, minLastModifyDt, sortedDesc, stepList, entityList, volatileUpdates);
+    }
+
+    /**
+     * 저장 단계: 페이지 단위 트랜잭션 커밋
+     * - 배치 저장이 실패하면(한 정책의 잘못된 데이터 등) 페이지를 정책 단위 트랜잭션으로 다시 저장해
+     *   실패한 정책만 건너뜀
+     */
+    private WriteCounts writeSyncPage(SyncPage page) {
+        try {
+            WriteCounts writeCounts = transactionTemplate.execute(status -> {
+                if (!page.volatileUpdates().isEmpty()) {
+                    youthPolicyBulkRepository.updateVolatileColumns(page.volatileUpdates());
+                }
+                return saveConvertedPolicies(page.stepList(), page.entityList());
+            });
+            return writeCounts != null ? writeCounts : new WriteCounts(0, 0);
+        } catch (RuntimeException batchException) {
+            log.warn("Batch save failed on page {} - retrying policy by policy", page.pageNum(), batchException);
+            return writeSyncPagePerPolicy(page);
+        }
+    }
+
+    /**
+     * 정책 단위 저장 (배치 저장 실패 시 대체 경로)
+     */
+    private WriteCounts writeSyncPagePerPolicy(SyncPage page) {
+        if (!page.volatileUpdates().isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    youthPolicyBulkRepository.updateVolatileColumns(page.volatileUpdates()));
+        }
+
+        Map<String, YouthPolicyStep> stepsByPolicyId = new HashMap<>();
+        latestStepPerPolicy(page.stepList()).forEach(step -> stepsByPolicyId.put(step.getPolicyId(), step));
+
+        int inserted = 0;
+        int updated = 0;
+        for (YouthPolicy policy : page.entityList()) {
+            YouthPolicyStep step = stepsByPolicyId.remove(policy.getPolicyId());
+            try {
+                WriteCounts counts = transactionTemplate.execute(status ->
+                        saveConvertedPolicies(step != null ? List.of(step) : List.of(), List.of(policy)));
+                if (counts != null) {
+                    inserted += counts.inserted();
+                    updated += counts.updated();
+                }
+            } catch (RuntimeException exception) {
+                log.error("Failed to save youth policy: {} - {}", policy.getPolicyId(), exception.getMessage());
+            }
+        }
+
+        // 엔티티로 변환되지 않은 정책(과거 연도 등)의 단계 정보
+        if (!stepsByPolicyId.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        replacePolicySteps(new ArrayList<>(stepsByPolicyId.values())));
+            } catch (RuntimeException exception) {
+                log.error("Failed to save youth policy steps on page {} - {}", page.pageNum(), exception.getMessage());
+            }
+        }
+        return new WriteCounts(inserted, updated);
+    }
+
+    /**
+     * 전체 재동기화 저장 단계: 정책/단계 정보 모두 스테이징 테이블에만 적재 (운영 테이블은 병합 시 교체)
+     */
+    private WriteCounts writeStagingPage(SyncPage page) {
+        WriteCounts writeCounts = transactionTemplate.execute(status -> {
+            youthPolicyBulkRepository.insertAllIntoStaging(page.entityList());
+            youthPolicyBulkRepository.insertStepsIntoStaging(latestStepPerPolicy(page.stepList()));
+            return new WriteCounts(page.entityList().size(), 0);
+        });
+        return writeCounts != null ? writeCounts : new WriteCounts(0, 0);
+    }
+
+    /**
+     * 운영 테이블 저장 + 검색 색인 갱신 대상(변경/경량 갱신된 정책 ID) 수집
+     */
+    private Function<SyncPage, WriteCounts> indexedPageWriter(Set<String> touchedPolicyIds) {
+        return page -> {
+            WriteCounts writeCounts = writeSyncPage(page);
+            page.entityList().forEach(policy -> touchedPolicyIds.add(policy.getPolicyId()));
+            page.volatileUpdates().forEach(args -> touchedPolicyIds.add((String) args[3]));
+            return writeCounts;
+        };
+    }
+
+    /**
+     * 검색 색인 갱신 실패는 동기화 결과에 영향을 주지 않음 (다음 동기화/재기동 시 복구)
+     */
+    private void refreshSearchIndex(Set<String> touchedPolicyIds) {
+        try {
+            searchIndex.refresh(touchedPolicyIds);
+        } catch (Exception e) {
+            log.warn("Failed to refresh youth policy search index", e);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 실행, 밖이면 즉시 실행
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void rebuildSearchIndex() {
+        try {
+            searchIndex.rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild youth policy search index", e);
+        }
+    }
+
+    /**
+     * 캘린더 집계 재구성 실패도 동기화 결과에 영향을 주지 않음 (이전 스냅샷으로 계속 응답)
+     */
+    private void rebuildCalendarIndex() {
+        try {
+            calendarIndex.rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild youth policy calendar index", e);
+        }
+    }
+
+    /**
+     * 동기화 파이프라인에서 단계 간 전달되는 페이지 단위 결과
+     */
+    private record SyncPage(int pageNum,
+                            boolean valid,
+                            int fetchedCount,
+                            int unchangedCount,
+                            LocalDateTime maxLastModifyDt,
+                            LocalDateTime minLastModifyDt,
+                            boolean sortedDesc,
+                            List<YouthPolicyStep> stepList,
+                            List<YouthPolicy> entityList,
+                            List<Object[]> volatileUpdates) {
+    }
+
+    /**
+     * 저장 단계 결과 (신규/갱신 건수)
+     */
+    private record WriteCounts(int inserted, int updated) {
     }
 
     /**
@@ -547,30 +1001,57 @@ public class YouthPolicyService {
         return false;
     }
 
+    /**
+     * API DTO 기준 날짜 상태 분류
+     */
+    private DateClassifier.DateResult classifyDate(YouthPolicyApiData data) {
+        return DateClassifier.classify(
+                parseDate(data.getAplyBgngYmd()),
+                parseDate(data.getAplyEndYmd()),
+                data.getBizPrdEndYmd(),
+                data.getPlcyAplyMthdCn(),
+                data.getSrngMthdCn(),
+                data.getBizPrdEtcCn(),
+                data.getPlcySprtCn(),
+                data.getPlcyNm(),
+                LocalDate.now()
+        );
+    }
+
+    /**
+     * API DTO 기준 텍스트 보조 판정 (엔티티에 저장, 이후 날짜 분류는 저장값으로 O(1))
+     */
+    private DateClassifier.TextSignal classifyText(YouthPolicyApiData data) {
+        return DateClassifier.textSignal(
+                data.getPlcyAplyMthdCn(),
+                data.getSrngMthdCn(),
+                data.getBizPrdEtcCn(),
+                data.getPlcySprtCn(),
+                data.getPlcyNm(),
+                LocalDate.now()
+        );
+    }
+
     /**
      * 단일 API DTO를 Entity로 변환 - 필드명 수정
      */
     private YouthPolicy convertToYouthPolicyEntity(YouthPolicyApiData data) {
+        return convertToYouthPolicyEntity(data, PolicyFingerprint.of(data));
+    }
+
+    private YouthPolicy convertToYouthPolicyEntity(YouthPolicyApiData data, String contentHash) {
         LocalDate applyStart = parseDate(data.getAplyBgngYmd());
         LocalDate applyEnd = parseDate(data.getAplyEndYmd());
-        String bizEnd = data.getBizPrdEndYmd();
 
         if (containsPastYearInTitle(data.getPlcyNm())) {
             log.info("과거 연도 정책 제외됨: {}", data.getPlcyNm());
             return null;
         }
 
-        DateClassifier.DateResult dateResult = DateClassifier.classify(
-                applyStart,
-                applyEnd,
-                bizEnd,
-                data.getPlcySprtCn(),
-                data.getPlcyAplyMthdCn(),
-                data.getSrngMthdCn(),
-                data.getBizPrdEtcCn(),
-                data.getPlcyNm(),
-                LocalDate.now()
-        );
+        LocalDate businessEnd = DateClassifier.parseDate(data.getBizPrdEndYmd());
+        DateClassifier.TextSignal textSignal = classifyText(data);
+        DateClassifier.DateResult dateResult =
+                DateClassifier.classify(applyStart, applyEnd, businessEnd, textSignal, LocalDate.now());
 
         return YouthPolicy.builder()
                 .policyId(truncateString(data.getPlcyNo(), 50))
@@ -630,9 +1111,14 @@ public class YouthPolicyService {
                 .applicationStartDate(applyStart != null ? applyStart.atStartOfDay() : null)
                 .applicationEndDate(applyEnd != null ? applyEnd.atStartOfDay() : null)
 
-                // 향상된 날짜 분류 반영
+                // 향상된 날짜 분류 반영 (라벨은 조회 시 저장된 날짜로 다시 계산)
                 .dateType(dateResult.type())
                 .dateLabel(dateResult.label())
+                .businessEndDate(businessEnd)
+                .textSignal(textSignal)
+
+                // 변경 감지
+                .contentHash(contentHash)
 
                 .build();
     }
@@ -696,92 +1182,110 @@ public class YouthPolicyService {
      * 데이터 전처리
      */
 
-    private void preprocessAndSaveSteps(YouthPolicyApiData data) {
+    private YouthPolicyStep buildPolicyStep(YouthPolicyApiData data) {
         Map<String, List<String>> steps = StepExtractor.extractSteps(
                 data.getPlcyAplyMthdCn(),
                 data.getSbmsnDcmntCn(),
                 data.getSrngMthdCn());
 
-        String policyId = data.getPlcyNo();
         String submittedDocs = data.getSbmsnDcmntCn() == null ? "없음" : data.getSbmsnDcmntCn();
 
-        YouthPolicyStep newStep = YouthPolicyStep.builder()
-                .policyId(policyId)
+        return YouthPolicyStep.builder()
+                .policyId(data.getPlcyNo())
                 .submittedDocuments(submittedDocs)
                 .applyStep(StepExtractor.joinHtmlList(steps.get("apply")))
                 .documentStep(StepExtractor.joinHtmlList(steps.get("document")))
                 .noticeStep(StepExtractor.joinHtmlList(steps.get("notice")))
                 .caution(StepExtractor.joinHtmlList(steps.get("caution")))
                 .build();
+    }
 
-        try {
-            List<YouthPolicyStep> existing = stepRepository.findAllByPolicyId(policyId);
-            if (!existing.isEmpty()) {
-                log.info("기존 Step 삭제: {}", policyId);
-                stepRepository.deleteAll(existing);
-            }
+    /**
+     * 페이지 단위 단계 정보 교체
+     * - 기존 단계: policyId IN (...) 한 번으로 삭제
+     * - 신규 단계: JDBC 배치 INSERT
+     */
+    private void replacePolicySteps(List<YouthPolicyStep> stepList) {
+        List<YouthPolicyStep> steps = latestStepPerPolicy(stepList);
+        if (steps.isEmpty()) return;
+
+        int deleted = stepRepository.deleteAllByPolicyIdIn(
+                steps.stream().map(YouthPolicyStep::getPolicyId).toList());
+        youthPolicyBulkRepository.insertSteps(steps);
+        log.info("Step 교체 완료 - 삭제: {}, 저장: {}", deleted, steps.size());
+    }
 
-            stepRepository.save(newStep);
-            log.info("Step 저장 성공: {}", policyId);
-        } catch (Exception e) {
-            log.error("Step 저장 중 오류 발생: {}", policyId, e);
+    /**
+     * 페이지 내 중복 정책은 마지막 데이터 기준 (정책 ID 없는 단계는 제외)
+     */
+    private List<YouthPolicyStep> latestStepPerPolicy(List<YouthPolicyStep> stepList) {
+        Map<String, YouthPolicyStep> byPolicyId = new LinkedHashMap<>();
+        for (YouthPolicyStep step : stepList) {
+            if (step.getPolicyId() != null) {
+                byPolicyId.put(step.getPolicyId(), step);
+            }
         }
+        return new ArrayList<>(byPolicyId.values());
     }
 
-    private void saveCategoryForPolicy(YouthPolicy policy) {
+    /**
+     * 대분류 문자열("일자리,주거")에서 카테고리 코드 추출
+     */
+    private Set<Integer> extractCategoryCodes(YouthPolicy policy) {
         String lc = policy.getLargeClassification();
-        if (lc == null || lc.trim().isEmpty()) return;
+        if (lc == null || lc.trim().isEmpty()) return Set.of();
 
-        Set<String> categoryNames = Arrays.stream(lc.split(","))
+        return Arrays.stream(lc.split(","))
                 .map(String::trim)
+                .map(CategoryType::fromName)
+                .flatMap(Optional::stream)
+                .map(CategoryType::getCode)
                 .collect(Collectors.toSet());
-
-        for (String name : categoryNames) {
-            CategoryType.fromName(name).ifPresent(categoryType -> {
-                boolean exists = categoryRepository.findByCategoryCodeAndYouthPolicy(
-                        categoryType.getCode(), policy).isPresent();
-                if (!exists) {
-                    categoryRepository.save(org.project.soar.model.category.Category.builder()
-                            .categoryCode(categoryType.getCode())
-                            .youthPolicy(policy)
-                            .build());
-                }
-            });
-        }
     }
 
 
     /**
-     * 청년정책 데이터 저장 (중복 처리)
+     * 청년정책 데이터 일괄 저장 (중복 처리)
+     * - 페이지 ID 전체를 findAllById 한 번으로 조회 후 신규/기존 분리
+     * - 기존: 영속 엔티티에 변경 반영(변경 감지 → 배치 UPDATE)
+     * - 신규: 배치 INSERT
+     * - 카테고리: INSERT ... ON DUPLICATE KEY UPDATE 한 번
      */
-    private int saveYouthPolicyList(List<YouthPolicy> youthPolicyList) {
-        int savedCount = 0;
+    private WriteCounts saveYouthPolicyList(List<YouthPolicy> youthPolicyList) {
+        if (youthPolicyList.isEmpty()) return new WriteCounts(0, 0);
 
-        for (YouthPolicy youthPolicyEntity : youthPolicyList) {
-            try {
-                Optional<YouthPolicy> existingYouthPolicy = youthPolicyRepository
-                        .findById(youthPolicyEntity.getPolicyId());
-
-                YouthPolicy savedPolicy;
-                if (existingYouthPolicy.isPresent()) {
-                    YouthPolicy existingEntity = existingYouthPolicy.get();
-                    updateExistingYouthPolicy(existingEntity, youthPolicyEntity);
-                    savedPolicy = youthPolicyRepository.save(existingEntity);
-                } else {
-                    savedPolicy = youthPolicyRepository.save(youthPolicyEntity);
-                    savedCount++;
-                    log.info("Saved new youth policy: {}", youthPolicyEntity.getPolicyId());
-                }
+        // 페이지 내 중복 ID는 마지막 데이터 기준
+        Map<String, YouthPolicy> incoming = new LinkedHashMap<>();
+        for (YouthPolicy policy : youthPolicyList) {
+            incoming.put(policy.getPolicyId(), policy);
+        }
 
-                saveCategoryForPolicy(savedPolicy);
+        Map<String, YouthPolicy> existing = youthPolicyRepository.findAllById(incoming.keySet()).stream()
+                .collect(Collectors.toMap(YouthPolicy::getPolicyId, Function.identity()));
+
+        List<YouthPolicy> newPolicies = new ArrayList<>();
+        Map<String, Set<Integer>> categoryCodes = new LinkedHashMap<>();
+        for (YouthPolicy youthPolicyEntity : incoming.values()) {
+            YouthPolicy existingEntity = existing.get(youthPolicyEntity.getPolicyId());
+            if (existingEntity != null) {
+                existingEntity.updateFrom(youthPolicyEntity);
+            } else {
+                newPolicies.add(youthPolicyEntity);
+            }
 
-            } catch (Exception exception) {
-                log.error("Failed to save youth policy: {} - {}", youthPolicyEntity.getPolicyId(),
-                        exception.getMessage());
+            Set<Integer> codes = extractCategoryCodes(youthPolicyEntity);
+            if (!codes.isEmpty()) {
+                categoryCodes.put(youthPolicyEntity.getPolicyId(), codes);
             }
         }
 
-        return savedCount;
+        youthPolicyBulkRepository.insertAll(newPolicies);
+        if (!categoryCodes.isEmpty()) {
+            youthPolicyBulkRepository.upsertCategories(categoryCodes);
+        }
+
+        log.info("Saved youth policies - inserted: {}, updated: {}", newPolicies.size(), existing.size());
+        return new WriteCounts(newPolicies.size(), existing.size());
     }
 
     // public int saveYouthPolicyFromApi(List<YouthPolicyApiData> apiDataList) {
@@ -809,10 +1313,40 @@ public class YouthPolicyService {
     /**
      * 청년정책 API 데이터 저장 (서울/경기 필터링 + 중복 처리)
      */
+    @Transactional
     public int saveYouthPolicyFromApi(List<YouthPolicyApiData> apiDataList) {
+        // 1. 서울/경기 필터링 + 과거 연도 필터링
+        List<YouthPolicyApiData> filteredList = filterTargetPolicies(apiDataList);
+
+        // 2. 정책 엔티티 변환
+        List<YouthPolicy> entityList = filteredList.stream()
+                .map(this::convertToYouthPolicyEntity)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        // 3. 단계 추출
+        List<YouthPolicyStep> stepList = filteredList.stream()
+                .map(this::buildPolicyStep)
+                .collect(Collectors.toList());
+
+        // 4. 저장
+        int inserted = saveConvertedPolicies(stepList, entityList).inserted();
+
+        // 5. 커밋 후 검색 색인 / 캘린더 집계 반영
+        Set<String> savedPolicyIds = entityList.stream().map(YouthPolicy::getPolicyId).collect(Collectors.toSet());
+        afterCommit(() -> {
+            refreshSearchIndex(savedPolicyIds);
+            if (!savedPolicyIds.isEmpty()) rebuildCalendarIndex();
+        });
+        return inserted;
+    }
+
+    /**
+     * 서울/경기 + 과거 연도 필터링
+     */
+    private List<YouthPolicyApiData> filterTargetPolicies(List<YouthPolicyApiData> apiDataList) {
         int currentYear = LocalDate.now().getYear();
 
-        // 1. 서울/경기 필터링 + 과거 연도 필터링
         List<YouthPolicyApiData> filteredList = apiDataList.stream()
                 .filter(data -> {
                     String region = data.getRgtrUpInstCdNm();
@@ -838,41 +1372,20 @@ public class YouthPolicyService {
 
         log.info("원본 정책 개수: {}", apiDataList.size());
         log.info("서울/경기 + 연도 필터링 후 정책 개수: {}", filteredList.size());
-
-        // 2. 정책 엔티티 변환
-        List<YouthPolicy> entityList = filteredList.stream()
-                .map(this::convertToYouthPolicyEntity)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        // 3. 저장 (중복처리 + 카테고리 포함)
-        int savedCount = saveYouthPolicyList(entityList);
-
-        // 4. 단계 저장
-        for (YouthPolicyApiData rawData : filteredList) {
-            try {
-                preprocessAndSaveSteps(rawData);
-            } catch (Exception e) {
-                log.error("정책 단계 저장 중 오류 발생 ({}): {}", rawData.getPlcyNo(), e.getMessage());
-            }
-        }
-
-        return savedCount;
+        return filteredList;
     }
 
     /**
-     * 기존 청년정책 데이터 업데이트
+     * 변환된 정책 저장 (중복처리 + 카테고리 + 단계)
      */
-    private void updateExistingYouthPolicy(YouthPolicy existingYouthPolicy, YouthPolicy newYouthPolicyData) {
-        existingYouthPolicy = existingYouthPolicy.builder()
-                .policyName(newYouthPolicyData.getPolicyName())
-                .policyKeyword(newYouthPolicyData.getPolicyKeyword())
-                .policyExplanation(newYouthPolicyData.getPolicyExplanation())
-                .policySupportContent(newYouthPolicyData.getPolicySupportContent())
-                .largeClassification(newYouthPolicyData.getLargeClassification())
-                .mediumClassification(newYouthPolicyData.getMediumClassification())
-                .lastModifyDt(newYouthPolicyData.getLastModifyDt())
-                .build();
+    private WriteCounts saveConvertedPolicies(List<YouthPolicyStep> stepList, List<YouthPolicy> entityList) {
+        // 1. 저장 (중복처리 + 카테고리 포함)
+        WriteCounts writeCounts = saveYouthPolicyList(entityList);
+
+        // 2. 단계 저장
+        replacePolicySteps(stepList);
+
+        return writeCounts;
     }
 
     /**
@@ -891,21 +1404,20 @@ public class YouthPolicyService {
     /**
      * [캘린더] 월별 일자별 개수(신청 마감/사업 마감)
      * - 응답: 해당 월에서 "값이 존재하는 날짜"만 List 형태로 반환
+     * - 캘린더 집계가 준비되어 있으면 메인 테이블 조회 없음
      */
     public List<CalendarDayResponseDto> getCalendarMonthCounts(int year, int month) {
         YearMonth ym = YearMonth.of(year, month);
-        LocalDate first = ym.atDay(1);
-        LocalDate last = ym.atEndOfMonth();
-
-        LocalDateTime startDt = first.atStartOfDay();
-        LocalDateTime endExclusive = last.plusDays(1).atStartOfDay();
+        if (calendarIndex.isReady()) {
+            return calendarIndex.monthCounts(ym);
+        }
 
-        String startYmd = first.format(YMD);
-        String endYmd = last.format(YMD);
+        LocalDate first = ym.atDay(1);
+        LocalDate nextFirst = ym.plusMonths(1).atDay(1);
 
         // 1) 신청 마감 집계
         Map<LocalDate, Integer> applyMap = new HashMap<>();
-        for (Object[] row : youthPolicyRepository.countApplyEndByDayInRange(startDt, endExclusive)) {
+        for (Object[] row : youthPolicyRepository.countApplyEndByDayInRange(first.atStartOfDay(), nextFirst.atStartOfDay())) {
             LocalDate d = ((java.sql.Date) row[0]).toLocalDate(); // FUNCTION('DATE', ...) 결과
             int cnt = ((Number) row[1]).intValue();
             applyMap.put(d, cnt);
@@ -913,10 +1425,9 @@ public class YouthPolicyService {
 
         // 2) 사업 마감 집계
         Map<LocalDate, Integer> bizMap = new HashMap<>();
-        for (Object[] row : youthPolicyRepository.countBusinessEndByDayInRange(startYmd, endYmd)) {
-            String ymd = (String) row[0];
+        for (Object[] row : youthPolicyRepository.countBusinessEndByDayInRange(first, nextFirst)) {
+            LocalDate d = (LocalDate) row[0];
             int cnt = ((Number) row[1]).intValue();
-            LocalDate d = LocalDate.parse(ymd, YMD);
             bizMap.put(d, cnt);
         }
 
@@ -943,55 +1454,37 @@ public class YouthPolicyService {
      * [캘린더] 특정 일의 개수 + 정책 요약(정책id, 정책명, 마감일)
      */
     public CalendarDayResponseDto getPoliciesByDay(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime endExclusive = date.plusDays(1).atStartOfDay();
+        LocalDate today = LocalDate.now();
+        if (calendarIndex.isReady()) {
+            return calendarIndex.day(date, today);
+        }
 
         // 신청 마감(해당 일)
-        List<YouthPolicy> applyEndPolicies = youthPolicyRepository.findByApplicationEndDateOn(start, endExclusive);
+        List<YouthPolicyCardView> applyEndPolicies = youthPolicyRepository.findCardsByApplicationEndDateOn(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay());
 
         // 사업 마감(해당 일)
-        String ymd = date.format(YMD);
-        List<YouthPolicy> businessEndPolicies = youthPolicyRepository.findByBusinessPeriodEnd(ymd);
+        List<YouthPolicyCardView> businessEndPolicies = youthPolicyRepository.findCardsByBusinessEndDate(date);
 
         List<CalendarDayResponseDto.PolicySummary> summaries = new ArrayList<>();
 
         // 신청 마감 요약
-        for (YouthPolicy p : applyEndPolicies) {
-            LocalDate deadline = p.getApplicationEndDate() != null
-                    ? p.getApplicationEndDate().toLocalDate()
-                    : null;
-
-            String label = (p.getDateLabel() != null && !p.getDateLabel().isBlank())
-                    ? p.getDateLabel()
-                    : "신청 마감";
-
+        for (YouthPolicyCardView p : applyEndPolicies) {
             summaries.add(CalendarDayResponseDto.PolicySummary.builder()
                     .policyId(p.getPolicyId())
                     .policyName(p.getPolicyName())
-                    .deadline(deadline) // LocalDate
-                    .dateLabel(label)
+                    .deadline(p.getApplicationEndDate().toLocalDate()) // LocalDate
+                    .dateLabel(p.currentDateLabel(today))
                     .build());
         }
 
         // 사업 마감 요약
-        for (YouthPolicy p : businessEndPolicies) {
-            LocalDate deadline = null;
-            String be = p.getBusinessPeriodEnd();
-            if (StringUtils.hasText(be) && be.length() == 8) {
-                try {
-                    deadline = LocalDate.parse(be, YMD);
-                } catch (Exception ignored) {
-                }
-            }
-            String label = (p.getDateLabel() != null && !p.getDateLabel().isBlank())
-                    ? p.getDateLabel()
-                    : "사업 마감";
-
+        for (YouthPolicyCardView p : businessEndPolicies) {
             summaries.add(CalendarDayResponseDto.PolicySummary.builder()
                     .policyId(p.getPolicyId())
                     .policyName(p.getPolicyName())
-                    .deadline(deadline)
-                    .dateLabel(label)
+                    .deadline(p.getBusinessEndDate())
+                    .dateLabel(p.currentDateLabel(today))
                     .build());
         }
 
@@ -1004,58 +1497,23 @@ public class YouthPolicyService {
     }
 
     public Page<YouthPolicyMainItemDto> searchByKeywordAndCategoryPagedMain(String keyword, String category, Pageable pageable) {
-        Page<YouthPolicy> page = youthPolicyRepository.findByKeywordAndCategoryPaged(
+        Page<YouthPolicyCardView> page = youthPolicyRepository.findByKeywordAndCategoryPagedMain(
                 StringUtils.hasText(keyword) ? keyword : null,
                 StringUtils.hasText(category) ? category : null,
                 pageable);
 
-        List<YouthPolicy> content = page.getContent();
-
-        List<YouthPolicyMainItemDto> dtoList = content.stream().map(p ->
-                YouthPolicyMainItemDto.builder()
-                        .policyId(p.getPolicyId())
-                        .policyName(p.getPolicyName())
-                        .policyKeyword(p.getPolicyKeyword())
-                        .largeClassification(p.getLargeClassification())
-                        .mediumClassification(p.getMediumClassification())
-                        .supervisingInstName(p.getSupervisingInstName())
-                        .dateLabel(p.getDateLabel())
-                        .bookmarked(false)
-                        .build()
-        ).toList();
-
-        return new PageImpl<>(dtoList, pageable, page.getTotalElements());
-
+        return page.map(card -> YouthPolicyMainItemDto.from(card, false));
     }
 
     public Page<YouthPolicyMainItemDto> searchByKeywordAndCategoryPagedMainWithBookmark(
             User user, String keyword, String category, Pageable pageable) {
 
-        Page<YouthPolicy> page = youthPolicyRepository.findByKeywordAndCategoryPaged(
+        Page<YouthPolicyCardView> page = youthPolicyRepository.findByKeywordAndCategoryPagedMain(
                 StringUtils.hasText(keyword) ? keyword : null,
                 StringUtils.hasText(category) ? category : null,
                 pageable);
 
-        List<YouthPolicy> content = page.getContent();
-        List<String> ids = content.stream().map(YouthPolicy::getPolicyId).toList();
-
-        List<String> bookmarkedIds = bookmarkRepository.findBookmarkedPolicyIds(user, ids);
-        var bookmarkedSet = new java.util.HashSet<>(bookmarkedIds);
-
-        List<YouthPolicyMainItemDto> dtoList = content.stream().map(p ->
-                YouthPolicyMainItemDto.builder()
-                        .policyId(p.getPolicyId())
-                        .policyName(p.getPolicyName())
-                        .policyKeyword(p.getPolicyKeyword())
-                        .largeClassification(p.getLargeClassification())
-                        .mediumClassification(p.getMediumClassification())
-                        .supervisingInstName(p.getSupervisingInstName())
-                        .dateLabel(p.getDateLabel())
-                        .bookmarked(bookmarkedSet.contains(p.getPolicyId()))
-                        .build()
-        ).toList();
-
-        return new PageImpl<>(dtoList, pageable, page.getTotalElements());
+        return withBookmarks(user, page);
     }
 
     public Page<YouthPolicyMainItemDto> multiKeywordSearchPrioritizedMain(List<String> keywords, Pageable pageable) {
@@ -1064,6 +1522,24 @@ public class YouthPolicyService {
             return Page.empty(pageable);
         }
 
+        // 색인이 준비되어 있으면 스코어 집계/정렬을 색인에서 한 번에 처리하고 요청 페이지만 조회
+        if (searchIndex.isReady()) {
+            List<List<String>> keywordTokens = keywords.stream()
+                    .map(this::tokenize)
+                    .filter(tokens -> !tokens.isEmpty())
+                    .toList();
+            if (keywordTokens.isEmpty()) {
+                return Page.empty(pageable);
+            }
+
+            YouthPolicySearchIndex.SearchHits hits = searchIndex.rankByMatchedKeywords(
+                    keywordTokens, pageable.getOffset(), pageable.getPageSize());
+            List<YouthPolicyMainItemDto> dtoList = youthPolicyRepository.findCardsInOrder(hits.policyIds()).stream()
+                    .map(card -> YouthPolicyMainItemDto.from(card, false))
+                    .toList();
+            return new PageImpl<>(dtoList, pageable, hits.total());
+        }
+
         // 1) "여러 키워드 중 하나라도 매칭"되는 전체 후보군 조회용 Specification (OR 결합)
         Specification<YouthPolicy> anyKeywordSpec = null;
         for (String kw : keywords) {
@@ -1113,22 +1589,48 @@ public class YouthPolicyService {
         List<YouthPolicy> pageSlice = (start < end) ? sorted.subList(start, end) : List.of();
 
         // 5) DTO 매핑 (Main 아이템 DTO 포맷 유지)
-        List<YouthPolicyMainItemDto> dtoList = pageSlice.stream().map(p ->
-                YouthPolicyMainItemDto.builder()
-                        .policyId(p.getPolicyId())
-                        .policyName(p.getPolicyName())
-                        .policyKeyword(p.getPolicyKeyword())
-                        .largeClassification(p.getLargeClassification())
-                        .mediumClassification(p.getMediumClassification())
-                        .supervisingInstName(p.getSupervisingInstName())
-                        .dateLabel(p.getDateLabel())
-                        .bookmarked(false)
-                        .build()
-        ).toList();
+        List<YouthPolicyMainItemDto> dtoList = pageSlice.stream()
+                .map(p -> toMainItemDto(p, false))
+                .toList();
 
         return new PageImpl<>(dtoList, pageable, total);
     }
 
+    /**
+     * ID 목록 순서대로 정책 조회 (없는 ID는 건너뜀)
+     */
+    private List<YouthPolicy> findAllByIdInOrder(List<String> policyIds) {
+        if (policyIds.isEmpty()) return List.of();
+
+        Map<String, YouthPolicy> byId = youthPolicyRepository.findAllById(policyIds).stream()
+                .collect(Collectors.toMap(YouthPolicy::getPolicyId, Function.identity()));
+        return policyIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 카드 페이지 → 메인 DTO 페이지 (북마크 여부는 사용자별 캐시, user == null 이면 전부 false)
+     */
+    private Page<YouthPolicyMainItemDto> withBookmarks(User user, Page<YouthPolicyCardView> page) {
+        Set<String> bookmarkedSet = userPolicyIdSetCache.bookmarkedIds(user);
+        return page.map(card -> YouthPolicyMainItemDto.from(card, bookmarkedSet.contains(card.getPolicyId())));
+    }
+
+    private YouthPolicyMainItemDto toMainItemDto(YouthPolicy p, boolean bookmarked) {
+        return YouthPolicyMainItemDto.builder()
+                .policyId(p.getPolicyId())
+                .policyName(p.getPolicyName())
+                .policyKeyword(p.getPolicyKeyword())
+                .largeClassification(p.getLargeClassification())
+                .mediumClassification(p.getMediumClassification())
+                .supervisingInstName(p.getSupervisingInstName())
+                .dateLabel(p.dateStatus(LocalDate.now()).label())
+                .bookmarked(bookmarked)
+                .build();
+    }
+
     /**
      * 기존 searchEverywherePaged의 "단일 키워드"용 스펙 생성기
      * - 토큰 AND, 각 토큰은 여러 컬럼 OR
@@ -1238,6 +1740,7 @@ public class YouthPolicyService {
      * - category가 있으면 대/중분류에 포함되는 것만 필터
      * - pageable의 sort 기준을 최대한 반영(미지정/지원X 컬럼은 createdAt desc 기본)
      * - tagIds == null 이면 모든 정책(옵션: category) DB 페이징
+     * - 태그 색인 준비 시: 비트셋 교집합으로 정책 ID를 구한 뒤 PK IN + 카테고리 조건으로 요청 페이지만 DB 조회
      * - user == null 이면 bookmarked = false
      */
     public Page<YouthPolicyMainItemDto> searchByTagsAndCategoryPagedMainWithBookmark(
@@ -1245,41 +1748,25 @@ public class YouthPolicyService {
 
         // 0) tagIds == null → 전체 정책(옵션: category) DB 페이징 경로
         if (tagIds == null || tagIds.isEmpty()) {
-            Page<YouthPolicy> page = youthPolicyRepository.findByKeywordAndCategoryPaged(
+            Page<YouthPolicyCardView> page = youthPolicyRepository.findByKeywordAndCategoryPagedMain(
                     null, // keyword 없음
                     org.springframework.util.StringUtils.hasText(category) ? category : null,
                     pageable
             );
+            return withBookmarks(user, page);
+        }
 
-            // 북마크 여부 (user == null 이면 전부 false)
-            java.util.Set<String> bookmarkedSet;
-            if (user != null && !page.isEmpty()) {
-                var ids = page.getContent().stream().map(YouthPolicy::getPolicyId).toList();
-                var bookmarkedIds = bookmarkRepository.findBookmarkedPolicyIds(user, ids);
-                bookmarkedSet = new java.util.HashSet<>(bookmarkedIds);
-            } else {
-                bookmarkedSet = Collections.emptySet();
+        if (youthPolicyTagIndex.isReady()) {
+            List<String> matchedIds = youthPolicyTagIndex.findAllMatching(tagIds);
+            if (matchedIds.isEmpty()) {
+                return Page.empty(pageable);
             }
 
-            var dtoList = page.getContent().stream().map(p ->
-                    YouthPolicyMainItemDto.builder()
-                            .policyId(p.getPolicyId())
-                            .policyName(p.getPolicyName())
-                            .policyKeyword(p.getPolicyKeyword())
-                            .largeClassification(p.getLargeClassification())
-                            .mediumClassification(p.getMediumClassification())
-                            .supervisingInstName(p.getSupervisingInstName())
-                            .dateLabel(p.getDateLabel())
-                            .bookmarked(user != null && bookmarkedSet.contains(p.getPolicyId()))
-                            .build()
-            ).toList();
-
-            return new PageImpl<>(dtoList, pageable, page.getTotalElements());
-        }
-
-        // 기존 로직: tagIds가 빈 리스트면 빈 페이지
-        if (tagIds.isEmpty()) {
-            return Page.empty(pageable);
+            Page<YouthPolicyCardView> page = youthPolicyRepository.findCardsByPolicyIdInAndCategory(
+                    matchedIds,
+                    org.springframework.util.StringUtils.hasText(category) ? category : null,
+                    toSupportedSort(pageable));
+            return withBookmarks(user, page);
         }
 
         // 1) 정책별 매칭된 태그 개수 조회
@@ -1329,17 +1816,11 @@ public class YouthPolicyService {
         int end   = Math.min(start + pageable.getPageSize(), total);
         List<YouthPolicy> pageSlice = (start < end) ? sorted.subList(start, end) : java.util.List.of();
 
-        // 6) 북마크 여부 (user == null 이면 전부 false)
-        java.util.Set<String> bookmarkedSet;
-        if (user != null && !pageSlice.isEmpty()) {
-            var ids = pageSlice.stream().map(YouthPolicy::getPolicyId).toList();
-            var bookmarkedIds = bookmarkRepository.findBookmarkedPolicyIds(user, ids);
-            bookmarkedSet = new java.util.HashSet<>(bookmarkedIds);
-        } else {
-            bookmarkedSet = Collections.emptySet();
-        }
+        // 6) 북마크 여부 (사용자별 캐시, user == null 이면 전부 false)
+        java.util.Set<String> bookmarkedSet = userPolicyIdSetCache.bookmarkedIds(user);
 
-        // 7) DTO 매핑
+        // 7) DTO 매핑 (라벨은 저장된 경계 날짜로 오늘 기준 계산)
+        LocalDate today = LocalDate.now();
         List<YouthPolicyMainItemDto> dtoList = pageSlice.stream().map(p ->
                 YouthPolicyMainItemDto.builder()
                         .policyId(p.getPolicyId())
@@ -1348,7 +1829,7 @@ public class YouthPolicyService {
                         .largeClassification(p.getLargeClassification())
                         .mediumClassification(p.getMediumClassification())
                         .supervisingInstName(p.getSupervisingInstName())
-                        .dateLabel(p.getDateLabel())
+                        .dateLabel(p.dateStatus(today).label())
                         .bookmarked(user != null && bookmarkedSet.contains(p.getPolicyId()))
                         .build()
         ).toList();
@@ -1356,6 +1837,27 @@ public class YouthPolicyService {
         return new PageImpl<>(dtoList, pageable, total);
     }
 
+    /**
+     * buildComparatorFromSort와 같은 정렬을 DB에서 수행하도록 Pageable 정리
+     * - 지원: createdAt, policyName, supervisingInstName, inquiryCount (그 외 컬럼은 createdAt으로 대체)
+     * - 미지정: createdAt DESC
+     */
+    private Pageable toSupportedSort(Pageable pageable) {
+        Set<String> supported = Set.of("createdAt", "policyName", "supervisingInstName", "inquiryCount");
+        if (pageable.getSort().isUnsorted()) {
+            return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    org.springframework.data.domain.Sort.by("createdAt").descending());
+        }
+
+        List<org.springframework.data.domain.Sort.Order> orders = new ArrayList<>();
+        for (org.springframework.data.domain.Sort.Order o : pageable.getSort()) {
+            String property = supported.contains(o.getProperty()) ? o.getProperty() : "createdAt";
+            orders.add(new org.springframework.data.domain.Sort.Order(o.getDirection(), property));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                org.springframework.data.domain.Sort.by(orders));
+    }
+
     /**
      * pageable.getSort()를 YouthPolicy 필드로 매핑하는 Comparator 생성
      * - 지원: createdAt, policyName, supervisingInstName, inquiryCount
@@ -1452,33 +1954,15 @@ public class YouthPolicyService {
 
         if (ids.isEmpty()) return List.of();
 
-        // 한 번에 로드 후 map으로 조회
-        List<YouthPolicy> found = youthPolicyRepository.findAllById(ids);
-        Map<String, YouthPolicy> map = found.stream()
-                .collect(Collectors.toMap(YouthPolicy::getPolicyId, Function.identity()));
+        // 카드 컬럼만 한 번에 조회 (입력 순서대로, 미존재 ID는 건너뜀)
+        List<YouthPolicyCardView> cards = youthPolicyRepository.findCardsInOrder(ids);
 
-        // (옵션) 북마크 셋
-        Set<String> bookmarked = Collections.emptySet();
-        if (user != null) {
-            List<String> bookmarkedIds = bookmarkRepository.findBookmarkedPolicyIds(user, ids);
-            bookmarked = new HashSet<>(bookmarkedIds);
-        }
+        // (옵션) 북마크 셋 (사용자별 캐시, user == null 이면 빈 셋)
+        Set<String> bookmarked = userPolicyIdSetCache.bookmarkedIds(user);
 
-        // 입력 순서대로 DTO 매핑(미존재 ID는 건너뜀)
-        List<YouthPolicyMainItemDto> result = new ArrayList<>();
-        for (String id : ids) {
-            YouthPolicy p = map.get(id);
-            if (p == null) continue;
-            result.add(YouthPolicyMainItemDto.builder()
-                    .policyId(p.getPolicyId())
-                    .policyName(p.getPolicyName())
-                    .policyKeyword(p.getPolicyKeyword())
-                    .largeClassification(p.getLargeClassification())
-                    .mediumClassification(p.getMediumClassification())
-                    .supervisingInstName(p.getSupervisingInstName())
-                    .dateLabel(p.getDateLabel())
-                    .bookmarked(user != null && bookmarked.contains(p.getPolicyId()))
-                    .build());
+        List<YouthPolicyMainItemDto> result = new ArrayList<>(cards.size());
+        for (YouthPolicyCardView card : cards) {
+            result.add(YouthPolicyMainItemDto.from(card, bookmarked.contains(card.getPolicyId())));
         }
         return result;
     }
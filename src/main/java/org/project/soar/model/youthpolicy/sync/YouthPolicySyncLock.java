@@ -0,0 +1,121 @@
+package org.project.soar.model.youthpolicy.sync;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청년정책 동기화 분산 락 (Redis, 인스턴스 간 일일/주간/증분 동기화 중복 실행 방지)
+ * - 키: youth-policy:sync:lock → 값: 보유자 토큰 (SET NX PX)
+ * - 보유 중에는 TTL의 1/3 주기로 연장, 인스턴스가 죽으면 TTL 후 자동 해제
+ * - 해제/연장은 Lua 스크립트로 토큰 비교 후 수행 (다른 보유자의 락은 건드리지 않음)
+ */
+@Component
+@Slf4j
+public class YouthPolicySyncLock {
+
+    private static final String LOCK_KEY = "youth-policy:sync:lock";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final long RETRY_INTERVAL_MILLIS = 1_000L;
+
+    // KEYS[1] = 락 키, ARGV[1] = 보유자 토큰
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1] = 락 키, ARGV[1] = 보유자 토큰, ARGV[2] = TTL(ms)
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "youth-policy-sync-lock");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public YouthPolicySyncLock(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 락 획득 시도 (wait 동안 재시도)
+     *
+     * @return 보유 핸들, 획득하지 못하면 null
+     */
+    public Lease tryAcquire(Duration wait) throws InterruptedException {
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + wait.toMillis();
+        while (true) {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LEASE);
+            if (Boolean.TRUE.equals(acquired)) {
+                return new Lease(token);
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return null;
+            }
+            Thread.sleep(RETRY_INTERVAL_MILLIS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    /**
+     * 보유 중인 락 (close 시 해제)
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String token;
+        private final ScheduledFuture<?> renewal;
+
+        private Lease(String token) {
+            this.token = token;
+            long period = LEASE.toMillis() / 3;
+            this.renewal = renewer.scheduleAtFixedRate(this::extend, period, period, TimeUnit.MILLISECONDS);
+        }
+
+        private void extend() {
+            try {
+                Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(LOCK_KEY),
+                        token, String.valueOf(LEASE.toMillis()));
+                if (extended == null || extended == 0) {
+                    log.warn("Youth policy sync lock lost before the sync finished");
+                    renewal.cancel(false);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to extend youth policy sync lock", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            renewal.cancel(false);
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+            } catch (RuntimeException e) {
+                log.warn("Failed to release youth policy sync lock (expires in {})", LEASE, e);
+            }
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package org.project.soar.model.youthpolicytag.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.soar.config.TokenProvider;
+import org.project.soar.config.auth.LoginUser;
 import org.project.soar.global.api.ApiResponse;
 import org.project.soar.model.tag.dto.YouthPolicyTagsResponse;
 import org.project.soar.model.user.User;
@@ -27,7 +26,6 @@ import java.util.List;
 @RequestMapping("/api/youth-policy-tag")
 public class YouthPolicyTagController {
     public final YouthPolicyTagService youthPolicyTagService;
-    public final TokenProvider tokenProvider;
     private final UserTagService userTagService;
     @GetMapping("/")
     @Operation(summary="전체 청년 정책 태그 조회", description="모든 청년 정책 태그를 조회합니다.")
@@ -52,8 +50,7 @@ public class YouthPolicyTagController {
 
     @GetMapping("/user")
     @Operation(summary = "사용자의 태그로 정책 매칭")
-    public ResponseEntity<ApiResponse<?>> getYouthPolicyByUser(HttpServletRequest request) {
-        User user = tokenProvider.getUserFromRequest(request);
+    public ResponseEntity<ApiResponse<?>> getYouthPolicyByUser(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -82,11 +79,9 @@ public class YouthPolicyTagController {
             @RequestParam("tags") String tags,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
-            HttpServletRequest request
+            @LoginUser User user
     ) {
 
-        User user = tokenProvider.getUserFromRequest(request);
-
         if (user == null) {
             return ResponseEntity.badRequest().body(ApiResponse.createError("사용자 인증에 실패했습니다."));
         }
@@ -0,0 +1,9 @@
+package org.project.soar.model.youthpolicytag.repository;
+
+import java.time.LocalDateTime;
+
+public interface PolicyTagPairProjection {
+    String getPolicyId();
+    Long getTagId();
+    LocalDateTime getCreatedAt(); // 정책 생성일 (우선순위 검색 정렬용)
+}
@@ -0,0 +1,9 @@
+package org.project.soar.model.youthpolicytag.repository;
+
+import java.time.LocalDateTime;
+
+public interface PolicyTagTargetProjection {
+    String getPolicyId();
+    String getPolicyName();
+    LocalDateTime getCreatedAt();
+}
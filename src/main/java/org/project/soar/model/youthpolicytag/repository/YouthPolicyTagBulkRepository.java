@@ -0,0 +1,36 @@
+package org.project.soar.model.youthpolicytag.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.project.soar.model.youthpolicytag.search.YouthPolicyTagIndex;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 정책-태그 연결 일괄 INSERT 전용 저장소
+ * - IDENTITY 키라 saveAll()은 행마다 INSERT가 나가므로 JDBC 배치 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class YouthPolicyTagBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 정책-태그 연결 일괄 INSERT (youth_policy_tag), 중복 여부는 호출 측에서 확인
+     */
+    public void insertAll(Collection<YouthPolicyTagIndex.TagAssignment> assignments) {
+        if (assignments.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>(assignments.size());
+        for (YouthPolicyTagIndex.TagAssignment assignment : assignments) {
+            rows.add(new Object[]{assignment.policyId(), assignment.tagId()});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO youth_policy_tag (policy_id, tag_id) VALUES (?, ?)",
+                rows);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -41,4 +42,28 @@ public interface YouthPolicyTagRepository extends JpaRepository<YouthPolicyTag,
         WHERE ypt.youthPolicy.policyId IN :policyIds
     """)
     List<TagByPolicyProjection> findTagsByPolicyIds(@Param("policyIds") List<String> policyIds);
+
+    /**
+     * 태그 색인 구성용 (정책ID, 태그ID, 정책 생성일) 전체 조회 - 엔티티 로딩 없음
+     */
+    @Query("""
+        SELECT p.policyId    AS policyId,
+               ypt.tag.tagId AS tagId,
+               p.createdAt   AS createdAt
+        FROM YouthPolicyTag ypt
+        JOIN ypt.youthPolicy p
+    """)
+    List<PolicyTagPairProjection> findAllPolicyTagPairs();
+
+    /**
+     * 태그 일괄 할당용 (정책ID, 정책명, 정책 생성일) - 엔티티 로딩 없음
+     */
+    @Query("""
+        SELECT p.policyId   AS policyId,
+               p.policyName AS policyName,
+               p.createdAt  AS createdAt
+        FROM YouthPolicy p
+        WHERE p.policyId IN :policyIds
+    """)
+    List<PolicyTagTargetProjection> findTagTargetsByPolicyIds(@Param("policyIds") Collection<String> policyIds);
 }
\ No newline at end of file
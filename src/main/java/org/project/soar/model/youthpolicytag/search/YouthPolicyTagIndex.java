@@ -0,0 +1,324 @@
+package org.project.soar.model.youthpolicytag.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.soar.model.youthpolicytag.repository.PolicyTagPairProjection;
+import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 태그별 정책 비트셋 색인
+ * - 정책마다 순번을 부여하고 태그마다 "이 태그가 붙은 정책 순번" 비트셋을 유지 (태그 ~130개)
+ * - 태그 AND 검색: 비트셋 교집합 / 우선순위 검색: 정책별 매칭 태그 수(비트 카운트)
+ * - 갱신: 기동 시 / 주기적 전체 재구성 + 태그 저장/삭제 시 해당 비트만 변경 (copy-on-write)
+ * - 저장/삭제 반영은 트랜잭션 안이면 커밋 후에 적용 (롤백된 연결이 색인에 남지 않도록)
+ * - 조회는 불변 스냅샷을 참조하므로 갱신 중에도 잠금 없이 검색 가능
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class YouthPolicyTagIndex {
+
+    private static final String[] NO_POLICY_IDS = new String[0];
+    private static final long[] NO_KEYS = new long[0];
+
+    private final YouthPolicyTagRepository youthPolicyTagRepository;
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 색인이 없으면 서비스는 기존 GROUP BY 조회로 동작
+            log.warn("Failed to build youth policy tag index on startup", e);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * youth_policy_tag 전체로 색인 재구성 (다른 인스턴스에서 저장된 태그도 반영)
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<PolicyTagPairProjection> pairs = youthPolicyTagRepository.findAllPolicyTagPairs();
+
+        synchronized (writeLock) {
+            Builder builder = new Builder(new Snapshot(NO_POLICY_IDS, NO_KEYS, Map.of(), Map.of()));
+            for (PolicyTagPairProjection pair : pairs) {
+                builder.add(pair.getPolicyId(), pair.getCreatedAt(), pair.getTagId());
+            }
+            snapshot = builder.build();
+        }
+        log.info("Youth policy tag index rebuilt - {} policy tags, {} policies in {} ms",
+                pairs.size(), snapshot.policyIds().length, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 새로 저장된 정책-태그 연결 반영 (변경된 태그의 비트셋만 복사)
+     */
+    public void addAll(Collection<TagAssignment> assignments) {
+        if (assignments == null || assignments.isEmpty()) return;
+        List<TagAssignment> copy = List.copyOf(assignments);
+        afterCommit(() -> update(builder -> {
+            for (TagAssignment assignment : copy) {
+                builder.add(assignment.policyId(), assignment.createdAt(), assignment.tagId());
+            }
+        }));
+    }
+
+    public void add(String policyId, LocalDateTime createdAt, Long tagId) {
+        addAll(List.of(new TagAssignment(policyId, createdAt, tagId)));
+    }
+
+    /**
+     * 삭제된 정책-태그 연결 반영 (createdAt 은 사용하지 않음)
+     */
+    public void removeAll(Collection<TagAssignment> assignments) {
+        if (assignments == null || assignments.isEmpty()) return;
+        List<TagAssignment> copy = List.copyOf(assignments);
+        afterCommit(() -> update(builder -> {
+            for (TagAssignment assignment : copy) {
+                builder.remove(assignment.policyId(), assignment.tagId());
+            }
+        }));
+    }
+
+    /**
+     * 삭제된 태그 반영 (해당 태그의 비트셋을 통째로 제거)
+     */
+    public void removeTags(Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) return;
+        List<Long> copy = List.copyOf(tagIds);
+        afterCommit(() -> update(builder -> copy.forEach(builder::removeTag)));
+    }
+
+    private void update(Consumer<Builder> change) {
+        if (!isReady()) return;
+        synchronized (writeLock) {
+            Builder builder = new Builder(snapshot);
+            change.accept(builder);
+            snapshot = builder.build();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 모든 태그가 붙은 정책 ID (태그 AND, 정책 순번 순)
+     */
+    public List<String> findAllMatching(Collection<Long> tagIds) {
+        Snapshot current = snapshot;
+        Set<Long> distinctTagIds = new LinkedHashSet<>(tagIds);
+        if (distinctTagIds.isEmpty()) return List.of();
+
+        // 가장 작은 비트셋부터 교집합
+        List<BitSet> bitsets = new ArrayList<>(distinctTagIds.size());
+        for (Long tagId : distinctTagIds) {
+            BitSet bits = current.bitsByTag().get(tagId);
+            if (bits == null) return List.of();
+            bitsets.add(bits);
+        }
+        bitsets.sort(Comparator.comparingInt(BitSet::cardinality));
+
+        BitSet result = (BitSet) bitsets.get(0).clone();
+        for (int i = 1; i < bitsets.size() && !result.isEmpty(); i++) {
+            result.and(bitsets.get(i));
+        }
+
+        List<String> policyIds = new ArrayList<>(result.cardinality());
+        for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+            policyIds.add(current.policyIds()[ordinal]);
+        }
+        return policyIds;
+    }
+
+    /**
+     * 태그 중 하나 이상 붙은 정책 ID (태그 OR)
+     */
+    public Set<String> findAnyMatching(Collection<Long> tagIds) {
+        Snapshot current = snapshot;
+        BitSet result = new BitSet();
+        for (Long tagId : new LinkedHashSet<>(tagIds)) {
+            BitSet bits = current.bitsByTag().get(tagId);
+            if (bits != null) result.or(bits);
+        }
+
+        Set<String> policyIds = new HashSet<>(result.cardinality() * 2);
+        for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+            policyIds.add(current.policyIds()[ordinal]);
+        }
+        return policyIds;
+    }
+
+    /**
+     * 우선순위 태그 검색: 하나 이상 매칭된 정책을 (매칭 태그 수 desc → createdAt desc) 순으로 한 페이지
+     */
+    public RankedPolicies rankByMatchedTags(Collection<Long> tagIds, long offset, int limit) {
+        Snapshot current = snapshot;
+        int size = current.policyIds().length;
+        int[] counts = new int[size];
+        int[] matched = new int[size];
+        int total = 0;
+
+        for (Long tagId : new LinkedHashSet<>(tagIds)) {
+            BitSet bits = current.bitsByTag().get(tagId);
+            if (bits == null) continue;
+            for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+                if (counts[ordinal]++ == 0) {
+                    matched[total++] = ordinal;
+                }
+            }
+        }
+        if (offset >= total || limit <= 0) return new RankedPolicies(List.of(), total);
+
+        long[] createdAtKeys = current.createdAtKeys();
+        Comparator<Integer> order = Comparator.<Integer>comparingInt(ordinal -> counts[ordinal]).reversed()
+                .thenComparing((a, b) -> Long.compare(createdAtKeys[b], createdAtKeys[a]))
+                .thenComparing(Comparator.naturalOrder());
+
+        // 요청 페이지까지만 유지하는 top-K 힙 (top = 현재 k개 중 가장 뒤 순위)
+        int k = (int) Math.min(total, offset + limit);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k, order.reversed());
+        for (int i = 0; i < total; i++) {
+            if (heap.size() < k) {
+                heap.add(matched[i]);
+            } else if (order.compare(matched[i], heap.peek()) < 0) {
+                heap.poll();
+                heap.add(matched[i]);
+            }
+        }
+        Integer[] ranked = heap.toArray(new Integer[0]);
+        Arrays.sort(ranked, order);
+
+        List<String> policyIds = new ArrayList<>(ranked.length - (int) offset);
+        for (int i = (int) offset; i < ranked.length; i++) {
+            policyIds.add(current.policyIds()[ranked[i]]);
+        }
+        return new RankedPolicies(policyIds, total);
+    }
+
+    /**
+     * 정책-태그 연결 1건 (createdAt: 정책 생성일)
+     */
+    public record TagAssignment(String policyId, LocalDateTime createdAt, Long tagId) {
+    }
+
+    /**
+     * 순위 검색 결과 한 페이지 (정렬된 정책 ID + 전체 매칭 건수)
+     */
+    public record RankedPolicies(List<String> policyIds, int total) {
+    }
+
+    // ========================================
+    // 색인 구조
+    // ========================================
+
+    /**
+     * 불변 스냅샷 (정책 순번 = 배열 인덱스, 공개 후에는 비트셋을 수정하지 않음)
+     */
+    private record Snapshot(String[] policyIds, long[] createdAtKeys,
+                            Map<String, Integer> ordinalsByPolicyId, Map<Long, BitSet> bitsByTag) {
+    }
+
+    /**
+     * 기존 스냅샷에서 출발해 변경분만 복사하는 빌더
+     */
+    private static final class Builder {
+        private final List<String> policyIds;
+        private final List<Long> createdAtKeys = new ArrayList<>();
+        private final Map<String, Integer> ordinals;
+        private final Map<Long, BitSet> bitsByTag;
+        private final Set<Long> copiedTags = new HashSet<>();
+
+        Builder(Snapshot base) {
+            this.policyIds = new ArrayList<>(Arrays.asList(base.policyIds()));
+            for (long key : base.createdAtKeys()) {
+                createdAtKeys.add(key);
+            }
+            this.ordinals = new HashMap<>(base.ordinalsByPolicyId());
+            this.bitsByTag = new HashMap<>(base.bitsByTag());
+        }
+
+        void add(String policyId, LocalDateTime createdAt, Long tagId) {
+            if (policyId == null || tagId == null) return;
+
+            Integer ordinal = ordinals.get(policyId);
+            if (ordinal == null) {
+                ordinal = policyIds.size();
+                ordinals.put(policyId, ordinal);
+                policyIds.add(policyId);
+                // createdAt 없으면 최신순 정렬에서 맨 뒤
+                createdAtKeys.add(createdAt == null ? Long.MIN_VALUE : createdAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+
+            // 공개된 스냅샷의 비트셋은 건드리지 않도록 태그별로 처음 수정할 때 한 번만 복사
+            BitSet bits = bitsByTag.get(tagId);
+            if (bits == null) {
+                bits = new BitSet();
+                bitsByTag.put(tagId, bits);
+                copiedTags.add(tagId);
+            } else if (copiedTags.add(tagId)) {
+                bits = (BitSet) bits.clone();
+                bitsByTag.put(tagId, bits);
+            }
+            bits.set(ordinal);
+        }
+
+        void remove(String policyId, Long tagId) {
+            if (policyId == null || tagId == null) return;
+            Integer ordinal = ordinals.get(policyId);
+            BitSet bits = bitsByTag.get(tagId);
+            if (ordinal == null || bits == null || !bits.get(ordinal)) return;
+
+            // 정책 순번은 그대로 두고 비트만 해제 (순번 재배치는 다음 전체 재구성 때)
+            if (copiedTags.add(tagId)) {
+                bits = (BitSet) bits.clone();
+                bitsByTag.put(tagId, bits);
+            }
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                bitsByTag.remove(tagId);
+            }
+        }
+
+        void removeTag(Long tagId) {
+            if (tagId == null) return;
+            bitsByTag.remove(tagId);
+            copiedTags.remove(tagId);
+        }
+
+        Snapshot build() {
+            long[] keys = new long[createdAtKeys.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = createdAtKeys.get(i);
+            }
+            return new Snapshot(policyIds.toArray(new String[0]), keys, ordinals, bitsByTag);
+        }
+    }
+}
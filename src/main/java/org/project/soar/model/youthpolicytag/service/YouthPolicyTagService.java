@@ -12,13 +12,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 @Service
 public interface YouthPolicyTagService {
     List<YouthPolicyTagResponse> getAllYouthPolicyTag();
     YouthPolicyTag setYouthPolicyTag(YouthPolicyTagResponse youthPolicyTagResponse);
     FindYouthPolicyByTagResponse getYouthPolicyTagByTagId(Long tagId);
     List<YouthPolicyTagResponse> createYouthPolicyTag(YouthPolicyTagRequest youthPolicyTagRequest);
+
+    /**
+     * 여러 정책에 태그 일괄 할당 (정책ID → 태그ID 목록), 이미 있는 연결은 다시 저장하지 않음
+     * - 반환: 요청한 연결 중 존재하는 정책/태그 전부 (이미 있던 연결 포함)
+     */
+    List<YouthPolicyTagResponse> assignTags(Map<String, ? extends Collection<Long>> tagIdsByPolicyId);
     YouthPolicyTagsResponse getAllYouthPolicyByTagIds(List<Long> tagIds);
     YouthPolicyTagsResponse getYouthPolicyByUser(User user);
 
@@ -3,27 +3,39 @@ package org.project.soar.model.youthpolicytag.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.project.soar.model.tag.Tag;
+import org.project.soar.model.tag.cache.TagDictionary;
 import org.project.soar.model.tag.dto.YouthPolicyTagsResponse;
 import org.project.soar.model.tag.service.TagService;
 import org.project.soar.model.user.User;
 import org.project.soar.model.usertag.repository.UserTagRepository;
+import org.project.soar.model.youthpolicy.dto.YouthPolicyCardView;
 import org.project.soar.model.youthpolicy.dto.YouthPolicyMainItemDto;
-import org.project.soar.model.youthpolicy.repository.YouthPolicyBookmarkRepository;
+import org.project.soar.model.youthpolicy.cache.UserPolicyIdSetCache;
 import org.project.soar.model.youthpolicytag.YouthPolicyTag;
 import org.project.soar.model.youthpolicytag.dto.FindYouthPolicyByTagResponse;
 import org.project.soar.model.youthpolicytag.dto.YouthPolicyTagRequest;
 import org.project.soar.model.youthpolicytag.dto.YouthPolicyTagResponse;
 import org.project.soar.model.tag.repository.TagRepository;
 import org.project.soar.model.youthpolicytag.repository.PolicyTagMatchProjection;
+import org.project.soar.model.youthpolicytag.repository.PolicyTagTargetProjection;
+import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagBulkRepository;
 import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagRepository;
+import org.project.soar.model.youthpolicytag.search.YouthPolicyTagIndex;
 import org.project.soar.model.youthpolicy.YouthPolicy;
 import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 @Slf4j
 @Service
@@ -34,7 +46,10 @@ public class YouthPolicyTagServiceImpl implements YouthPolicyTagService{
     public final TagService tagService;
     public final TagRepository tagRepository;
     public final UserTagRepository userTagRepository;
-    private final YouthPolicyBookmarkRepository bookmarkRepository;
+    private final UserPolicyIdSetCache userPolicyIdSetCache;
+    private final YouthPolicyTagIndex youthPolicyTagIndex;
+    private final YouthPolicyTagBulkRepository youthPolicyTagBulkRepository;
+    private final TagDictionary tagDictionary;
 
     @Override
     public List<YouthPolicyTagResponse> getAllYouthPolicyTag() {
@@ -64,6 +79,7 @@ public class YouthPolicyTagServiceImpl implements YouthPolicyTagService{
                 newYouthPolicyTag.setYouthPolicy(myYouthPolicy);
                 newYouthPolicyTag.setTag(myTag);
                 youthPolicyTagRepository.save(newYouthPolicyTag);
+                youthPolicyTagIndex.add(myYouthPolicy.getPolicyId(), myYouthPolicy.getCreatedAt(), myTag.getTagId());
 
         }else{
             log.info("[경고]정책이 존재하지 않습니다 태그 id : {}", youthPolicyTag.getPolicyId(), youthPolicyTag.getTagId());
@@ -84,14 +100,83 @@ public class YouthPolicyTagServiceImpl implements YouthPolicyTagService{
     }
 
     @Override
+    @Transactional
     public List<YouthPolicyTagResponse> createYouthPolicyTag(YouthPolicyTagRequest youthPolicyTagRequest) {
-        YouthPolicy myYouthPolicy = youthPolicyRepository.findById(youthPolicyTagRequest.getYouthPolicyId()).orElse(null);
-        List<Long> tagIds = youthPolicyTagRequest.getTagIds();
-        List<Tag> tags = tagIds.stream().map(tagId -> tagRepository.findById(tagId).orElse(null)).collect(Collectors.toList());
-        return tags.stream().map(tag -> {
-            YouthPolicyTag result = youthPolicyTagRepository.save(new YouthPolicyTag(myYouthPolicy, tag));
-            return new YouthPolicyTagResponse(result.getYouthPolicy().getPolicyId(), result.getYouthPolicy().getPolicyName(), result.getTag().getTagId(), result.getTag().getTagName());
-        }).collect(Collectors.toList());
+        if (youthPolicyTagRequest.getYouthPolicyId() == null || youthPolicyTagRequest.getTagIds() == null) {
+            return List.of();
+        }
+        return assignTags(Map.of(youthPolicyTagRequest.getYouthPolicyId(), youthPolicyTagRequest.getTagIds()));
+    }
+
+    /**
+     * 태그 일괄 할당
+     * - 정책 조회 1회 + 기존 연결 조회 1회 + JDBC 배치 INSERT 1회 (태그명은 메모리 사전에서 확인)
+     * - 요청 안의 중복, 이미 저장된 연결, 없는 정책/태그는 건너뜀
+     * - 반환: 요청한 연결 중 존재하는 정책/태그 전부 (이미 있던 연결 포함, 요청 안의 중복은 한 번)
+     * - 태그 색인은 커밋 후 새로 저장한 연결만 반영
+     */
+    @Override
+    @Transactional
+    public List<YouthPolicyTagResponse> assignTags(Map<String, ? extends Collection<Long>> tagIdsByPolicyId) {
+        if (tagIdsByPolicyId == null || tagIdsByPolicyId.isEmpty()) return List.of();
+
+        Map<String, PolicyTagTargetProjection> policies = youthPolicyTagRepository
+                .findTagTargetsByPolicyIds(tagIdsByPolicyId.keySet()).stream()
+                .collect(Collectors.toMap(PolicyTagTargetProjection::getPolicyId, p -> p));
+        if (policies.isEmpty()) {
+            log.info("[경고]정책이 존재하지 않습니다 정책 id : {}", tagIdsByPolicyId.keySet());
+            return List.of();
+        }
+
+        // 태그 테이블이 비어 있으면 기본 태그 생성
+        if (tagDictionary.isEmpty()) {
+            log.info("[알림] 태그 DB 할당 로직을 실행합니다.");
+            tagService.setTagList();
+        }
+        Set<Long> requestedTagIds = tagIdsByPolicyId.values().stream()
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> tagNames = tagDictionary.resolve(requestedTagIds);
+
+        // 이미 있는 (정책, 태그) 연결
+        Set<PolicyTagKey> linked = youthPolicyTagRepository.findTagsByPolicyIds(new ArrayList<>(policies.keySet())).stream()
+                .map(row -> new PolicyTagKey(row.getPolicyId(), row.getTagId()))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        Set<PolicyTagKey> requested = new HashSet<>();
+        List<YouthPolicyTagIndex.TagAssignment> assignments = new ArrayList<>();
+        List<YouthPolicyTagResponse> responses = new ArrayList<>();
+        tagIdsByPolicyId.forEach((policyId, tagIds) -> {
+            PolicyTagTargetProjection policy = policies.get(policyId);
+            if (policy == null) {
+                log.info("[경고]정책이 존재하지 않습니다 정책 id : {}", policyId);
+                return;
+            }
+            if (tagIds == null) return;
+            for (Long tagId : tagIds) {
+                String tagName = tagId != null ? tagNames.get(tagId) : null;
+                if (tagName == null) {
+                    log.info("[경고]태그가 존재하지 않습니다. 태그 id : {}", tagId);
+                    continue;
+                }
+                PolicyTagKey key = new PolicyTagKey(policyId, tagId);
+                if (!requested.add(key)) continue;
+                if (linked.add(key)) {
+                    assignments.add(new YouthPolicyTagIndex.TagAssignment(policyId, policy.getCreatedAt(), tagId));
+                }
+                responses.add(new YouthPolicyTagResponse(policyId, policy.getPolicyName(), tagId, tagName));
+            }
+        });
+
+        youthPolicyTagBulkRepository.insertAll(assignments);
+        // 트랜잭션 안이므로 색인은 커밋 후 반영 (롤백 시 반영하지 않음)
+        youthPolicyTagIndex.addAll(assignments);
+        return responses;
+    }
+
+    private record PolicyTagKey(String policyId, Long tagId) {
     }
 
     @Override
@@ -116,6 +201,23 @@ public class YouthPolicyTagServiceImpl implements YouthPolicyTagService{
             return Page.empty(pageable);
         }
 
+        // 태그 색인이 준비되어 있으면 비트셋으로 순위를 매기고 요청 페이지만 조회
+        if (youthPolicyTagIndex.isReady()) {
+            YouthPolicyTagIndex.RankedPolicies ranked =
+                    youthPolicyTagIndex.rankByMatchedTags(tagIds, pageable.getOffset(), pageable.getPageSize());
+            if (ranked.policyIds().isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, ranked.total());
+            }
+
+            // 카드 컬럼만 순위 순서대로 조회
+            List<YouthPolicyCardView> cards = youthPolicyRepository.findCardsInOrder(ranked.policyIds());
+            var bookmarkedSet = userPolicyIdSetCache.bookmarkedIds(user);
+            List<YouthPolicyMainItemDto> dtoList = cards.stream()
+                    .map(card -> YouthPolicyMainItemDto.from(card, bookmarkedSet.contains(card.getPolicyId())))
+                    .toList();
+            return new PageImpl<>(dtoList, pageable, ranked.total());
+        }
+
         // 1) 정책별 매칭된 태그 개수 조회
         List<PolicyTagMatchProjection> matches = youthPolicyTagRepository.findPolicyMatchCounts(tagIds);
         if (matches.isEmpty()) {
@@ -144,16 +246,21 @@ public class YouthPolicyTagServiceImpl implements YouthPolicyTagService{
         int end   = Math.min(start + pageable.getPageSize(), total);
         List<PolicyTagMatchProjection> slice = (start < end) ? matches.subList(start, end) : List.of();
 
-        // 4) 북마크 계산은 "현재 페이지(slice)" 대상만
+        // 4) 북마크 계산 + DTO 매핑은 "현재 페이지(slice)" 대상만
         List<YouthPolicy> content = slice.stream()
                 .map(PolicyTagMatchProjection::getYouthPolicy)
                 .collect(Collectors.toList());
-        List<String> ids = content.stream().map(YouthPolicy::getPolicyId).toList();
-        List<String> bookmarkedIds = bookmarkRepository.findBookmarkedPolicyIds(user, ids);
-        var bookmarkedSet = new java.util.HashSet<>(bookmarkedIds);
+        return new PageImpl<>(toMainItems(user, content), pageable, total);
+    }
 
-        // 5) DTO 매핑 (searchMulti와 동일 형태)
-        List<YouthPolicyMainItemDto> dtoList = content.stream().map(p ->
+    /**
+     * 메인 목록 DTO 매핑 (searchMulti와 동일 형태, 북마크 여부는 사용자별 캐시)
+     */
+    private List<YouthPolicyMainItemDto> toMainItems(User user, List<YouthPolicy> content) {
+        var bookmarkedSet = userPolicyIdSetCache.bookmarkedIds(user);
+        var today = java.time.LocalDate.now();
+
+        return content.stream().map(p ->
                 YouthPolicyMainItemDto.builder()
                         .policyId(p.getPolicyId())
                         .policyName(p.getPolicyName())
@@ -161,12 +268,10 @@ public class YouthPolicyTagServiceImpl implements YouthPolicyTagService{
                         .largeClassification(p.getLargeClassification())
                         .mediumClassification(p.getMediumClassification())
                         .supervisingInstName(p.getSupervisingInstName())
-                        .dateLabel(p.getDateLabel())
+                        .dateLabel(p.dateStatus(today).label())
                         .bookmarked(bookmarkedSet.contains(p.getPolicyId()))
                         .build()
         ).toList();
-
-        return new PageImpl<>(dtoList, pageable, total);
     }
 
 
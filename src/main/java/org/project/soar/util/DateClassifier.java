@@ -1,8 +1,15 @@
 package org.project.soar.util;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.stream.IntStream;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -14,9 +21,31 @@ import java.util.regex.Pattern;
  * 3) businessPeriodEnd 기준으로 DEADLINE/FINISHED
  * 4) 텍스트 기반 키워드(오픈예정/종료)는 보조 판정
  * 5) 기본값은 ONGOING
+ * - 1~3은 날짜 비교만 하므로, 텍스트 판정(TextSignal)을 미리 저장해 두면 요청 시점 분류는 O(1)
  */
 public class DateClassifier {
 
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Pattern YEAR_PATTERN = Pattern.compile("(20\\d{2})");
+    private static final Pattern DATE_PATTERN =
+            Pattern.compile("(20\\d{2})[.\\-/년 ]?(\\d{1,2})[.\\-/월 ]?(\\d{1,2})?");
+
+    // 키워드 그룹 (비트마스크)
+    private static final int UPCOMING_KEYWORD = 1;
+    private static final int END_KEYWORD = 1 << 1;
+    private static final int FIRST_COME_KEYWORD = 1 << 2;
+    private static final int YEAR_CANDIDATE = 1 << 3; // "20dd" 존재 → 연도/날짜 정규식이 매칭될 수 있음
+
+    /**
+     * 키워드 그룹 + 연도 후보를 텍스트 한 번 훑어서 찾는 스캐너
+     * - "오픈 예정"/"공고 예정"/"모집 예정"/"접수 예정"은 "예정"에, "사업 종료"는 "종료"에 포함되므로 짧은 쪽만 등록
+     */
+    private static final KeywordScanner KEYWORDS = new KeywordScanner(Map.of(
+            UPCOMING_KEYWORD, List.of("예정", "사전 접수", "사전예약", "사전 신청", "준비중"),
+            END_KEYWORD, List.of("지원 마감", "접수 마감", "모집 마감", "종료", "발표 완료"),
+            FIRST_COME_KEYWORD, List.of("예산 소진", "선착순"),
+            YEAR_CANDIDATE, IntStream.range(0, 100).mapToObj(n -> String.format("20%02d", n)).toList()));
+
     public static DateResult classify(
             LocalDate applyStart,
             LocalDate applyEnd,
@@ -31,6 +60,92 @@ public class DateClassifier {
         if (currentDate == null)
             currentDate = LocalDate.now();
 
+        DateResult byDates = classifyByDates(applyStart, applyEnd, parseDate(businessPeriodEnd), currentDate);
+        if (byDates != null)
+            return byDates;
+
+        return fromTextSignal(textSignal(
+                applyMethodContent, screeningMethodContent, businessPeriodEtc,
+                policySupportContent, policyName, currentDate));
+    }
+
+    /**
+     * 저장된 경계 날짜 + 텍스트 판정으로 분류 (정규식 없음)
+     * - signal은 textSignal()을 같은 날 또는 이전 롤오버에서 계산한 값
+     */
+    public static DateResult classify(
+            LocalDate applyStart,
+            LocalDate applyEnd,
+            LocalDate businessEnd,
+            TextSignal signal,
+            LocalDate currentDate) {
+
+        if (currentDate == null)
+            currentDate = LocalDate.now();
+
+        DateResult byDates = classifyByDates(applyStart, applyEnd, businessEnd, currentDate);
+        if (byDates != null)
+            return byDates;
+
+        return fromTextSignal(signal == null ? TextSignal.NONE : signal);
+    }
+
+    /**
+     * 텍스트 기반 보조 판정 (4~6단계)
+     * - 날짜 정보로 분류되지 않을 때만 결과에 쓰이며, 과거 연도/날짜 판정 때문에 currentDate 기준으로 하루 단위 재계산
+     */
+    public static TextSignal textSignal(
+            String applyMethodContent,
+            String screeningMethodContent,
+            String businessPeriodEtc,
+            String policySupportContent,
+            String policyName,
+            LocalDate currentDate) {
+
+        if (currentDate == null)
+            currentDate = LocalDate.now();
+
+        // 필드마다 키워드 스캔은 한 번만
+        int applyMethodKeywords = KEYWORDS.scan(applyMethodContent);
+        int screeningKeywords = KEYWORDS.scan(screeningMethodContent);
+        int businessEtcKeywords = KEYWORDS.scan(businessPeriodEtc);
+        int supportKeywords = KEYWORDS.scan(policySupportContent);
+        int policyNameKeywords = KEYWORDS.scan(policyName);
+
+        // 4) 텍스트 기반 오픈 예정 키워드(보조 판단)
+        if (((policyNameKeywords | applyMethodKeywords | supportKeywords | businessEtcKeywords | screeningKeywords)
+                & UPCOMING_KEYWORD) != 0) {
+            return TextSignal.UPCOMING;
+        }
+
+        // 5) 텍스트 기반 과거 정보 또는 종료 키워드 포함 시 종료 처리(보조 판단)
+        //    키워드 판정을 먼저 하고, 정규식은 연도 후보가 있는 필드에만
+        if (((businessEtcKeywords | supportKeywords | screeningKeywords) & END_KEYWORD) != 0
+                || hasYear(policyNameKeywords) && containsPastYearInText(policyName, currentDate)
+                || hasYear(businessEtcKeywords) && containsPastYearInText(businessPeriodEtc, currentDate)
+                || hasYear(supportKeywords) && containsPastYearInText(policySupportContent, currentDate)
+                || hasYear(supportKeywords) && containsPastDate(policySupportContent, currentDate)
+                || hasYear(screeningKeywords) && containsPastDate(screeningMethodContent, currentDate)) {
+            return TextSignal.ENDED;
+        }
+
+        // 6) 신청 방식 설명에 선착순 또는 예산 소진 키워드가 있으면 진행중
+        if ((applyMethodKeywords & FIRST_COME_KEYWORD) != 0) {
+            return TextSignal.FIRST_COME;
+        }
+
+        return TextSignal.NONE;
+    }
+
+    /**
+     * 날짜만으로 분류되는 1~3단계, 해당 없으면 null
+     */
+    private static DateResult classifyByDates(
+            LocalDate applyStart,
+            LocalDate applyEnd,
+            LocalDate bizEnd,
+            LocalDate currentDate) {
+
         // 1) 오픈 예정: 접수 시작일이 오늘보다 미래이면 무조건 UPCOMING
         if (applyStart != null) {
             long daysUntilStart = ChronoUnit.DAYS.between(currentDate, applyStart);
@@ -50,7 +165,6 @@ public class DateClassifier {
         }
 
         // 3) 사업 마감: businessPeriodEnd 기준 DEADLINE/FINISHED
-        LocalDate bizEnd = parseDate(businessPeriodEnd);
         if (bizEnd != null) {
             long daysLeftBiz = ChronoUnit.DAYS.between(currentDate, bizEnd);
             if (daysLeftBiz < 0) {
@@ -60,124 +174,194 @@ public class DateClassifier {
             }
         }
 
-        // 4) 텍스트 기반 오픈 예정 키워드(보조 판단)
-        if (containsUpcomingKeyword(policyName)
-                || containsUpcomingKeyword(applyMethodContent)
-                || containsUpcomingKeyword(policySupportContent)
-                || containsUpcomingKeyword(businessPeriodEtc)
-                || containsUpcomingKeyword(screeningMethodContent)) {
-            return new DateResult("UPCOMING", "오픈 예정");
-        }
-
-        // 5) 텍스트 기반 과거 정보 또는 종료 키워드 포함 시 종료 처리(보조 판단)
-        if (containsPastYearInText(policyName, currentDate)
-                || containsPastYearInText(businessPeriodEtc, currentDate)
-                || containsPastYearInText(policySupportContent, currentDate)
-                || containsEndKeyword(businessPeriodEtc)
-                || containsEndKeyword(policySupportContent)
-                || containsPastDate(policySupportContent, currentDate)
-                || containsPastDate(screeningMethodContent, currentDate)
-                || containsEndKeyword(screeningMethodContent)) {
-            return new DateResult("FINISHED", "사업 종료");
-        }
-
-        // 6) 신청 방식 설명에 선착순 또는 예산 소진 키워드가 있으면 진행중
-        if (applyMethodContent != null
-                && (applyMethodContent.contains("예산 소진") || applyMethodContent.contains("선착순"))) {
-            return new DateResult("ONGOING", "선착순 모집");
-        }
+        return null;
+    }
 
-        // 7) 기본값은 진행중
-        return new DateResult("ONGOING", "모집공고 확인");
+    private static DateResult fromTextSignal(TextSignal signal) {
+        return switch (signal) {
+            case UPCOMING -> new DateResult("UPCOMING", "오픈 예정");
+            case ENDED -> new DateResult("FINISHED", "사업 종료");
+            case FIRST_COME -> new DateResult("ONGOING", "선착순 모집");
+            // 7) 기본값은 진행중
+            case NONE -> new DateResult("ONGOING", "모집공고 확인");
+        };
     }
 
-    private static LocalDate parseDate(String yyyymmdd) {
+    /**
+     * yyyyMMdd 문자열 → LocalDate (비어 있거나 형식이 다르면 null)
+     */
+    public static LocalDate parseDate(String yyyymmdd) {
         try {
             if (yyyymmdd != null && !yyyymmdd.isBlank()) {
-                return LocalDate.parse(yyyymmdd.trim(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+                return LocalDate.parse(yyyymmdd.trim(), YYYYMMDD);
             }
         } catch (Exception ignored) {
         }
         return null;
     }
 
+    private static boolean hasYear(int keywords) {
+        return (keywords & YEAR_CANDIDATE) != 0;
+    }
+
     private static boolean containsPastYearInText(String text, LocalDate currentDate) {
         if (text == null || text.isBlank())
             return false;
 
-        Pattern yearPattern = Pattern.compile("(20\\d{2})");
-        Matcher matcher = yearPattern.matcher(text);
+        Matcher matcher = YEAR_PATTERN.matcher(text);
+        if (!matcher.find())
+            return false;
+
         int currentYear = currentDate.getYear();
 
-        while (matcher.find()) {
+        // "~"가 있으면 연도 표기가 하나라도 있을 때 "~" 뒤쪽 숫자(종료 연도)만 비교
+        if (text.indexOf('~') >= 0) {
+            String[] split = text.split("~");
+            if (split.length != 2)
+                return false;
             try {
-                int year = Integer.parseInt(matcher.group(1));
-                if (text.contains("~")) {
-                    String[] split = text.split("~");
-                    if (split.length == 2) {
-                        int endYear = Integer.parseInt(split[1].replaceAll("[^0-9]", ""));
-                        if (endYear < currentYear)
-                            return true;
-                    }
-                } else if (year < currentYear) {
-                    return true;
-                }
-            } catch (Exception ignored) {
+                return Integer.parseInt(split[1].replaceAll("[^0-9]", "")) < currentYear;
+            } catch (NumberFormatException e) {
+                return false;
             }
         }
+
+        do {
+            if (Integer.parseInt(matcher.group(1)) < currentYear)
+                return true;
+        } while (matcher.find());
         return false;
     }
 
-    private static boolean containsEndKeyword(String content) {
-        if (content == null)
+    private static boolean containsPastDate(String content, LocalDate currentDate) {
+        if (content == null || content.isBlank())
             return false;
-        return content.contains("지원 마감") || content.contains("사업 종료")
-                || content.contains("접수 마감") || content.contains("모집 마감")
-                || content.contains("종료") || content.contains("발표 완료");
+
+        Matcher matcher = DATE_PATTERN.matcher(content);
+        while (matcher.find()) {
+            int year = Integer.parseInt(matcher.group(1));
+            int month = Integer.parseInt(matcher.group(2));
+            int day = matcher.group(3) != null ? Integer.parseInt(matcher.group(3)) : 1;
+
+            LocalDate foundDate = toDate(year, month, day);
+            if (foundDate != null && foundDate.isBefore(currentDate)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * 오픈 예정 키워드 감지 (보조 판단용)
+     * 텍스트에서 찾은 연/월/일 → LocalDate
+     * - yyyyMMdd 파싱(SMART)과 같은 규칙: 월 1~12, 일 1~31, 해당 월 말일을 넘는 일은 말일로 보정
      */
-    private static boolean containsUpcomingKeyword(String content) {
-        if (content == null || content.isBlank())
-            return false;
-        return content.contains("오픈 예정")
-                || content.contains("공고 예정")
-                || content.contains("모집 예정")
-                || content.contains("접수 예정")
-                || content.contains("사전 접수")
-                || content.contains("사전예약")
-                || content.contains("사전 신청")
-                || content.contains("준비중")
-                || content.contains("예정");
+    private static LocalDate toDate(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > 31)
+            return null;
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return yearMonth.atDay(Math.min(day, yearMonth.lengthOfMonth()));
     }
 
-    private static boolean containsPastDate(String content, LocalDate currentDate) {
-        if (content == null || content.isBlank())
-            return false;
+    /**
+     * 키워드 그룹 다중 검색 (Aho-Corasick)
+     * - 실패 링크까지 펼친 상태 전이표(DFA)로 만들어 문자당 배열 조회 한 번
+     * - 텍스트를 한 번만 훑어서 등장한 키워드 그룹의 비트마스크를 반환
+     */
+    private static final class KeywordScanner {
 
-        Pattern datePattern = Pattern.compile("(20\\d{2})[.\\-/년 ]?(\\d{1,2})[.\\-/월 ]?(\\d{1,2})?");
-        Matcher matcher = datePattern.matcher(content);
+        private final byte[] symbols = new byte[Character.MAX_VALUE + 1]; // 문자 → 기호 (0: 키워드에 없는 문자)
+        private final int alphabetSize;
+        private final int[] next;   // next[state * alphabetSize + symbol]
+        private final int[] output; // 상태에서 끝나는 키워드 그룹 (실패 링크 쪽 출력 포함)
+        private final int allGroups;
 
-        while (matcher.find()) {
-            try {
-                String year = matcher.group(1);
-                String month = matcher.group(2);
-                String day = matcher.group(3) != null ? matcher.group(3) : "01";
-
-                String normalized = String.format("%s%02d%02d",
-                        year, Integer.parseInt(month), Integer.parseInt(day));
-                LocalDate foundDate = parseDate(normalized);
-                if (foundDate != null && foundDate.isBefore(currentDate)) {
-                    return true;
+        KeywordScanner(Map<Integer, List<String>> keywordsByGroup) {
+            int symbolCount = 1;
+            for (List<String> keywords : keywordsByGroup.values()) {
+                for (String keyword : keywords) {
+                    for (char c : keyword.toCharArray()) {
+                        if (symbols[c] == 0) symbols[c] = (byte) symbolCount++;
+                    }
+                }
+            }
+            this.alphabetSize = symbolCount;
+
+            // 1) 트라이
+            List<int[]> trie = new ArrayList<>();
+            List<Integer> groupsByState = new ArrayList<>();
+            trie.add(new int[alphabetSize]);
+            groupsByState.add(0);
+            int groups = 0;
+            for (Map.Entry<Integer, List<String>> entry : keywordsByGroup.entrySet()) {
+                groups |= entry.getKey();
+                for (String keyword : entry.getValue()) {
+                    int state = 0;
+                    for (char c : keyword.toCharArray()) {
+                        int symbol = symbols[c];
+                        if (trie.get(state)[symbol] == 0) {
+                            trie.get(state)[symbol] = trie.size();
+                            trie.add(new int[alphabetSize]);
+                            groupsByState.add(0);
+                        }
+                        state = trie.get(state)[symbol];
+                    }
+                    groupsByState.set(state, groupsByState.get(state) | entry.getKey());
+                }
+            }
+            this.allGroups = groups;
+
+            // 2) BFS로 실패 링크를 따라 빈 전이를 채우고 출력 합치기
+            this.next = new int[trie.size() * alphabetSize];
+            this.output = new int[trie.size()];
+            int[] failure = new int[trie.size()];
+            Queue<Integer> queue = new ArrayDeque<>();
+            for (int symbol = 1; symbol < alphabetSize; symbol++) {
+                int child = trie.get(0)[symbol];
+                next[symbol] = child;
+                if (child != 0) queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                output[state] = groupsByState.get(state) | output[failure[state]];
+                for (int symbol = 1; symbol < alphabetSize; symbol++) {
+                    int child = trie.get(state)[symbol];
+                    if (child != 0) {
+                        failure[child] = next[failure[state] * alphabetSize + symbol];
+                        next[state * alphabetSize + symbol] = child;
+                        queue.add(child);
+                    } else {
+                        next[state * alphabetSize + symbol] = next[failure[state] * alphabetSize + symbol];
+                    }
                 }
-            } catch (Exception ignored) {
             }
         }
-        return false;
+
+        int scan(String text) {
+            if (text == null || text.isEmpty())
+                return 0;
+
+            int found = 0;
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                state = next[state * alphabetSize + symbols[text.charAt(i)]];
+                found |= output[state];
+                if (found == allGroups)
+                    break;
+            }
+            return found;
+        }
     }
 
     public record DateResult(String type, String label) {
     }
+
+    /**
+     * 텍스트 보조 판정 결과 (youth_policy.text_signal 에 저장)
+     */
+    public enum TextSignal {
+        UPCOMING,   // 오픈 예정 키워드
+        ENDED,      // 과거 연도/날짜 또는 종료 키워드
+        FIRST_COME, // 선착순/예산 소진
+        NONE
+    }
 }
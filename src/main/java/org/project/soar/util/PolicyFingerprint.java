@@ -0,0 +1,78 @@
+package org.project.soar.util;
+
+import org.project.soar.model.youthpolicy.dto.YouthPolicyApiData;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 청년정책 API 데이터의 내용 지문(SHA-256) 생성
+ * - YouthPolicy로 저장되는 필드만 대상으로 한다.
+ * - 조회수(inqCnt)는 매일 바뀌므로 제외하고 별도 경량 갱신한다.
+ * - 변환 로직이 바뀌면 VERSION을 올려 전체 재처리를 유도한다.
+ */
+public class PolicyFingerprint {
+
+    private static final String VERSION = "v1";
+    private static final char SEPARATOR = '\u001F';
+    private static final char NULL_MARK = '\u0000';
+
+    public static String of(YouthPolicyApiData data) {
+        StringBuilder sb = new StringBuilder(4096).append(VERSION);
+        append(sb, data.getPlcyNo());
+        append(sb, data.getPlcyNm());
+        append(sb, data.getPlcyKywdNm());
+        append(sb, data.getPlcyExplnCn());
+        append(sb, data.getPlcySprtCn());
+        append(sb, data.getLclsfNm());
+        append(sb, data.getMclsfNm());
+        append(sb, data.getSprvsnInstCd());
+        append(sb, data.getSprvsnInstCdNm());
+        append(sb, data.getOperInstCd());
+        append(sb, data.getOperInstCdNm());
+        append(sb, data.getBizPrdBgngYmd());
+        append(sb, data.getBizPrdEndYmd());
+        append(sb, data.getBizPrdEtcCn());
+        append(sb, data.getPlcyAplyMthdCn());
+        append(sb, data.getSrngMthdCn());
+        append(sb, data.getAplyUrlAddr());
+        append(sb, data.getSbmsnDcmntCn());
+        append(sb, data.getEtcMttrCn());
+        append(sb, data.getRefUrlAddr1());
+        append(sb, data.getRefUrlAddr2());
+        append(sb, data.getSprtSclCnt());
+        append(sb, data.getSprtTrgtMinAge());
+        append(sb, data.getSprtTrgtMaxAge());
+        append(sb, data.getSprtTrgtAgeLmtYn());
+        append(sb, data.getEarnMinAmt());
+        append(sb, data.getEarnMaxAmt());
+        append(sb, data.getEarnEtcCn());
+        append(sb, data.getAddAplyQlfcCndCn());
+        append(sb, data.getZipCd());
+        append(sb, data.getPlcyMajorCd());
+        append(sb, data.getJobCd());
+        append(sb, data.getSchoolCd());
+        append(sb, data.getFrstRegDt());
+        append(sb, data.getLastMdfcnDt());
+        append(sb, data.getAplyBgngYmd());
+        append(sb, data.getAplyEndYmd());
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void append(StringBuilder sb, String value) {
+        sb.append(SEPARATOR);
+        if (value == null) {
+            sb.append(NULL_MARK);
+        } else {
+            sb.append(value);
+        }
+    }
+}
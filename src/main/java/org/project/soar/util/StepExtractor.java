@@ -1,18 +1,27 @@
 package org.project.soar.util;
 
 import java.util.*;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class StepExtractor {
 
     private static final Pattern SPLIT_PATTERN = Pattern.compile("[\\-▶→●·\\*\\n]");
-    private static final Map<String, Pattern> STEP_PATTERNS = Map.of(
-        "apply", Pattern.compile("(신청|접수|지원|원서|모집)", Pattern.CASE_INSENSITIVE),
-        "document", Pattern.compile("(서류|제출|자격|검토|자산심사|기록부|증빙|확인서)", Pattern.CASE_INSENSITIVE),
-        "notice", Pattern.compile("(발표|통보|결과|안내|문자|홈페이지|게시|합격|이의|선정|면접)", Pattern.CASE_INSENSITIVE),
-        "caution", Pattern.compile("(일정|날짜|참고|포기|계좌|교육|조건|공고문|주의|계획|기타|준수|보험)", Pattern.CASE_INSENSITIVE)
-    );
+    // 분류 우선순위: apply > document > notice > caution
+    private static final String[] STEP_KEYS = {"apply", "document", "notice", "caution"};
+
+    /**
+     * 카테고리별 키워드를 하나로 합친 패턴
+     * - 전방탐색(zero-width)이라 키워드가 겹쳐도 모든 시작 위치를 한 번의 순회로 검사
+     * - 같은 위치에서는 우선순위가 높은 카테고리 그룹이 먼저 매칭됨
+     */
+    private static final Pattern STEP_PATTERN = Pattern.compile(
+        "(?=(?:(?<apply>신청|접수|지원|원서|모집)" +
+        "|(?<document>서류|제출|자격|검토|자산심사|기록부|증빙|확인서)" +
+        "|(?<notice>발표|통보|결과|안내|문자|홈페이지|게시|합격|이의|선정|면접)" +
+        "|(?<caution>일정|날짜|참고|포기|계좌|교육|조건|공고문|주의|계획|기타|준수|보험)))",
+        Pattern.CASE_INSENSITIVE);
 
     public static Map<String, List<String>> extractSteps(String... contents) {
         List<String> allSentences = Arrays.stream(contents)
@@ -28,16 +37,11 @@ public class StepExtractor {
         List<String> cautionSteps = new ArrayList<>();
 
         for (String sentence : allSentences) {
-            if (STEP_PATTERNS.get("apply").matcher(sentence).find()) {
-                applySteps.add(sentence);
-            } else if (STEP_PATTERNS.get("document").matcher(sentence).find()) {
-                documentSteps.add(sentence);
-            } else if (STEP_PATTERNS.get("notice").matcher(sentence).find()) {
-                noticeSteps.add(sentence);
-            } else if (STEP_PATTERNS.get("caution").matcher(sentence).find()) {
-                cautionSteps.add(sentence);
-            } else {
-                cautionSteps.add(sentence); // 미분류 문장도 caution으로
+            switch (classify(sentence)) {
+                case 0 -> applySteps.add(sentence);
+                case 1 -> documentSteps.add(sentence);
+                case 2 -> noticeSteps.add(sentence);
+                default -> cautionSteps.add(sentence); // 미분류 문장도 caution으로
             }
         }
 
@@ -49,6 +53,23 @@ public class StepExtractor {
         );
     }
 
+    /**
+     * 문장 한 번 순회로 가장 우선순위가 높은 카테고리 인덱스 반환 (STEP_KEYS 기준, 미분류는 caution)
+     */
+    private static int classify(String sentence) {
+        int best = STEP_KEYS.length - 1;
+        Matcher matcher = STEP_PATTERN.matcher(sentence);
+        while (best > 0 && matcher.find()) {
+            for (int i = 0; i < best; i++) {
+                if (matcher.start(STEP_KEYS[i]) >= 0) {
+                    best = i;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
     private static List<String> defaultIfEmpty(List<String> list) {
         return list == null || list.isEmpty() ? List.of("없음") : list;
     }
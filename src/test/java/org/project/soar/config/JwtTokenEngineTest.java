@@ -0,0 +1,92 @@
+package org.project.soar.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenEngineTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private final JwtTokenEngine engine = new JwtTokenEngine(SECRET);
+
+    @Test
+    void verifyReturnsCachedResultForSameToken() {
+        String token = token("1:user@test.com", Instant.now().plus(30, ChronoUnit.MINUTES));
+
+        JwtTokenEngine.VerifiedToken first = engine.verify(token);
+        JwtTokenEngine.VerifiedToken second = engine.verify(token);
+
+        assertEquals("1:user@test.com", first.subject());
+        assertEquals("USER", first.role());
+        assertSame(first, second);
+    }
+
+    @Test
+    void expiredTokenIsRejectedAndNotCached() {
+        String token = token("1:user@test.com", Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        assertThrows(ExpiredJwtException.class, () -> engine.verify(token));
+        assertEquals(0, engine.cachedTokenCount());
+    }
+
+    @Test
+    void cacheStaysBounded() {
+        Instant expiresAt = Instant.now().plus(30, ChronoUnit.MINUTES);
+        for (int i = 0; i < 10_500; i++) {
+            engine.verify(token(i + ":user@test.com", expiresAt));
+        }
+
+        assertTrue(engine.cachedTokenCount() <= 10_000);
+    }
+
+    @Test
+    void concurrentVerifyReturnsMatchingSubjects() throws Exception {
+        Instant expiresAt = Instant.now().plus(30, ChronoUnit.MINUTES);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            tokens.add(token(i + ":user@test.com", expiresAt));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < 200; round++) {
+                        for (int i = 0; i < tokens.size(); i++) {
+                            assertEquals(i + ":user@test.com", engine.verify(tokens.get(i)).subject());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(tokens.size(), engine.cachedTokenCount());
+    }
+
+    private String token(String subject, Instant expiresAt) {
+        return Jwts.builder()
+                .signWith(engine.signingKey(), SignatureAlgorithm.HS512)
+                .setSubject(subject)
+                .claim("role", "USER")
+                .setExpiration(Date.from(expiresAt))
+                .compact();
+    }
+}
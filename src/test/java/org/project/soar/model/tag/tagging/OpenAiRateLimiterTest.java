@@ -0,0 +1,82 @@
+package org.project.soar.model.tag.tagging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenAiRateLimiterTest {
+
+    @Test
+    void backOffUsesRetryAfterHeaders() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(60);
+        HttpHeaders millis = new HttpHeaders();
+        millis.set("retry-after-ms", "1500");
+        HttpHeaders seconds = new HttpHeaders();
+        seconds.set("retry-after", "2");
+
+        assertEquals(1500, limiter.backOff(millis, null));
+        assertEquals(2000, limiter.backOff(seconds, null));
+        assertTrue(limiter.pauseRemainingMillis() > 1500);
+        assertTrue(limiter.pauseRemainingMillis() <= 2000);
+    }
+
+    @Test
+    void backOffFallsBackToBodyHintThenDefault() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(60);
+
+        assertEquals(1500, limiter.backOff(new HttpHeaders(), "Rate limit reached. Please try again in 1.5s."));
+        assertEquals(250, limiter.backOff(null, "Please try again in 250ms."));
+        assertEquals(10_000, limiter.backOff(null, null));
+    }
+
+    @Test
+    void updatePausesWhenRequestsAreExhausted() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(60);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-ratelimit-remaining-requests", "0");
+        headers.set("x-ratelimit-reset-requests", "6m0s");
+
+        limiter.update(headers);
+
+        assertTrue(limiter.pauseRemainingMillis() > 359_000);
+    }
+
+    @Test
+    void updatePausesWhenTokensRunLow() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(60);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-ratelimit-remaining-requests", "50");
+        headers.set("x-ratelimit-remaining-tokens", "100");
+        headers.set("x-ratelimit-reset-tokens", "1.5s");
+
+        limiter.update(headers);
+
+        long remaining = limiter.pauseRemainingMillis();
+        assertTrue(remaining > 1000 && remaining <= 1500);
+    }
+
+    @Test
+    void updateWithoutLimitHeadersDoesNotPause() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(60);
+
+        limiter.update(new HttpHeaders());
+
+        assertEquals(0, limiter.pauseRemainingMillis());
+    }
+
+    @Test
+    void acquireWaitsForRefillAfterFirstPermit() throws InterruptedException {
+        // 분당 600건 → 100ms 마다 1건
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(600);
+
+        long startedAt = System.nanoTime();
+        limiter.acquire();
+        long firstMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        limiter.acquire();
+        long secondMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertTrue(firstMillis < 50, "first permit should be immediate: " + firstMillis);
+        assertTrue(secondMillis >= 50, "second permit should wait for refill: " + secondMillis);
+    }
+}
@@ -0,0 +1,141 @@
+package org.project.soar.model.tag.tagging;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.project.soar.config.RestTemplateConfig;
+import org.project.soar.model.youthpolicy.dto.YouthPolicyOpenAI;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)로 OpenAI 응답을 흉내 내 태깅 클라이언트와 속도 제한기 연동 확인
+ */
+class PolicyTaggingClientTest {
+
+    private static final YouthPolicyOpenAI POLICY =
+            new YouthPolicyOpenAI("P1", "청년 월세 지원", "월세 지원", "월 20만원", 19, 34);
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+    private volatile StubResponse stubResponse;
+
+    private OpenAiRateLimiter rateLimiter;
+    private PolicyTaggingClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/responses", exchange -> {
+            requestCount.incrementAndGet();
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            exchange.getRequestBody().readAllBytes();
+
+            StubResponse response = stubResponse;
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            response.headers().forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        HttpHeaders gptHeaders = new HttpHeaders();
+        gptHeaders.setBearerAuth("test-key");
+        gptHeaders.setContentType(MediaType.APPLICATION_JSON);
+        RestTemplateConfig restTemplateConfig = mock(RestTemplateConfig.class);
+        when(restTemplateConfig.gptHeaders()).thenReturn(gptHeaders);
+
+        rateLimiter = new OpenAiRateLimiter(60);
+        client = new PolicyTaggingClient(restTemplateConfig, rateLimiter,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/responses");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void parsesTagIdsAndSendsAuthorization() throws Exception {
+        stubResponse = new StubResponse(200, Map.of(), outputText("1, 5,12"));
+
+        assertEquals(List.of(1L, 5L, 12L), client.requestTagIds(POLICY));
+        assertEquals("Bearer test-key", authorization.get());
+        assertEquals(0, rateLimiter.pauseRemainingMillis());
+    }
+
+    @Test
+    void tooManyRequestsBacksOffLimiterAndPropagates() {
+        stubResponse = new StubResponse(429, Map.of("retry-after", "3"),
+                "{\"error\":{\"message\":\"Rate limit reached\"}}");
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> client.requestTagIds(POLICY));
+        long remaining = rateLimiter.pauseRemainingMillis();
+        assertTrue(remaining > 2_000 && remaining <= 3_000, "pause: " + remaining);
+        // 재시도는 호출 측 몫, 클라이언트는 한 번만 요청
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void tooManyRequestsUsesBodyHintWithoutRetryAfter() {
+        stubResponse = new StubResponse(429, Map.of(),
+                "{\"error\":{\"message\":\"Please try again in 1.5s.\"}}");
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> client.requestTagIds(POLICY));
+        long remaining = rateLimiter.pauseRemainingMillis();
+        assertTrue(remaining > 1_000 && remaining <= 1_500, "pause: " + remaining);
+    }
+
+    @Test
+    void successHeadersPauseLimiterWhenRequestsExhausted() throws Exception {
+        stubResponse = new StubResponse(200,
+                Map.of("x-ratelimit-remaining-requests", "0", "x-ratelimit-reset-requests", "2s"),
+                outputText("3"));
+
+        assertEquals(List.of(3L), client.requestTagIds(POLICY));
+        long remaining = rateLimiter.pauseRemainingMillis();
+        assertTrue(remaining > 1_000 && remaining <= 2_000, "pause: " + remaining);
+    }
+
+    @Test
+    void serverErrorPropagatesWithoutBackOff() {
+        stubResponse = new StubResponse(500, Map.of(), "{}");
+
+        assertThrows(HttpServerErrorException.class, () -> client.requestTagIds(POLICY));
+        assertEquals(0, rateLimiter.pauseRemainingMillis());
+    }
+
+    @Test
+    void emptyOutputIsRejected() {
+        stubResponse = new StubResponse(200, Map.of(), "{\"output\":[]}");
+
+        assertThrows(IllegalStateException.class, () -> client.requestTagIds(POLICY));
+    }
+
+    private static String outputText(String text) {
+        return "{\"output\":[{\"type\":\"message\",\"content\":[{\"type\":\"output_text\",\"text\":\"" + text + "\"}]}]}";
+    }
+
+    private record StubResponse(int status, Map<String, String> headers, String body) {
+    }
+}
@@ -0,0 +1,184 @@
+package org.project.soar.model.tag.tagging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.project.soar.model.tag.PolicyTaggingJob;
+import org.project.soar.model.tag.enums.TaggingJobStatus;
+import org.project.soar.model.tag.repository.PolicyTaggingJobRepository;
+import org.project.soar.model.youthpolicy.YouthPolicy;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
+import org.project.soar.model.youthpolicytag.dto.YouthPolicyTagResponse;
+import org.project.soar.model.youthpolicytag.repository.YouthPolicyTagRepository;
+import org.project.soar.model.youthpolicytag.service.YouthPolicyTagService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 태깅 워커 풀: 선점 만료 회수, 429 대기, 실패 재시도 예약 확인 (저장소/클라이언트는 목)
+ */
+class PolicyTaggingWorkerPoolTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private PolicyTaggingJobRepository jobRepository;
+    private YouthPolicyRepository youthPolicyRepository;
+    private YouthPolicyTagRepository youthPolicyTagRepository;
+    private YouthPolicyTagService youthPolicyTagService;
+    private PolicyTaggingClient taggingClient;
+    private OpenAiRateLimiter rateLimiter;
+    private PolicyTaggingWorkerPool workerPool;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(PolicyTaggingJobRepository.class);
+        youthPolicyRepository = mock(YouthPolicyRepository.class);
+        youthPolicyTagRepository = mock(YouthPolicyTagRepository.class);
+        youthPolicyTagService = mock(YouthPolicyTagService.class);
+        taggingClient = mock(PolicyTaggingClient.class);
+        rateLimiter = new OpenAiRateLimiter(60);
+        workerPool = new PolicyTaggingWorkerPool(jobRepository, youthPolicyRepository, youthPolicyTagRepository,
+                youthPolicyTagService, taggingClient, rateLimiter, 2, MAX_ATTEMPTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerPool.shutdown();
+    }
+
+    @Test
+    void drainReleasesExpiredClaimsBeforeClaiming() throws Exception {
+        when(jobRepository.claimDue(anyString(), any(), anyInt())).thenReturn(0);
+
+        LocalDateTime before = LocalDateTime.now();
+        workerPool.drain();
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> claimedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        InOrder inOrder = inOrder(jobRepository);
+        inOrder.verify(jobRepository).releaseExpiredClaims(claimedBefore.capture(), any());
+        inOrder.verify(jobRepository).claimDue(anyString(), any(), eq(4));
+        // 15분 넘게 결과 기록이 없는 선점만 회수
+        assertFalse(claimedBefore.getValue().isBefore(before.minusMinutes(15)));
+        assertFalse(claimedBefore.getValue().isAfter(after.minusMinutes(15)));
+    }
+
+    @Test
+    void successfulJobIsMarkedDoneWithTags() throws Exception {
+        PolicyTaggingJob job = claimJob("P1", 0);
+        when(taggingClient.requestTagIds(any())).thenReturn(List.of(5L, 12L));
+        YouthPolicyTagResponse tag = new YouthPolicyTagResponse("P1", "청년 월세 지원", 5L, "청년주거지원");
+        when(youthPolicyTagService.assignTags(anyMap())).thenReturn(List.of(tag));
+
+        List<YouthPolicyTagResponse> saved = workerPool.drain();
+
+        assertEquals(List.of(tag), saved);
+        // GPT 태그 + 지역 태그(11680 → 63) 를 한 번에 저장
+        verify(youthPolicyTagService).assignTags(Map.of("P1", Set.of(5L, 12L, 63L)));
+        verifyFinish(job, TaggingJobStatus.DONE, 1, null);
+    }
+
+    @Test
+    void tooManyRequestsKeepsAttemptsAndWaitsForLimiter() throws Exception {
+        PolicyTaggingJob job = claimJob("P1", 1);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("retry-after", "120");
+        when(taggingClient.requestTagIds(any())).thenAnswer(invocation -> {
+            // 실제 클라이언트처럼 제한기에 대기를 건 뒤 예외 전파
+            rateLimiter.backOff(headers, null);
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                    headers, new byte[0], StandardCharsets.UTF_8);
+        });
+
+        LocalDateTime before = LocalDateTime.now();
+        workerPool.drain();
+
+        LocalDateTime nextAttemptAt = verifyFinish(job, TaggingJobStatus.PENDING, 1, "429 Too Many Requests");
+        assertFalse(nextAttemptAt.isBefore(before.plusSeconds(110)));
+        assertFalse(nextAttemptAt.isAfter(LocalDateTime.now().plusSeconds(120)));
+        verify(youthPolicyTagService, never()).assignTags(anyMap());
+    }
+
+    @Test
+    void failureSchedulesExponentialBackoffRetry() throws Exception {
+        PolicyTaggingJob job = claimJob("P1", 1);
+        when(taggingClient.requestTagIds(any())).thenThrow(new IllegalStateException("태그 응답이 비어 있습니다."));
+
+        LocalDateTime before = LocalDateTime.now();
+        workerPool.drain();
+
+        // 2회차 실패 → 30초 × 2 = 60초 + 최대 20% 지터
+        LocalDateTime nextAttemptAt = verifyFinish(job, TaggingJobStatus.PENDING, 2,
+                "java.lang.IllegalStateException: 태그 응답이 비어 있습니다.");
+        assertFalse(nextAttemptAt.isBefore(before.plus(Duration.ofSeconds(60))));
+        assertFalse(nextAttemptAt.isAfter(LocalDateTime.now().plus(Duration.ofSeconds(72))));
+    }
+
+    @Test
+    void failureAtMaxAttemptsMarksJobFailed() throws Exception {
+        PolicyTaggingJob job = claimJob("P1", MAX_ATTEMPTS - 1);
+        when(taggingClient.requestTagIds(any())).thenThrow(new IllegalStateException("boom"));
+
+        workerPool.drain();
+
+        verifyFinish(job, TaggingJobStatus.FAILED, MAX_ATTEMPTS, "java.lang.IllegalStateException: boom");
+    }
+
+    @Test
+    void alreadyTaggedPolicyIsDoneWithoutRequest() throws Exception {
+        PolicyTaggingJob job = claimJob("P1", 0);
+        when(youthPolicyTagRepository.existsByYouthPolicy(any())).thenReturn(true);
+
+        workerPool.drain();
+
+        verify(taggingClient, never()).requestTagIds(any());
+        verifyFinish(job, TaggingJobStatus.DONE, 0, null);
+    }
+
+    /**
+     * 첫 선점에서 작업 1건, 두 번째 선점에서 0건을 돌려주도록 설정
+     */
+    private PolicyTaggingJob claimJob(String policyId, int attempts) {
+        PolicyTaggingJob job = PolicyTaggingJob.builder()
+                .policyId(policyId)
+                .status(TaggingJobStatus.RUNNING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        when(jobRepository.claimDue(anyString(), any(), anyInt())).thenReturn(1, 0);
+        when(jobRepository.findAllByClaimToken(anyString())).thenReturn(List.of(job));
+        when(youthPolicyRepository.findByPolicyId(policyId)).thenReturn(YouthPolicy.builder()
+                .policyId(policyId)
+                .policyName("청년 월세 지원")
+                .zipCode("11680")
+                .build());
+        return job;
+    }
+
+    /**
+     * 선점 때와 같은 토큰으로 결과가 기록됐는지 확인하고 다음 시도 시각 반환
+     */
+    private LocalDateTime verifyFinish(PolicyTaggingJob job, TaggingJobStatus status, int attempts, String lastError) {
+        ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+        verify(jobRepository, atLeastOnce()).claimDue(claimToken.capture(), any(), anyInt());
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).finish(eq(job.getPolicyId()), eq(claimToken.getAllValues().get(0)), eq(status),
+                eq(attempts), nextAttemptAt.capture(), eq(lastError), any());
+        return nextAttemptAt.getValue();
+    }
+}
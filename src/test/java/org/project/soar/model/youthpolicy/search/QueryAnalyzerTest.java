@@ -0,0 +1,115 @@
+package org.project.soar.model.youthpolicy.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * QueryAnalyzer 골든 비교
+ * - 분석기 도입 전 YouthPolicyService 의 정규식 구현(5b42af9^)을 LegacyAnalyzer 로 한 글자도 바꾸지 않고 옮겨 두고 결과를 비교
+ */
+class QueryAnalyzerTest {
+
+    private static final LegacyAnalyzer LEGACY = new LegacyAnalyzer();
+
+    private static final String[] FRAGMENTS = {
+            "서울시", "서울", "시", "강남구", "구", "동대문구", "중구", "경기도", "장학금", "청년", "월세", "지원",
+            "IT", "Ai", "abc", "123", "2025", "ㄱ", "ㅏ", "ᄀ", "한", "漢字", "😀", "é",
+            " ", "  ", "\t", "\n", " ", "　", ".", ",", "·", "!", "?", "(", ")", "-", "_", "/", "~"
+    };
+
+    private static final String[] QUERIES = {
+            "서울시 강남구 장학금", "청년 월세 지원", "IT 교육", "서울시 동대문구 청년 창업", "경기도 주거"
+    };
+
+    @Test
+    void matchesLegacyImplementationOnRandomInputs() {
+        Random random = new Random(20251018L);
+        for (int i = 0; i < 200_000; i++) {
+            String input = randomInput(random);
+
+            assertEquals(LEGACY.normalize(input), QueryAnalyzer.normalize(input), () -> "normalize: " + input);
+
+            QueryAnalyzer.AnalyzedQuery analyzed = new QueryAnalyzer().analyze(input);
+            assertEquals(LEGACY.tokenize(input), analyzed.tokens(), () -> "tokens: " + input);
+            assertEquals(LEGACY.normalize(input).toLowerCase(), analyzed.query(), () -> "query: " + input);
+        }
+    }
+
+    @Test
+    void cachedResultMatchesFreshAnalysis() {
+        QueryAnalyzer analyzer = new QueryAnalyzer();
+        for (String query : QUERIES) {
+            assertEquals(analyzer.analyze(query), analyzer.analyze(query));
+            assertEquals(LEGACY.tokenize(query), analyzer.tokenize(query));
+        }
+        // "서울시 OO구" 특례: 서울시/OO구 토큰을 빼고 서울/OO 를 뒤에 추가
+        assertEquals(List.of("장학금", "서울", "강남"), analyzer.tokenize("서울시 강남구 장학금"));
+    }
+
+    private static String randomInput(Random random) {
+        int parts = random.nextInt(8);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < parts; i++) {
+            builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 분석기 도입 전 구현 (YouthPolicyService 에서 그대로 복사, 수정하지 않음)
+     */
+    private static final class LegacyAnalyzer {
+
+        private static final Pattern SEOUL_GU_PATTERN =
+                Pattern.compile("서울\\s*시\\s*([가-힣]+)\\s*구");
+
+        private String normalize(String q) {
+            if (q == null) return "";
+            // 한글/영문/숫자/공백을 제외한 모든 문자(온점/특수문자 포함)를 공백으로
+            String cleaned = q.replaceAll("[^\\p{IsHangul}\\p{Alnum}\\s]+", " ");
+            // 다중 공백 -> 단일 공백, 양끝 공백 제거
+            return cleaned.trim().replaceAll("\\s+", " ");
+        }
+
+        private List<String> tokenize(String q) {
+            String n = normalize(q);
+            if (n.isEmpty()) return List.of();
+
+            // 기본 토큰
+            List<String> base = Arrays.stream(n.split(" "))
+                    .filter(t -> t.length() >= 1)
+                    .collect(Collectors.toCollection(ArrayList::new));
+
+            // --- [특례] "서울시 XXX구" -> "서울", "XXX" ---
+            // 입력 내 여러 번 등장해도 모두 처리
+            Set<String> additions = new LinkedHashSet<>();
+            Set<String> removals  = new HashSet<>();
+            Matcher m = SEOUL_GU_PATTERN.matcher(n);
+            while (m.find()) {
+                String guRoot = m.group(1);  // 예: 강남, 서초, 동대문, 중 등
+                additions.add("서울");
+                additions.add(guRoot);
+                removals.add("서울시");
+                removals.add(guRoot + "구");
+            }
+
+            if (!removals.isEmpty()) {
+                base.removeIf(removals::contains); // 원래 토큰에서 서울시/OO구 제거
+                base.addAll(additions);            // "서울", "OO" 추가
+            }
+
+            // 소문자화 + 중복 제거 + 최대 10개 제한(기존 정책 유지)
+            return base.stream()
+                    .map(String::toLowerCase)
+                    .distinct()
+                    .limit(10)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package org.project.soar.model.youthpolicy.search;
+
+import org.junit.jupiter.api.Test;
+import org.project.soar.model.youthpolicy.YouthPolicy;
+import org.project.soar.model.youthpolicy.dto.YouthPolicySearchRow;
+import org.project.soar.model.youthpolicy.repository.YouthPolicyRepository;
+import org.project.soar.model.youthpolicy.repository.YouthPolicySyncRunRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다중 키워드 우선순위 검색: 색인 집계(rankByMatchedKeywords)와 기존 메모리 판정 결과 비교
+ * - 기존 방식: 후보 정책마다 키워드별로 22개 컬럼 소문자 contains 판정 후 전체 정렬 (LegacyScoring)
+ */
+class YouthPolicySearchIndexTest {
+
+    private static final String[] WORDS = {
+            "청년", "월세", "지원", "서울", "경기", "장학금", "취업", "창업", "주거", "교육", "상담", "금융",
+            "대출", "이자", "보증금", "면접", "정장", "대여", "인턴", "일자리", "문화", "예술", "심리", "건강",
+            "신청", "접수", "온라인", "방문", "서류", "제출", "소득", "기준", "중위", "이하", "만", "세",
+            "IT", "AI", "Startup", "2025", "강남구", "수원시", "모집", "선발", "지급", "월", "최대", "원"
+    };
+
+    private static final String[] KEYWORDS = {
+            "청년 월세", "장학금", "취업 면접", "창업", "주거 보증금", "IT 교육", "심리 상담", "금융 대출",
+            "서울시 강남구", "문화 예술"
+    };
+
+    private static final LegacyScoring LEGACY = new LegacyScoring();
+
+    private final QueryAnalyzer analyzer = new QueryAnalyzer();
+
+    @Test
+    void rankByMatchedKeywordsMatchesInMemoryScoring() {
+        Random random = new Random(20251018L);
+        List<YouthPolicy> policies = syntheticPolicies(random, 500, 40);
+        YouthPolicySearchIndex index = indexOf(policies);
+
+        for (int round = 0; round < 50; round++) {
+            List<String> keywords = randomKeywords(random);
+            int size = 1 + random.nextInt(20);
+            int pageNumber = random.nextInt(5);
+            long offset = (long) pageNumber * size;
+
+            YouthPolicySearchIndex.SearchHits expected =
+                    LEGACY.page(candidates(policies, keywords), keywords, PageRequest.of(pageNumber, size));
+            YouthPolicySearchIndex.SearchHits actual = index.rankByMatchedKeywords(tokens(keywords), offset, size);
+            assertEquals(expected, actual, () -> "keywords: " + keywords + ", offset: " + offset + ", size: " + size);
+        }
+    }
+
+    @Test
+    void refreshMatchesFullRebuild() {
+        Random random = new Random(7L);
+        List<YouthPolicy> policies = syntheticPolicies(random, 300, 20);
+        YouthPolicyRepository repository = mock(YouthPolicyRepository.class);
+        YouthPolicySearchIndex refreshed = indexOf(repository, policies);
+
+        // 일부 수정(같은 ID 새 내용) + 삭제 + 신규 추가 후 변경 정책만 반영
+        List<YouthPolicy> changed = syntheticPolicies(random, 360, 20);
+        Map<String, YouthPolicy> next = new TreeMap<>();
+        policies.forEach(p -> next.put(p.getPolicyId(), p));
+        Set<String> changedIds = new LinkedHashSet<>();
+        for (int i = 0; i < 360; i += 3) {
+            YouthPolicy policy = changed.get(i);
+            next.put(policy.getPolicyId(), policy);
+            changedIds.add(policy.getPolicyId());
+        }
+        for (int i = 1; i < 300; i += 7) {
+            String policyId = policies.get(i).getPolicyId();
+            next.remove(policyId);
+            changedIds.add(policyId);
+        }
+        List<YouthPolicy> current = new ArrayList<>(next.values());
+        when(repository.findSearchRowsByPolicyIdIn(anyCollection())).thenReturn(current.stream()
+                .filter(p -> changedIds.contains(p.getPolicyId()))
+                .map(YouthPolicySearchIndexTest::row)
+                .toList());
+        refreshed.refresh(changedIds);
+
+        YouthPolicySearchIndex rebuilt = indexOf(current);
+        for (int round = 0; round < 50; round++) {
+            List<List<String>> keywordTokens = tokens(randomKeywords(random));
+            List<String> tokens = keywordTokens.get(0);
+            assertEquals(rebuilt.rankByMatchedKeywords(keywordTokens, 0, 30),
+                    refreshed.rankByMatchedKeywords(keywordTokens, 0, 30));
+            assertEquals(rebuilt.rankByNameRelevance(String.join(" ", tokens), tokens, false, 0, 30),
+                    refreshed.rankByNameRelevance(String.join(" ", tokens), tokens, false, 0, 30));
+            assertEquals(new HashSet<>(rebuilt.matchName(tokens)), new HashSet<>(refreshed.matchName(tokens)));
+            assertEquals(rebuilt.rankBySort(tokens, false, Sort.by("policyId"), 5, 20),
+                    refreshed.rankBySort(tokens, false, Sort.by("policyId"), 5, 20));
+        }
+    }
+
+    private List<List<String>> tokens(List<String> keywords) {
+        return keywords.stream()
+                .map(analyzer::tokenize)
+                .filter(tokens -> !tokens.isEmpty())
+                .toList();
+    }
+
+    private static YouthPolicySearchIndex indexOf(List<YouthPolicy> policies) {
+        return indexOf(mock(YouthPolicyRepository.class), policies);
+    }
+
+    private static YouthPolicySearchIndex indexOf(YouthPolicyRepository repository, List<YouthPolicy> policies) {
+        when(repository.findAllSearchRows()).thenReturn(policies.stream().map(YouthPolicySearchIndexTest::row).toList());
+        YouthPolicySearchIndex index = new YouthPolicySearchIndex(repository, mock(YouthPolicySyncRunRepository.class));
+        index.rebuild();
+        return index;
+    }
+
+    private static YouthPolicySearchRow row(YouthPolicy p) {
+        return new YouthPolicySearchRow(p.getPolicyId(), p.getPolicyName(), p.getPolicyKeyword(),
+                p.getPolicyExplanation(), p.getPolicySupportContent(), p.getApplyMethodContent(),
+                p.getScreeningMethodContent(), p.getSubmitDocumentContent(), p.getEtcMatterContent(),
+                p.getBusinessPeriodEtc(), p.getLargeClassification(), p.getMediumClassification(),
+                p.getSupervisingInstName(), p.getOperatingInstName(), p.getApplyUrl(),
+                p.getReferenceUrl1(), p.getReferenceUrl2(), p.getZipCode(), p.getPolicyMajorCode(),
+                p.getJobCode(), p.getSchoolCode(), p.getDateType(), p.getDateLabel(),
+                p.getInquiryCount(), p.getCreatedAt());
+    }
+
+    /**
+     * 기존 후보군: 키워드 중 하나라도 매칭되는 정책 (policyId 순)
+     */
+    private static List<YouthPolicy> candidates(List<YouthPolicy> policies, List<String> keywords) {
+        return policies.stream()
+                .filter(p -> keywords.stream().anyMatch(kw -> LEGACY.matchesEverywhereAlgorithm(p, kw)))
+                .sorted(Comparator.comparing(YouthPolicy::getPolicyId))
+                .toList();
+    }
+
+    /**
+     * 합성 정책 (본문 컬럼마다 wordsPerField 개 단어, createdAt 은 일부 null)
+     */
+    private static List<YouthPolicy> syntheticPolicies(Random random, int count, int wordsPerField) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<YouthPolicy> policies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            policies.add(YouthPolicy.builder()
+                    .policyId(String.format("P%05d", i))
+                    .policyName(text(random, 4))
+                    .policyKeyword(text(random, 3))
+                    .policyExplanation(text(random, wordsPerField))
+                    .policySupportContent(text(random, wordsPerField))
+                    .applyMethodContent(text(random, wordsPerField / 2))
+                    .screeningMethodContent(text(random, wordsPerField / 2))
+                    .submitDocumentContent(text(random, wordsPerField / 2))
+                    .etcMatterContent(text(random, wordsPerField / 2))
+                    .largeClassification(text(random, 1))
+                    .mediumClassification(text(random, 1))
+                    .supervisingInstName(text(random, 2))
+                    .zipCode(random.nextBoolean() ? "11680" : "41111")
+                    // 같은 시각이 여럿 생기도록 시간 단위로 생성
+                    .createdAt(random.nextInt(10) == 0 ? null : base.plusHours(random.nextInt(200)))
+                    .build());
+        }
+        return policies;
+    }
+
+    private static String text(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) builder.append(random.nextInt(8) == 0 ? ", " : " ");
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static List<String> randomKeywords(Random random) {
+        int count = 1 + random.nextInt(5);
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            keywords.add(KEYWORDS[random.nextInt(KEYWORDS.length)]);
+        }
+        return keywords;
+    }
+
+    /**
+     * 색인 도입 전 다중 키워드 판정/정렬 (9450e6c^ 의 YouthPolicyService 에서 그대로 복사, 수정하지 않음)
+     * - page 의 candidates 는 기존 DB 후보군 조회(키워드 OR 스펙) 자리: 하나라도 매칭되는 정책을 PK 순서로 넘김
+     */
+    private static final class LegacyScoring {
+
+        private static final Pattern SEOUL_GU_PATTERN =
+                Pattern.compile("서울\\s*시\\s*([가-힣]+)\\s*구");
+
+        private String normalize(String q) {
+            if (q == null) return "";
+            // 한글/영문/숫자/공백을 제외한 모든 문자(온점/특수문자 포함)를 공백으로
+            String cleaned = q.replaceAll("[^\\p{IsHangul}\\p{Alnum}\\s]+", " ");
+            // 다중 공백 -> 단일 공백, 양끝 공백 제거
+            return cleaned.trim().replaceAll("\\s+", " ");
+        }
+
+        private List<String> tokenize(String q) {
+            String n = normalize(q);
+            if (n.isEmpty()) return List.of();
+
+            // 기본 토큰
+            List<String> base = Arrays.stream(n.split(" "))
+                    .filter(t -> t.length() >= 1)
+                    .collect(Collectors.toCollection(ArrayList::new));
+
+            // --- [특례] "서울시 XXX구" -> "서울", "XXX" ---
+            // 입력 내 여러 번 등장해도 모두 처리
+            Set<String> additions = new LinkedHashSet<>();
+            Set<String> removals  = new HashSet<>();
+            Matcher m = SEOUL_GU_PATTERN.matcher(n);
+            while (m.find()) {
+                String guRoot = m.group(1);  // 예: 강남, 서초, 동대문, 중 등
+                additions.add("서울");
+                additions.add(guRoot);
+                removals.add("서울시");
+                removals.add(guRoot + "구");
+            }
+
+            if (!removals.isEmpty()) {
+                base.removeIf(removals::contains); // 원래 토큰에서 서울시/OO구 제거
+                base.addAll(additions);            // "서울", "OO" 추가
+            }
+
+            // 소문자화 + 중복 제거 + 최대 10개 제한(기존 정책 유지)
+            return base.stream()
+                    .map(String::toLowerCase)
+                    .distinct()
+                    .limit(10)
+                    .toList();
+        }
+
+
+        YouthPolicySearchIndex.SearchHits page(List<YouthPolicy> candidates, List<String> keywords, Pageable pageable) {
+            Map<String, Integer> scoreMap = new HashMap<>();
+            for (YouthPolicy p : candidates) {
+                int score = 0;
+                for (String kw : keywords) {
+                    if (matchesEverywhereAlgorithm(p, kw)) {
+                        score += 1;
+                    }
+                }
+                scoreMap.put(p.getPolicyId(), score);
+            }
+
+            // 3) 정렬: (score DESC) -> (createdAt DESC)
+            List<YouthPolicy> sorted = new ArrayList<>(candidates);
+            sorted.sort((a, b) -> {
+                int sa = scoreMap.getOrDefault(a.getPolicyId(), 0);
+                int sb = scoreMap.getOrDefault(b.getPolicyId(), 0);
+                if (sa != sb) return Integer.compare(sb, sa); // score desc
+
+                var ad = a.getCreatedAt();
+                var bd = b.getCreatedAt();
+                if (ad != null && bd != null) return bd.compareTo(ad); // 최신 우선
+                if (ad != null) return -1;
+                if (bd != null) return 1;
+                return 0;
+            });
+
+            // 4) 페이지 잘라내기
+            int total = sorted.size();
+            int start = Math.min((int) pageable.getOffset(), total);
+            int end = Math.min(start + pageable.getPageSize(), total);
+            List<YouthPolicy> pageSlice = (start < end) ? sorted.subList(start, end) : List.of();
+
+            return new YouthPolicySearchIndex.SearchHits(pageSlice.stream().map(YouthPolicy::getPolicyId).toList(), total);
+        }
+
+        /**
+         * DB 스펙과 동일한 판정 로직을 메모리에서 수행
+         * - 토큰 AND
+         * - 각 토큰은 여러 컬럼 중 하나라도 포함되면 OK
+         */
+        private boolean matchesEverywhereAlgorithm(YouthPolicy p, String keyword) {
+            List<String> tokens = tokenize(keyword);
+            if (tokens.isEmpty()) return false;
+
+            // Entity의 검색 대상 컬럼 문자열들
+            List<String> cols = List.of(
+                    safeLower(p.getPolicyName()),
+                    safeLower(p.getPolicyKeyword()),
+                    safeLower(p.getPolicyExplanation()),
+                    safeLower(p.getPolicySupportContent()),
+                    safeLower(p.getApplyMethodContent()),
+                    safeLower(p.getScreeningMethodContent()),
+                    safeLower(p.getSubmitDocumentContent()),
+                    safeLower(p.getEtcMatterContent()),
+                    safeLower(p.getBusinessPeriodEtc()),
+                    safeLower(p.getLargeClassification()),
+                    safeLower(p.getMediumClassification()),
+                    safeLower(p.getSupervisingInstName()),
+                    safeLower(p.getOperatingInstName()),
+                    safeLower(p.getApplyUrl()),
+                    safeLower(p.getReferenceUrl1()),
+                    safeLower(p.getReferenceUrl2()),
+                    safeLower(p.getZipCode()),
+                    safeLower(p.getPolicyMajorCode()),
+                    safeLower(p.getJobCode()),
+                    safeLower(p.getSchoolCode()),
+                    safeLower(p.getDateType()),
+                    safeLower(p.getDateLabel())
+            );
+
+            // 모든 토큰이 "어느 한 컬럼"에는 포함되어야 함
+            for (String t : tokens) {
+                String tok = t.toLowerCase();
+                boolean ok = false;
+                for (String c : cols) {
+                    if (c != null && c.contains(tok)) {
+                        ok = true; break;
+                    }
+                }
+                if (!ok) return false;
+            }
+            return true;
+        }
+
+        private String safeLower(String s) {
+            return (s == null) ? "" : s.toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.project.soar.util;
+
+import org.junit.jupiter.api.Test;
+import org.project.soar.util.DateClassifier.TextSignal;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * DateClassifier.textSignal 골든 비교
+ * - 키워드 오토마톤 도입 전 구현(정규식 + String.contains)을 LegacyTextSignal 로 한 글자도 바꾸지 않고 옮겨 두고 결과를 비교
+ */
+class DateClassifierTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    // 키워드, 키워드 일부, 날짜/연도, 경계값 조각
+    private static final List<String> FRAGMENTS = List.of(
+            "오픈 예정", "공고 예정", "모집 예정", "접수 예정", "사전 접수", "사전예약", "사전 신청", "준비중", "예정",
+            "지원 마감", "사업 종료", "접수 마감", "모집 마감", "종료", "발표 완료",
+            "예산 소진", "선착순",
+            "오픈", "예", "정", "종", "마감", "사전", "준비", "발표", "완료", "선착", "예산",
+            "2019", "2024", "2025", "2026", "2099", "20", "201", "20242025", "2020202", "123456789012",
+            "2024.05.01", "2025-06-14", "2025-06-15", "2025/6/16", "2024년 2월 30일", "2025년 13월 1일",
+            "2023 4 31", "2025.06", "2024-00-10", "2024.1.", "20240101",
+            "~", "~2024", "2023~2026", "2024 ~ 2025", "~ 2030년",
+            " ", "청년", "지원", "신청", "온라인", "\n", "(", ")", ".", "-", "/", "년", "월", "일", "0", "1", "9");
+
+    private static final List<LocalDate> DATES = List.of(
+            TODAY, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), LocalDate.of(2026, 3, 1));
+
+    @Test
+    void goldenCases() {
+        assertEquals(TextSignal.UPCOMING, textSignal(null, null, null, null, "하반기 모집 예정", TODAY));
+        assertEquals(TextSignal.UPCOMING, textSignal(null, null, "2020년 사전예약", null, null, TODAY));
+        assertEquals(TextSignal.ENDED, textSignal(null, null, "2024년 사업", null, null, TODAY));
+        assertEquals(TextSignal.ENDED, textSignal(null, null, "2023~2024", null, null, TODAY));
+        assertEquals(TextSignal.NONE, textSignal(null, null, "2024~2026", null, null, TODAY));
+        assertEquals(TextSignal.ENDED, textSignal(null, "2025.06.14 발표", null, null, null, TODAY));
+        assertEquals(TextSignal.NONE, textSignal(null, "2025.06.15 발표", null, null, null, TODAY));
+        assertEquals(TextSignal.ENDED, textSignal(null, null, null, "모집 마감", null, TODAY));
+        assertEquals(TextSignal.FIRST_COME, textSignal("선착순 접수", null, null, null, null, TODAY));
+        assertEquals(TextSignal.NONE, textSignal("온라인 신청", null, null, null, "청년 지원", TODAY));
+        assertEquals(TextSignal.NONE, textSignal(null, null, null, null, null, TODAY));
+    }
+
+    @Test
+    void matchesLegacyImplementationOnRandomInputs() {
+        Random random = new Random(20251018L);
+        for (int i = 0; i < 200_000; i++) {
+            String applyMethod = randomText(random);
+            String screeningMethod = randomText(random);
+            String businessPeriodEtc = randomText(random);
+            String supportContent = randomText(random);
+            String policyName = randomText(random);
+            LocalDate currentDate = DATES.get(random.nextInt(DATES.size()));
+
+            TextSignal expected = LegacyTextSignal.textSignal(
+                    applyMethod, screeningMethod, businessPeriodEtc, supportContent, policyName, currentDate);
+            TextSignal actual = textSignal(
+                    applyMethod, screeningMethod, businessPeriodEtc, supportContent, policyName, currentDate);
+            assertEquals(expected, actual, () -> "applyMethod=" + applyMethod + ", screeningMethod=" + screeningMethod
+                    + ", businessPeriodEtc=" + businessPeriodEtc + ", supportContent=" + supportContent
+                    + ", policyName=" + policyName + ", currentDate=" + currentDate);
+        }
+    }
+
+    private static TextSignal textSignal(String applyMethod, String screeningMethod, String businessPeriodEtc,
+                                         String supportContent, String policyName, LocalDate currentDate) {
+        return DateClassifier.textSignal(
+                applyMethod, screeningMethod, businessPeriodEtc, supportContent, policyName, currentDate);
+    }
+
+    private static String randomText(Random random) {
+        int kind = random.nextInt(10);
+        if (kind == 0) return null;
+        if (kind == 1) return "";
+        if (kind <= 3) return FRAGMENTS.get(random.nextInt(FRAGMENTS.size()));
+
+        StringBuilder builder = new StringBuilder();
+        int parts = 1 + random.nextInt(6);
+        for (int i = 0; i < parts; i++) {
+            builder.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 키워드 오토마톤 도입 전 textSignal 구현 (65dafe1^ 의 DateClassifier 에서 그대로 복사, 수정하지 않음)
+     */
+    private static final class LegacyTextSignal {
+
+        /**
+         * 텍스트 기반 보조 판정 (4~6단계)
+         * - 날짜 정보로 분류되지 않을 때만 결과에 쓰이며, 과거 연도/날짜 판정 때문에 currentDate 기준으로 하루 단위 재계산
+         */
+        public static TextSignal textSignal(
+                String applyMethodContent,
+                String screeningMethodContent,
+                String businessPeriodEtc,
+                String policySupportContent,
+                String policyName,
+                LocalDate currentDate) {
+
+            if (currentDate == null)
+                currentDate = LocalDate.now();
+
+            // 4) 텍스트 기반 오픈 예정 키워드(보조 판단)
+            if (containsUpcomingKeyword(policyName)
+                    || containsUpcomingKeyword(applyMethodContent)
+                    || containsUpcomingKeyword(policySupportContent)
+                    || containsUpcomingKeyword(businessPeriodEtc)
+                    || containsUpcomingKeyword(screeningMethodContent)) {
+                return TextSignal.UPCOMING;
+            }
+
+            // 5) 텍스트 기반 과거 정보 또는 종료 키워드 포함 시 종료 처리(보조 판단)
+            if (containsPastYearInText(policyName, currentDate)
+                    || containsPastYearInText(businessPeriodEtc, currentDate)
+                    || containsPastYearInText(policySupportContent, currentDate)
+                    || containsEndKeyword(businessPeriodEtc)
+                    || containsEndKeyword(policySupportContent)
+                    || containsPastDate(policySupportContent, currentDate)
+                    || containsPastDate(screeningMethodContent, currentDate)
+                    || containsEndKeyword(screeningMethodContent)) {
+                return TextSignal.ENDED;
+            }
+
+            // 6) 신청 방식 설명에 선착순 또는 예산 소진 키워드가 있으면 진행중
+            if (applyMethodContent != null
+                    && (applyMethodContent.contains("예산 소진") || applyMethodContent.contains("선착순"))) {
+                return TextSignal.FIRST_COME;
+            }
+
+            return TextSignal.NONE;
+        }
+
+        /**
+         * yyyyMMdd 문자열 → LocalDate (비어 있거나 형식이 다르면 null)
+         */
+        public static LocalDate parseDate(String yyyymmdd) {
+            try {
+                if (yyyymmdd != null && !yyyymmdd.isBlank()) {
+                    return LocalDate.parse(yyyymmdd.trim(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+                }
+            } catch (Exception ignored) {
+            }
+            return null;
+        }
+
+        private static boolean containsPastYearInText(String text, LocalDate currentDate) {
+            if (text == null || text.isBlank())
+                return false;
+
+            Pattern yearPattern = Pattern.compile("(20\\d{2})");
+            Matcher matcher = yearPattern.matcher(text);
+            int currentYear = currentDate.getYear();
+
+            while (matcher.find()) {
+                try {
+                    int year = Integer.parseInt(matcher.group(1));
+                    if (text.contains("~")) {
+                        String[] split = text.split("~");
+                        if (split.length == 2) {
+                            int endYear = Integer.parseInt(split[1].replaceAll("[^0-9]", ""));
+                            if (endYear < currentYear)
+                                return true;
+                        }
+                    } else if (year < currentYear) {
+                        return true;
+                    }
+                } catch (Exception ignored) {
+                }
+            }
+            return false;
+        }
+
+        private static boolean containsEndKeyword(String content) {
+            if (content == null)
+                return false;
+            return content.contains("지원 마감") || content.contains("사업 종료")
+                    || content.contains("접수 마감") || content.contains("모집 마감")
+                    || content.contains("종료") || content.contains("발표 완료");
+        }
+
+        /**
+         * 오픈 예정 키워드 감지 (보조 판단용)
+         */
+        private static boolean containsUpcomingKeyword(String content) {
+            if (content == null || content.isBlank())
+                return false;
+            return content.contains("오픈 예정")
+                    || content.contains("공고 예정")
+                    || content.contains("모집 예정")
+                    || content.contains("접수 예정")
+                    || content.contains("사전 접수")
+                    || content.contains("사전예약")
+                    || content.contains("사전 신청")
+                    || content.contains("준비중")
+                    || content.contains("예정");
+        }
+
+        private static boolean containsPastDate(String content, LocalDate currentDate) {
+            if (content == null || content.isBlank())
+                return false;
+
+            Pattern datePattern = Pattern.compile("(20\\d{2})[.\\-/년 ]?(\\d{1,2})[.\\-/월 ]?(\\d{1,2})?");
+            Matcher matcher = datePattern.matcher(content);
+
+            while (matcher.find()) {
+                try {
+                    String year = matcher.group(1);
+                    String month = matcher.group(2);
+                    String day = matcher.group(3) != null ? matcher.group(3) : "01";
+
+                    String normalized = String.format("%s%02d%02d",
+                            year, Integer.parseInt(month), Integer.parseInt(day));
+                    LocalDate foundDate = parseDate(normalized);
+                    if (foundDate != null && foundDate.isBefore(currentDate)) {
+                        return true;
+                    }
+                } catch (Exception ignored) {
+                }
+            }
+            return false;
+        }
+    }
+}